@@ -0,0 +1,56 @@
+package com.onemorethink.domadosever.domain.bike.dto;
+
+import com.onemorethink.domadosever.domain.bike.entity.Bike;
+import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
+import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 특정 시점의 자전거 상태를 담는 불변 객체 (트랜잭션 밖에서 안전하게 참조 가능)
+// JPQL 생성자 프로젝션으로도 사용되므로 필드 순서 변경 시 BikeRepository 쿼리도 함께 수정
+@Getter
+@Builder
+@AllArgsConstructor
+public class BikeSnapshot {
+    private final Long bikeId;
+    private final String qrCode;
+    private final Integer batteryLevel;
+    private final BikeStatus status;
+    private final HiBikeStatus hiBikeStatus;
+    private final Long homeHubId;
+    private final String homeHubName;
+    private final Long currentStationId;
+    private final Integer currentDockId;
+    private final Double latitude;
+    private final Double longitude;
+
+    public static BikeSnapshot from(Bike bike) {
+        return BikeSnapshot.builder()
+                .bikeId(bike.getId())
+                .qrCode(bike.getQrCode())
+                .batteryLevel(bike.getBatteryLevel())
+                .status(bike.getStatus())
+                .hiBikeStatus(bike.getHiBikeStatus())
+                .homeHubId(bike.getHomeHub().getId())
+                .homeHubName(bike.getHomeHub().getName())
+                .currentStationId(bike.getCurrentStation() != null ? bike.getCurrentStation().getId() : null)
+                .currentDockId(bike.getCurrentDockId())
+                .latitude(bike.getCurrentLatitude())
+                .longitude(bike.getCurrentLongitude())
+                .build();
+    }
+
+    // 스테이션에 주차되어 대여 가능한 일반 자전거인지 확인
+    public boolean isRentableAtStation(int minBatteryLevel) {
+        return status == BikeStatus.PARKED
+                && hiBikeStatus == HiBikeStatus.NONE
+                && batteryLevel >= minBatteryLevel;
+    }
+
+    // 일시잠금 상태로 대여 가능한 HiBike인지 확인 (배터리 조건 제외)
+    public boolean isHiBikeForRent() {
+        return status == BikeStatus.TEMPORARY_LOCKED
+                && hiBikeStatus == HiBikeStatus.AVAILABLE_FOR_RENT;
+    }
+}
@@ -9,12 +9,15 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "bikes")
+@Table(name = "bikes", indexes = {
+        @Index(name = "idx_bike_hibike_status", columnList = "hi_bike_status, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,4 +55,9 @@ public class Bike extends BaseEntity {
     @Column(nullable = false)
     private Double currentLongitude;
 
+    // 동시 대여/반납 충돌 감지용 (낙관적 락)
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
 }
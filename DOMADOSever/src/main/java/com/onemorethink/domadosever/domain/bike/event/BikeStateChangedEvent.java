@@ -0,0 +1,19 @@
+package com.onemorethink.domadosever.domain.bike.event;
+
+import com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot;
+import com.onemorethink.domadosever.domain.bike.entity.Bike;
+import lombok.Getter;
+
+// 자전거 상태(대여/일시잠금/반납/HiBike 전환 등)가 변경되었음을 알리는 이벤트
+@Getter
+public class BikeStateChangedEvent {
+    private final BikeSnapshot bike;
+
+    private BikeStateChangedEvent(BikeSnapshot bike) {
+        this.bike = bike;
+    }
+
+    public static BikeStateChangedEvent of(Bike bike) {
+        return new BikeStateChangedEvent(BikeSnapshot.from(bike));
+    }
+}
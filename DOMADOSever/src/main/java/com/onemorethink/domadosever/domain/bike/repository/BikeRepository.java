@@ -1,32 +1,88 @@
 package com.onemorethink.domadosever.domain.bike.repository;
 
+import com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot;
 import com.onemorethink.domadosever.domain.bike.entity.Bike;
+import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
+import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
 import com.onemorethink.domadosever.domain.user.entity.Role;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BikeRepository extends JpaRepository<Bike, Long> {
+    // 대여 시작 후 상태 변경 이벤트(BikeSnapshot)에 허브 이름이 필요하므로 함께 조회
+    @EntityGraph(attributePaths = "homeHub")
+    Optional<Bike> findByQrCode(String qrCode);
+
+    // 상태 전이: 읽은 상태 그대로일 때만 변경 (0이면 다른 요청이 먼저 변경)
+    @Modifying
+    @Query("""
+        UPDATE Bike b SET b.status = :status, b.hiBikeStatus = :hiBikeStatus
+        WHERE b.id = :bikeId
+        AND b.status = :expectedStatus
+        AND b.hiBikeStatus = :expectedHiBikeStatus
+        """)
+    int updateStatusIfMatches(@Param("bikeId") Long bikeId,
+                              @Param("expectedStatus") BikeStatus expectedStatus,
+                              @Param("expectedHiBikeStatus") HiBikeStatus expectedHiBikeStatus,
+                              @Param("status") BikeStatus status,
+                              @Param("hiBikeStatus") HiBikeStatus hiBikeStatus);
+
+    // 자전거당 1행 (엔티티/연관관계 로딩 없음)
+    @Query("""
+        SELECT new com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot(
+            b.id, b.qrCode, b.batteryLevel, b.status, b.hiBikeStatus, h.id, h.name,
+            s.id, b.currentDockId, b.currentLatitude, b.currentLongitude)
+        FROM Bike b
+        JOIN b.homeHub h
+        LEFT JOIN b.currentStation s
+        """)
+    List<BikeSnapshot> findAllBikeSnapshots();
+
+    // 주어진 스테이션에 주차된 대여 가능 자전거만 조회
     @Query("""
-        SELECT b FROM Bike b
-        LEFT JOIN FETCH b.homeHub
+        SELECT new com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot(
+            b.id, b.qrCode, b.batteryLevel, b.status, b.hiBikeStatus, h.id, h.name,
+            s.id, b.currentDockId, b.currentLatitude, b.currentLongitude)
+        FROM Bike b
+        JOIN b.homeHub h
+        JOIN b.currentStation s
+        WHERE s.id IN :stationIds
+        AND b.status = 'PARKED'
+        AND b.hiBikeStatus = 'NONE'
+        AND b.batteryLevel >= :minBatteryLevel
+        """)
+    List<BikeSnapshot> findRentableBikeSnapshotsAtStations(
+            @Param("stationIds") Collection<Long> stationIds,
+            @Param("minBatteryLevel") Integer minBatteryLevel
+    );
+
+    @Query("""
+        SELECT new com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot(
+            b.id, b.qrCode, b.batteryLevel, b.status, b.hiBikeStatus, h.id, h.name,
+            s.id, b.currentDockId, b.currentLatitude, b.currentLongitude)
+        FROM Bike b
+        JOIN b.homeHub h
+        LEFT JOIN b.currentStation s
         WHERE b.status = 'TEMPORARY_LOCKED'
         AND b.hiBikeStatus = 'AVAILABLE_FOR_RENT'
         AND b.batteryLevel >= :minBatteryLevel
-        AND ABS(CAST(b.currentLatitude AS double) - CAST(:latitude AS double)) <= (CAST(:radius AS double) / 111.0)
-        AND ABS(CAST(b.currentLongitude AS double) - CAST(:longitude AS double)) <= (CAST(:radius AS double) / (111.0 * COS(RADIANS(CAST(:latitude AS double)))))
+        AND b.currentLatitude BETWEEN :minLatitude AND :maxLatitude
+        AND b.currentLongitude BETWEEN :minLongitude AND :maxLongitude
         """)
-    List<Bike> findAvailableHiBikesWithinRadius(
-            @Param("latitude") Double latitude,
-            @Param("longitude") Double longitude,
-            @Param("radius") Double radiusInKm,
+    List<BikeSnapshot> findAvailableHiBikeSnapshotsWithinBounds(
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("minLongitude") Double minLongitude,
+            @Param("maxLongitude") Double maxLongitude,
             @Param("minBatteryLevel") Integer minBatteryLevel
     );
-
-    Optional<Bike> findByQrCode(String qrCode);
 }
\ No newline at end of file
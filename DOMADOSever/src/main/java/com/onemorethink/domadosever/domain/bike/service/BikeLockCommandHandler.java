@@ -0,0 +1,54 @@
+package com.onemorethink.domadosever.domain.bike.service;
+
+import com.onemorethink.domadosever.global.mqtt.dto.LockCommandType;
+import com.onemorethink.domadosever.global.mqtt.service.LockCommandGateway;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxEventHandler;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 대여 시작/일시 잠금/잠금 해제/강제 종료 이벤트를 자전거 잠금 명령으로 전달
+ * 같은 대여의 이벤트는 outbox에서 순서대로 처리되므로 잠금/해제 명령 순서가 뒤바뀌지 않습니다.
+ * 장치가 응답하지 않거나 거부하면 outbox 재시도로 다시 전송합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BikeLockCommandHandler implements OutboxEventHandler {
+    private final LockCommandGateway lockCommandGateway;
+    private final OutboxService outboxService;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return Set.of(
+                OutboxEventType.RENTAL_STARTED,
+                OutboxEventType.RENTAL_PAUSED,
+                OutboxEventType.RENTAL_RESUMED,
+                OutboxEventType.RENTAL_FORCIBLY_ENDED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        handleAsync(event).join();
+    }
+
+    @Override
+    public CompletableFuture<Void> handleAsync(OutboxEvent event) {
+        Long bikeId = ((Number) outboxService.readPayload(event).get("bikeId")).longValue();
+        LockCommandType type = switch (event.getEventType()) {
+            case RENTAL_PAUSED, RENTAL_FORCIBLY_ENDED -> LockCommandType.LOCK;
+            default -> LockCommandType.UNLOCK;
+        };
+
+        return lockCommandGateway.send(bikeId, type)
+                .thenAccept(ack -> log.info("Lock command acknowledged. rentalId: {}, bikeId: {}, type: {}",
+                        event.getAggregateId(), bikeId, type));
+    }
+}
@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons", indexes = {
+        @Index(name = "idx_coupon_user_status_expire", columnList = "user_id, status, expire_date"),
+        @Index(name = "idx_coupon_status_expire", columnList = "status, expire_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -7,7 +7,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "stamps")
+@Table(name = "stamps", indexes = {
+        @Index(name = "idx_stamp_user_used", columnList = "user_id, is_used")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,45 @@
+package com.onemorethink.domadosever.domain.coupon.service;
+
+import com.onemorethink.domadosever.global.apns.dto.ApnsNotificationRequest;
+import com.onemorethink.domadosever.global.apns.service.ApnsService;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxEventHandler;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+// 스탬프 5개 적립으로 발급된 무료 이용 쿠폰 푸시 알림
+@Component
+@RequiredArgsConstructor
+public class CouponIssuedNotificationHandler implements OutboxEventHandler {
+    private final ApnsService apnsService;
+    private final OutboxService outboxService;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return Set.of(OutboxEventType.COUPON_ISSUED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Map<String, Object> payload = outboxService.readPayload(event);
+
+        ApnsNotificationRequest notification = ApnsNotificationRequest.builder()
+                .title("🎉 무료 이용 쿠폰이 발급되었습니다!")
+                .body(String.format(
+                        "HiBike 스탬프 5개 적립 보상으로 %s분 무료 이용권이 발급되었습니다.\n유효기간: ~ %s",
+                        payload.get("discountMinutes"),
+                        payload.get("expireDate")))
+                .data(Map.of(
+                        "type", "COUPON_ISSUED",
+                        "couponId", event.getAggregateId()
+                ))
+                .build();
+
+        apnsService.sendPushNotification((String) payload.get("email"), notification);
+    }
+}
@@ -0,0 +1,26 @@
+package com.onemorethink.domadosever.domain.coupon.service;
+
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// HiBike 이용 후 반납된 대여에 스탬프 발급 (5개가 모이면 쿠폰 발급 포함)
+@Component
+@RequiredArgsConstructor
+public class StampIssueHandler implements OutboxEventHandler {
+    private final StampService stampService;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return Set.of(OutboxEventType.STAMP_ISSUE_REQUESTED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        stampService.issueStampForReturnedRental(event.getAggregateId());
+    }
+}
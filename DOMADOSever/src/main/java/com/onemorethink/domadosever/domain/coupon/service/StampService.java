@@ -8,10 +8,13 @@ import com.onemorethink.domadosever.domain.coupon.repository.CouponRepository;
 import com.onemorethink.domadosever.domain.coupon.repository.StampRepository;
 import com.onemorethink.domadosever.domain.rental.dto.StampIssuanceInfo;
 import com.onemorethink.domadosever.domain.rental.entity.Rental;
+import com.onemorethink.domadosever.domain.rental.repository.RentalRepository;
 import com.onemorethink.domadosever.domain.user.entity.User;
 import com.onemorethink.domadosever.domain.user.repository.UserRepository;
 import com.onemorethink.domadosever.global.error.ErrorCode;
 import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,7 +33,8 @@ public class StampService {
     private final StampRepository stampRepository;
     private final CouponRepository couponRepository;
     private final UserRepository userRepository;
-    // private final NotificationService notificationService;
+    private final RentalRepository rentalRepository;
+    private final OutboxService outboxService;
 
     private static final int STAMPS_NEEDED_FOR_COUPON = 5;
     private static final int COUPON_DISCOUNT_MINUTES = 30;  // 30분 무료 쿠폰
@@ -71,8 +76,11 @@ public class StampService {
                 stampRepository.save(stamp);
             });
 
-            // 5. 쿠폰 발급 알림
-            // sendCouponIssuanceNotification(user, coupon);
+            // 5. 쿠폰 발급 알림 (커밋 이후 처리)
+            outboxService.append(OutboxEventType.COUPON_ISSUED, coupon.getId(), Map.of(
+                    "email", user.getEmail(),
+                    "discountMinutes", coupon.getDiscountMinutes(),
+                    "expireDate", coupon.getExpireDate().toLocalDate().toString()));
         }
     }
 
@@ -88,25 +96,6 @@ public class StampService {
         return couponRepository.save(coupon);
     }
 
-//    private void sendCouponIssuanceNotification(User user, Coupon coupon) {
-//        NotificationRequest notification = NotificationRequest.builder()
-//                .userId(user.getId())
-//                .title("🎉 무료 이용 쿠폰이 발급되었습니다!")
-//                .body(String.format(
-//                        "HiBike 스탬프 5개 적립 보상으로 %d분 무료 이용권이 발급되었습니다.\n" +
-//                                "유효기간: ~ %s",
-//                        coupon.getDiscountMinutes(),
-//                        coupon.getExpireDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-//                ))
-//                .data(Map.of(
-//                        "type", "COUPON_ISSUED",
-//                        "couponId", coupon.getId().toString()
-//                ))
-//                .build();
-//
-//        notificationService.sendPushNotification(notification);
-//    }
-
     // 유저가 가진 스템프 조회
     public List<StampResponse> getUserStamps(String email) {
         User user = userRepository.findByEmail(email)
@@ -175,4 +164,20 @@ public class StampService {
                 .issuedCouponId(couponId)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 반납 후 비동기로 스탬프 발급 (outbox 워커에서 호출)
+     * 이미 해당 대여로 발급된 스탬프가 있으면 다시 발급하지 않습니다.
+     */
+    public void issueStampForReturnedRental(Long rentalId) {
+        Rental rental = rentalRepository.findWithUserById(rentalId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RENTAL_NOT_FOUND));
+
+        if (stampRepository.findByRental(rental).isPresent()) {
+            log.info("Stamp already issued for rental: {}", rentalId);
+            return;
+        }
+
+        issueStampForHiBikeUse(rental);
+    }
+}
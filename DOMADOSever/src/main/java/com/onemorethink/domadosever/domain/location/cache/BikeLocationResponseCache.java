@@ -0,0 +1,234 @@
+package com.onemorethink.domadosever.domain.location.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.onemorethink.domadosever.domain.location.dto.BikeLocationResponse;
+import com.onemorethink.domadosever.domain.location.dto.HiBikeLocationDto;
+import com.onemorethink.domadosever.domain.location.dto.HubLocationDto;
+import com.onemorethink.domadosever.domain.location.dto.StationLocationDto;
+import com.onemorethink.domadosever.domain.location.index.LocationIndexChangedEvent;
+import com.onemorethink.domadosever.global.util.GeoUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 위치 조회 응답 캐시
+ * - 조회 중심점을 격자 셀로, 반경을 구간 단위로 올림하여 가까운 사용자끼리 같은 항목을 공유합니다.
+ * - 항목에는 셀 중심 기준 (반경 구간 + 셀 대각선 절반) 범위의 결과를 담아 두고,
+ *   요청마다 실제 중심점/반경으로 다시 걸러 내므로 캐시를 거치지 않은 결과와 동일합니다.
+ * - 인덱스 변경 이벤트의 좌표를 포함하는 항목만 무효화하고, 인덱스 재적재 시에는 전체를 비웁니다.
+ *   변경 이벤트는 커밋한 스레드에서 바로 처리되므로, 항목을 범위가 걸치는 무효화 셀마다 등록해 두고
+ *   변경 좌표의 셀에 등록된 항목만 범위를 확인합니다. (전체 항목을 훑지 않음)
+ */
+@Component
+public class BikeLocationResponseCache {
+    private static final double CELL_SIZE_DEGREES = 0.005;  // 위도 기준 약 550m
+    private static final double RADIUS_BUCKET_KM = 0.5;
+    private static final double INDEX_CELL_SIZE_DEGREES = 0.02;  // 무효화 셀, 위도 기준 약 2.2km
+
+    private final Cache<CacheKey, BikeLocationResponse> cache;
+    private final Map<Long, Set<CacheKey>> keysByIndexCell = new ConcurrentHashMap<>();
+    private final LongAdder invalidations = new LongAdder();
+    private final AtomicLong generation = new AtomicLong();  // 인덱스 변경 이벤트 수신 횟수
+
+    public BikeLocationResponseCache(
+            @Value("${location.cache.maximum-size:10000}") long maximumSize,
+            @Value("${location.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .executor(Runnable::run)
+                .removalListener((CacheKey key, BikeLocationResponse value, RemovalCause cause) -> {
+                    if (key != null && cause != RemovalCause.REPLACED) {
+                        unregister(key);
+                    }
+                })
+                .build();
+    }
+
+    @FunctionalInterface
+    public interface Loader {
+        BikeLocationResponse load(double latitude, double longitude, double radiusKm);
+    }
+
+    /**
+     * 캐시된 범위 결과를 요청 중심점/반경으로 걸러서 반환합니다. (없으면 loader로 셀 범위 결과 생성)
+     */
+    public BikeLocationResponse get(double latitude, double longitude, double radiusKm, Loader loader) {
+        CacheKey key = CacheKey.of(latitude, longitude, radiusKm);
+        BikeLocationResponse covered = cache.getIfPresent(key);
+        if (covered == null) {
+            // 적재 도중 들어온 변경은 무효화 대상에 잡히지 않으므로, 그 사이 변경이 있었다면 저장하지 않음
+            long generationBeforeLoad = generation.get();
+            covered = loader.load(key.centerLatitude(), key.centerLongitude(), key.coverageRadiusKm());
+            if (generation.get() == generationBeforeLoad) {
+                cache.put(key, covered);
+                register(key);
+            }
+        }
+        return narrow(covered, latitude, longitude, radiusKm);
+    }
+
+    @EventListener
+    public void onLocationIndexChanged(LocationIndexChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.isRebuilt()) {
+            cache.invalidateAll();
+            invalidations.increment();
+            return;
+        }
+        if (event.getChangedLocations().isEmpty()) {
+            return;
+        }
+
+        Set<CacheKey> staleKeys = new HashSet<>();
+        event.getChangedLocations().forEach(location -> {
+            Set<CacheKey> candidates = keysByIndexCell.get(
+                    indexCell(indexRow(location.getLatitude()), indexColumn(location.getLongitude())));
+            if (candidates != null) {
+                candidates.stream()
+                        .filter(key -> key.covers(location.getLatitude(), location.getLongitude()))
+                        .forEach(staleKeys::add);
+            }
+        });
+        if (!staleKeys.isEmpty()) {
+            cache.invalidateAll(staleKeys);
+            invalidations.add(staleKeys.size());
+        }
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    // 항목의 범위가 걸치는 무효화 셀마다 등록
+    private void register(CacheKey key) {
+        forEachIndexCell(key, cell -> keysByIndexCell.compute(cell, (c, keys) -> {
+            Set<CacheKey> registered = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            registered.add(key);
+            return registered;
+        }));
+    }
+
+    private void unregister(CacheKey key) {
+        forEachIndexCell(key, cell -> keysByIndexCell.computeIfPresent(cell, (c, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        }));
+        // 제거와 같은 키의 재적재가 겹치면 등록이 지워질 수 있으므로, 캐시에 남아 있으면 다시 등록
+        if (cache.asMap().containsKey(key)) {
+            register(key);
+        }
+    }
+
+    private static void forEachIndexCell(CacheKey key, LongConsumer action) {
+        double latitudeDelta = GeoUtils.latitudeDelta(key.coverageRadiusKm());
+        double longitudeDelta = GeoUtils.longitudeDelta(key.centerLatitude(), key.coverageRadiusKm());
+        int minColumn = indexColumn(key.centerLongitude() - longitudeDelta);
+        int maxColumn = indexColumn(key.centerLongitude() + longitudeDelta);
+        for (int row = indexRow(key.centerLatitude() - latitudeDelta);
+             row <= indexRow(key.centerLatitude() + latitudeDelta); row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                action.accept(indexCell(row, column));
+            }
+        }
+    }
+
+    private static int indexRow(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / INDEX_CELL_SIZE_DEGREES);
+    }
+
+    private static int indexColumn(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / INDEX_CELL_SIZE_DEGREES);
+    }
+
+    private static long indexCell(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    private BikeLocationResponse narrow(BikeLocationResponse covered, double latitude, double longitude,
+                                        double radiusKm) {
+        List<HubLocationDto> hubs = new ArrayList<>(covered.getHubs().size());
+        for (HubLocationDto hub : covered.getHubs()) {
+            List<StationLocationDto> stations = hub.getStations().stream()
+                    .filter(station -> GeoUtils.isWithinRadius(
+                            station.getLatitude(), station.getLongitude(), latitude, longitude, radiusKm))
+                    .collect(Collectors.toList());
+            if (stations.size() == hub.getStations().size()) {
+                hubs.add(hub);
+            } else if (!stations.isEmpty()) {
+                hubs.add(HubLocationDto.of(hub.getHubId(), hub.getHubName(), stations));
+            }
+        }
+
+        List<HiBikeLocationDto> hiBikes = covered.getHiBikes().stream()
+                .filter(hiBike -> GeoUtils.isWithinRadius(
+                        hiBike.getLatitude(), hiBike.getLongitude(), latitude, longitude, radiusKm))
+                .collect(Collectors.toList());
+
+        return BikeLocationResponse.builder()
+                .version(covered.getVersion())
+                .hubs(hubs)
+                .hiBikes(hiBikes)
+                .build();
+    }
+
+    // coverageRadiusKm: 셀 안의 어느 중심점에서 구간 반경으로 조회해도 포함되는 범위 (셀과 구간으로 정해지므로 생성 시 계산)
+    private record CacheKey(int row, int column, int radiusBucket, double coverageRadiusKm) {
+        static CacheKey of(double latitude, double longitude, double radiusKm) {
+            int row = (int) Math.floor((latitude + 90.0) / CELL_SIZE_DEGREES);
+            int column = (int) Math.floor((longitude + 180.0) / CELL_SIZE_DEGREES);
+            int radiusBucket = (int) Math.ceil(radiusKm / RADIUS_BUCKET_KM);
+            return new CacheKey(row, column, radiusBucket, coverageRadiusKm(row, column, radiusBucket));
+        }
+
+        double centerLatitude() {
+            return (row + 0.5) * CELL_SIZE_DEGREES - 90.0;
+        }
+
+        double centerLongitude() {
+            return (column + 0.5) * CELL_SIZE_DEGREES - 180.0;
+        }
+
+        private static double coverageRadiusKm(int row, int column, int radiusBucket) {
+            double minLatitude = row * CELL_SIZE_DEGREES - 90.0;
+            double minLongitude = column * CELL_SIZE_DEGREES - 180.0;
+            double centerLatitude = minLatitude + CELL_SIZE_DEGREES / 2;
+            double centerLongitude = minLongitude + CELL_SIZE_DEGREES / 2;
+            double halfDiagonalKm = Math.max(
+                    GeoUtils.distanceKm(centerLatitude, centerLongitude, minLatitude, minLongitude),
+                    GeoUtils.distanceKm(centerLatitude, centerLongitude,
+                            minLatitude + CELL_SIZE_DEGREES, minLongitude));
+            return radiusBucket * RADIUS_BUCKET_KM + halfDiagonalKm * 1.001;
+        }
+
+        boolean covers(double latitude, double longitude) {
+            return GeoUtils.isWithinRadius(latitude, longitude,
+                    centerLatitude(), centerLongitude(), coverageRadiusKm());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.onemorethink.domadosever.domain.location.controller;
+
+import com.onemorethink.domadosever.domain.location.cache.BikeLocationResponseCache;
+import com.onemorethink.domadosever.domain.location.dto.LocationCacheStatsResponse;
+import com.onemorethink.domadosever.global.common.BaseResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/locations")
+@RequiredArgsConstructor
+@Tag(name = "Location Admin API", description = "위치 조회 운영 지표 API (관리자 전용)")
+public class LocationAdminController {
+    private final BikeLocationResponseCache bikeLocationResponseCache;
+
+    @Operation(
+            summary = "위치 조회 응답 캐시 통계",
+            description = "응답 캐시의 적중률, 항목 수, 제거/무효화 횟수를 조회합니다."
+    )
+    @GetMapping("/cache")
+    public BaseResponse<LocationCacheStatsResponse> getCacheStats() {
+        return BaseResponse.success(LocationCacheStatsResponse.of(
+                bikeLocationResponseCache.getStats(),
+                bikeLocationResponseCache.getSize(),
+                bikeLocationResponseCache.getInvalidationCount()));
+    }
+}
@@ -1,6 +1,11 @@
 package com.onemorethink.domadosever.domain.location.controller;
 
+import com.onemorethink.domadosever.domain.location.dto.BikeClusterResponse;
+import com.onemorethink.domadosever.domain.location.dto.BikeCountResponse;
+import com.onemorethink.domadosever.domain.location.dto.BikeLocationChangesResponse;
 import com.onemorethink.domadosever.domain.location.dto.BikeLocationResponse;
+import com.onemorethink.domadosever.domain.location.dto.NearestBikeResponse;
+import com.onemorethink.domadosever.domain.location.service.BikeClusterService;
 import com.onemorethink.domadosever.domain.location.service.LocationService;
 import com.onemorethink.domadosever.global.common.BaseResponse;
 import com.onemorethink.domadosever.global.error.exception.InvalidParameterException;
@@ -14,16 +19,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @RestController
@@ -32,6 +41,7 @@ import java.util.List;
 @Tag(name = "Location API", description = "위치 기반 자전거 조회 API")
 public class LocationController {
     private final LocationService locationService;
+    private final BikeClusterService bikeClusterService;
 
     @Operation(
             summary = "대여 가능한 자전거 위치 조회",
@@ -40,6 +50,7 @@ public class LocationController {
                     - 반경 내의 모든 허브와 스테이션 정보를 표시합니다.
                     - 각 허브와 스테이션의 대여 가능한 자전거 수를 제공합니다.
                     - HiBike로 등록된 자전거의 위치도 함께 제공합니다.
+                    - 응답의 ETag를 If-None-Match 헤더로 보내면 변경이 없을 때 304(Not Modified)를 반환합니다.
                     """
     )
     @ApiResponses({
@@ -48,6 +59,10 @@ public class LocationController {
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = BikeLocationResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (If-None-Match 일치)"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "잘못된 요청",
@@ -77,17 +92,266 @@ public class LocationController {
             @RequestParam(name = "radius", defaultValue = "2")
             @Positive(message = "반경은 양수여야 합니다")
             @Max(value = 10, message = "반경은 10km를 초과할 수 없습니다")
-            Double radius
+            Double radius,
+
+            WebRequest webRequest
     ) {
         log.debug("Retrieving bike locations - lat: {}, lon: {}, radius: {}km",
                 latitude, longitude, radius);
 
         validateLocationParameters(latitude, longitude, radius);
 
+        // 대여 현황 버전이 바뀌지 않았으면 본문 없이 304 응답
+        long version = locationService.getAvailabilityVersion();
+        if (version > 0 && webRequest.checkNotModified(createETag(version, latitude, longitude, radius))) {
+            return null;
+        }
+
         BikeLocationResponse response = locationService.findBikeLocations(latitude, longitude, radius);
         return BaseResponse.success(response);
     }
 
+    @Operation(
+            summary = "자전거 위치 변경분 조회",
+            description = """
+                    since 버전 이후 대여 가능 현황이 바뀐 허브와 HiBike만 조회합니다.
+                    - since에는 직전 응답의 version 값을 전달합니다.
+                    - 대여할 수 없게 되었거나 반경 밖으로 나간 HiBike는 removedHiBikeIds로 전달됩니다.
+                    - fullSync가 true이면 전체 현황이므로 기존 데이터를 모두 교체해야 합니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BikeLocationChangesResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 오류",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    @GetMapping("/bikes/changes")
+    public BaseResponse<BikeLocationChangesResponse> getBikeLocationChanges(
+            @Parameter(description = "검색 중심점 위도", example = "36.014109")
+            @RequestParam(name = "latitude")
+            @DecimalMin(value = "-90.0", message = "위도는 -90도 이상이어야 합니다")
+            @DecimalMax(value = "90.0", message = "위도는 90도 이하여야 합니다")
+            Double latitude,
+
+            @Parameter(description = "검색 중심점 경도", example = "129.325666")
+            @RequestParam(name = "longitude")
+            @DecimalMin(value = "-180.0", message = "경도는 -180도 이상이어야 합니다")
+            @DecimalMax(value = "180.0", message = "경도는 180도 이하여야 합니다")
+            Double longitude,
+
+            @Parameter(description = "검색 반경(km)", example = "2")
+            @RequestParam(name = "radius", defaultValue = "2")
+            @Positive(message = "반경은 양수여야 합니다")
+            @Max(value = 10, message = "반경은 10km를 초과할 수 없습니다")
+            Double radius,
+
+            @Parameter(description = "직전에 받은 대여 현황 버전", example = "1")
+            @RequestParam(name = "since")
+            @PositiveOrZero(message = "버전은 0 이상이어야 합니다")
+            Long since
+    ) {
+        log.debug("Retrieving bike location changes - lat: {}, lon: {}, radius: {}km, since: {}",
+                latitude, longitude, radius, since);
+
+        validateLocationParameters(latitude, longitude, radius);
+
+        BikeLocationChangesResponse response =
+                locationService.findBikeLocationChanges(latitude, longitude, radius, since);
+        return BaseResponse.success(response);
+    }
+
+    @Operation(
+            summary = "대여 가능한 자전거 수 조회",
+            description = """
+                    지도 축소 시 사용하는 개수 전용 조회입니다.
+                    - 반경 내 허브/스테이션별 대여 가능한 자전거 수만 제공합니다. (자전거 목록 없음)
+                    - 반경 내 대여 가능한 HiBike 수를 함께 제공합니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BikeCountResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 오류",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    @GetMapping("/bikes/counts")
+    public BaseResponse<BikeCountResponse> getBikeCounts(
+            @Parameter(description = "검색 중심점 위도", example = "36.014109")
+            @RequestParam(name = "latitude")
+            @DecimalMin(value = "-90.0", message = "위도는 -90도 이상이어야 합니다")
+            @DecimalMax(value = "90.0", message = "위도는 90도 이하여야 합니다")
+            Double latitude,
+
+            @Parameter(description = "검색 중심점 경도", example = "129.325666")
+            @RequestParam(name = "longitude")
+            @DecimalMin(value = "-180.0", message = "경도는 -180도 이상이어야 합니다")
+            @DecimalMax(value = "180.0", message = "경도는 180도 이하여야 합니다")
+            Double longitude,
+
+            @Parameter(description = "검색 반경(km)", example = "2")
+            @RequestParam(name = "radius", defaultValue = "2")
+            @Positive(message = "반경은 양수여야 합니다")
+            @Max(value = 10, message = "반경은 10km를 초과할 수 없습니다")
+            Double radius
+    ) {
+        log.debug("Retrieving bike counts - lat: {}, lon: {}, radius: {}km",
+                latitude, longitude, radius);
+
+        validateLocationParameters(latitude, longitude, radius);
+
+        BikeCountResponse response = locationService.findBikeCounts(latitude, longitude, radius);
+        return BaseResponse.success(response);
+    }
+
+    @Operation(
+            summary = "축척별 자전거 묶음 조회",
+            description = """
+                    지도 축척(zoom)에 맞춰 서버에서 묶은 자전거 수와 중심점을 조회합니다.
+                    - zoom 15 이상: 스테이션은 허브 단위, HiBike는 격자 단위로 묶습니다.
+                    - zoom 15 미만: 스테이션과 HiBike를 격자 단위로 묶습니다.
+                    - 응답 크기는 자전거 수와 관계없이 화면 크기에 비례합니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BikeClusterResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 오류",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    @GetMapping("/bikes/clusters")
+    public BaseResponse<BikeClusterResponse> getBikeClusters(
+            @Parameter(description = "검색 중심점 위도", example = "36.014109")
+            @RequestParam(name = "latitude")
+            @DecimalMin(value = "-90.0", message = "위도는 -90도 이상이어야 합니다")
+            @DecimalMax(value = "90.0", message = "위도는 90도 이하여야 합니다")
+            Double latitude,
+
+            @Parameter(description = "검색 중심점 경도", example = "129.325666")
+            @RequestParam(name = "longitude")
+            @DecimalMin(value = "-180.0", message = "경도는 -180도 이상이어야 합니다")
+            @DecimalMax(value = "180.0", message = "경도는 180도 이하여야 합니다")
+            Double longitude,
+
+            @Parameter(description = "검색 반경(km)", example = "10")
+            @RequestParam(name = "radius", defaultValue = "10")
+            @Positive(message = "반경은 양수여야 합니다")
+            @Max(value = 10, message = "반경은 10km를 초과할 수 없습니다")
+            Double radius,
+
+            @Parameter(description = "지도 축척 (1 ~ 21)", example = "13")
+            @RequestParam(name = "zoom")
+            @Min(value = BikeClusterService.MIN_ZOOM, message = "zoom은 1 이상이어야 합니다")
+            @Max(value = BikeClusterService.MAX_ZOOM, message = "zoom은 21 이하여야 합니다")
+            Integer zoom
+    ) {
+        log.debug("Retrieving bike clusters - lat: {}, lon: {}, radius: {}km, zoom: {}",
+                latitude, longitude, radius, zoom);
+
+        validateLocationParameters(latitude, longitude, radius);
+
+        BikeClusterResponse response = bikeClusterService.findBikeClusters(latitude, longitude, radius, zoom);
+        return BaseResponse.success(response);
+    }
+
+    @Operation(
+            summary = "가장 가까운 대여 가능 자전거 조회",
+            description = """
+                    사용자 위치에서 가장 가까운 대여 가능 자전거를 거리순으로 조회합니다.
+                    - 스테이션에 거치된 자전거와 HiBike를 함께 비교합니다.
+                    - 최대 탐색 반경 안에서 limit대까지만 반환합니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = NearestBikeResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 오류",
+                    content = @Content(schema = @Schema(implementation = BaseResponse.class))
+            )
+    })
+    @GetMapping("/bikes/nearest")
+    public BaseResponse<NearestBikeResponse> getNearestBikes(
+            @Parameter(description = "검색 중심점 위도", example = "36.014109")
+            @RequestParam(name = "latitude")
+            @DecimalMin(value = "-90.0", message = "위도는 -90도 이상이어야 합니다")
+            @DecimalMax(value = "90.0", message = "위도는 90도 이하여야 합니다")
+            Double latitude,
+
+            @Parameter(description = "검색 중심점 경도", example = "129.325666")
+            @RequestParam(name = "longitude")
+            @DecimalMin(value = "-180.0", message = "경도는 -180도 이상이어야 합니다")
+            @DecimalMax(value = "180.0", message = "경도는 180도 이하여야 합니다")
+            Double longitude,
+
+            @Parameter(description = "조회할 자전거 수", example = "5")
+            @RequestParam(name = "limit", defaultValue = "5")
+            @Min(value = 1, message = "조회 수는 1 이상이어야 합니다")
+            @Max(value = 20, message = "조회 수는 20을 초과할 수 없습니다")
+            Integer limit,
+
+            @Parameter(description = "최대 탐색 반경(km)", example = "10")
+            @RequestParam(name = "maxRadius", defaultValue = "10")
+            @Positive(message = "반경은 양수여야 합니다")
+            @Max(value = 10, message = "반경은 10km를 초과할 수 없습니다")
+            Double maxRadius
+    ) {
+        log.debug("Retrieving nearest bikes - lat: {}, lon: {}, limit: {}, maxRadius: {}km",
+                latitude, longitude, limit, maxRadius);
+
+        validateLocationParameters(latitude, longitude, maxRadius);
+
+        NearestBikeResponse response = locationService.findNearestBikes(latitude, longitude, limit, maxRadius);
+        return BaseResponse.success(response);
+    }
+
+    // 같은 버전이라도 조회 조건이 다르면 응답이 다르므로 조건을 ETag에 포함
+    private String createETag(long version, Double latitude, Double longitude, Double radius) {
+        return "\"" + version + "-" + Integer.toHexString(Objects.hash(latitude, longitude, radius)) + "\"";
+    }
+
     private void validateLocationParameters(Double latitude, Double longitude, Double radius) {
         List<String> errors = new ArrayList<>();
 
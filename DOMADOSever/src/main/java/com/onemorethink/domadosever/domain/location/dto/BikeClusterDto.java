@@ -0,0 +1,18 @@
+package com.onemorethink.domadosever.domain.location.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 지도 축척별로 묶은 대여 가능 자전거 묶음
+@Getter
+@Builder
+public class BikeClusterDto {
+    private String clusterId;
+    private Long hubId;         // 허브 단위 묶음일 때만
+    private String hubName;     // 허브 단위 묶음일 때만
+    private Double latitude;    // 자전거 수 가중 중심점 (자전거가 없으면 단순 중심점)
+    private Double longitude;
+    private int availableBikes; // 스테이션 거치 대여 가능 자전거 수
+    private int hiBikeCount;
+    private int stationCount;
+}
@@ -0,0 +1,16 @@
+package com.onemorethink.domadosever.domain.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class BikeClusterResponse {
+    private long version;
+    private int zoom;
+    private List<BikeClusterDto> clusters;
+}
@@ -0,0 +1,16 @@
+package com.onemorethink.domadosever.domain.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class BikeCountResponse {
+    private long version;
+    private List<HubCountDto> hubs;
+    private int hiBikeCount;
+}
@@ -0,0 +1,35 @@
+package com.onemorethink.domadosever.domain.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 특정 버전 이후 변경된 대여 현황
+ * - hubs: 대여 가능 현황이 바뀐 스테이션이 속한 허브 (반경 내 스테이션 전체 기준으로 교체)
+ * - hiBikes: 추가되었거나 정보가 바뀐 HiBike
+ * - removedHiBikeIds: 더 이상 대여할 수 없거나 조회 범위 밖으로 나간 HiBike (받지 않은 ID는 무시)
+ * - fullSync가 true이면 변경분이 아닌 전체 현황이므로 클라이언트 데이터를 교체해야 합니다.
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class BikeLocationChangesResponse {
+    private long version;
+    private boolean fullSync;
+    private List<HubLocationDto> hubs;
+    private List<HiBikeLocationDto> hiBikes;
+    private List<Long> removedHiBikeIds;
+
+    public static BikeLocationChangesResponse fullSync(BikeLocationResponse response) {
+        return BikeLocationChangesResponse.builder()
+                .version(response.getVersion())
+                .fullSync(true)
+                .hubs(response.getHubs())
+                .hiBikes(response.getHiBikes())
+                .removedHiBikeIds(List.of())
+                .build();
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class BikeLocationResponse {
+    private long version;   // 응답 기준 대여 현황 버전 (변경분 조회의 since 값으로 사용)
     private List<HubLocationDto> hubs;
     private List<HiBikeLocationDto> hiBikes;
 }
@@ -1,5 +1,6 @@
 package com.onemorethink.domadosever.domain.location.dto;
 
+import com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot;
 import com.onemorethink.domadosever.domain.bike.entity.Bike;
 import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
 import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
@@ -32,4 +33,18 @@ public class HiBikeLocationDto {
                 .homeHubName(bike.getHomeHub().getName())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static HiBikeLocationDto from(BikeSnapshot bike) {
+        return HiBikeLocationDto.builder()
+                .bikeId(bike.getBikeId())
+                .qrCode(bike.getQrCode())
+                .latitude(bike.getLatitude())
+                .longitude(bike.getLongitude())
+                .batteryLevel(bike.getBatteryLevel())
+                .status(bike.getStatus())
+                .hiBikeStatus(bike.getHiBikeStatus())
+                .homeHubId(bike.getHomeHubId())
+                .homeHubName(bike.getHomeHubName())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.onemorethink.domadosever.domain.location.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 개수만 표시하는 지도 축척용 허브 정보 (자전거 목록 없음)
+@Getter
+@Builder
+public class HubCountDto {
+    private Long hubId;
+    private String hubName;
+    private Double latitude;  // 허브 내 스테이션들의 중심점 위도
+    private Double longitude; // 허브 내 스테이션들의 중심점 경도
+    private int totalAvailableBikes;
+    private List<StationCount> stations;
+
+    @Getter
+    @Builder
+    public static class StationCount {
+        private Long stationId;
+        private String stationName;
+        private Double latitude;
+        private Double longitude;
+        private int capacity;
+        private int availableBikes;
+    }
+
+    /**
+     * 스테이션 목록을 한 번만 순회하며 중심점(경계 상자 중앙, {@link HubLocationDto}와 동일)과 자전거 수를 함께 계산합니다.
+     * hubAvailableBikes가 null이면 스테이션별 자전거 수의 합계를 사용합니다.
+     */
+    public static HubCountDto of(Long hubId, String hubName, Integer hubAvailableBikes, List<StationCount> stations) {
+        double minLat = Double.MAX_VALUE;
+        double maxLat = -Double.MAX_VALUE;
+        double minLng = Double.MAX_VALUE;
+        double maxLng = -Double.MAX_VALUE;
+        int stationAvailableBikes = 0;
+
+        for (StationCount station : stations) {
+            minLat = Math.min(minLat, station.getLatitude());
+            maxLat = Math.max(maxLat, station.getLatitude());
+            minLng = Math.min(minLng, station.getLongitude());
+            maxLng = Math.max(maxLng, station.getLongitude());
+            stationAvailableBikes += station.getAvailableBikes();
+        }
+
+        return HubCountDto.builder()
+                .hubId(hubId)
+                .hubName(hubName)
+                .latitude((minLat + maxLat) / 2)
+                .longitude((minLng + maxLng) / 2)
+                .totalAvailableBikes(hubAvailableBikes != null ? hubAvailableBikes : stationAvailableBikes)
+                .stations(stations)
+                .build();
+    }
+}
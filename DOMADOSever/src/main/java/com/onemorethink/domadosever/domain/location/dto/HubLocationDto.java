@@ -1,7 +1,5 @@
 package com.onemorethink.domadosever.domain.location.dto;
 
-import com.onemorethink.domadosever.domain.station.entity.Hub;
-import com.onemorethink.domadosever.domain.station.entity.Station;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -18,29 +16,26 @@ public class HubLocationDto {
     private int totalAvailableBikes;  // 허브 내 전체 이용 가능한 자전거 수
     private List<StationLocationDto> stations;
 
-    public static HubLocationDto from(Hub hub, List<StationLocationDto> stationDtos) {
-        // 허브 내 모든 스테이션의 위치 중심점 계산
-        DoubleSummaryStatistics latStats = hub.getStations().stream()
-                .mapToDouble(Station::getLatitude)
+    // 반경 내에 포함된 스테이션만으로 허브 정보 생성
+    public static HubLocationDto of(Long hubId, String hubName, List<StationLocationDto> stationDtos) {
+        DoubleSummaryStatistics latStats = stationDtos.stream()
+                .mapToDouble(StationLocationDto::getLatitude)
                 .summaryStatistics();
-        DoubleSummaryStatistics lngStats = hub.getStations().stream()
-                .mapToDouble(Station::getLongitude)
+        DoubleSummaryStatistics lngStats = stationDtos.stream()
+                .mapToDouble(StationLocationDto::getLongitude)
                 .summaryStatistics();
 
-        Double centerLat = (latStats.getMin() + latStats.getMax()) / 2;
-        Double centerLng = (lngStats.getMin() + lngStats.getMax()) / 2;
-
         int totalBikes = stationDtos.stream()
                 .mapToInt(station -> station.getAvailableBikes().size())
                 .sum();
 
         return HubLocationDto.builder()
-                .hubId(hub.getId())
-                .hubName(hub.getName())
-                .latitude(centerLat)
-                .longitude(centerLng)
+                .hubId(hubId)
+                .hubName(hubName)
+                .latitude((latStats.getMin() + latStats.getMax()) / 2)
+                .longitude((lngStats.getMin() + lngStats.getMax()) / 2)
                 .totalAvailableBikes(totalBikes)
                 .stations(stationDtos)
                 .build();
     }
-}
\ No newline at end of file
+}
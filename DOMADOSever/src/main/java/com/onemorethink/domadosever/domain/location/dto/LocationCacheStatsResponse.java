@@ -0,0 +1,27 @@
+package com.onemorethink.domadosever.domain.location.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LocationCacheStatsResponse {
+    private long size;           // 현재 캐시 항목 수 (추정치)
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;  // 용량/만료로 제거된 항목 수
+    private long invalidationCount; // 자전거 상태 변경으로 무효화된 항목 수
+
+    public static LocationCacheStatsResponse of(CacheStats stats, long size, long invalidationCount) {
+        return LocationCacheStatsResponse.builder()
+                .size(size)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .invalidationCount(invalidationCount)
+                .build();
+    }
+}
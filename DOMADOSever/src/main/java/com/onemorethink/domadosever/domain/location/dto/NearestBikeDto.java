@@ -0,0 +1,63 @@
+package com.onemorethink.domadosever.domain.location.dto;
+
+import com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot;
+import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
+import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
+import com.onemorethink.domadosever.domain.location.index.StationSnapshot;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class NearestBikeDto {
+    private Long bikeId;
+    private String qrCode;
+    private Integer batteryLevel;
+    private BikeStatus status;
+    private HiBikeStatus hiBikeStatus;
+    private boolean hiBike;         // true: HiBike, false: 스테이션 거치 자전거
+    private Long stationId;         // 거치 자전거만
+    private String stationName;     // 거치 자전거만
+    private Integer currentDockId;  // 거치 자전거만
+    private Long homeHubId;
+    private String homeHubName;
+    private Double latitude;
+    private Double longitude;
+    private int distanceMeters;
+
+    // 스테이션 거치 자전거 (위치는 스테이션 좌표)
+    public static NearestBikeDto of(BikeSnapshot bike, StationSnapshot station, double distanceKm) {
+        return NearestBikeDto.builder()
+                .bikeId(bike.getBikeId())
+                .qrCode(bike.getQrCode())
+                .batteryLevel(bike.getBatteryLevel())
+                .status(bike.getStatus())
+                .hiBikeStatus(bike.getHiBikeStatus())
+                .hiBike(false)
+                .stationId(station.getStationId())
+                .stationName(station.getStationName())
+                .currentDockId(bike.getCurrentDockId())
+                .homeHubId(bike.getHomeHubId())
+                .homeHubName(bike.getHomeHubName())
+                .latitude(station.getLatitude())
+                .longitude(station.getLongitude())
+                .distanceMeters((int) Math.round(distanceKm * 1000))
+                .build();
+    }
+
+    public static NearestBikeDto ofHiBike(BikeSnapshot bike, double distanceKm) {
+        return NearestBikeDto.builder()
+                .bikeId(bike.getBikeId())
+                .qrCode(bike.getQrCode())
+                .batteryLevel(bike.getBatteryLevel())
+                .status(bike.getStatus())
+                .hiBikeStatus(bike.getHiBikeStatus())
+                .hiBike(true)
+                .homeHubId(bike.getHomeHubId())
+                .homeHubName(bike.getHomeHubName())
+                .latitude(bike.getLatitude())
+                .longitude(bike.getLongitude())
+                .distanceMeters((int) Math.round(distanceKm * 1000))
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.onemorethink.domadosever.domain.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class NearestBikeResponse {
+    private List<NearestBikeDto> bikes;   // 가까운 순
+}
@@ -1,8 +1,10 @@
 package com.onemorethink.domadosever.domain.location.dto;
 
+import com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot;
 import com.onemorethink.domadosever.domain.bike.entity.Bike;
 import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
 import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
+import com.onemorethink.domadosever.domain.location.index.StationSnapshot;
 import com.onemorethink.domadosever.domain.station.entity.Station;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +16,8 @@ import java.util.stream.Collectors;
 @Getter
 @Builder
 public class StationLocationDto {
+    public static final int MIN_BATTERY_LEVEL = 20;  // 지도에 대여 가능으로 표시하는 최소 배터리
+
     private Long stationId;
     private String stationName;
     private Double latitude;
@@ -38,7 +42,7 @@ public class StationLocationDto {
         List<BikeInfo> bikeInfos = station.getParkedBikes().stream()
                 .filter(bike -> bike.getStatus() == BikeStatus.PARKED
                         && bike.getHiBikeStatus() == HiBikeStatus.NONE
-                        && bike.getBatteryLevel() >= 20) // DTO 에서 담을 때도 배터리 상태 검증 로직
+                        && bike.getBatteryLevel() >= MIN_BATTERY_LEVEL) // DTO 에서 담을 때도 배터리 상태 검증 로직
                 .sorted(Comparator.comparing(
                         Bike::getCurrentDockId,
                         Comparator.nullsLast(Comparator.naturalOrder())
@@ -66,4 +70,34 @@ public class StationLocationDto {
                 .availableBikes(bikeInfos)
                 .build();
     }
-}
\ No newline at end of file
+
+    // 공간 인덱스에 적재된 스테이션/자전거 정보로 DTO 생성
+    public static StationLocationDto of(StationSnapshot station, List<BikeSnapshot> bikes) {
+        List<BikeInfo> bikeInfos = bikes.stream()
+                .filter(bike -> bike.isRentableAtStation(MIN_BATTERY_LEVEL))
+                .sorted(Comparator.comparing(
+                        BikeSnapshot::getCurrentDockId,
+                        Comparator.nullsLast(Comparator.naturalOrder())
+                ))
+                .map(bike -> BikeInfo.builder()
+                        .bikeId(bike.getBikeId())
+                        .qrCode(bike.getQrCode())
+                        .batteryLevel(bike.getBatteryLevel())
+                        .status(bike.getStatus())
+                        .hiBikeStatus(bike.getHiBikeStatus())
+                        .currentDockId(bike.getCurrentDockId())
+                        .homeHubId(bike.getHomeHubId())
+                        .homeHubName(bike.getHomeHubName())
+                        .build())
+                .collect(Collectors.toList());
+
+        return StationLocationDto.builder()
+                .stationId(station.getStationId())
+                .stationName(station.getStationName())
+                .latitude(station.getLatitude())
+                .longitude(station.getLongitude())
+                .capacity(station.getCapacity())
+                .availableBikes(bikeInfos)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.onemorethink.domadosever.domain.location.index;
+
+import com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot;
+import com.onemorethink.domadosever.domain.location.dto.HiBikeLocationDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 특정 버전 이후 인덱스 전체에서 변경된 항목 (영역 구분 없음)
+ * - fullSync가 true이면 기준 버전이 인덱스 재적재 이전이므로 모든 스테이션/HiBike가 포함됩니다.
+ */
+@Getter
+@Builder
+public class AvailabilityChanges {
+    private final long version;
+    private final boolean fullSync;
+    private final List<StationSnapshot> stations;
+    private final List<HiBikeLocationDto> hiBikes;
+    private final List<BikeSnapshot> removedHiBikes;    // 마지막으로 알려진 위치 기준
+
+    public boolean isEmpty() {
+        return !fullSync && stations.isEmpty() && hiBikes.isEmpty() && removedHiBikes.isEmpty();
+    }
+}
@@ -0,0 +1,449 @@
+package com.onemorethink.domadosever.domain.location.index;
+
+import com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot;
+import com.onemorethink.domadosever.domain.bike.event.BikeStateChangedEvent;
+import com.onemorethink.domadosever.domain.bike.repository.BikeRepository;
+import com.onemorethink.domadosever.domain.location.dto.HiBikeLocationDto;
+import com.onemorethink.domadosever.domain.location.dto.NearestBikeDto;
+import com.onemorethink.domadosever.domain.location.dto.StationLocationDto;
+import com.onemorethink.domadosever.domain.station.repository.StationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스테이션과 HiBike 위치를 메모리에 유지하는 공간 인덱스
+ * - 애플리케이션 기동 시 DB에서 전체 스테이션/자전거를 적재합니다.
+ * - 이후에는 대여/일시잠금/반납/HiBike 전환 트랜잭션이 커밋될 때 발행되는 이벤트로 갱신됩니다.
+ * - 반경 조회는 DB를 거치지 않고 인덱스만으로 처리합니다.
+ * - 허브별 대여 가능 현황은 {@link HubAvailabilitySnapshot}으로 미리 만들어 두고, 변경된 허브만 다시 만듭니다.
+ * - 스테이션/허브별 대여 가능 자전거 수는 자전거 상태가 반영될 때 증감하여 유지합니다. (개수만 필요한 조회용)
+ * - 반영이 끝나면 바뀐 좌표를 {@link LocationIndexChangedEvent}로 알립니다. (응답 캐시 무효화 등)
+ * - 스테이션/HiBike별 마지막 변경 버전을 기록해 두어 특정 버전 이후의 변경분만 조회할 수 있습니다.
+ *   재적재(rebuild) 이전 버전을 기준으로 한 변경분 조회는 지원하지 않습니다. ({@link #getBaseVersion()})
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BikeLocationIndex {
+    private final StationRepository stationRepository;
+    private final BikeRepository bikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile IndexState state;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준으로 인덱스 전체를 다시 적재합니다.
+     * 적재가 끝난 뒤 한 번에 교체하므로 조회 중인 요청은 이전 인덱스를 그대로 사용합니다.
+     */
+    public void rebuild() {
+        long version = load();
+        eventPublisher.publishEvent(LocationIndexChangedEvent.rebuilt(version));
+    }
+
+    private synchronized long load() {
+        long version = state != null ? state.version + 1 : 1;
+        IndexState newState = new IndexState(version);
+
+        stationRepository.findAllStationSnapshots().forEach(newState::putStation);
+        bikeRepository.findAllBikeSnapshots().forEach(newState::applyBike);
+        newState.hubStationIds.keySet().forEach(newState::refreshHubSnapshot);
+
+        this.state = newState;
+        log.info("Bike location index loaded - stations: {}, bikes: {}, hiBikes: {}",
+                newState.stations.size(), newState.bikes.size(), newState.hiBikeGrid.size());
+        return version;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBikeStateChanged(BikeStateChangedEvent event) {
+        apply(event.getBike());
+    }
+
+    public void apply(BikeSnapshot bike) {
+        LocationIndexChangedEvent event = applyAndCollectChanges(bike);
+        if (event != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private synchronized LocationIndexChangedEvent applyAndCollectChanges(BikeSnapshot bike) {
+        IndexState current = state;
+        if (current == null) {
+            return null;
+        }
+
+        current.version++;
+        BikeSnapshot previous = current.bikes.get(bike.getBikeId());
+        Set<Long> affectedStationIds = current.applyBike(bike);
+        affectedStationIds.forEach(stationId -> current.stationVersions.put(stationId, current.version));
+        affectedStationIds.stream()
+                .map(current.stations::get)
+                .filter(Objects::nonNull)
+                .map(StationSnapshot::getHubId)
+                .distinct()
+                .forEach(current::refreshHubSnapshot);
+
+        // 바뀐 좌표: 영향받은 스테이션 + HiBike 이전/현재 위치
+        List<LocationIndexChangedEvent.ChangedLocation> changedLocations = new ArrayList<>();
+        affectedStationIds.stream()
+                .map(current.stations::get)
+                .filter(Objects::nonNull)
+                .forEach(station -> changedLocations.add(new LocationIndexChangedEvent.ChangedLocation(
+                        station.getLatitude(), station.getLongitude())));
+        if (previous != null && previous.isHiBikeForRent()) {
+            changedLocations.add(new LocationIndexChangedEvent.ChangedLocation(
+                    previous.getLatitude(), previous.getLongitude()));
+        }
+        if (bike.isHiBikeForRent()) {
+            changedLocations.add(new LocationIndexChangedEvent.ChangedLocation(
+                    bike.getLatitude(), bike.getLongitude()));
+        }
+        return LocationIndexChangedEvent.changed(current.version, changedLocations);
+    }
+
+    public boolean isReady() {
+        return state != null;
+    }
+
+    /**
+     * 현재 인덱스 버전 (자전거 상태가 반영될 때마다 증가)
+     */
+    public long getVersion() {
+        return requireState().version;
+    }
+
+    /**
+     * 현재 인덱스가 적재된 시점의 버전
+     * 이 버전보다 이전 버전을 기준으로 한 변경분은 알 수 없으므로 전체 동기화가 필요합니다.
+     */
+    public long getBaseVersion() {
+        return requireState().baseVersion;
+    }
+
+    /**
+     * 스테이션의 대여 가능 현황이 마지막으로 바뀐 버전 (적재 이후 변경이 없으면 적재 버전)
+     */
+    public long getStationVersion(Long stationId) {
+        IndexState current = requireState();
+        return current.stationVersions.getOrDefault(stationId, current.baseVersion);
+    }
+
+    /**
+     * 주어진 버전 이후 변경된 스테이션/HiBike를 영역 구분 없이 한 번에 수집합니다.
+     * 실시간 전송 시 구독자마다 인덱스를 다시 훑지 않도록 주기마다 한 번만 호출합니다.
+     */
+    public AvailabilityChanges collectChangesSince(long sinceVersion) {
+        IndexState current = requireState();
+        long version = current.version;
+
+        List<StationSnapshot> changedStations = new ArrayList<>();
+        current.stations.forEach((stationId, station) -> {
+            if (current.stationVersions.getOrDefault(stationId, current.baseVersion) > sinceVersion) {
+                changedStations.add(station);
+            }
+        });
+
+        List<HiBikeLocationDto> changedHiBikes = new ArrayList<>();
+        current.hiBikeLocations.forEach((bikeId, hiBike) -> {
+            if (current.hiBikeVersions.getOrDefault(bikeId, current.baseVersion) > sinceVersion) {
+                changedHiBikes.add(hiBike);
+            }
+        });
+
+        List<BikeSnapshot> removedHiBikes = new ArrayList<>();
+        current.removedHiBikeVersions.forEach((bikeId, removedVersion) -> {
+            BikeSnapshot bike = current.bikes.get(bikeId);
+            if (removedVersion > sinceVersion && bike != null) {
+                removedHiBikes.add(bike);
+            }
+        });
+
+        return AvailabilityChanges.builder()
+                .version(version)
+                .fullSync(sinceVersion < current.baseVersion)
+                .stations(changedStations)
+                .hiBikes(changedHiBikes)
+                .removedHiBikes(removedHiBikes)
+                .build();
+    }
+
+    /**
+     * 반경 내 스테이션 조회 (Haversine 거리 기준)
+     */
+    public List<StationSnapshot> findStationsWithinRadius(double latitude, double longitude, double radiusKm) {
+        IndexState current = requireState();
+        List<StationSnapshot> result = new ArrayList<>();
+        for (Long stationId : current.stationGrid.findWithinRadius(latitude, longitude, radiusKm)) {
+            StationSnapshot station = current.stations.get(stationId);
+            if (station != null) {
+                result.add(station);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 반경 내 대여 가능한 HiBike 조회 (Haversine 거리 기준)
+     */
+    public List<BikeSnapshot> findHiBikesWithinRadius(double latitude, double longitude,
+                                                      double radiusKm, int minBatteryLevel) {
+        IndexState current = requireState();
+        List<BikeSnapshot> result = new ArrayList<>();
+        for (Long bikeId : current.hiBikeGrid.findWithinRadius(latitude, longitude, radiusKm)) {
+            BikeSnapshot bike = current.bikes.get(bikeId);
+            if (bike != null && bike.isHiBikeForRent() && bike.getBatteryLevel() >= minBatteryLevel) {
+                result.add(bike);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 반경 내 대여 가능한 HiBike의 미리 생성된 위치 정보 조회
+     */
+    public List<HiBikeLocationDto> findHiBikeLocationsWithinRadius(double latitude, double longitude,
+                                                                   double radiusKm, int minBatteryLevel) {
+        IndexState current = requireState();
+        List<HiBikeLocationDto> result = new ArrayList<>();
+        for (Long bikeId : current.hiBikeGrid.findWithinRadius(latitude, longitude, radiusKm)) {
+            HiBikeLocationDto hiBike = current.hiBikeLocations.get(bikeId);
+            if (hiBike != null && hiBike.getBatteryLevel() >= minBatteryLevel) {
+                result.add(hiBike);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 가까운 순서로 대여 가능한 자전거(스테이션 거치 + HiBike) 최대 limit대 조회
+     * - 가장 가까운 limit대는 반드시 "대여 가능 자전거가 있는 가장 가까운 limit개 스테이션"과
+     *   "가장 가까운 limit대 HiBike" 안에 있으므로, 두 격자에서 각각 limit개만 찾은 뒤 병합합니다.
+     */
+    public List<NearestBikeDto> findNearestRentableBikes(double latitude, double longitude, int limit,
+                                                         double maxRadiusKm, int minBatteryLevel) {
+        IndexState current = requireState();
+        List<NearestBikeDto> candidates = new ArrayList<>();
+
+        // 1. 대여 가능 자전거가 있는 가까운 스테이션의 거치 자전거 (도크 번호 순)
+        current.stationGrid.findNearest(latitude, longitude, limit, maxRadiusKm,
+                        stationId -> current.bikesAtStation(stationId).stream()
+                                .anyMatch(bike -> bike.isRentableAtStation(minBatteryLevel)))
+                .forEach(neighbor -> {
+                    StationSnapshot station = current.stations.get(neighbor.getId());
+                    current.rentableBikesAtStation(neighbor.getId(), minBatteryLevel).stream()
+                            .limit(limit)
+                            .forEach(bike -> candidates.add(NearestBikeDto.of(bike, station, neighbor.getDistanceKm())));
+                });
+
+        // 2. 가까운 HiBike
+        current.hiBikeGrid.findNearest(latitude, longitude, limit, maxRadiusKm, bikeId -> {
+                    BikeSnapshot bike = current.bikes.get(bikeId);
+                    return bike != null && bike.isHiBikeForRent() && bike.getBatteryLevel() >= minBatteryLevel;
+                })
+                .forEach(neighbor -> candidates.add(
+                        NearestBikeDto.ofHiBike(current.bikes.get(neighbor.getId()), neighbor.getDistanceKm())));
+
+        // 3. 최대 2 x limit대 후보만 거리순 병합 (같은 스테이션은 도크 번호 순 유지)
+        candidates.sort(Comparator.comparingInt(NearestBikeDto::getDistanceMeters));
+        return candidates.size() > limit ? new ArrayList<>(candidates.subList(0, limit)) : candidates;
+    }
+
+    /**
+     * 스테이션에 거치된 대여 가능 자전거 수 (배터리 {@link StationLocationDto#MIN_BATTERY_LEVEL}% 이상)
+     */
+    public int getStationAvailableCount(Long stationId) {
+        return requireState().stationAvailableCounts.getOrDefault(stationId, 0);
+    }
+
+    /**
+     * 허브 소속 스테이션에 거치된 대여 가능 자전거 수 (배터리 {@link StationLocationDto#MIN_BATTERY_LEVEL}% 이상)
+     */
+    public int getHubAvailableCount(Long hubId) {
+        return requireState().hubAvailableCounts.getOrDefault(hubId, 0);
+    }
+
+    /**
+     * 스테이션에 위치한 자전거 목록 조회 (상태 무관)
+     */
+    public List<BikeSnapshot> findBikesAtStation(Long stationId) {
+        return requireState().bikesAtStation(stationId);
+    }
+
+    /**
+     * 허브의 현재 대여 가능 현황 스냅샷 조회
+     */
+    public HubAvailabilitySnapshot getHubSnapshot(Long hubId) {
+        return requireState().hubSnapshots.get(hubId);
+    }
+
+    private IndexState requireState() {
+        IndexState current = state;
+        if (current == null) {
+            throw new IllegalStateException("Bike location index is not loaded yet");
+        }
+        return current;
+    }
+
+    private static class IndexState {
+        private final Map<Long, StationSnapshot> stations = new ConcurrentHashMap<>();
+        private final Map<Long, BikeSnapshot> bikes = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> stationBikeIds = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> hubStationIds = new ConcurrentHashMap<>();
+        private final Map<Long, HubAvailabilitySnapshot> hubSnapshots = new ConcurrentHashMap<>();
+        private final Map<Long, HiBikeLocationDto> hiBikeLocations = new ConcurrentHashMap<>();
+        private final SpatialGrid stationGrid = new SpatialGrid();
+        private final SpatialGrid hiBikeGrid = new SpatialGrid();
+
+        // 대여 가능 자전거 수 (인덱스 잠금 안에서만 증감)
+        private final Map<Long, Integer> stationAvailableCounts = new ConcurrentHashMap<>();
+        private final Map<Long, Integer> hubAvailableCounts = new ConcurrentHashMap<>();
+
+        // 변경분 조회용 마지막 변경 버전 (삭제 기록은 자전거당 하나이므로 자전거 수 이상으로 늘어나지 않음)
+        private final Map<Long, Long> stationVersions = new ConcurrentHashMap<>();
+        private final Map<Long, Long> hiBikeVersions = new ConcurrentHashMap<>();
+        private final Map<Long, Long> removedHiBikeVersions = new ConcurrentHashMap<>();
+
+        private final long baseVersion;
+
+        // 인덱스 잠금 안에서만 변경
+        private volatile long version;
+
+        private IndexState(long version) {
+            this.baseVersion = version;
+            this.version = version;
+        }
+
+        private void putStation(StationSnapshot station) {
+            stations.put(station.getStationId(), station);
+            stationGrid.put(station.getStationId(), station.getLatitude(), station.getLongitude());
+            hubStationIds.computeIfAbsent(station.getHubId(), id -> new TreeSet<>())
+                    .add(station.getStationId());
+        }
+
+        /**
+         * @return 대여 가능 현황이 바뀌었을 수 있는 스테이션 ID 목록
+         */
+        private Set<Long> applyBike(BikeSnapshot bike) {
+            Long bikeId = bike.getBikeId();
+            BikeSnapshot previous = bikes.put(bikeId, bike);
+            Set<Long> affectedStationIds = new HashSet<>();
+
+            // 0. 대여 가능 자전거 수 증감 (이전 상태 차감 후 현재 상태 가산)
+            if (previous != null) {
+                updateAvailableCount(previous, -1);
+            }
+            updateAvailableCount(bike, 1);
+
+            // 1. 스테이션 소속 변경 반영
+            Long previousStationId = previous != null ? previous.getCurrentStationId() : null;
+            if (previousStationId != null) {
+                affectedStationIds.add(previousStationId);
+                if (!previousStationId.equals(bike.getCurrentStationId())) {
+                    stationBikeIds.computeIfPresent(previousStationId, (id, ids) -> {
+                        ids.remove(bikeId);
+                        return ids.isEmpty() ? null : ids;
+                    });
+                }
+            }
+            if (bike.getCurrentStationId() != null) {
+                affectedStationIds.add(bike.getCurrentStationId());
+                if (!Objects.equals(previousStationId, bike.getCurrentStationId())) {
+                    stationBikeIds.computeIfAbsent(bike.getCurrentStationId(),
+                            id -> ConcurrentHashMap.newKeySet()).add(bikeId);
+                }
+            }
+
+            // 2. HiBike 위치 반영
+            if (bike.isHiBikeForRent()) {
+                hiBikeLocations.put(bikeId, HiBikeLocationDto.from(bike));
+                hiBikeGrid.put(bikeId, bike.getLatitude(), bike.getLongitude());
+                hiBikeVersions.put(bikeId, version);
+                removedHiBikeVersions.remove(bikeId);
+            } else if (hiBikeLocations.remove(bikeId) != null) {
+                hiBikeGrid.remove(bikeId);
+                hiBikeVersions.remove(bikeId);
+                removedHiBikeVersions.put(bikeId, version);
+            }
+
+            return affectedStationIds;
+        }
+
+        private void updateAvailableCount(BikeSnapshot bike, int delta) {
+            if (bike.getCurrentStationId() == null
+                    || !bike.isRentableAtStation(StationLocationDto.MIN_BATTERY_LEVEL)) {
+                return;
+            }
+            StationSnapshot station = stations.get(bike.getCurrentStationId());
+            if (station == null) {
+                return;
+            }
+            stationAvailableCounts.merge(station.getStationId(), delta, Integer::sum);
+            hubAvailableCounts.merge(station.getHubId(), delta, Integer::sum);
+        }
+
+        private void refreshHubSnapshot(Long hubId) {
+            Set<Long> stationIds = hubStationIds.get(hubId);
+            if (stationIds == null || stationIds.isEmpty()) {
+                return;
+            }
+
+            List<StationLocationDto> stationDtos = new ArrayList<>(stationIds.size());
+            for (Long stationId : stationIds) {
+                stationDtos.add(StationLocationDto.of(stations.get(stationId), bikesAtStation(stationId)));
+            }
+
+            StationSnapshot first = stations.get(stationIds.iterator().next());
+            hubSnapshots.put(hubId, HubAvailabilitySnapshot.of(version, hubId, first.getHubName(), stationDtos));
+        }
+
+        private List<BikeSnapshot> rentableBikesAtStation(Long stationId, int minBatteryLevel) {
+            List<BikeSnapshot> result = new ArrayList<>();
+            for (BikeSnapshot bike : bikesAtStation(stationId)) {
+                if (bike.isRentableAtStation(minBatteryLevel)) {
+                    result.add(bike);
+                }
+            }
+            result.sort(Comparator.comparing(BikeSnapshot::getCurrentDockId,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+            return result;
+        }
+
+        private List<BikeSnapshot> bikesAtStation(Long stationId) {
+            Set<Long> bikeIds = stationBikeIds.get(stationId);
+            if (bikeIds == null) {
+                return Collections.emptyList();
+            }
+
+            List<BikeSnapshot> result = new ArrayList<>(bikeIds.size());
+            for (Long bikeId : bikeIds) {
+                BikeSnapshot bike = bikes.get(bikeId);
+                if (bike != null && stationId.equals(bike.getCurrentStationId())) {
+                    result.add(bike);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.onemorethink.domadosever.domain.location.index;
+
+import com.onemorethink.domadosever.domain.location.dto.HubLocationDto;
+import com.onemorethink.domadosever.domain.location.dto.StationLocationDto;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 허브 단위로 미리 계산해 둔 대여 가능 현황 (불변)
+ * - 자전거 상태가 바뀐 허브만 새 스냅샷으로 교체되며, 조회 요청은 스냅샷을 참조로 그대로 사용합니다.
+ * - 스테이션 DTO, 대여 가능 자전거 정렬, 허브 중심점은 생성 시점에 한 번만 계산합니다.
+ */
+@Getter
+public class HubAvailabilitySnapshot {
+    private final long version;
+    private final Long hubId;
+    private final String hubName;
+    private final HubLocationDto hubLocation;
+    private final Map<Long, StationLocationDto> stationLocations;
+
+    private HubAvailabilitySnapshot(long version, Long hubId, String hubName,
+                                    List<StationLocationDto> stationDtos) {
+        Map<Long, StationLocationDto> stations = new LinkedHashMap<>();
+        stationDtos.forEach(station -> stations.put(station.getStationId(), station));
+
+        this.version = version;
+        this.hubId = hubId;
+        this.hubName = hubName;
+        this.stationLocations = Collections.unmodifiableMap(stations);
+        this.hubLocation = HubLocationDto.of(hubId, hubName, List.copyOf(stationDtos));
+    }
+
+    /**
+     * @param stationDtos 스테이션 ID 순으로 정렬된 허브 내 전체 스테이션
+     */
+    public static HubAvailabilitySnapshot of(long version, Long hubId, String hubName,
+                                             List<StationLocationDto> stationDtos) {
+        return new HubAvailabilitySnapshot(version, hubId, hubName, stationDtos);
+    }
+
+    /**
+     * 주어진 스테이션만 포함하는 허브 정보 반환
+     * 허브 내 모든 스테이션이 포함되면 미리 계산된 객체를 그대로 반환합니다.
+     */
+    public HubLocationDto select(Collection<Long> stationIds) {
+        if (stationIds.size() == stationLocations.size()) {
+            return hubLocation;
+        }
+
+        List<StationLocationDto> selected = new ArrayList<>(stationIds.size());
+        stationLocations.forEach((stationId, station) -> {
+            if (stationIds.contains(stationId)) {
+                selected.add(station);
+            }
+        });
+        return HubLocationDto.of(hubId, hubName, selected);
+    }
+}
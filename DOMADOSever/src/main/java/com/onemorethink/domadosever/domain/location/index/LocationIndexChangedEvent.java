@@ -0,0 +1,38 @@
+package com.onemorethink.domadosever.domain.location.index;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 위치 인덱스에 자전거 상태가 반영되었거나 인덱스가 다시 적재되었음을 알리는 이벤트
+@Getter
+public class LocationIndexChangedEvent {
+    private final long version;
+    private final boolean rebuilt;                      // true이면 전체가 바뀐 것으로 간주
+    private final List<ChangedLocation> changedLocations; // 대여 가능 현황이 바뀐 스테이션/HiBike 좌표
+
+    private LocationIndexChangedEvent(long version, boolean rebuilt, List<ChangedLocation> changedLocations) {
+        this.version = version;
+        this.rebuilt = rebuilt;
+        this.changedLocations = changedLocations;
+    }
+
+    public static LocationIndexChangedEvent rebuilt(long version) {
+        return new LocationIndexChangedEvent(version, true, List.of());
+    }
+
+    public static LocationIndexChangedEvent changed(long version, List<ChangedLocation> changedLocations) {
+        return new LocationIndexChangedEvent(version, false, List.copyOf(changedLocations));
+    }
+
+    @Getter
+    public static class ChangedLocation {
+        private final double latitude;
+        private final double longitude;
+
+        public ChangedLocation(double latitude, double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+}
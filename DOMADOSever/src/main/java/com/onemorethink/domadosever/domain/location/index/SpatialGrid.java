@@ -0,0 +1,236 @@
+package com.onemorethink.domadosever.domain.location.index;
+
+import com.onemorethink.domadosever.global.util.GeoUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 위경도 좌표를 고정 크기 격자 셀로 나누어 관리하는 공간 인덱스
+ * - 반경 조회 시 경계 상자에 걸치는 셀만 탐색한 뒤 Haversine 거리로 최종 필터링합니다.
+ * - 최근접 조회는 중심 셀부터 바깥 고리 방향으로 셀을 넓혀 가며, 더 가까운 항목이 나올 수 없으면 중단합니다.
+ * - 조회는 잠금 없이 수행되며, 갱신은 셀 단위로 원자적으로 반영됩니다.
+ */
+public class SpatialGrid {
+    public static final double DEFAULT_CELL_SIZE_DEGREES = 0.005;  // 위도 기준 약 550m
+
+    private final double cellSizeDegrees;
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, GeoPoint> positions = new ConcurrentHashMap<>();
+
+    public SpatialGrid() {
+        this(DEFAULT_CELL_SIZE_DEGREES);
+    }
+
+    public SpatialGrid(double cellSizeDegrees) {
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    public void put(Long id, double latitude, double longitude) {
+        long cellKey = cellKey(latitude, longitude);
+        GeoPoint previous = positions.put(id, new GeoPoint(latitude, longitude));
+
+        if (previous != null) {
+            long previousKey = cellKey(previous.latitude, previous.longitude);
+            if (previousKey == cellKey) {
+                return;
+            }
+            removeFromCell(previousKey, id);
+        }
+
+        cells.compute(cellKey, (key, ids) -> {
+            Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            target.add(id);
+            return target;
+        });
+    }
+
+    public void remove(Long id) {
+        GeoPoint previous = positions.remove(id);
+        if (previous != null) {
+            removeFromCell(cellKey(previous.latitude, previous.longitude), id);
+        }
+    }
+
+    public boolean contains(Long id) {
+        return positions.containsKey(id);
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * 중심점 기준 반경(km) 이내에 있는 항목 ID 목록 조회
+     */
+    public List<Long> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        double latDelta = GeoUtils.latitudeDelta(radiusKm);
+        double lonDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+
+        int minRow = row(latitude - latDelta);
+        int maxRow = row(latitude + latDelta);
+        int minCol = column(longitude - lonDelta);
+        int maxCol = column(longitude + lonDelta);
+
+        List<Long> result = new ArrayList<>();
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                long cellKey = cellKey(r, c);
+                Set<Long> ids = cells.get(cellKey);
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    GeoPoint point = positions.get(id);
+                    // 조회 도중 다른 셀로 이동한 항목은 이동한 셀에서만 집계
+                    if (point == null || cellKey(point.latitude, point.longitude) != cellKey) {
+                        continue;
+                    }
+                    if (GeoUtils.isWithinRadius(point.latitude, point.longitude,
+                            latitude, longitude, radiusKm)) {
+                        result.add(id);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 중심점에서 가까운 순서로 최대 limit개의 항목 조회 (반경 maxRadiusKm 이내, filter 통과 항목만)
+     * 반경 내 전체 항목을 모아 정렬하지 않고, k번째 거리보다 가까운 항목이 남아 있을 수 없는 고리에서 탐색을 멈춥니다.
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, int limit,
+                                      double maxRadiusKm, Predicate<Long> filter) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        int centerRow = row(latitude);
+        int centerColumn = column(longitude);
+        double maxSpanDegrees = GeoUtils.latitudeDelta(maxRadiusKm);
+        int maxRing = (int) Math.ceil(maxRadiusKm / minCellSizeKm(latitude, maxSpanDegrees)) + 1;
+
+        // 가장 먼 항목이 머리에 오는 최대 힙
+        PriorityQueue<Neighbor> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(Neighbor::getDistanceKm).reversed());
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // ring 고리의 항목은 중심에서 최소 (ring - 1)개 셀 이상 떨어져 있음
+            double ringMinDistanceKm = (ring - 1) * minCellSizeKm(latitude, ring * cellSizeDegrees);
+            if (nearest.size() == limit && nearest.peek().getDistanceKm() <= ringMinDistanceKm) {
+                break;
+            }
+            if (ringMinDistanceKm > maxRadiusKm) {
+                break;
+            }
+
+            for (int r = centerRow - ring; r <= centerRow + ring; r++) {
+                boolean edgeRow = Math.abs(r - centerRow) == ring;
+                for (int c = centerColumn - ring; c <= centerColumn + ring; c += edgeRow ? 1 : 2 * ring) {
+                    collectNearest(cellKey(r, c), latitude, longitude, limit, maxRadiusKm, filter, nearest);
+                }
+            }
+        }
+
+        List<Neighbor> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(Neighbor::getDistanceKm).thenComparing(Neighbor::getId));
+        return result;
+    }
+
+    private void collectNearest(long cellKey, double latitude, double longitude, int limit,
+                                double maxRadiusKm, Predicate<Long> filter, PriorityQueue<Neighbor> nearest) {
+        Set<Long> ids = cells.get(cellKey);
+        if (ids == null) {
+            return;
+        }
+
+        for (Long id : ids) {
+            GeoPoint point = positions.get(id);
+            if (point == null || cellKey(point.latitude, point.longitude) != cellKey) {
+                continue;
+            }
+
+            double distanceKm = GeoUtils.distanceKm(latitude, longitude, point.latitude, point.longitude);
+            if (distanceKm > maxRadiusKm) {
+                continue;
+            }
+            if (nearest.size() == limit && nearest.peek().getDistanceKm() <= distanceKm) {
+                continue;
+            }
+            if (!filter.test(id)) {
+                continue;
+            }
+
+            nearest.offer(new Neighbor(id, distanceKm));
+            if (nearest.size() > limit) {
+                nearest.poll();
+            }
+        }
+    }
+
+    // 중심에서 spanDegrees만큼 떨어진 범위 안의 셀 한 칸의 최소 변 길이(km), 극에 가까울수록 경도 방향이 짧아짐
+    private double minCellSizeKm(double latitude, double spanDegrees) {
+        double farthestLatitude = Math.min(89.0, Math.abs(latitude) + spanDegrees + cellSizeDegrees);
+        double widthKm = cellSizeDegrees * GeoUtils.KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLatitude));
+        double heightKm = cellSizeDegrees * GeoUtils.KM_PER_DEGREE;
+        return Math.min(widthKm, heightKm);
+    }
+
+    private void removeFromCell(long cellKey, Long id) {
+        cells.computeIfPresent(cellKey, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / cellSizeDegrees);
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / cellSizeDegrees);
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return cellKey(row(latitude), column(longitude));
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    public static final class Neighbor {
+        private final Long id;
+        private final double distanceKm;
+
+        private Neighbor(Long id, double distanceKm) {
+            this.id = id;
+            this.distanceKm = distanceKm;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+
+    private static final class GeoPoint {
+        private final double latitude;
+        private final double longitude;
+
+        private GeoPoint(double latitude, double longitude) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+}
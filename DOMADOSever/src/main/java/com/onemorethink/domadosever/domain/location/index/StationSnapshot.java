@@ -0,0 +1,20 @@
+package com.onemorethink.domadosever.domain.location.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 인덱스에 적재되는 스테이션 정보 (스테이션 메타데이터는 운영 중 변경되지 않음)
+// JPQL 생성자 프로젝션으로도 사용되므로 필드 순서 변경 시 StationRepository 쿼리도 함께 수정
+@Getter
+@Builder
+@AllArgsConstructor
+public class StationSnapshot {
+    private final Long stationId;
+    private final String stationName;
+    private final Double latitude;
+    private final Double longitude;
+    private final int capacity;
+    private final Long hubId;
+    private final String hubName;
+}
@@ -0,0 +1,165 @@
+package com.onemorethink.domadosever.domain.location.repository;
+
+import com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot;
+import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
+import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
+import com.onemorethink.domadosever.domain.bike.repository.BikeRepository;
+import com.onemorethink.domadosever.domain.location.index.StationSnapshot;
+import com.onemorethink.domadosever.domain.station.repository.StationRepository;
+import com.onemorethink.domadosever.global.util.GeoUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 반경 내 스테이션/HiBike DB 조회
+ * - MySQL 공간 인덱스가 준비되어 있으면 MBR(경계 상자) + ST_Distance_Sphere 조건으로 조회합니다.
+ * - 그 외(H2 등)에는 위경도 컬럼의 경계 상자 조건으로 조회합니다.
+ * - 두 경우 모두 마지막에 같은 Haversine 조건과 ID 정렬을 적용하므로 결과가 동일합니다.
+ * - 평상시 조회는 메모리 위치 인덱스({@link com.onemorethink.domadosever.domain.location.index.BikeLocationIndex})가
+ *   처리하고, 이 저장소는 인덱스가 아직 적재되지 않은 동안(서버 시작 직후 전체 적재가 끝나기 전)의 조회만 처리합니다.
+ *   자전거/스테이션 수가 많아 적재가 길어질수록 이 구간의 조회가 늘어나므로 공간 인덱스로 반경 조회 비용을 줄입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LocationSearchRepository {
+    // DB 거리 계산 오차로 경계의 결과가 빠지지 않도록 여유를 두고, 최종 판정은 Haversine으로 수행
+    private static final double DISTANCE_TOLERANCE = 1.001;
+
+    private final EntityManager entityManager;
+    private final StationRepository stationRepository;
+    private final BikeRepository bikeRepository;
+    private final SpatialIndexDetector spatialIndexDetector;
+
+    public List<StationSnapshot> findStationsWithinRadius(double latitude, double longitude, double radiusKm) {
+        List<StationSnapshot> stations = spatialIndexDetector.isReady()
+                ? findStationsBySpatialIndex(latitude, longitude, radiusKm)
+                : findStationsByBounds(latitude, longitude, radiusKm);
+
+        return stations.stream()
+                .filter(station -> GeoUtils.isWithinRadius(
+                        station.getLatitude(), station.getLongitude(), latitude, longitude, radiusKm))
+                .sorted(Comparator.comparing(StationSnapshot::getStationId))
+                .collect(Collectors.toList());
+    }
+
+    public List<BikeSnapshot> findAvailableHiBikesWithinRadius(double latitude, double longitude,
+                                                               double radiusKm, int minBatteryLevel) {
+        List<BikeSnapshot> hiBikes = spatialIndexDetector.isReady()
+                ? findHiBikesBySpatialIndex(latitude, longitude, radiusKm, minBatteryLevel)
+                : findHiBikesByBounds(latitude, longitude, radiusKm, minBatteryLevel);
+
+        return hiBikes.stream()
+                .filter(bike -> GeoUtils.isWithinRadius(
+                        bike.getLatitude(), bike.getLongitude(), latitude, longitude, radiusKm))
+                .sorted(Comparator.comparing(BikeSnapshot::getBikeId))
+                .collect(Collectors.toList());
+    }
+
+    private List<StationSnapshot> findStationsByBounds(double latitude, double longitude, double radiusKm) {
+        double latitudeDelta = GeoUtils.latitudeDelta(radiusKm);
+        double longitudeDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+        return stationRepository.findStationSnapshotsWithinBounds(
+                latitude - latitudeDelta, latitude + latitudeDelta,
+                longitude - longitudeDelta, longitude + longitudeDelta);
+    }
+
+    private List<BikeSnapshot> findHiBikesByBounds(double latitude, double longitude,
+                                                   double radiusKm, int minBatteryLevel) {
+        double latitudeDelta = GeoUtils.latitudeDelta(radiusKm);
+        double longitudeDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+        return bikeRepository.findAvailableHiBikeSnapshotsWithinBounds(
+                latitude - latitudeDelta, latitude + latitudeDelta,
+                longitude - longitudeDelta, longitude + longitudeDelta,
+                minBatteryLevel);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<StationSnapshot> findStationsBySpatialIndex(double latitude, double longitude, double radiusKm) {
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        SELECT s.id, s.name, s.latitude, s.longitude, s.capacity, h.id, h.name
+                        FROM stations s
+                        JOIN hubs h ON h.id = s.hub_id
+                        WHERE MBRContains(ST_GeomFromText(:envelope, 4326, 'axis-order=long-lat'), s.location)
+                        AND ST_Distance_Sphere(s.location,
+                            ST_GeomFromText(:center, 4326, 'axis-order=long-lat'), :earthRadius) <= :radiusMeters
+                        """)
+                .setParameter("envelope", envelope(latitude, longitude, radiusKm))
+                .setParameter("center", point(latitude, longitude))
+                .setParameter("earthRadius", GeoUtils.EARTH_RADIUS_KM * 1000)
+                .setParameter("radiusMeters", radiusKm * 1000 * DISTANCE_TOLERANCE)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> StationSnapshot.builder()
+                        .stationId(((Number) row[0]).longValue())
+                        .stationName((String) row[1])
+                        .latitude(((Number) row[2]).doubleValue())
+                        .longitude(((Number) row[3]).doubleValue())
+                        .capacity(((Number) row[4]).intValue())
+                        .hubId(((Number) row[5]).longValue())
+                        .hubName((String) row[6])
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BikeSnapshot> findHiBikesBySpatialIndex(double latitude, double longitude,
+                                                         double radiusKm, int minBatteryLevel) {
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        SELECT b.id, b.qr_code, b.battery_level, b.status, b.hi_bike_status, h.id, h.name,
+                               b.current_station_id, b.current_dock_id, b.current_latitude, b.current_longitude
+                        FROM bikes b
+                        JOIN hubs h ON h.id = b.home_hub_id
+                        WHERE MBRContains(ST_GeomFromText(:envelope, 4326, 'axis-order=long-lat'), b.location)
+                        AND ST_Distance_Sphere(b.location,
+                            ST_GeomFromText(:center, 4326, 'axis-order=long-lat'), :earthRadius) <= :radiusMeters
+                        AND b.status = 'TEMPORARY_LOCKED'
+                        AND b.hi_bike_status = 'AVAILABLE_FOR_RENT'
+                        AND b.battery_level >= :minBatteryLevel
+                        """)
+                .setParameter("envelope", envelope(latitude, longitude, radiusKm))
+                .setParameter("center", point(latitude, longitude))
+                .setParameter("earthRadius", GeoUtils.EARTH_RADIUS_KM * 1000)
+                .setParameter("radiusMeters", radiusKm * 1000 * DISTANCE_TOLERANCE)
+                .setParameter("minBatteryLevel", minBatteryLevel)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> BikeSnapshot.builder()
+                        .bikeId(((Number) row[0]).longValue())
+                        .qrCode((String) row[1])
+                        .batteryLevel(((Number) row[2]).intValue())
+                        .status(BikeStatus.valueOf((String) row[3]))
+                        .hiBikeStatus(HiBikeStatus.valueOf((String) row[4]))
+                        .homeHubId(((Number) row[5]).longValue())
+                        .homeHubName((String) row[6])
+                        .currentStationId(row[7] != null ? ((Number) row[7]).longValue() : null)
+                        .currentDockId(row[8] != null ? ((Number) row[8]).intValue() : null)
+                        .latitude(((Number) row[9]).doubleValue())
+                        .longitude(((Number) row[10]).doubleValue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 경도-위도 순서 WKT
+    private String point(double latitude, double longitude) {
+        return "POINT(" + longitude + " " + latitude + ")";
+    }
+
+    private String envelope(double latitude, double longitude, double radiusKm) {
+        double latitudeDelta = GeoUtils.latitudeDelta(radiusKm);
+        double longitudeDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+        double minLatitude = Math.max(-90, latitude - latitudeDelta);
+        double maxLatitude = Math.min(90, latitude + latitudeDelta);
+        double minLongitude = longitude - longitudeDelta;
+        double maxLongitude = longitude + longitudeDelta;
+        return "POLYGON((" + minLongitude + " " + minLatitude + ", " + maxLongitude + " " + minLatitude + ", "
+                + maxLongitude + " " + maxLatitude + ", " + minLongitude + " " + maxLatitude + ", "
+                + minLongitude + " " + minLatitude + "))";
+    }
+}
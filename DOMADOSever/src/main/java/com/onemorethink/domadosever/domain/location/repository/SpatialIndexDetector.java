@@ -0,0 +1,74 @@
+package com.onemorethink.domadosever.domain.location.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL 공간 컬럼/인덱스 확인
+ * - 공간 컬럼과 SPATIAL 인덱스는 마이그레이션(db/migration/mysql/V2__location_spatial_index.sql)에서 생성합니다.
+ * - location.spatial.enabled=true 이고 MySQL이며 stations/bikes에 location 컬럼이 있을 때만 공간 조회를 사용합니다.
+ * - 조건을 만족하지 않으면 경계 상자 조회를 계속 사용합니다. (스키마는 변경하지 않음)
+ * - DB 조회는 메모리 위치 인덱스가 적재되기 전에만 쓰이고, 웹 서버가 요청을 받기 시작하는 시점부터
+ *   인덱스 적재(ApplicationReadyEvent)가 끝날 때까지가 그 구간이므로 확인은 웹 서버 시작 전 빈 초기화 단계에서 마칩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpatialIndexDetector implements SmartInitializingSingleton {
+    private static final String LOCATION_COLUMN = "location";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${location.spatial.enabled:false}")
+    private boolean spatialEnabled;
+
+    private volatile boolean ready;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        detect();
+    }
+
+    void detect() {
+        if (!spatialEnabled) {
+            return;
+        }
+
+        try {
+            String databaseName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (!"MySQL".equalsIgnoreCase(databaseName)) {
+                log.warn("Spatial location search requires MySQL, using bounding box search on {}", databaseName);
+                return;
+            }
+
+            if (!hasLocationColumn("stations") || !hasLocationColumn("bikes")) {
+                log.warn("Spatial columns are missing, using bounding box search. Check the location spatial migration");
+                return;
+            }
+
+            ready = true;
+            log.info("Spatial location search enabled");
+
+        } catch (Exception e) {
+            log.error("Failed to check spatial columns, using bounding box search", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private boolean hasLocationColumn(String table) {
+        Integer existing = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+                """, Integer.class, table, LOCATION_COLUMN);
+        return existing != null && existing > 0;
+    }
+}
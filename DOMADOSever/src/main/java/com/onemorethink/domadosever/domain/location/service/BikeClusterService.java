@@ -0,0 +1,179 @@
+package com.onemorethink.domadosever.domain.location.service;
+
+import com.onemorethink.domadosever.domain.location.dto.BikeClusterDto;
+import com.onemorethink.domadosever.domain.location.dto.BikeClusterResponse;
+import com.onemorethink.domadosever.domain.location.dto.BikeLocationResponse;
+import com.onemorethink.domadosever.domain.location.dto.HiBikeLocationDto;
+import com.onemorethink.domadosever.domain.location.dto.StationLocationDto;
+import com.onemorethink.domadosever.domain.location.index.BikeLocationIndex;
+import com.onemorethink.domadosever.domain.location.index.StationSnapshot;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 지도 축척(zoom)별 자전거 묶음 조회
+ * - zoom 15 이상: 스테이션은 허브 단위로 묶고, HiBike는 격자 단위로 묶습니다.
+ * - zoom 15 미만: 스테이션과 HiBike를 모두 격자 단위로 묶습니다.
+ * - 격자 한 칸은 256px 타일 기준 약 64px 크기이므로, 응답 크기는 자전거 수가 아닌 화면 크기에 비례합니다.
+ * - 스테이션별 자전거 수는 공간 인덱스의 카운터를 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BikeClusterService {
+    public static final int MIN_ZOOM = 1;
+    public static final int MAX_ZOOM = 21;
+    private static final int HUB_CLUSTER_MIN_ZOOM = 15;
+    private static final double CLUSTER_CELL_DEGREES_AT_ZOOM_0 = 90.0;  // 360도 / 4칸
+
+    private final BikeLocationIndex bikeLocationIndex;
+    private final LocationService locationService;
+
+    public BikeClusterResponse findBikeClusters(Double latitude, Double longitude, Double radius, int zoom) {
+        try {
+            if (!bikeLocationIndex.isReady()) {
+                return clusterFromLocations(locationService.findBikeLocations(latitude, longitude, radius), zoom);
+            }
+
+            long version = bikeLocationIndex.getVersion();
+            double cellDegrees = cellDegrees(zoom);
+            Map<String, ClusterAccumulator> clusters = new TreeMap<>();
+
+            for (StationSnapshot station : bikeLocationIndex.findStationsWithinRadius(latitude, longitude, radius)) {
+                int availableBikes = bikeLocationIndex.getStationAvailableCount(station.getStationId());
+                stationCluster(clusters, station.getHubId(), station.getHubName(),
+                        station.getLatitude(), station.getLongitude(), zoom, cellDegrees)
+                        .addStation(station.getLatitude(), station.getLongitude(), availableBikes);
+            }
+            addHiBikes(clusters, bikeLocationIndex.findHiBikeLocationsWithinRadius(
+                    latitude, longitude, radius, StationLocationDto.MIN_BATTERY_LEVEL), cellDegrees);
+
+            return toResponse(version, zoom, clusters);
+
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to retrieve bike clusters. lat: {}, lon: {}, radius: {}km, zoom: {}",
+                    latitude, longitude, radius, zoom, e);
+            throw new BusinessException(ErrorCode.LOCATION_SERVICE_ERROR);
+        }
+    }
+
+    // 공간 인덱스 적재 전에만 사용
+    private BikeClusterResponse clusterFromLocations(BikeLocationResponse locations, int zoom) {
+        double cellDegrees = cellDegrees(zoom);
+        Map<String, ClusterAccumulator> clusters = new TreeMap<>();
+
+        locations.getHubs().forEach(hub -> hub.getStations().forEach(station ->
+                stationCluster(clusters, hub.getHubId(), hub.getHubName(),
+                        station.getLatitude(), station.getLongitude(), zoom, cellDegrees)
+                        .addStation(station.getLatitude(), station.getLongitude(), station.getAvailableBikes().size())));
+        addHiBikes(clusters, locations.getHiBikes(), cellDegrees);
+
+        return toResponse(locations.getVersion(), zoom, clusters);
+    }
+
+    private ClusterAccumulator stationCluster(Map<String, ClusterAccumulator> clusters, Long hubId, String hubName,
+                                              double latitude, double longitude, int zoom, double cellDegrees) {
+        if (zoom >= HUB_CLUSTER_MIN_ZOOM) {
+            return clusters.computeIfAbsent("hub-" + hubId, id -> new ClusterAccumulator(id, hubId, hubName));
+        }
+        String cellId = cellId(latitude, longitude, cellDegrees);
+        return clusters.computeIfAbsent(cellId, id -> new ClusterAccumulator(id, null, null));
+    }
+
+    private void addHiBikes(Map<String, ClusterAccumulator> clusters, List<HiBikeLocationDto> hiBikes,
+                            double cellDegrees) {
+        for (HiBikeLocationDto hiBike : hiBikes) {
+            String cellId = cellId(hiBike.getLatitude(), hiBike.getLongitude(), cellDegrees);
+            clusters.computeIfAbsent(cellId, id -> new ClusterAccumulator(id, null, null))
+                    .addHiBike(hiBike.getLatitude(), hiBike.getLongitude());
+        }
+    }
+
+    private BikeClusterResponse toResponse(long version, int zoom, Map<String, ClusterAccumulator> clusters) {
+        List<BikeClusterDto> clusterDtos = new ArrayList<>(clusters.size());
+        clusters.values().forEach(cluster -> clusterDtos.add(cluster.toDto()));
+
+        return BikeClusterResponse.builder()
+                .version(version)
+                .zoom(zoom)
+                .clusters(clusterDtos)
+                .build();
+    }
+
+    private double cellDegrees(int zoom) {
+        if (zoom < MIN_ZOOM || zoom > MAX_ZOOM) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return CLUSTER_CELL_DEGREES_AT_ZOOM_0 / (1L << zoom);
+    }
+
+    private String cellId(double latitude, double longitude, double cellDegrees) {
+        long row = (long) Math.floor((latitude + 90.0) / cellDegrees);
+        long column = (long) Math.floor((longitude + 180.0) / cellDegrees);
+        return "cell-" + row + "-" + column;
+    }
+
+    private static class ClusterAccumulator {
+        private final String clusterId;
+        private final Long hubId;
+        private final String hubName;
+
+        private int availableBikes;
+        private int hiBikeCount;
+        private int stationCount;
+        private int pointCount;
+        private double latitudeSum;
+        private double longitudeSum;
+        private double weightedLatitudeSum;
+        private double weightedLongitudeSum;
+
+        private ClusterAccumulator(String clusterId, Long hubId, String hubName) {
+            this.clusterId = clusterId;
+            this.hubId = hubId;
+            this.hubName = hubName;
+        }
+
+        private void addStation(double latitude, double longitude, int bikes) {
+            stationCount++;
+            availableBikes += bikes;
+            addPoint(latitude, longitude, bikes);
+        }
+
+        private void addHiBike(double latitude, double longitude) {
+            hiBikeCount++;
+            addPoint(latitude, longitude, 1);
+        }
+
+        private void addPoint(double latitude, double longitude, int weight) {
+            pointCount++;
+            latitudeSum += latitude;
+            longitudeSum += longitude;
+            weightedLatitudeSum += latitude * weight;
+            weightedLongitudeSum += longitude * weight;
+        }
+
+        private BikeClusterDto toDto() {
+            int totalWeight = availableBikes + hiBikeCount;
+            return BikeClusterDto.builder()
+                    .clusterId(clusterId)
+                    .hubId(hubId)
+                    .hubName(hubName)
+                    .latitude(totalWeight > 0 ? weightedLatitudeSum / totalWeight : latitudeSum / pointCount)
+                    .longitude(totalWeight > 0 ? weightedLongitudeSum / totalWeight : longitudeSum / pointCount)
+                    .availableBikes(availableBikes)
+                    .hiBikeCount(hiBikeCount)
+                    .stationCount(stationCount)
+                    .build();
+        }
+    }
+}
@@ -1,14 +1,24 @@
 package com.onemorethink.domadosever.domain.location.service;
 
-import com.onemorethink.domadosever.domain.bike.entity.Bike;
+import com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot;
 import com.onemorethink.domadosever.domain.bike.repository.BikeRepository;
+import com.onemorethink.domadosever.domain.location.cache.BikeLocationResponseCache;
+import com.onemorethink.domadosever.domain.location.dto.BikeCountResponse;
+import com.onemorethink.domadosever.domain.location.dto.BikeLocationChangesResponse;
 import com.onemorethink.domadosever.domain.location.dto.BikeLocationResponse;
 import com.onemorethink.domadosever.domain.location.dto.HiBikeLocationDto;
+import com.onemorethink.domadosever.domain.location.dto.HubCountDto;
 import com.onemorethink.domadosever.domain.location.dto.HubLocationDto;
+import com.onemorethink.domadosever.domain.location.dto.NearestBikeDto;
+import com.onemorethink.domadosever.domain.location.dto.NearestBikeResponse;
 import com.onemorethink.domadosever.domain.location.dto.StationLocationDto;
-import com.onemorethink.domadosever.domain.station.entity.Hub;
-import com.onemorethink.domadosever.domain.station.entity.Station;
-import com.onemorethink.domadosever.domain.station.repository.HubRepository;
+import com.onemorethink.domadosever.domain.location.index.AvailabilityChanges;
+import com.onemorethink.domadosever.domain.location.index.BikeLocationIndex;
+import com.onemorethink.domadosever.domain.location.index.HubAvailabilitySnapshot;
+import com.onemorethink.domadosever.domain.location.index.StationSnapshot;
+import com.onemorethink.domadosever.domain.location.repository.LocationSearchRepository;
+import com.onemorethink.domadosever.domain.location.stream.ViewportBounds;
+import com.onemorethink.domadosever.global.util.GeoUtils;
 import com.onemorethink.domadosever.global.error.ErrorCode;
 import com.onemorethink.domadosever.global.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +27,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,31 +39,22 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class LocationService {
-    private final HubRepository hubRepository;
+    private final LocationSearchRepository locationSearchRepository;
     private final BikeRepository bikeRepository;
-
-    private static final int MIN_BATTERY_LEVEL = 20;
+    private final BikeLocationIndex bikeLocationIndex;
+    private final BikeLocationResponseCache bikeLocationResponseCache;
 
     /**
      * 주어진 위치 반경 내의 대여 가능한 자전거 위치 정보를 조회합니다.
+     * 공간 인덱스가 적재된 이후에는 DB를 조회하지 않으며, 가까운 위치의 조회 결과는 응답 캐시를 공유합니다.
      */
     public BikeLocationResponse findBikeLocations(Double latitude, Double longitude, Double radius) {
         try {
-            // 1. 허브와 연관된 스테이션, 자전거 정보 조회 및 변환
-            List<Hub> nearbyHubs = hubRepository.findHubsWithinRadius(latitude, longitude, radius);
-            List<HubLocationDto> hubLocations = convertToHubLocationDtos(nearbyHubs);
-
-            // 2. HiBike 자전거 조회 및 변환
-            List<Bike> availableHiBikes = bikeRepository.findAvailableHiBikesWithinRadius(
-                    latitude, longitude, radius, MIN_BATTERY_LEVEL);
-            List<HiBikeLocationDto> hiBikeLocations = availableHiBikes.stream()
-                    .map(HiBikeLocationDto::from)
-                    .collect(Collectors.toList());
+            if (!bikeLocationIndex.isReady()) {
+                return findBikeLocationsFromDatabase(latitude, longitude, radius);
+            }
 
-            return BikeLocationResponse.builder()
-                    .hubs(hubLocations)
-                    .hiBikes(hiBikeLocations)
-                    .build();
+            return bikeLocationResponseCache.get(latitude, longitude, radius, this::findBikeLocationsFromIndex);
 
         } catch (Exception e) {
             log.error("Failed to retrieve bike locations. lat: {}, lon: {}, radius: {}km",
@@ -58,26 +63,346 @@ public class LocationService {
         }
     }
 
+    private BikeLocationResponse findBikeLocationsFromIndex(double latitude, double longitude, double radius) {
+        // 버전을 먼저 읽어 응답 데이터가 응답 버전보다 오래되지 않도록 함
+        long version = bikeLocationIndex.getVersion();
+
+        // 1. 공간 인덱스에서 반경 내 스테이션 조회 후 허브 스냅샷으로 변환
+        List<StationSnapshot> nearbyStations =
+                bikeLocationIndex.findStationsWithinRadius(latitude, longitude, radius);
+        List<HubLocationDto> hubLocations = convertToHubLocationDtos(nearbyStations);
+
+        // 2. 공간 인덱스에서 미리 생성된 HiBike 위치 정보 조회
+        List<HiBikeLocationDto> hiBikeLocations = bikeLocationIndex
+                .findHiBikeLocationsWithinRadius(latitude, longitude, radius, StationLocationDto.MIN_BATTERY_LEVEL);
+
+        return BikeLocationResponse.builder()
+                .version(version)
+                .hubs(hubLocations)
+                .hiBikes(hiBikeLocations)
+                .build();
+    }
+
     /**
-     * 허브 목록을 HubLocationDto 목록으로 변환합니다.
-     * 모든 허브 정보를 포함하되, 대여 가능한 자전거 수는 실제 대여 가능한 자전거만 계산합니다.
+     * 반경 내 허브/스테이션별 대여 가능 자전거 수만 조회합니다.
+     * 공간 인덱스의 개수 카운터를 사용하므로 자전거 정보를 읽지 않습니다.
      */
-    private List<HubLocationDto> convertToHubLocationDtos(List<Hub> hubs) {
-        return hubs.stream()
-                .map(hub -> {
-                    List<StationLocationDto> stationDtos = convertToStationLocationDtos(new ArrayList<>(hub.getStations()));
-                    return HubLocationDto.from(hub, stationDtos);
-                })
+    public BikeCountResponse findBikeCounts(Double latitude, Double longitude, Double radius) {
+        try {
+            if (!bikeLocationIndex.isReady()) {
+                return toBikeCountResponse(findBikeLocationsFromDatabase(latitude, longitude, radius));
+            }
+
+            long version = bikeLocationIndex.getVersion();
+            Map<Long, List<StationSnapshot>> stationsByHub = bikeLocationIndex
+                    .findStationsWithinRadius(latitude, longitude, radius)
+                    .stream()
+                    .sorted(Comparator.comparing(StationSnapshot::getStationId))
+                    .collect(Collectors.groupingBy(StationSnapshot::getHubId, TreeMap::new, Collectors.toList()));
+
+            List<HubCountDto> hubCounts = new ArrayList<>(stationsByHub.size());
+            stationsByHub.forEach((hubId, stations) -> {
+                List<HubCountDto.StationCount> stationCounts = stations.stream()
+                        .map(station -> HubCountDto.StationCount.builder()
+                                .stationId(station.getStationId())
+                                .stationName(station.getStationName())
+                                .latitude(station.getLatitude())
+                                .longitude(station.getLongitude())
+                                .capacity(station.getCapacity())
+                                .availableBikes(bikeLocationIndex.getStationAvailableCount(station.getStationId()))
+                                .build())
+                        .collect(Collectors.toList());
+
+                // 허브의 모든 스테이션이 반경 안이면 허브 카운터를 그대로 사용 (null이면 스테이션 합계)
+                HubAvailabilitySnapshot snapshot = bikeLocationIndex.getHubSnapshot(hubId);
+                Integer hubAvailableBikes = snapshot != null && snapshot.getStationLocations().size() == stations.size()
+                        ? bikeLocationIndex.getHubAvailableCount(hubId)
+                        : null;
+
+                hubCounts.add(HubCountDto.of(hubId, stations.get(0).getHubName(), hubAvailableBikes, stationCounts));
+            });
+
+            int hiBikeCount = bikeLocationIndex
+                    .findHiBikeLocationsWithinRadius(latitude, longitude, radius, StationLocationDto.MIN_BATTERY_LEVEL)
+                    .size();
+
+            return BikeCountResponse.builder()
+                    .version(version)
+                    .hubs(hubCounts)
+                    .hiBikeCount(hiBikeCount)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("Failed to retrieve bike counts. lat: {}, lon: {}, radius: {}km",
+                    latitude, longitude, radius, e);
+            throw new BusinessException(ErrorCode.LOCATION_SERVICE_ERROR);
+        }
+    }
+
+    // 공간 인덱스 적재 전에만 사용
+    private BikeCountResponse toBikeCountResponse(BikeLocationResponse locations) {
+        List<HubCountDto> hubCounts = locations.getHubs().stream()
+                .map(hub -> HubCountDto.of(hub.getHubId(), hub.getHubName(), hub.getTotalAvailableBikes(),
+                        hub.getStations().stream()
+                                .map(station -> HubCountDto.StationCount.builder()
+                                        .stationId(station.getStationId())
+                                        .stationName(station.getStationName())
+                                        .latitude(station.getLatitude())
+                                        .longitude(station.getLongitude())
+                                        .capacity(station.getCapacity())
+                                        .availableBikes(station.getAvailableBikes().size())
+                                        .build())
+                                .collect(Collectors.toList())))
                 .collect(Collectors.toList());
+
+        return BikeCountResponse.builder()
+                .version(locations.getVersion())
+                .hubs(hubCounts)
+                .hiBikeCount(locations.getHiBikes().size())
+                .build();
     }
 
     /**
-     * 스테이션 목록을 StationLocationDto 목록으로 변환합니다.
-     * 모든 스테이션 정보를 포함하되, 대여 가능한 자전거 목록은 실제 대여 가능한 자전거만 포함합니다.
+     * 가장 가까운 대여 가능 자전거(스테이션 거치 + HiBike)를 거리순으로 최대 limit대 조회합니다.
+     * 공간 인덱스에서 가까운 셀부터 탐색하므로 반경 내 전체 자전거를 모아 정렬하지 않습니다.
      */
-    private List<StationLocationDto> convertToStationLocationDtos(List<Station> stations) {
-        return stations.stream()
-                .map(StationLocationDto::from)  // StationLocationDto.from() 메서드는 이미 대여 가능한 자전거만 필터링
+    public NearestBikeResponse findNearestBikes(Double latitude, Double longitude, int limit, Double maxRadius) {
+        try {
+            List<NearestBikeDto> bikes = bikeLocationIndex.isReady()
+                    ? bikeLocationIndex.findNearestRentableBikes(
+                            latitude, longitude, limit, maxRadius, StationLocationDto.MIN_BATTERY_LEVEL)
+                    : findNearestBikesFromDatabase(latitude, longitude, limit, maxRadius);
+
+            return NearestBikeResponse.builder()
+                    .bikes(bikes)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("Failed to retrieve nearest bikes. lat: {}, lon: {}, limit: {}, maxRadius: {}km",
+                    latitude, longitude, limit, maxRadius, e);
+            throw new BusinessException(ErrorCode.LOCATION_SERVICE_ERROR);
+        }
+    }
+
+    // 공간 인덱스 적재 전에만 사용 (반경 조회 결과를 거리순 정렬)
+    private List<NearestBikeDto> findNearestBikesFromDatabase(Double latitude, Double longitude,
+                                                              int limit, Double maxRadius) {
+        List<StationSnapshot> stations =
+                locationSearchRepository.findStationsWithinRadius(latitude, longitude, maxRadius);
+        Map<Long, StationSnapshot> stationsById = stations.stream()
+                .collect(Collectors.toMap(StationSnapshot::getStationId, station -> station));
+
+        List<NearestBikeDto> candidates = new ArrayList<>();
+        if (!stations.isEmpty()) {
+            bikeRepository.findRentableBikeSnapshotsAtStations(stationsById.keySet(), StationLocationDto.MIN_BATTERY_LEVEL)
+                    .stream()
+                    .sorted(Comparator.comparing(BikeSnapshot::getCurrentDockId,
+                            Comparator.nullsLast(Comparator.naturalOrder())))
+                    .forEach(bike -> {
+                        StationSnapshot station = stationsById.get(bike.getCurrentStationId());
+                        candidates.add(NearestBikeDto.of(bike, station, GeoUtils.distanceKm(
+                                latitude, longitude, station.getLatitude(), station.getLongitude())));
+                    });
+        }
+        locationSearchRepository
+                .findAvailableHiBikesWithinRadius(latitude, longitude, maxRadius, StationLocationDto.MIN_BATTERY_LEVEL)
+                .forEach(bike -> candidates.add(NearestBikeDto.ofHiBike(bike, GeoUtils.distanceKm(
+                        latitude, longitude, bike.getLatitude(), bike.getLongitude()))));
+
+        return candidates.stream()
+                .sorted(Comparator.comparingInt(NearestBikeDto::getDistanceMeters))
+                .limit(limit)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 주어진 버전 이후 대여 가능 현황이 바뀐 스테이션(허브 단위)과 HiBike만 조회합니다.
+     * 인덱스가 적재되지 않았거나 재적재 이전 버전이 주어지면 전체 현황을 반환합니다. (fullSync = true)
+     */
+    public BikeLocationChangesResponse findBikeLocationChanges(Double latitude, Double longitude,
+                                                               Double radius, long sinceVersion) {
+        if (!bikeLocationIndex.isReady()
+                || sinceVersion < bikeLocationIndex.getBaseVersion()
+                || sinceVersion > bikeLocationIndex.getVersion()) {
+            return BikeLocationChangesResponse.fullSync(findBikeLocations(latitude, longitude, radius));
+        }
+
+        try {
+            AvailabilityChanges changes = bikeLocationIndex.collectChangesSince(sinceVersion);
+
+            // 1. 변경된 스테이션이 하나라도 있는 허브만 반경 내 스테이션 기준으로 다시 전달
+            Map<Long, List<Long>> stationIdsByHub = groupStationIdsByHub(
+                    bikeLocationIndex.findStationsWithinRadius(latitude, longitude, radius));
+            List<HubLocationDto> changedHubs = new ArrayList<>();
+            stationIdsByHub.forEach((hubId, stationIds) -> {
+                boolean changed = stationIds.stream()
+                        .anyMatch(stationId -> bikeLocationIndex.getStationVersion(stationId) > sinceVersion);
+                HubAvailabilitySnapshot snapshot = bikeLocationIndex.getHubSnapshot(hubId);
+                if (changed && snapshot != null) {
+                    changedHubs.add(snapshot.select(stationIds));
+                }
+            });
+
+            // 2. 반경 내 추가/변경된 HiBike
+            //    변경되었지만 반경 밖으로 나갔거나 배터리가 부족해진 HiBike는 대여 불가능해진 HiBike와 함께 삭제로 전달
+            List<HiBikeLocationDto> changedHiBikes = new ArrayList<>();
+            List<Long> removedHiBikeIds = new ArrayList<>();
+            for (HiBikeLocationDto hiBike : changes.getHiBikes()) {
+                if (isRentableWithinRadius(hiBike, latitude, longitude, radius)) {
+                    changedHiBikes.add(hiBike);
+                } else {
+                    removedHiBikeIds.add(hiBike.getBikeId());
+                }
+            }
+            changes.getRemovedHiBikes().forEach(bike -> removedHiBikeIds.add(bike.getBikeId()));
+            Collections.sort(removedHiBikeIds);
+
+            return BikeLocationChangesResponse.builder()
+                    .version(changes.getVersion())
+                    .fullSync(false)
+                    .hubs(changedHubs)
+                    .hiBikes(changedHiBikes)
+                    .removedHiBikeIds(removedHiBikeIds)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("Failed to retrieve bike location changes. lat: {}, lon: {}, radius: {}km, since: {}",
+                    latitude, longitude, radius, sinceVersion, e);
+            throw new BusinessException(ErrorCode.LOCATION_SERVICE_ERROR);
+        }
+    }
+
+    /**
+     * 인덱스 전체 변경분 중 지도 영역에 해당하는 항목만 골라 응답 형태로 변환합니다.
+     * @return 영역 내 변경이 없으면 null
+     */
+    public BikeLocationChangesResponse selectViewportChanges(AvailabilityChanges changes, ViewportBounds viewport) {
+        // 1. 영역 내 변경된 스테이션이 속한 허브를 영역 내 스테이션 기준으로 변환
+        List<HubLocationDto> changedHubs = new ArrayList<>();
+        changes.getStations().stream()
+                .filter(station -> viewport.contains(station.getLatitude(), station.getLongitude()))
+                .map(StationSnapshot::getHubId)
+                .distinct()
+                .sorted()
+                .map(bikeLocationIndex::getHubSnapshot)
+                .filter(snapshot -> snapshot != null)
+                .forEach(snapshot -> {
+                    List<Long> stationIds = snapshot.getStationLocations().values().stream()
+                            .filter(station -> viewport.contains(station.getLatitude(), station.getLongitude()))
+                            .map(StationLocationDto::getStationId)
+                            .collect(Collectors.toList());
+                    changedHubs.add(snapshot.select(stationIds));
+                });
+
+        // 2. 영역 내 추가/변경된 HiBike
+        //    변경되었지만 영역 밖으로 나갔거나 배터리가 부족해진 HiBike, 영역 내에서 대여 불가능해진 HiBike는 삭제로 전달
+        List<HiBikeLocationDto> changedHiBikes = new ArrayList<>();
+        List<Long> removedHiBikeIds = new ArrayList<>();
+        for (HiBikeLocationDto hiBike : changes.getHiBikes()) {
+            if (hiBike.getBatteryLevel() >= StationLocationDto.MIN_BATTERY_LEVEL
+                    && viewport.contains(hiBike.getLatitude(), hiBike.getLongitude())) {
+                changedHiBikes.add(hiBike);
+            } else {
+                removedHiBikeIds.add(hiBike.getBikeId());
+            }
+        }
+        changes.getRemovedHiBikes().stream()
+                .filter(bike -> viewport.contains(bike.getLatitude(), bike.getLongitude()))
+                .forEach(bike -> removedHiBikeIds.add(bike.getBikeId()));
+        Collections.sort(removedHiBikeIds);
+
+        if (!changes.isFullSync() && changedHubs.isEmpty()
+                && changedHiBikes.isEmpty() && removedHiBikeIds.isEmpty()) {
+            return null;
+        }
+
+        return BikeLocationChangesResponse.builder()
+                .version(changes.getVersion())
+                .fullSync(changes.isFullSync())
+                .hubs(changedHubs)
+                .hiBikes(changedHiBikes)
+                .removedHiBikeIds(removedHiBikeIds)
+                .build();
+    }
+
+    private boolean isRentableWithinRadius(HiBikeLocationDto hiBike, double latitude, double longitude, double radius) {
+        return hiBike.getBatteryLevel() >= StationLocationDto.MIN_BATTERY_LEVEL
+                && GeoUtils.distanceKm(latitude, longitude, hiBike.getLatitude(), hiBike.getLongitude()) <= radius;
+    }
+
+    /**
+     * 현재 대여 가능 현황 버전 (인덱스 적재 전에는 0)
+     */
+    public long getAvailabilityVersion() {
+        return bikeLocationIndex.isReady() ? bikeLocationIndex.getVersion() : 0L;
+    }
+
+    /**
+     * 공간 인덱스 적재 전에 사용하는 DB 조회 경로
+     * - 스테이션(스테이션당 1행)과 대여 가능 자전거(자전거당 1행)를 각각 프로젝션으로 조회한 뒤 한 번에 조립합니다.
+     * - 반경 조회는 {@link LocationSearchRepository}가 담당합니다. (MySQL 공간 인덱스 또는 경계 상자)
+     */
+    private BikeLocationResponse findBikeLocationsFromDatabase(Double latitude, Double longitude, Double radius) {
+        // 1. 반경 내 스테이션
+        List<StationSnapshot> nearbyStations =
+                locationSearchRepository.findStationsWithinRadius(latitude, longitude, radius);
+
+        // 2. 해당 스테이션의 대여 가능 자전거
+        Map<Long, List<BikeSnapshot>> bikesByStation = nearbyStations.isEmpty()
+                ? Collections.emptyMap()
+                : bikeRepository.findRentableBikeSnapshotsAtStations(
+                                nearbyStations.stream().map(StationSnapshot::getStationId).collect(Collectors.toList()),
+                                StationLocationDto.MIN_BATTERY_LEVEL)
+                        .stream()
+                        .collect(Collectors.groupingBy(BikeSnapshot::getCurrentStationId));
+
+        // 3. 허브 단위로 조립
+        Map<Long, List<StationSnapshot>> stationsByHub = nearbyStations.stream()
+                .collect(Collectors.groupingBy(StationSnapshot::getHubId, TreeMap::new, Collectors.toList()));
+        List<HubLocationDto> hubLocations = new ArrayList<>(stationsByHub.size());
+        stationsByHub.forEach((hubId, stations) -> {
+            List<StationLocationDto> stationDtos = stations.stream()
+                    .map(station -> StationLocationDto.of(station,
+                            bikesByStation.getOrDefault(station.getStationId(), Collections.emptyList())))
+                    .collect(Collectors.toList());
+            hubLocations.add(HubLocationDto.of(hubId, stations.get(0).getHubName(), stationDtos));
+        });
+
+        // 4. 반경 내 대여 가능한 HiBike
+        List<HiBikeLocationDto> hiBikeLocations = locationSearchRepository
+                .findAvailableHiBikesWithinRadius(latitude, longitude, radius, StationLocationDto.MIN_BATTERY_LEVEL)
+                .stream()
+                .map(HiBikeLocationDto::from)
+                .collect(Collectors.toList());
+
+        return BikeLocationResponse.builder()
+                .hubs(hubLocations)
+                .hiBikes(hiBikeLocations)
+                .build();
+    }
+
+    /**
+     * 반경 내 스테이션 목록을 허브 단위로 묶어 HubLocationDto 목록으로 변환합니다.
+     * 허브의 모든 스테이션이 반경 안에 있으면 미리 계산된 스냅샷 객체를 그대로 사용합니다.
+     */
+    private List<HubLocationDto> convertToHubLocationDtos(List<StationSnapshot> stations) {
+        Map<Long, List<Long>> stationIdsByHub = groupStationIdsByHub(stations);
+
+        List<HubLocationDto> hubLocations = new ArrayList<>(stationIdsByHub.size());
+        stationIdsByHub.forEach((hubId, stationIds) -> {
+            HubAvailabilitySnapshot snapshot = bikeLocationIndex.getHubSnapshot(hubId);
+            if (snapshot != null) {
+                hubLocations.add(snapshot.select(stationIds));
+            }
+        });
+        return hubLocations;
+    }
+
+    private Map<Long, List<Long>> groupStationIdsByHub(List<StationSnapshot> stations) {
+        return stations.stream()
+                .collect(Collectors.groupingBy(
+                        StationSnapshot::getHubId,
+                        TreeMap::new,
+                        Collectors.mapping(StationSnapshot::getStationId, Collectors.toList())));
+    }
 }
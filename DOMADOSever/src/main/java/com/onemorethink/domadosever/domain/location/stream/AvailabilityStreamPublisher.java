@@ -0,0 +1,82 @@
+package com.onemorethink.domadosever.domain.location.stream;
+
+import com.onemorethink.domadosever.domain.location.dto.BikeLocationChangesResponse;
+import com.onemorethink.domadosever.domain.location.index.AvailabilityChanges;
+import com.onemorethink.domadosever.domain.location.index.BikeLocationIndex;
+import com.onemorethink.domadosever.domain.location.service.LocationService;
+import com.onemorethink.domadosever.global.websocket.RentalWebSocketHandler;
+import com.onemorethink.domadosever.global.websocket.WebSocketMessage;
+import com.onemorethink.domadosever.global.websocket.WebSocketMessageType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 구독 중인 지도 영역의 대여 현황 변경분을 주기적으로 전송
+ * - 한 주기 동안의 변경(대여/일시잠금/반납/HiBike 전환)을 모아 구독자당 최대 한 번만 전송합니다.
+ * - 변경분은 주기마다 인덱스에서 한 번만 수집하고, 구독자별로는 영역 필터링만 수행합니다.
+ * - 처음 구독한 사용자에게는 영역 내 전체 현황(fullSync)을 먼저 전송합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityStreamPublisher {
+    private final AvailabilitySubscriptionRegistry subscriptionRegistry;
+    private final BikeLocationIndex bikeLocationIndex;
+    private final LocationService locationService;
+    private final RentalWebSocketHandler webSocketHandler;
+
+    private long lastPublishedVersion;
+
+    @Scheduled(fixedDelayString = "${location.stream.tick-interval-ms:1000}")
+    public void publish() {
+        if (!bikeLocationIndex.isReady()) {
+            return;
+        }
+        if (subscriptionRegistry.isEmpty()) {
+            lastPublishedVersion = bikeLocationIndex.getVersion();
+            return;
+        }
+
+        // 변경분을 새 구독자의 전체 현황보다 먼저 수집
+        // 전체 현황은 항상 이 변경분의 버전 이후 상태를 담으므로, 다음 주기에 이 버전부터 수집하는 변경분이
+        // 새 구독자에게도 빠짐없이 전달됨 (전체 현황과 일부 겹칠 수 있으나 같은 상태로 덮어쓰므로 무해)
+        AvailabilityChanges changes = bikeLocationIndex.collectChangesSince(lastPublishedVersion);
+        AvailabilityChanges fullSnapshot = null;
+
+        for (ViewportSubscription subscription : subscriptionRegistry.getSubscriptions()) {
+            if (!subscription.isInitialized()) {
+                if (fullSnapshot == null) {
+                    fullSnapshot = bikeLocationIndex.collectChangesSince(0);
+                }
+                send(subscription, fullSnapshot);
+                subscription.markInitialized();
+                continue;
+            }
+
+            if (!changes.isEmpty()) {
+                send(subscription, changes);
+            }
+        }
+
+        lastPublishedVersion = changes.getVersion();
+    }
+
+    private void send(ViewportSubscription subscription, AvailabilityChanges changes) {
+        BikeLocationChangesResponse response =
+                locationService.selectViewportChanges(changes, subscription.getBounds());
+        if (response == null) {
+            return;
+        }
+
+        try {
+            webSocketHandler.sendMessage(subscription.getEmail(),
+                    WebSocketMessage.success(WebSocketMessageType.AVAILABILITY_CHANGED, response));
+        } catch (IOException | IllegalStateException e) {
+            log.warn("대여 현황 전송 실패 - 사용자: {}", subscription.getEmail(), e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.onemorethink.domadosever.domain.location.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 사용자별 지도 영역 구독 저장소
+ * - 사용자당 하나의 영역만 유지하며, 다시 구독하면 영역을 교체하고 전체 현황을 다시 받습니다.
+ */
+@Slf4j
+@Component
+public class AvailabilitySubscriptionRegistry {
+    private final Map<String, ViewportSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    public void subscribe(String email, ViewportBounds bounds) {
+        bounds.validate();
+        subscriptions.put(email, new ViewportSubscription(email, bounds));
+        log.debug("대여 현황 구독 - 사용자: {}", email);
+    }
+
+    public void unsubscribe(String email) {
+        if (subscriptions.remove(email) != null) {
+            log.debug("대여 현황 구독 해제 - 사용자: {}", email);
+        }
+    }
+
+    public Collection<ViewportSubscription> getSubscriptions() {
+        return subscriptions.values();
+    }
+
+    public boolean isEmpty() {
+        return subscriptions.isEmpty();
+    }
+}
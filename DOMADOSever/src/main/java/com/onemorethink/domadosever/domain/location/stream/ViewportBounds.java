@@ -0,0 +1,40 @@
+package com.onemorethink.domadosever.domain.location.stream;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 지도 화면 영역 (위경도 경계 상자)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ViewportBounds {
+    private static final double MAX_SPAN_DEGREE = 0.5;  // 약 55km, 과도하게 넓은 구독 방지
+
+    private Double minLatitude;
+    private Double minLongitude;
+    private Double maxLatitude;
+    private Double maxLongitude;
+
+    public boolean contains(Double latitude, Double longitude) {
+        return latitude != null && longitude != null
+                && latitude >= minLatitude && latitude <= maxLatitude
+                && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+
+    public void validate() {
+        if (minLatitude == null || minLongitude == null || maxLatitude == null || maxLongitude == null) {
+            throw new IllegalArgumentException("Viewport bounds are required");
+        }
+        if (minLatitude < -90 || maxLatitude > 90 || minLongitude < -180 || maxLongitude > 180) {
+            throw new IllegalArgumentException("Viewport bounds are out of range");
+        }
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("Viewport min bounds must not exceed max bounds");
+        }
+        if (maxLatitude - minLatitude > MAX_SPAN_DEGREE || maxLongitude - minLongitude > MAX_SPAN_DEGREE) {
+            throw new IllegalArgumentException("Viewport is too large");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.onemorethink.domadosever.domain.location.stream;
+
+import lombok.Getter;
+
+// 사용자별 대여 현황 구독 정보
+@Getter
+public class ViewportSubscription {
+    private final String email;
+    private final ViewportBounds bounds;
+
+    // 최초 전체 현황 전송 여부 (전송 스레드에서만 변경)
+    private volatile boolean initialized;
+
+    public ViewportSubscription(String email, ViewportBounds bounds) {
+        this.email = email;
+        this.bounds = bounds;
+    }
+
+    public void markInitialized() {
+        this.initialized = true;
+    }
+}
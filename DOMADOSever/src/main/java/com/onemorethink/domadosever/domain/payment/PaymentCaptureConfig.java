@@ -0,0 +1,51 @@
+package com.onemorethink.domadosever.domain.payment;
+
+import com.onemorethink.domadosever.domain.payment.gateway.PaymentGateway;
+import com.onemorethink.domadosever.domain.payment.gateway.SimulatedPaymentGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@Slf4j
+public class PaymentCaptureConfig {
+
+    // PG사 연동 전까지는 모의 결제 연동 사용 (payment.gateway.type 값으로 다른 구현 선택)
+    @Bean
+    @ConditionalOnProperty(name = "payment.gateway.type", havingValue = "simulator", matchIfMissing = true)
+    public PaymentGateway simulatedPaymentGateway(
+            @Value("${payment.gateway.simulator.latency-ms:80}") long latencyMs,
+            @Value("${payment.gateway.simulator.jitter-ms:40}") long jitterMs,
+            @Value("${payment.gateway.simulator.failure-rate:0}") double failureRate,
+            @Value("${payment.gateway.simulator.slow-rate:0}") double slowRate,
+            @Value("${payment.gateway.simulator.decline-rate:0}") double declineRate) {
+        log.info("Using simulated payment gateway (latency: {}±{}ms, failure: {}, slow: {}, decline: {})",
+                latencyMs, jitterMs, failureRate, slowRate, declineRate);
+        return new SimulatedPaymentGateway(Duration.ofMillis(latencyMs), Duration.ofMillis(jitterMs),
+                failureRate, slowRate, declineRate);
+    }
+
+    // 결제 요청 전용 스레드 풀 (PG 응답을 기다리는 동안 점유되므로 outbox 스레드 풀과 분리)
+    // 처리 중인 결제 수는 워커가 pool-size + queue-capacity 이하로 제한하므로 큐가 넘치지 않음
+    @Bean(name = "paymentCaptureExecutor")
+    public ThreadPoolTaskExecutor paymentCaptureExecutor(
+            @Value("${payment.capture.pool-size:8}") int poolSize,
+            @Value("${payment.capture.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("payment-capture-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
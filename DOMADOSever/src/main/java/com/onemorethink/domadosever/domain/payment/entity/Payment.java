@@ -8,8 +8,13 @@ import com.onemorethink.domadosever.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payment_status_next_capture", columnList = "status, next_capture_at")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -52,7 +57,45 @@ public class Payment extends BaseEntity {
 
     private  String failureReason; // 거래 실패 사유
 
+    // PG 결제 요청 횟수 (일시 장애로 재시도한 횟수 포함)
+    @Column(nullable = false)
+    private int captureAttempts;
+
+    // 다음 결제 요청 시각 (재시도 백오프)
+    private LocalDateTime nextCaptureAt;
+
+    // 결제 요청 중 점유 만료 시각 (워커 장애 시 다시 요청 대상이 됨)
+    private LocalDateTime captureLockedUntil;
+
+    // PG 요청 전에 선점한 결제 수단 일일 합계 (날짜, 금액), 결과를 기록하거나 점유가 만료된 건을 다시 점유할 때 해제
+    private LocalDate spendReservedOn;
+    private Integer spendReservedAmount;
+
     @OneToOne(mappedBy = "usedPayment")
     private Coupon usedCoupon;
 
+    // PG 결제 요청을 보내는 쪽이 점유 (같은 결제 건에 대한 요청은 merchantUid로 멱등하게 처리됨)
+    public void claimCapture(LocalDateTime lockedUntil) {
+        this.status = PaymentStatus.PROCESSING;
+        this.captureLockedUntil = lockedUntil;
+    }
+
+    public boolean hasSpendReservation() {
+        return spendReservedOn != null;
+    }
+
+    public void clearSpendReservation() {
+        this.spendReservedOn = null;
+        this.spendReservedAmount = null;
+    }
+
+    // 결과 확인 중(UNKNOWN)인 결제의 조회를 점유 (만료되면 다른 워커가 다시 조회)
+    public void claimInquiry(LocalDateTime lockedUntil) {
+        this.nextCaptureAt = lockedUntil;
+    }
+
+    // PG사 중복 요청 판별 기준 (재시도해도 바뀌지 않음)
+    public String getMerchantUid() {
+        return "DOMADO-PAY-" + id;
+    }
 }
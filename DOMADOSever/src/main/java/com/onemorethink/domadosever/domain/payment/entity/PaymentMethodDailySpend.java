@@ -0,0 +1,46 @@
+package com.onemorethink.domadosever.domain.payment.entity;
+
+import com.onemorethink.domadosever.domain.payment.entity.paymentMethod.PaymentMethod;
+import com.onemorethink.domadosever.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 결제 수단별 일일 결제 합계
+ * - 결제가 완료될 때마다 완료일의 행에 금액을 더하므로, 결제 한도 검사는 결제 이력 대신 최근 며칠의 행만 읽습니다.
+ * - 행은 결제 수단·날짜마다 하나이며 {@link com.onemorethink.domadosever.domain.payment.service.PaymentSpendTracker}가 관리합니다.
+ */
+@Entity
+@Table(name = "payment_method_daily_spends",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_method_spend_date", columnNames = {"payment_method_id", "spend_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentMethodDailySpend extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "payment_method_id", nullable = false)
+    private PaymentMethod paymentMethod;
+
+    @Column(name = "spend_date", nullable = false)
+    private LocalDate spendDate;
+
+    // 결제 완료 금액 합계
+    @Column(nullable = false)
+    private long amount;
+
+    // 결제 완료 건수
+    @Column(nullable = false)
+    private int paymentCount;
+
+    public static PaymentMethodDailySpend empty(PaymentMethod paymentMethod, LocalDate spendDate) {
+        PaymentMethodDailySpend spend = new PaymentMethodDailySpend();
+        spend.paymentMethod = paymentMethod;
+        spend.spendDate = spendDate;
+        return spend;
+    }
+}
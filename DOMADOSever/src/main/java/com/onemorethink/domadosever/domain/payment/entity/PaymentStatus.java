@@ -4,6 +4,7 @@ public enum PaymentStatus {
     PENDING("결제대기"),
     PROCESSING("처리중"),
     COMPLETED("결제완료"),
+    UNKNOWN("결과확인중"),  // PG 응답을 받지 못해 결제 여부를 조회로 확인해야 함
     FAILED("결제실패"),
     CANCELLED("취소됨"),
     REFUNDED("환불됨");
@@ -0,0 +1,63 @@
+package com.onemorethink.domadosever.domain.payment.entity;
+
+import com.onemorethink.domadosever.domain.station.entity.Hub;
+import com.onemorethink.domadosever.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 요금제
+ * - hub가 없으면 전체 허브 공통 요금제, 있으면 해당 허브(자전거의 소속 허브) 전용 요금제입니다.
+ * - dayOfWeek가 있으면 해당 요일, holiday가 있으면 해당 날짜(공휴일 등)에만 적용되고, 둘 다 없으면 기본 요금제입니다.
+ * - 적용 우선순위: 허브 날짜 > 공통 날짜 > 허브 요일 > 허브 기본 > 공통 요일 > 공통 기본 > {@link com.onemorethink.domadosever.domain.payment.fare.Tariff#DEFAULT}
+ *   (공휴일은 공통 날짜 요금제로 한 번만 등록하면 모든 허브에 적용됨)
+ * - 변경 내용은 {@link com.onemorethink.domadosever.domain.payment.fare.TariffRegistry}가 주기적으로 다시 읽어 반영합니다.
+ */
+@Entity
+@Table(name = "tariff_plans",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tariff_plan_scope", columnNames = {"hub_id", "day_of_week", "holiday"}))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TariffPlan extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hub_id")
+    private Hub hub;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", length = 10)
+    private DayOfWeek dayOfWeek;
+
+    private LocalDate holiday;
+
+    // 잠금해제 요금
+    @Column(nullable = false)
+    private Integer unlockFee;
+
+    // 주간 요금(분당)
+    @Column(nullable = false)
+    private Integer dayRate;
+
+    // 야간 요금(분당)
+    @Column(nullable = false)
+    private Integer nightRate;
+
+    // 주간 시작/종료 (종료 시각은 포함하지 않음)
+    @Column(nullable = false)
+    private LocalTime dayStart;
+
+    @Column(nullable = false)
+    private LocalTime dayEnd;
+
+    // 일시 잠금 요금(분당), 없으면 일시 잠금 시간도 시간대 요금으로 계산
+    private Integer pauseRate;
+}
@@ -12,7 +12,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "payment_methods")
+@Table(name = "payment_methods", indexes = {
+        @Index(name = "idx_payment_method_user_status", columnList = "user_id, status")
+})
 @Getter @Setter
 @NoArgsConstructor
 public class PaymentMethod extends BaseEntity {
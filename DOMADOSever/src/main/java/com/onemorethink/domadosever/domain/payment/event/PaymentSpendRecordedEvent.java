@@ -0,0 +1,15 @@
+package com.onemorethink.domadosever.domain.payment.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+// 결제 금액이 결제 수단의 일일 합계에 더해졌음을 알리는 이벤트 (선점 해제 시 음수)
+@Getter
+@RequiredArgsConstructor
+public class PaymentSpendRecordedEvent {
+    private final Long paymentMethodId;
+    private final LocalDate spendDate;
+    private final long amount;
+}
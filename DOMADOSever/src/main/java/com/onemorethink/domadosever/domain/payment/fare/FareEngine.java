@@ -0,0 +1,17 @@
+package com.onemorethink.domadosever.domain.payment.fare;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 요금 계산
+ * 이용 시간은 시작 시각부터 1분 단위로 나누어(마지막 1분 미만도 1분) 각 분이 시작되는 날짜·시각의 요금을 적용합니다.
+ * 요금은 자전거 소속 허브의 요금제를 따르며, 허브가 없으면(null) 공통 요금제를 적용합니다.
+ */
+public interface FareEngine {
+
+    // 잠금해제 요금 + 이용 요금 (pauseMinutes: 이용 시간 중 일시 잠금 시간)
+    int calculateBaseAmount(Long hubId, LocalDateTime startTime, LocalDateTime endTime, int pauseMinutes);
+
+    // 해당 시각에 적용되는 분당 요금
+    int ratePerMinute(Long hubId, LocalDateTime time);
+}
@@ -0,0 +1,54 @@
+package com.onemorethink.domadosever.domain.payment.fare;
+
+import com.onemorethink.domadosever.domain.payment.entity.TariffPlan;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+/**
+ * 하루에 적용되는 요금 (요금 계산용 불변 값)
+ * 주간 시작/종료는 자정 기준 나노초로 미리 바꿔 둡니다.
+ */
+@Getter
+public final class Tariff {
+    static final int NO_PAUSE_RATE = -1;
+
+    // 요금제가 하나도 없을 때 적용되는 기본 요금
+    public static final Tariff DEFAULT = new Tariff(100, 30, 4, LocalTime.of(9, 0), LocalTime.of(18, 0), null);
+
+    private final int unlockFee;
+    private final int dayRate;
+    private final int nightRate;
+    private final long dayStartNanos;
+    private final long dayEndNanos;
+    private final int pauseRate;
+
+    public Tariff(int unlockFee, int dayRate, int nightRate, LocalTime dayStart, LocalTime dayEnd, Integer pauseRate) {
+        if (unlockFee < 0 || dayRate < 0 || nightRate < 0 || (pauseRate != null && pauseRate < 0)) {
+            throw new IllegalArgumentException("Tariff amounts must not be negative");
+        }
+        if (!dayStart.isBefore(dayEnd)) {
+            throw new IllegalArgumentException("Tariff day start must be before day end: " + dayStart + " - " + dayEnd);
+        }
+        this.unlockFee = unlockFee;
+        this.dayRate = dayRate;
+        this.nightRate = nightRate;
+        this.dayStartNanos = dayStart.toNanoOfDay();
+        this.dayEndNanos = dayEnd.toNanoOfDay();
+        this.pauseRate = pauseRate != null ? pauseRate : NO_PAUSE_RATE;
+    }
+
+    static Tariff of(TariffPlan plan) {
+        return new Tariff(plan.getUnlockFee(), plan.getDayRate(), plan.getNightRate(),
+                plan.getDayStart(), plan.getDayEnd(), plan.getPauseRate());
+    }
+
+    public boolean hasPauseRate() {
+        return pauseRate != NO_PAUSE_RATE;
+    }
+
+    // 자정 기준 나노초 시각의 분당 요금
+    public int ratePerMinute(long nanoOfDay) {
+        return nanoOfDay >= dayStartNanos && nanoOfDay < dayEndNanos ? dayRate : nightRate;
+    }
+}
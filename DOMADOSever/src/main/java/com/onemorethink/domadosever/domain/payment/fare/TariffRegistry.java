@@ -0,0 +1,50 @@
+package com.onemorethink.domadosever.domain.payment.fare;
+
+import com.onemorethink.domadosever.domain.payment.entity.TariffPlan;
+import com.onemorethink.domadosever.domain.payment.repository.TariffPlanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 현재 적용 중인 요금 조회표
+ * - 애플리케이션 기동 시와 tariff.reload-interval-ms 주기로 tariff_plans 전체를 읽어 {@link TariffTable}을 새로 만들고 한 번에 교체합니다.
+ *   요금 계산은 교체된 조회표를 읽기만 하므로 잠금이나 DB 조회가 없고, 요금 변경은 재배포 없이 다음 재적재부터 반영됩니다.
+ * - 잘못된 요금제가 섞여 있으면 이번 재적재를 건너뛰고 이전 조회표를 계속 사용합니다.
+ * - 첫 적재 전에는 {@link Tariff#DEFAULT}를 적용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TariffRegistry {
+    private final TariffPlanRepository tariffPlanRepository;
+
+    private volatile TariffTable table = TariffTable.defaults();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    public TariffTable current() {
+        return table;
+    }
+
+    @Scheduled(fixedDelayString = "${tariff.reload-interval-ms:60000}",
+            initialDelayString = "${tariff.reload-interval-ms:60000}")
+    public void reload() {
+        try {
+            List<TariffPlan> plans = tariffPlanRepository.findAll();
+            TariffTable loaded = TariffTable.compile(plans);
+            this.table = loaded;
+            log.debug("Tariff table loaded - plans: {}, hubs: {}", loaded.getPlanCount(), loaded.getHubCount());
+        } catch (Exception e) {
+            log.error("Failed to reload tariff plans, keeping previous tariff table", e);
+        }
+    }
+}
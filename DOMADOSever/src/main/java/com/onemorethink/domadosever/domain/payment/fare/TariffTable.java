@@ -0,0 +1,140 @@
+package com.onemorethink.domadosever.domain.payment.fare;
+
+import com.onemorethink.domadosever.domain.payment.entity.TariffPlan;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 요금제 목록을 미리 펼쳐 둔 불변 조회표
+ * - 허브마다 요일별 요금 7개와, 날짜순으로 정렬한 휴일 요금(epoch day 배열)을 갖습니다.
+ *   우선순위는 만들 때 모두 반영되어 있어 조회는 배열/해시 조회 한두 번으로 끝납니다.
+ * - 전용 요금제가 없는 허브는 공통 요금표를 사용합니다.
+ * - 조회 중 객체를 만들지 않으므로 요금 계산 경로에서 그대로 사용합니다.
+ */
+public final class TariffTable {
+    private static final TariffTable DEFAULTS = new TariffTable(new HubTariffs(null, List.of(), HubTariffs.EMPTY), Map.of(), 0);
+
+    private final HubTariffs common;
+    private final Map<Long, HubTariffs> byHub;
+    private final int planCount;
+
+    private TariffTable(HubTariffs common, Map<Long, HubTariffs> byHub, int planCount) {
+        this.common = common;
+        this.byHub = byHub;
+        this.planCount = planCount;
+    }
+
+    // 요금제가 없을 때의 조회표 (모든 날짜에 Tariff.DEFAULT)
+    public static TariffTable defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * 요금제 목록으로 조회표 생성
+     * 같은 범위(허브, 요일, 날짜)의 요금제가 둘 이상이거나 요일과 날짜가 함께 지정된 요금제가 있으면 IllegalArgumentException
+     */
+    public static TariffTable compile(List<TariffPlan> plans) {
+        Map<Long, List<TariffPlan>> plansByHub = new HashMap<>();
+        for (TariffPlan plan : plans) {
+            if (plan.getDayOfWeek() != null && plan.getHoliday() != null) {
+                throw new IllegalArgumentException("Tariff plan " + plan.getId() + " has both day of week and holiday");
+            }
+            Long hubId = plan.getHub() != null ? plan.getHub().getId() : null;
+            plansByHub.computeIfAbsent(hubId, key -> new ArrayList<>()).add(plan);
+        }
+
+        HubTariffs common = new HubTariffs(null, plansByHub.getOrDefault(null, List.of()), HubTariffs.EMPTY);
+        Map<Long, HubTariffs> byHub = new HashMap<>();
+        plansByHub.forEach((hubId, hubPlans) -> {
+            if (hubId != null) {
+                byHub.put(hubId, new HubTariffs(hubId, hubPlans, common));
+            }
+        });
+        return new TariffTable(common, Map.copyOf(byHub), plans.size());
+    }
+
+    // 허브(없으면 공통)의 해당 날짜(epoch day) 요금
+    public Tariff resolve(Long hubId, long epochDay) {
+        HubTariffs tariffs = hubId != null ? byHub.get(hubId) : null;
+        return (tariffs != null ? tariffs : common).resolve(epochDay);
+    }
+
+    public int getPlanCount() {
+        return planCount;
+    }
+
+    public int getHubCount() {
+        return byHub.size();
+    }
+
+    private static final class HubTariffs {
+        private static final HubTariffs EMPTY = new HubTariffs();
+
+        private final Tariff[] byDayOfWeek = new Tariff[7];
+        private final long[] holidays;
+        private final Tariff[] holidayTariffs;
+
+        // 공통 요금표의 상위 (모든 요일 Tariff.DEFAULT, 휴일 없음)
+        private HubTariffs() {
+            Arrays.fill(byDayOfWeek, Tariff.DEFAULT);
+            this.holidays = new long[0];
+            this.holidayTariffs = new Tariff[0];
+        }
+
+        private HubTariffs(Long hubId, List<TariffPlan> plans, HubTariffs parent) {
+            Tariff base = null;
+            Tariff[] weekly = new Tariff[7];
+            TreeMap<Long, Tariff> holidayMap = new TreeMap<>();
+            for (int i = 0; i < parent.holidays.length; i++) {
+                holidayMap.put(parent.holidays[i], parent.holidayTariffs[i]);
+            }
+
+            Map<LocalDate, TariffPlan> seenHolidays = new HashMap<>();
+            for (TariffPlan plan : plans) {
+                Tariff tariff = Tariff.of(plan);
+                if (plan.getHoliday() != null) {
+                    requireUnique(seenHolidays.put(plan.getHoliday(), plan), hubId, plan.getHoliday());
+                    holidayMap.put(plan.getHoliday().toEpochDay(), tariff);
+                } else if (plan.getDayOfWeek() != null) {
+                    requireUnique(weekly[plan.getDayOfWeek().ordinal()], hubId, plan.getDayOfWeek());
+                    weekly[plan.getDayOfWeek().ordinal()] = tariff;
+                } else {
+                    requireUnique(base, hubId, "base");
+                    base = tariff;
+                }
+            }
+
+            for (DayOfWeek day : DayOfWeek.values()) {
+                int i = day.ordinal();
+                byDayOfWeek[i] = weekly[i] != null ? weekly[i] : Objects.requireNonNullElse(base, parent.byDayOfWeek[i]);
+            }
+            this.holidays = holidayMap.keySet().stream().mapToLong(Long::longValue).toArray();
+            this.holidayTariffs = holidayMap.values().toArray(new Tariff[0]);
+        }
+
+        private Tariff resolve(long epochDay) {
+            if (holidays.length > 0) {
+                int index = Arrays.binarySearch(holidays, epochDay);
+                if (index >= 0) {
+                    return holidayTariffs[index];
+                }
+            }
+            // 1970-01-01(epoch day 0)은 목요일
+            return byDayOfWeek[(int) Math.floorMod(epochDay + DayOfWeek.THURSDAY.ordinal(), 7L)];
+        }
+
+        private static void requireUnique(Object existing, Long hubId, Object scope) {
+            if (existing != null) {
+                throw new IllegalArgumentException("Duplicate tariff plan for hub " + hubId + ": " + scope);
+            }
+        }
+    }
+}
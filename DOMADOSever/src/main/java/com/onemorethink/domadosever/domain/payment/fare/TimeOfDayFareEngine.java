@@ -0,0 +1,77 @@
+package com.onemorethink.domadosever.domain.payment.fare;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요금제 기반 주간/야간 분당 요금 계산
+ * - 이용 구간을 날짜별로 나누고, 그날 요금제의 주간 구간에 시작하는 분의 수를 나눗셈으로 구합니다.
+ *   (1분씩 순회하지 않으므로 계산량은 이용 기간에 걸친 날짜 수에 비례하고, 계산 중 객체를 만들지 않습니다)
+ * - 시각은 모두 대여 시작 시각 기준 나노초 오프셋으로 다룹니다.
+ * - 잠금해제 요금과 일시 잠금 요금은 대여 시작일의 요금제를 따릅니다.
+ * - 요금제는 {@link TariffRegistry}의 현재 조회표를 계산 시작 시 한 번 읽어 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimeOfDayFareEngine implements FareEngine {
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+    private static final long NANOS_PER_DAY = 1440 * NANOS_PER_MINUTE;
+
+    private final TariffRegistry tariffRegistry;
+
+    @Override
+    public int calculateBaseAmount(Long hubId, LocalDateTime startTime, LocalDateTime endTime, int pauseMinutes) {
+        TariffTable table = tariffRegistry.current();
+        long startDay = startTime.toLocalDate().toEpochDay();
+        Tariff first = table.resolve(hubId, startDay);
+
+        long durationNanos = nanosBetween(startTime, endTime);
+        if (durationNanos <= 0) {
+            return first.getUnlockFee();
+        }
+
+        long usageAmount = 0;
+        // 시작일 자정부터 하루씩: 그날 [자정, 다음 자정) 중 이용 구간에 시작하는 분을 주간/야간으로 나눔
+        long day = startDay;
+        for (long midnight = -startTime.toLocalTime().toNanoOfDay(); midnight < durationNanos; midnight += NANOS_PER_DAY, day++) {
+            Tariff tariff = day == startDay ? first : table.resolve(hubId, day);
+            long minutes = ceilDiv(Math.min(durationNanos, midnight + NANOS_PER_DAY), NANOS_PER_MINUTE)
+                    - ceilDiv(Math.max(0, midnight), NANOS_PER_MINUTE);
+
+            long from = Math.max(0, midnight + tariff.getDayStartNanos());
+            long to = Math.min(durationNanos, midnight + tariff.getDayEndNanos());
+            long dayMinutes = from < to ? ceilDiv(to, NANOS_PER_MINUTE) - ceilDiv(from, NANOS_PER_MINUTE) : 0;
+
+            usageAmount += dayMinutes * tariff.getDayRate() + (minutes - dayMinutes) * tariff.getNightRate();
+        }
+
+        if (first.hasPauseRate() && pauseMinutes > 0) {
+            // 일시 잠금 구간은 따로 저장되지 않으므로 일시 잠금 시간만큼을 이용 요금의 분당 평균으로 빼고 일시 잠금 요금으로 계산
+            long totalMinutes = ceilDiv(durationNanos, NANOS_PER_MINUTE);
+            long pausedMinutes = Math.min(pauseMinutes, totalMinutes);
+            usageAmount += pausedMinutes * first.getPauseRate() - Math.round((double) usageAmount * pausedMinutes / totalMinutes);
+        }
+
+        return Math.toIntExact(first.getUnlockFee() + usageAmount);
+    }
+
+    @Override
+    public int ratePerMinute(Long hubId, LocalDateTime time) {
+        return tariffRegistry.current()
+                .resolve(hubId, time.toLocalDate().toEpochDay())
+                .ratePerMinute(time.toLocalTime().toNanoOfDay());
+    }
+
+    // LocalDateTime 간 차이 (Duration 객체를 만들지 않음)
+    private static long nanosBetween(LocalDateTime startTime, LocalDateTime endTime) {
+        long days = endTime.toLocalDate().toEpochDay() - startTime.toLocalDate().toEpochDay();
+        return days * NANOS_PER_DAY + endTime.toLocalTime().toNanoOfDay() - startTime.toLocalTime().toNanoOfDay();
+    }
+
+    // 0 이상의 값에 대한 올림 나눗셈 (k * divisor < value 인 k의 개수)
+    private static long ceilDiv(long value, long divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+}
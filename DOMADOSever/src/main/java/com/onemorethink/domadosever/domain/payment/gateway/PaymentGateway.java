@@ -0,0 +1,19 @@
+package com.onemorethink.domadosever.domain.payment.gateway;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * PG사 결제 연동
+ * - 같은 merchantUid로 다시 요청하면 PG사는 처음 요청의 결과를 그대로 돌려줘야 합니다. (응답을 받지 못한 재시도에서 이중 결제 방지)
+ * - 응답을 받지 못한 결제는 merchantUid로 처음 요청의 결과를 조회해 확정합니다.
+ * - 승인/거절은 응답으로, 일시적인 장애(응답 시간 초과, 연결 실패, 5xx 등)는 {@link com.onemorethink.domadosever.global.error.exception.PaymentGatewayException}으로 알립니다.
+ */
+public interface PaymentGateway {
+
+    // timeout 안에 응답이 없으면 PaymentGatewayException(PAYMENT_TIMEOUT)
+    PaymentGatewayResponse capture(PaymentGatewayRequest request, Duration timeout);
+
+    // merchantUid로 처음 요청의 결과 조회 (PG사에 결제 기록이 없으면 empty, 일시 장애는 PaymentGatewayException)
+    Optional<PaymentGatewayResponse> inquire(String merchantUid, Duration timeout);
+}
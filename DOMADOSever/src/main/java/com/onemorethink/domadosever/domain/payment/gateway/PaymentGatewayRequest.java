@@ -0,0 +1,12 @@
+package com.onemorethink.domadosever.domain.payment.gateway;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PaymentGatewayRequest {
+    private final String merchantUid;       // 가맹점 주문 번호 (결제 건마다 고정, PG사 중복 요청 판별 기준)
+    private final Long paymentMethodId;
+    private final int amount;
+}
@@ -0,0 +1,24 @@
+package com.onemorethink.domadosever.domain.payment.gateway;
+
+import lombok.Getter;
+
+@Getter
+public class PaymentGatewayResponse {
+    private final boolean approved;
+    private final String transactionId;     // 승인 시 PG사 거래 ID
+    private final String declineReason;     // 거절 사유 (카드 한도 초과 등, 재시도하지 않음)
+
+    private PaymentGatewayResponse(boolean approved, String transactionId, String declineReason) {
+        this.approved = approved;
+        this.transactionId = transactionId;
+        this.declineReason = declineReason;
+    }
+
+    public static PaymentGatewayResponse approved(String transactionId) {
+        return new PaymentGatewayResponse(true, transactionId, null);
+    }
+
+    public static PaymentGatewayResponse declined(String reason) {
+        return new PaymentGatewayResponse(false, null, reason);
+    }
+}
@@ -0,0 +1,109 @@
+package com.onemorethink.domadosever.domain.payment.gateway;
+
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.PaymentGatewayException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PG사 없이 동작하는 결제 연동 (로컬 실행·부하 테스트용)
+ * - 응답 지연은 latency ± jitter 사이에서 고르며, timeout보다 길면 timeout만큼 기다린 뒤 시간 초과로 실패합니다.
+ * - failureRate 비율의 요청은 처리되지 않고 일시 장애로, declineRate 비율의 결제 건은 거절로 응답합니다.
+ * - slowRate 비율의 요청은 결제는 처리되지만 응답이 timeout을 넘겨 도착하지 않은 것처럼 동작합니다.
+ * - 실제 PG사처럼 merchantUid별 결과를 기억하여, 같은 결제 건의 재요청과 결과 조회에는 처음 결과를 그대로 돌려줍니다.
+ */
+@Slf4j
+public class SimulatedPaymentGateway implements PaymentGateway {
+    private final Duration latency;
+    private final Duration jitter;
+    private final double failureRate;
+    private final double slowRate;
+    private final double declineRate;
+    private final Map<String, PaymentGatewayResponse> settled = new ConcurrentHashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong inquiryCount = new AtomicLong();
+
+    public SimulatedPaymentGateway(Duration latency, Duration jitter, double failureRate, double slowRate,
+                                   double declineRate) {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.failureRate = failureRate;
+        this.slowRate = slowRate;
+        this.declineRate = declineRate;
+    }
+
+    @Override
+    public PaymentGatewayResponse capture(PaymentGatewayRequest request, Duration timeout) {
+        requestCount.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMillis = latency.toMillis() + (jitter.isZero() ? 0
+                : random.nextLong(-jitter.toMillis(), jitter.toMillis() + 1));
+
+        double roll = random.nextDouble();
+        if (roll < failureRate) {
+            sleep(Math.min(Math.max(0, delayMillis), timeout.toMillis()));
+            throw new PaymentGatewayException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE,
+                    "Simulated gateway failure. merchantUid: " + request.getMerchantUid());
+        }
+        if (roll < failureRate + slowRate) {
+            delayMillis = timeout.toMillis() + 1;
+        }
+
+        // 응답이 늦어도 결제는 처리됨
+        PaymentGatewayResponse response = settled.computeIfAbsent(request.getMerchantUid(), merchantUid ->
+                ThreadLocalRandom.current().nextDouble() < declineRate
+                        ? PaymentGatewayResponse.declined("카드 한도 초과 (simulated)")
+                        : PaymentGatewayResponse.approved("SIM-" + UUID.randomUUID()));
+
+        if (delayMillis > timeout.toMillis()) {
+            sleep(timeout.toMillis());
+            throw new PaymentGatewayException(ErrorCode.PAYMENT_TIMEOUT,
+                    "Simulated gateway timeout. merchantUid: " + request.getMerchantUid());
+        }
+        sleep(Math.max(0, delayMillis));
+        return response;
+    }
+
+    // 결과 조회는 결제하지 않으므로 시간 초과 없이 latency만큼 기다린 뒤 기억한 결과를 돌려줌 (일시 장애는 동일)
+    @Override
+    public Optional<PaymentGatewayResponse> inquire(String merchantUid, Duration timeout) {
+        inquiryCount.incrementAndGet();
+        sleep(Math.min(latency.toMillis(), timeout.toMillis()));
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new PaymentGatewayException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE,
+                    "Simulated gateway failure. merchantUid: " + merchantUid);
+        }
+        return Optional.ofNullable(settled.get(merchantUid));
+    }
+
+    // 받은 요청 수 (재시도 포함)
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    // 받은 결과 조회 수
+    public long getInquiryCount() {
+        return inquiryCount.get();
+    }
+
+    // 처리된 결제 건 수 (같은 merchantUid는 한 번만 셈)
+    public int getSettledCount() {
+        return settled.size();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE, "Interrupted while waiting for gateway");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.onemorethink.domadosever.domain.payment.repository;
+
+import com.onemorethink.domadosever.domain.payment.entity.PaymentMethodDailySpend;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PaymentMethodDailySpendRepository extends JpaRepository<PaymentMethodDailySpend, Long> {
+
+    // 기간 내 일일 합계 (최대 조회 기간 일수만큼의 행, uk_payment_method_spend_date 인덱스 범위 조회)
+    @Query("""
+        SELECT s FROM PaymentMethodDailySpend s
+        WHERE s.paymentMethod.id = :paymentMethodId AND s.spendDate >= :from
+        """)
+    List<PaymentMethodDailySpend> findSince(@Param("paymentMethodId") Long paymentMethodId,
+                                            @Param("from") LocalDate from);
+
+    // 기간 내 결제 합계 (한도 선점 트랜잭션 안에서 오늘 행을 잠근 뒤 조회)
+    @Query("""
+        SELECT COALESCE(SUM(s.amount), 0) FROM PaymentMethodDailySpend s
+        WHERE s.paymentMethod.id = :paymentMethodId AND s.spendDate >= :from
+        """)
+    long sumSince(@Param("paymentMethodId") Long paymentMethodId, @Param("from") LocalDate from);
+
+    boolean existsByPaymentMethodIdAndSpendDate(Long paymentMethodId, LocalDate spendDate);
+
+    // 결제 완료 금액 누적 (행이 없으면 0)
+    @Modifying
+    @Query("""
+        UPDATE PaymentMethodDailySpend s SET s.amount = s.amount + :amount, s.paymentCount = s.paymentCount + 1
+        WHERE s.paymentMethod.id = :paymentMethodId AND s.spendDate = :spendDate
+        """)
+    int addAmount(@Param("paymentMethodId") Long paymentMethodId,
+                  @Param("spendDate") LocalDate spendDate,
+                  @Param("amount") long amount);
+
+    // 한도 선점: 더한 합계가 일일 한도 이하일 때만 누적 (0이면 한도 초과 또는 행 없음)
+    @Modifying
+    @Query("""
+        UPDATE PaymentMethodDailySpend s SET s.amount = s.amount + :amount, s.paymentCount = s.paymentCount + 1
+        WHERE s.paymentMethod.id = :paymentMethodId AND s.spendDate = :spendDate
+        AND s.amount + :amount <= :dailyLimit
+        """)
+    int addAmountWithinLimit(@Param("paymentMethodId") Long paymentMethodId,
+                             @Param("spendDate") LocalDate spendDate,
+                             @Param("amount") long amount,
+                             @Param("dailyLimit") long dailyLimit);
+
+    // 선점 해제: 결제가 완료되지 않은 금액을 되돌림
+    @Modifying
+    @Query("""
+        UPDATE PaymentMethodDailySpend s SET s.amount = s.amount - :amount, s.paymentCount = s.paymentCount - 1
+        WHERE s.paymentMethod.id = :paymentMethodId AND s.spendDate = :spendDate
+        """)
+    int subtractAmount(@Param("paymentMethodId") Long paymentMethodId,
+                       @Param("spendDate") LocalDate spendDate,
+                       @Param("amount") long amount);
+}
@@ -1,9 +1,137 @@
 package com.onemorethink.domadosever.domain.payment.repository;
 
 import com.onemorethink.domadosever.domain.payment.entity.Payment;
+import com.onemorethink.domadosever.domain.payment.entity.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+    // Hibernate LockOptions.SKIP_LOCKED (지원하지 않는 DB에서는 일반 FOR UPDATE로 동작)
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * 결제 요청 대상: 요청 시각이 된 대기 건 + 점유 시간이 만료된 요청 중 건 (먼저 생성된 순)
+     * FOR UPDATE SKIP LOCKED로 조회하므로 여러 서버가 동시에 조회해도 같은 결제 건을 중복 점유하지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+        SELECT p FROM Payment p
+        WHERE (p.status = com.onemorethink.domadosever.domain.payment.entity.PaymentStatus.PENDING
+               AND (p.nextCaptureAt IS NULL OR p.nextCaptureAt <= :now))
+        OR (p.status = com.onemorethink.domadosever.domain.payment.entity.PaymentStatus.PROCESSING
+               AND p.captureLockedUntil < :now)
+        ORDER BY p.id
+        """)
+    List<Payment> findCapturable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 결과 확인 대상: PG 응답을 받지 못해 결제 여부를 조회해야 하는 건 (조회 시각이 된 순)
+     * 점유는 다음 조회 시각(nextCaptureAt)을 점유 만료 시각으로 미루는 방식이므로 상태는 UNKNOWN으로 유지됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+        SELECT p FROM Payment p
+        WHERE p.status = com.onemorethink.domadosever.domain.payment.entity.PaymentStatus.UNKNOWN
+        AND p.nextCaptureAt <= :now
+        ORDER BY p.id
+        """)
+    List<Payment> findUnresolved(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 한도 선점 기록 (0이면 점유가 만료되어 다시 점유한 다른 워커의 선점이 남아 있음)
+    @Modifying
+    @Query("""
+        UPDATE Payment p SET p.spendReservedOn = :spendDate, p.spendReservedAmount = :amount
+        WHERE p.id = :id AND p.spendReservedOn IS NULL
+        """)
+    int markSpendReserved(@Param("id") Long id,
+                          @Param("spendDate") LocalDate spendDate,
+                          @Param("amount") int amount);
+
+    // 한도 선점 회수 (0이면 점유를 다시 가져간 워커가 이미 해제)
+    @Modifying
+    @Query("""
+        UPDATE Payment p SET p.spendReservedOn = NULL, p.spendReservedAmount = NULL
+        WHERE p.id = :id AND p.spendReservedOn = :spendDate
+        """)
+    int clearSpendReservation(@Param("id") Long id, @Param("spendDate") LocalDate spendDate);
+
+    // 결제 결과 기록: 요청 중(PROCESSING) 또는 결과 확인 중(UNKNOWN)인 경우에만 반영 (0이면 다른 서버가 이미 기록)
+    @Modifying
+    @Query("""
+        UPDATE Payment p SET p.status = com.onemorethink.domadosever.domain.payment.entity.PaymentStatus.COMPLETED,
+            p.transactionId = :transactionId, p.failureReason = NULL, p.captureLockedUntil = NULL,
+            p.captureAttempts = :attempts
+        WHERE p.id = :id AND p.status = :expected
+        """)
+    int markCaptured(@Param("id") Long id,
+                     @Param("expected") PaymentStatus expected,
+                     @Param("transactionId") String transactionId,
+                     @Param("attempts") int attempts);
+
+    @Modifying
+    @Query("""
+        UPDATE Payment p SET p.status = com.onemorethink.domadosever.domain.payment.entity.PaymentStatus.PENDING,
+            p.nextCaptureAt = :nextCaptureAt, p.failureReason = :reason, p.captureLockedUntil = NULL,
+            p.captureAttempts = :attempts
+        WHERE p.id = :id AND p.status = com.onemorethink.domadosever.domain.payment.entity.PaymentStatus.PROCESSING
+        """)
+    int markCaptureRetry(@Param("id") Long id,
+                         @Param("attempts") int attempts,
+                         @Param("nextCaptureAt") LocalDateTime nextCaptureAt,
+                         @Param("reason") String reason);
+
+    @Modifying
+    @Query("""
+        UPDATE Payment p SET p.status = com.onemorethink.domadosever.domain.payment.entity.PaymentStatus.FAILED,
+            p.failureReason = :reason, p.captureLockedUntil = NULL, p.captureAttempts = :attempts
+        WHERE p.id = :id AND p.status = :expected
+        """)
+    int markCaptureFailed(@Param("id") Long id,
+                          @Param("expected") PaymentStatus expected,
+                          @Param("attempts") int attempts,
+                          @Param("reason") String reason);
+
+    // 마지막 요청의 응답을 받지 못함: 실패로 확정하지 않고 결과 확인 중으로 남김
+    @Modifying
+    @Query("""
+        UPDATE Payment p SET p.status = com.onemorethink.domadosever.domain.payment.entity.PaymentStatus.UNKNOWN,
+            p.nextCaptureAt = :nextCaptureAt, p.failureReason = :reason, p.captureLockedUntil = NULL,
+            p.captureAttempts = :attempts
+        WHERE p.id = :id AND p.status = com.onemorethink.domadosever.domain.payment.entity.PaymentStatus.PROCESSING
+        """)
+    int markCaptureUnknown(@Param("id") Long id,
+                           @Param("attempts") int attempts,
+                           @Param("nextCaptureAt") LocalDateTime nextCaptureAt,
+                           @Param("reason") String reason);
+
+    // 결과 조회 실패: 결과 확인 중 상태로 다음 조회 시각만 미룸
+    @Modifying
+    @Query("""
+        UPDATE Payment p SET p.nextCaptureAt = :nextCaptureAt, p.failureReason = :reason,
+            p.captureAttempts = :attempts
+        WHERE p.id = :id AND p.status = com.onemorethink.domadosever.domain.payment.entity.PaymentStatus.UNKNOWN
+        """)
+    int markInquiryRetry(@Param("id") Long id,
+                         @Param("attempts") int attempts,
+                         @Param("nextCaptureAt") LocalDateTime nextCaptureAt,
+                         @Param("reason") String reason);
+
+    @Query("SELECT u.email FROM Payment p JOIN p.user u WHERE p.id = :id")
+    Optional<String> findUserEmailById(@Param("id") Long id);
 }
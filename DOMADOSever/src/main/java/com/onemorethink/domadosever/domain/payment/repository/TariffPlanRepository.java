@@ -0,0 +1,9 @@
+package com.onemorethink.domadosever.domain.payment.repository;
+
+import com.onemorethink.domadosever.domain.payment.entity.TariffPlan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TariffPlanRepository extends JpaRepository<TariffPlan, Long> {
+}
@@ -0,0 +1,27 @@
+package com.onemorethink.domadosever.domain.payment.service;
+
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// 반납 시 생성된 결제 대기 건을 폴링 주기를 기다리지 않고 바로 점유하도록 결제 워커를 깨움
+// (결제 대기 건 자체가 작업 대상이므로 이 이벤트가 유실되어도 다음 폴링에서 요청됨)
+@Component
+@RequiredArgsConstructor
+public class PaymentCaptureHandler implements OutboxEventHandler {
+    private final PaymentCaptureWorker paymentCaptureWorker;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return Set.of(OutboxEventType.PAYMENT_CAPTURE_REQUESTED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        paymentCaptureWorker.poll();
+    }
+}
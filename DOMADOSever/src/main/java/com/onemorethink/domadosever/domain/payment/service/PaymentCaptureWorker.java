@@ -0,0 +1,390 @@
+package com.onemorethink.domadosever.domain.payment.service;
+
+import com.onemorethink.domadosever.domain.payment.entity.Payment;
+import com.onemorethink.domadosever.domain.payment.entity.PaymentStatus;
+import com.onemorethink.domadosever.domain.payment.gateway.PaymentGateway;
+import com.onemorethink.domadosever.domain.payment.gateway.PaymentGatewayRequest;
+import com.onemorethink.domadosever.domain.payment.gateway.PaymentGatewayResponse;
+import com.onemorethink.domadosever.domain.payment.repository.PaymentRepository;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import com.onemorethink.domadosever.global.resilience.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 결제 대기(PENDING) 건 PG 결제 워커
+ * - 결제 대기 건을 짧은 트랜잭션으로 한 묶음씩 점유(PROCESSING + 점유 만료 시각)한 뒤 결제 전용 스레드 풀에서 PG사에 요청합니다.
+ *   점유하는 수는 처리 중인 결제 수 상한(max-in-flight)을 넘지 않으므로 PG 응답이 느려져도 요청이 쌓이지 않습니다.
+ * - PG 요청은 timeout-ms 안에 응답이 없으면 실패로 보고, 일시 장애는 지수 백오프(+지터) 후 재시도, 거절은 바로 FAILED로 남깁니다.
+ * - 마지막 시도까지 응답을 받지 못하면 PG사가 결제했을 수 있으므로 FAILED 대신 UNKNOWN으로 남기고,
+ *   merchantUid로 PG사에 결과를 조회해 승인이면 COMPLETED, 거절이나 결제 기록이 없으면 FAILED로 확정합니다.
+ * - PG 요청 전에 결제 수단의 일일 합계에 금액을 한도 안에서 선점하고, 초과하면 요청하지 않고 FAILED로 남깁니다.
+ *   동시에 처리 중인 결제도 선점한 금액으로 함께 한도를 넘지 않으며, 결제가 완료되지 않으면 결과를 기록하는 트랜잭션에서 해제합니다.
+ *   선점 내역(날짜, 금액)은 같은 트랜잭션에서 결제 건에도 기록하므로, 서버 중단이나 결과 기록 실패로 남은 선점은
+ *   점유가 만료된 결제를 다시 점유할 때 해제한 뒤 새로 선점합니다.
+ * - 연속 실패가 쌓이면 회로 차단기가 열려 open-seconds 동안 새 결제를 점유하지 않고, 이후 한 건으로 PG 상태를 확인합니다.
+ * - 결과는 요청 중(PROCESSING)인 경우에만 조건부 갱신으로 기록하고, PG 요청은 결제 건마다 고정된 merchantUid로 보내므로
+ *   응답을 받지 못해 재시도하거나 점유가 만료되어 다른 서버가 다시 요청해도 한 번만 결제·기록됩니다.
+ * - 반납 시 발행되는 PAYMENT_CAPTURE_REQUESTED 이벤트는 폴링 주기를 기다리지 않고 바로 점유하도록 깨우는 용도로 사용합니다.
+ */
+@Slf4j
+@Component
+public class PaymentCaptureWorker {
+    static final int MIN_CAPTURE_AMOUNT = 100;  // PG 결제 최소 금액 (미만이면 PG 요청 없이 완료)
+    private static final int MAX_REASON_LENGTH = 255;
+
+    private final PaymentRepository paymentRepository;
+    private final OutboxService outboxService;
+    private final PaymentGateway paymentGateway;
+    private final PaymentValidator paymentValidator;
+    private final PaymentSpendTracker paymentSpendTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore inFlight;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration timeout;
+    private final Duration lease;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    public PaymentCaptureWorker(PaymentRepository paymentRepository,
+                                OutboxService outboxService,
+                                PaymentGateway paymentGateway,
+                                PaymentValidator paymentValidator,
+                                PaymentSpendTracker paymentSpendTracker,
+                                TransactionTemplate transactionTemplate,
+                                @Qualifier("paymentCaptureExecutor") ThreadPoolTaskExecutor executor,
+                                @Value("${payment.capture.batch-size:20}") int batchSize,
+                                @Value("${payment.capture.max-in-flight:40}") int maxInFlight,
+                                @Value("${payment.capture.max-attempts:8}") int maxAttempts,
+                                @Value("${payment.capture.timeout-ms:3000}") long timeoutMs,
+                                @Value("${payment.capture.lease-seconds:30}") long leaseSeconds,
+                                @Value("${payment.capture.backoff.base-ms:2000}") long baseBackoffMs,
+                                @Value("${payment.capture.backoff.max-ms:600000}") long maxBackoffMs,
+                                @Value("${payment.capture.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                @Value("${payment.capture.circuit-breaker.open-seconds:30}") long openSeconds) {
+        this.paymentRepository = paymentRepository;
+        this.outboxService = outboxService;
+        this.paymentGateway = paymentGateway;
+        this.paymentValidator = paymentValidator;
+        this.paymentSpendTracker = paymentSpendTracker;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.circuitBreaker = new CircuitBreaker("payment-gateway", failureThreshold, Duration.ofSeconds(openSeconds));
+        this.inFlight = new Semaphore(maxInFlight);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.capture.poll-interval-ms:1000}")
+    public void poll() {
+        // 회로가 열려 있으면 점유하지 않고, 시험 호출이 가능하면 한 건만 점유
+        int limit = circuitBreaker.getState() == CircuitBreaker.State.CLOSED ? batchSize
+                : circuitBreaker.isCallPermitted() ? 1 : 0;
+        limit = Math.min(limit, inFlight.availablePermits());
+        if (limit <= 0 || !inFlight.tryAcquire(limit)) {
+            return;
+        }
+
+        List<CaptureTarget> claimed;
+        try {
+            claimed = claimBatch(limit);
+        } catch (Exception e) {
+            inFlight.release(limit);
+            log.error("Failed to claim pending payments", e);
+            return;
+        }
+        inFlight.release(limit - claimed.size());
+
+        for (CaptureTarget target : claimed) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        if (target.inquiry()) {
+                            resolve(target);
+                        } else {
+                            capture(target);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                // 점유 만료 후 다시 요청됨
+                inFlight.release();
+                log.warn("Payment capture rejected by executor. paymentId: {}", target.paymentId());
+            }
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    // 결제 대기 건을 먼저 점유하고, 남는 자리만큼 결과 확인 중인 건을 점유
+    private List<CaptureTarget> claimBatch(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<CaptureTarget> targets = new ArrayList<>();
+            for (Payment payment : paymentRepository.findCapturable(now, PageRequest.of(0, limit))) {
+                releaseStaleReservation(payment);
+                payment.claimCapture(now.plus(lease));
+                targets.add(CaptureTarget.from(payment, false));
+            }
+            if (targets.size() < limit) {
+                for (Payment payment : paymentRepository.findUnresolved(now, PageRequest.of(0, limit - targets.size()))) {
+                    releaseStaleReservation(payment);
+                    payment.claimInquiry(now.plus(lease));
+                    targets.add(CaptureTarget.from(payment, true));
+                }
+            }
+            return targets;
+        });
+    }
+
+    // 결과를 기록하지 못하고 중단된 이전 시도의 선점 해제 (점유 트랜잭션 안에서 결제 행을 잠근 상태로 호출)
+    private void releaseStaleReservation(Payment payment) {
+        if (!payment.hasSpendReservation()) {
+            return;
+        }
+        log.warn("Releasing stale spend reservation. paymentId: {}, reservedOn: {}, amount: {}",
+                payment.getId(), payment.getSpendReservedOn(), payment.getSpendReservedAmount());
+        paymentSpendTracker.release(payment.getPaymentMethod().getId(), payment.getSpendReservedOn(),
+                payment.getSpendReservedAmount());
+        payment.clearSpendReservation();
+    }
+
+    void capture(CaptureTarget target) {
+        int attempt = target.attempts() + 1;
+        if (target.amount() < MIN_CAPTURE_AMOUNT) {
+            recordCaptured(target, null, target.attempts(), null);
+            return;
+        }
+        // 한도는 PG 요청 전에 선점하고, 결제가 완료되지 않으면 결과를 기록하며 해제
+        LocalDate spendDate = LocalDate.now();
+        Boolean reserved;
+        try {
+            paymentValidator.validatePayment(target.paymentMethodId(), target.cardNumber(),
+                    BigDecimal.valueOf(target.amount()));
+            paymentSpendTracker.prepare(target.paymentMethodId(), spendDate);
+            reserved = transactionTemplate.execute(status -> reserveSpend(target, spendDate));
+        } catch (BusinessException e) {
+            // 한도 초과 등 PG사도 거절할 결제는 요청하지 않음
+            recordFailed(target, target.attempts(), e.getMessage(), null);
+            return;
+        } catch (Exception e) {
+            // 선점하지 않았으므로 점유 만료 후 다시 요청됨
+            log.error("Failed to reserve payment limit. paymentId: {}", target.paymentId(), e);
+            return;
+        }
+        if (!Boolean.TRUE.equals(reserved)) {
+            // 점유가 만료되어 다른 워커가 다시 점유하고 선점함: 그 워커가 요청
+            log.info("Payment {} reserved by another worker", target.paymentId());
+            return;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            // 점유 이후 회로가 열림: 시도 횟수를 늘리지 않고 회로가 닫힐 즈음 다시 요청
+            recordRetry(target, target.attempts(), circuitBreaker.remainingOpenDuration(), "Circuit breaker open",
+                    spendDate);
+            return;
+        }
+
+        PaymentGatewayResponse response;
+        try {
+            response = paymentGateway.capture(new PaymentGatewayRequest(
+                    target.merchantUid(), target.paymentMethodId(), target.amount()), timeout);
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            if (attempt >= maxAttempts) {
+                // 응답을 받지 못했을 뿐 PG사가 결제했을 수 있으므로 실패로 확정하지 않음 (승인 확인 시 다시 누적)
+                recordUnknown(target, attempt, e.getMessage(), spendDate);
+            } else {
+                recordRetry(target, attempt, backoff(attempt), e.getMessage(), spendDate);
+            }
+            return;
+        }
+
+        circuitBreaker.onSuccess();
+        if (response.isApproved()) {
+            recordCaptured(target, response.getTransactionId(), attempt, spendDate);
+        } else {
+            recordFailed(target, attempt, response.getDeclineReason(), spendDate);
+        }
+    }
+
+    // 결제 건에 선점 내역을 먼저 기록해 결제 행을 잠근 뒤 한도 선점 (한도 초과 예외 시 함께 롤백)
+    private boolean reserveSpend(CaptureTarget target, LocalDate spendDate) {
+        if (paymentRepository.markSpendReserved(target.paymentId(), spendDate, target.amount()) == 0) {
+            return false;
+        }
+        paymentValidator.reservePaymentLimit(target.paymentMethodId(), target.cardNumber(),
+                spendDate, target.amount());
+        return true;
+    }
+
+    // 결과 확인 중인 결제를 merchantUid로 조회해 확정 (조회 실패 시 백오프 후 다시 조회)
+    void resolve(CaptureTarget target) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            recordInquiryRetry(target, target.attempts(), circuitBreaker.remainingOpenDuration(), "Circuit breaker open");
+            return;
+        }
+
+        int attempt = target.attempts() + 1;
+        Optional<PaymentGatewayResponse> result;
+        try {
+            result = paymentGateway.inquire(target.merchantUid(), timeout);
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            recordInquiryRetry(target, attempt, backoff(attempt), e.getMessage());
+            return;
+        }
+
+        circuitBreaker.onSuccess();
+        if (result.isEmpty()) {
+            // PG사에 결제 기록이 없으면 결제되지 않은 것
+            recordFailed(target, attempt, "No payment found at gateway", null);
+        } else if (result.get().isApproved()) {
+            recordCaptured(target, result.get().getTransactionId(), attempt, null);
+        } else {
+            recordFailed(target, attempt, result.get().getDeclineReason(), null);
+        }
+    }
+
+    // reservedOn: 이번 시도에서 한도를 선점한 날짜 (선점하지 않았으면 null)
+    private void recordCaptured(CaptureTarget target, String transactionId, int attempts, LocalDate reservedOn) {
+        // PG 결제 금액만 결제 수단의 결제 합계에 포함, 선점이 남아 있지 않을 수 있으므로 일일 합계 행을 트랜잭션 밖에서 먼저 생성
+        LocalDate spendDate = LocalDate.now();
+        if (transactionId != null) {
+            paymentSpendTracker.prepare(target.paymentMethodId(), spendDate);
+        }
+        record(target, () -> {
+            // 선점이 남아 있으면 그대로 결제 합계가 되고, 다시 점유한 워커가 회수했으면 새로 누적
+            boolean held = reservedOn != null
+                    && paymentRepository.clearSpendReservation(target.paymentId(), reservedOn) == 1;
+            if (paymentRepository.markCaptured(target.paymentId(), target.expectedStatus(),
+                    transactionId, attempts) == 0) {
+                if (held) {
+                    paymentSpendTracker.release(target.paymentMethodId(), reservedOn, target.amount());
+                }
+                return false;
+            }
+            if (transactionId != null && !held) {
+                paymentSpendTracker.record(target.paymentMethodId(), spendDate, target.amount());
+            }
+            // 결제 완료 알림 (결제 상태와 함께 커밋)
+            outboxService.append(OutboxEventType.PAYMENT_COMPLETED, target.paymentId(), Map.of(
+                    "email", paymentRepository.findUserEmailById(target.paymentId()).orElse(""),
+                    "amount", target.amount()));
+            return true;
+        });
+    }
+
+    private void recordRetry(CaptureTarget target, int attempts, Duration delay, String reason, LocalDate reservedOn) {
+        log.warn("Payment capture deferred. paymentId: {}, attempt: {}/{}, retryIn: {}ms, reason: {}",
+                target.paymentId(), attempts, maxAttempts, delay.toMillis(), reason);
+        record(target, () -> {
+            release(target, reservedOn);
+            return paymentRepository.markCaptureRetry(target.paymentId(), attempts,
+                    LocalDateTime.now().plus(delay), truncate(reason)) == 1;
+        });
+    }
+
+    private void recordFailed(CaptureTarget target, int attempts, String reason, LocalDate reservedOn) {
+        log.error("Payment capture failed. paymentId: {}, attempts: {}, reason: {}",
+                target.paymentId(), attempts, reason);
+        record(target, () -> {
+            release(target, reservedOn);
+            return paymentRepository.markCaptureFailed(target.paymentId(), target.expectedStatus(),
+                    attempts, truncate(reason)) == 1;
+        });
+    }
+
+    private void recordUnknown(CaptureTarget target, int attempts, String reason, LocalDate reservedOn) {
+        log.error("Payment capture result unknown, inquiring gateway. paymentId: {}, attempts: {}, reason: {}",
+                target.paymentId(), attempts, reason);
+        record(target, () -> {
+            release(target, reservedOn);
+            return paymentRepository.markCaptureUnknown(target.paymentId(), attempts,
+                    LocalDateTime.now().plus(baseBackoff), truncate(reason)) == 1;
+        });
+    }
+
+    // 이번 시도의 선점 해제 (결과 기록 트랜잭션 안에서 호출, 다시 점유한 워커가 이미 회수했으면 해제하지 않음)
+    private void release(CaptureTarget target, LocalDate reservedOn) {
+        if (reservedOn != null && paymentRepository.clearSpendReservation(target.paymentId(), reservedOn) == 1) {
+            paymentSpendTracker.release(target.paymentMethodId(), reservedOn, target.amount());
+        }
+    }
+
+    private void recordInquiryRetry(CaptureTarget target, int attempts, Duration delay, String reason) {
+        log.warn("Payment inquiry deferred. paymentId: {}, attempt: {}, retryIn: {}ms, reason: {}",
+                target.paymentId(), attempts, delay.toMillis(), reason);
+        record(target, () -> paymentRepository.markInquiryRetry(target.paymentId(), attempts,
+                LocalDateTime.now().plus(delay), truncate(reason)) == 1);
+    }
+
+    private void record(CaptureTarget target, Supplier<Boolean> update) {
+        try {
+            Boolean updated = transactionTemplate.execute(status -> update.get());
+            if (!Boolean.TRUE.equals(updated)) {
+                log.info("Payment {} already recorded by another worker", target.paymentId());
+            }
+        } catch (Exception e) {
+            // 기록에 실패해도 점유 만료 후 같은 merchantUid로 다시 요청되어 PG사의 처음 결과로 기록됨
+            log.error("Failed to record payment capture result. paymentId: {}", target.paymentId(), e);
+        }
+    }
+
+    // base, 2 x base, 4 x base ... 최대 max-ms, 같은 시각에 몰리지 않도록 절반 구간에서 무작위 지연
+    private Duration backoff(int attempt) {
+        long multiplier = 1L << Math.min(attempt - 1, 20);
+        long delay = Math.min(baseBackoff.toMillis() * multiplier, maxBackoff.toMillis());
+        return Duration.ofMillis(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+
+    private static String truncate(String reason) {
+        return reason != null && reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+
+    // inquiry: 결과 확인 중(UNKNOWN)인 결제의 조회 대상
+    record CaptureTarget(Long paymentId, String merchantUid, Long paymentMethodId, String cardNumber,
+                         int amount, int attempts, boolean inquiry) {
+        static CaptureTarget from(Payment payment, boolean inquiry) {
+            return new CaptureTarget(payment.getId(), payment.getMerchantUid(), payment.getPaymentMethod().getId(),
+                    payment.getPaymentMethod().getCardNumber(), payment.getAmount(), payment.getCaptureAttempts(),
+                    inquiry);
+        }
+
+        // 결과 기록 시 조건부 갱신의 기준 상태
+        PaymentStatus expectedStatus() {
+            return inquiry ? PaymentStatus.UNKNOWN : PaymentStatus.PROCESSING;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.onemorethink.domadosever.domain.payment.service;
+
+import com.onemorethink.domadosever.global.apns.dto.ApnsNotificationRequest;
+import com.onemorethink.domadosever.global.apns.service.ApnsService;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxEventHandler;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+// PG 결제 완료 푸시 알림
+@Component
+@RequiredArgsConstructor
+public class PaymentCompletedNotificationHandler implements OutboxEventHandler {
+    private final ApnsService apnsService;
+    private final OutboxService outboxService;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return Set.of(OutboxEventType.PAYMENT_COMPLETED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Map<String, Object> payload = outboxService.readPayload(event);
+
+        ApnsNotificationRequest notification = ApnsNotificationRequest.builder()
+                .title("결제 완료")
+                .body(String.format("대여 요금 %s원이 결제되었습니다.", payload.get("amount")))
+                .data(Map.of(
+                        "type", "PAYMENT_COMPLETED",
+                        "paymentId", event.getAggregateId()
+                ))
+                .build();
+
+        apnsService.sendPushNotification((String) payload.get("email"), notification);
+    }
+}
@@ -5,6 +5,7 @@ import com.onemorethink.domadosever.domain.coupon.entity.CouponStatus;
 import com.onemorethink.domadosever.domain.coupon.repository.CouponRepository;
 import com.onemorethink.domadosever.domain.payment.entity.Payment;
 import com.onemorethink.domadosever.domain.payment.entity.PaymentStatus;
+import com.onemorethink.domadosever.domain.payment.fare.FareEngine;
 import com.onemorethink.domadosever.domain.payment.entity.paymentMethod.PaymentMethod;
 import com.onemorethink.domadosever.domain.payment.entity.paymentMethod.PaymentMethodStatus;
 import com.onemorethink.domadosever.domain.payment.repository.PaymentMethodRepository;
@@ -21,8 +22,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.UUID;
 
 
 @Service
@@ -33,14 +32,13 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final PaymentMethodRepository paymentMethodRepository;
     private final CouponRepository couponRepository;
+    private final FareEngine fareEngine;
 
-    private static final int UNLOCK_FEE = 100;  // 잠금해제 요금
-    private static final int DAY_RATE = 30;     // 주간 요금(분당)
-    private static final int NIGHT_RATE = 4;    // 야간 요금(분당)
-    private static final LocalTime DAY_START = LocalTime.of(9, 0);    // 주간 시작
-    private static final LocalTime DAY_END = LocalTime.of(18, 0);     // 주간 종료
-
-    public Payment processRentalPayment(Rental rental) {
+    /**
+     * 반납 트랜잭션 안에서 요금을 계산하고 결제 대기(PENDING) 건을 생성합니다.
+     * 쿠폰은 이 시점에 사용 처리하며, 실제 PG 결제는 {@link PaymentCaptureWorker}가 반납 이후 비동기로 수행합니다.
+     */
+    public Payment prepareRentalPayment(Rental rental) {
         // 1. 유효한 결제 수단 조회
         PaymentMethod paymentMethod = paymentMethodRepository
                 .findFirstByUserAndStatusOrderByIdDesc(rental.getUser(), PaymentMethodStatus.ACTIVE)
@@ -59,33 +57,15 @@ public class PaymentService {
         // 3. 이용 요금 계산
         PaymentCalculationResult calculationResult = calculateTotalAmountWithCoupon(rental, selectedCoupon);
 
-        // 4. 결제 요청 생성
-        Payment payment = createPayment(rental, paymentMethod, calculationResult);
-
-        try {
-            // 5. 실제 PG사 결제 요청 (할인 후 금액이 100원 이상인 경우에만)
-            if (calculationResult.getFinalAmount() >= UNLOCK_FEE) {
-                processExternalPayment(payment);
-            }
-
-            // 6. 결제 성공 처리
-            payment.setStatus(PaymentStatus.COMPLETED);
-            payment.setTransactionId(generateTransactionId());
-
-            // 7. 사용된 쿠폰 처리
-            if (selectedCoupon != null) {
-                applyCoupon(selectedCoupon, payment);
-            }
-
-        } catch (Exception e) {
-            // 8. 결제 실패 처리
-            payment.setStatus(PaymentStatus.FAILED);
-            payment.setFailureReason(e.getMessage());
-            log.error("Payment failed for rental {}: {}", rental.getId(), e.getMessage());
-            throw new BusinessException(ErrorCode.PAYMENT_PROCESSING_FAILED);
+        // 4. 결제 대기 건 생성
+        Payment payment = paymentRepository.save(createPayment(rental, paymentMethod, calculationResult));
+
+        // 5. 사용된 쿠폰 처리 (결제 재시도 중 다른 대여에 같은 쿠폰이 적용되지 않도록 먼저 사용 처리)
+        if (selectedCoupon != null) {
+            applyCoupon(selectedCoupon, payment);
         }
 
-        return paymentRepository.save(payment);
+        return payment;
     }
 
     private PaymentCalculationResult calculateTotalAmountWithCoupon(Rental rental, Coupon coupon) {
@@ -109,50 +89,32 @@ public class PaymentService {
     }
 
     private int calculateBaseAmount(Rental rental) {
-        // 1. 기본 잠금해제 요금
-        int totalAmount = UNLOCK_FEE;
-
-        // 2. 이용 시간에 따른 요금 계산
-        LocalDateTime startTime = rental.getStartTime();
+        // 잠금해제 요금 + 허브 요금제의 시간대별 이용 요금
         LocalDateTime endTime = rental.getEndTime() != null ?
                 rental.getEndTime() : LocalDateTime.now();
 
-        // 시간대별 요금 계산을 위해 1분 단위로 순회
-        LocalDateTime current = startTime;
-        while (current.isBefore(endTime)) {
-            LocalTime currentTime = current.toLocalTime();
-
-            // 주간/야간 요금 적용
-            if (isDayTime(currentTime)) {
-                totalAmount += DAY_RATE;
-            } else {
-                totalAmount += NIGHT_RATE;
-            }
-
-            current = current.plusMinutes(1);
-        }
-
-        return totalAmount;
+        int pauseMinutes = rental.getPauseMinutes() != null ? rental.getPauseMinutes() : 0;
+        return fareEngine.calculateBaseAmount(getHubId(rental), rental.getStartTime(), endTime, pauseMinutes);
     }
 
     private int calculateDiscountAmount(Rental rental, Coupon coupon) {
         // 쿠폰의 할인 시간(분)을 현재 시간대의 요금으로 계산
         int discountMinutes = Math.min(coupon.getDiscountMinutes(), rental.getUsageMinutes());
-        LocalTime currentTime = LocalTime.now();
-        int ratePerMinute = isDayTime(currentTime) ? DAY_RATE : NIGHT_RATE;
+        int ratePerMinute = fareEngine.ratePerMinute(getHubId(rental), LocalDateTime.now());
         return discountMinutes * ratePerMinute;
     }
 
+    // 요금제 기준 허브 (자전거 소속 허브)
+    private Long getHubId(Rental rental) {
+        return rental.getBike().getHomeHub().getId();
+    }
+
     private void applyCoupon(Coupon coupon, Payment payment) {
         coupon.setUsedAt(LocalDateTime.now());
         coupon.setUsedPayment(payment);
         coupon.setStatus(CouponStatus.USED);
     }
 
-    private boolean isDayTime(LocalTime time) {
-        return !time.isBefore(DAY_START) && time.isBefore(DAY_END);
-    }
-
     private Payment createPayment(Rental rental, PaymentMethod paymentMethod,
                                   PaymentCalculationResult calculationResult) {
         return Payment.builder()
@@ -164,6 +126,7 @@ public class PaymentService {
                 .discountAmount(calculationResult.getDiscountAmount())
                 .usedCoupon(calculationResult.getUsedCoupon())
                 .status(PaymentStatus.PENDING)
+                .nextCaptureAt(LocalDateTime.now())
                 .build();
     }
 
@@ -181,15 +144,4 @@ public class PaymentService {
                 rental.getEndTime() : LocalDateTime.now();
         return (int) Duration.between(rental.getStartTime(), endTime).toMinutes();
     }
-
-    private void processExternalPayment(Payment payment) {
-        // TODO: 실제 PG사 결제 연동 구현
-    }
-
-    private String generateTransactionId() {
-        // 거래 ID 생성 로직 (예: UUID + 타임스탬프)
-        return "TR" + UUID.randomUUID().toString().substring(0, 8) +
-                System.currentTimeMillis();
-    }
 }
-
@@ -0,0 +1,198 @@
+package com.onemorethink.domadosever.domain.payment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onemorethink.domadosever.domain.payment.entity.PaymentMethodDailySpend;
+import com.onemorethink.domadosever.domain.payment.entity.paymentMethod.PaymentMethod;
+import com.onemorethink.domadosever.domain.payment.event.PaymentSpendRecordedEvent;
+import com.onemorethink.domadosever.domain.payment.repository.PaymentMethodDailySpendRepository;
+import com.onemorethink.domadosever.domain.payment.repository.PaymentMethodRepository;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.PaymentException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 결제 수단별 결제 합계
+ * - PG 요청 전에 요청일의 일일 합계 행({@link PaymentMethodDailySpend})에 금액을 한도 조건부 UPDATE로 선점하고,
+ *   결제가 완료되지 않으면 결과를 기록하는 트랜잭션에서 해제합니다. 선점 내역은 결제 건에도 남겨
+ *   결과를 기록하지 못한 채 중단된 시도의 선점은 다음 점유 때 해제됩니다. ({@link PaymentCaptureWorker})
+ *   선점 트랜잭션은 오늘 행을 잠근 채 최근 합계를 확인하므로 같은 결제 수단의 선점은 순서대로 처리되어 함께 한도를 넘지 않습니다.
+ * - 일일 합계 행은 결제 트랜잭션 밖에서 먼저 만들어 두므로, 한 스레드가 커넥션을 두 개 잡지 않습니다.
+ * - 한도 사전 검사용 합계는 결제 수단마다 최근 WINDOW_DAYS일의 일일 합계를 메모리에 두고 읽으므로 결제 이력을 집계하지 않습니다.
+ *   처음 조회할 때만 최근 일일 합계 행을 읽고, 이후 이 서버의 선점·해제는 커밋 후 메모리 합계에도 반영합니다.
+ * - 다른 서버에서 완료된 결제는 항목이 ttl-seconds 후 만료되어 다시 읽을 때 반영됩니다.
+ */
+@Service
+public class PaymentSpendTracker {
+    static final int WINDOW_DAYS = 30;
+
+    private final PaymentMethodDailySpendRepository spendRepository;
+    private final PaymentMethodRepository paymentMethodRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate newTransaction;
+    private final Cache<Long, SpendWindow> windows;
+    // 이미 생성된 일일 합계 행 (결제 수단 ID + 날짜)
+    private final Cache<BucketKey, Boolean> buckets;
+
+    public PaymentSpendTracker(PaymentMethodDailySpendRepository spendRepository,
+                               PaymentMethodRepository paymentMethodRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${payment.limit.cache.maximum-size:50000}") long maximumSize,
+                               @Value("${payment.limit.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.spendRepository = spendRepository;
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.eventPublisher = eventPublisher;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofDays(1))
+                .build();
+    }
+
+    // 오늘 결제 합계
+    public long getDailyTotal(Long paymentMethodId) {
+        LocalDate today = LocalDate.now();
+        return window(paymentMethodId, today).total(today.toEpochDay(), 1);
+    }
+
+    // 오늘을 포함한 최근 WINDOW_DAYS일 결제 합계
+    public long getRollingTotal(Long paymentMethodId) {
+        LocalDate today = LocalDate.now();
+        return window(paymentMethodId, today).total(today.toEpochDay(), WINDOW_DAYS);
+    }
+
+    /**
+     * 결제 한도 선점 (PG 요청 전, {@link #prepare} 이후 선점 내역을 기록하는 트랜잭션 안에서 호출)
+     * 오늘 합계가 일일 한도를 넘으면 DAILY_PAYMENT_LIMIT_EXCEEDED, 최근 WINDOW_DAYS일 합계가 기간 한도를 넘으면
+     * MONTHLY_PAYMENT_LIMIT_EXCEEDED로 실패하며, 예외로 트랜잭션이 롤백되어 선점하지 않습니다.
+     */
+    public void reserve(Long paymentMethodId, LocalDate spendDate, long amount, long dailyLimit, long rollingLimit) {
+        if (spendRepository.addAmountWithinLimit(paymentMethodId, spendDate, amount, dailyLimit) != 1) {
+            throw new PaymentException(ErrorCode.DAILY_PAYMENT_LIMIT_EXCEEDED,
+                    String.format("일일 결제 한도 초과 (한도: %d원)", dailyLimit));
+        }
+        // 오늘 행을 잠근 상태이므로 같은 결제 수단의 다른 선점은 이 트랜잭션이 끝날 때까지 대기
+        long rollingTotal = spendRepository.sumSince(paymentMethodId, spendDate.minusDays(WINDOW_DAYS - 1));
+        if (rollingTotal > rollingLimit) {
+            throw new PaymentException(ErrorCode.MONTHLY_PAYMENT_LIMIT_EXCEEDED,
+                    String.format("월간 결제 한도 초과 (한도: %d원)", rollingLimit));
+        }
+        eventPublisher.publishEvent(new PaymentSpendRecordedEvent(paymentMethodId, spendDate, amount));
+    }
+
+    // 선점 해제 (결제 결과를 기록하는 트랜잭션 안에서 호출, 함께 커밋됨)
+    public void release(Long paymentMethodId, LocalDate spendDate, long amount) {
+        if (spendRepository.subtractAmount(paymentMethodId, spendDate, amount) != 1) {
+            throw new IllegalStateException(String.format(
+                    "Daily spend row missing. paymentMethodId: %d, date: %s", paymentMethodId, spendDate));
+        }
+        eventPublisher.publishEvent(new PaymentSpendRecordedEvent(paymentMethodId, spendDate, -amount));
+    }
+
+    /**
+     * 한도 검사 없이 결제 금액 누적 (PG사에서 이미 결제된 금액을 기록하는 트랜잭션 안에서 호출)
+     * 일일 합계 행은 트랜잭션 시작 전에 {@link #prepare}로 만들어 두어야 합니다.
+     */
+    public void record(Long paymentMethodId, LocalDate spendDate, long amount) {
+        if (spendRepository.addAmount(paymentMethodId, spendDate, amount) != 1) {
+            throw new IllegalStateException(String.format(
+                    "Daily spend row missing. paymentMethodId: %d, date: %s", paymentMethodId, spendDate));
+        }
+        eventPublisher.publishEvent(new PaymentSpendRecordedEvent(paymentMethodId, spendDate, amount));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSpendRecorded(PaymentSpendRecordedEvent event) {
+        // 메모리에 없는 결제 수단은 다음 조회 때 DB에서 읽음
+        SpendWindow window = windows.getIfPresent(event.getPaymentMethodId());
+        if (window != null) {
+            window.add(event.getSpendDate().toEpochDay(), event.getAmount());
+        }
+    }
+
+    private SpendWindow window(Long paymentMethodId, LocalDate today) {
+        return windows.get(paymentMethodId, id -> {
+            SpendWindow window = new SpendWindow();
+            for (PaymentMethodDailySpend spend : spendRepository.findSince(id, today.minusDays(WINDOW_DAYS - 1))) {
+                window.add(spend.getSpendDate().toEpochDay(), spend.getAmount());
+            }
+            return window;
+        });
+    }
+
+    // 일일 합계 행 생성 (트랜잭션 밖에서 호출, 이미 있으면 아무것도 하지 않음)
+    public void prepare(Long paymentMethodId, LocalDate spendDate) {
+        BucketKey key = new BucketKey(paymentMethodId, spendDate.toEpochDay());
+        if (buckets.getIfPresent(key) != null) {
+            return;
+        }
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!spendRepository.existsByPaymentMethodIdAndSpendDate(paymentMethodId, spendDate)) {
+                    PaymentMethod paymentMethod = paymentMethodRepository.getReferenceById(paymentMethodId);
+                    spendRepository.saveAndFlush(PaymentMethodDailySpend.empty(paymentMethod, spendDate));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 먼저 생성
+        }
+        buckets.put(key, Boolean.TRUE);
+    }
+
+    private record BucketKey(Long paymentMethodId, long epochDay) {
+    }
+
+    /**
+     * 결제 수단 하나의 최근 WINDOW_DAYS일 일일 합계
+     * 날짜(epochDay) % WINDOW_DAYS 칸에 저장하고, 칸의 날짜가 바뀌면 이전 합계를 버리므로 날짜가 지나도 정리 작업이 필요 없습니다.
+     */
+    static final class SpendWindow {
+        private final long[] days = new long[WINDOW_DAYS];
+        private final long[] amounts = new long[WINDOW_DAYS];
+
+        SpendWindow() {
+            Arrays.fill(days, Long.MIN_VALUE);
+        }
+
+        synchronized void add(long epochDay, long amount) {
+            int slot = Math.floorMod(epochDay, WINDOW_DAYS);
+            if (days[slot] > epochDay) {
+                return;
+            }
+            if (days[slot] < epochDay) {
+                days[slot] = epochDay;
+                amounts[slot] = 0;
+            }
+            amounts[slot] += amount;
+        }
+
+        // today를 포함한 최근 dayCount일 합계
+        synchronized long total(long today, int dayCount) {
+            long total = 0;
+            for (int slot = 0; slot < WINDOW_DAYS; slot++) {
+                if (days[slot] <= today && days[slot] > today - dayCount) {
+                    total += amounts[slot];
+                }
+            }
+            return total;
+        }
+    }
+}
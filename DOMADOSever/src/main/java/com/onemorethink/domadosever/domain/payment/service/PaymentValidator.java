@@ -26,10 +26,12 @@ import java.util.List;
 public class PaymentValidator {
     private static final int MAX_PAYMENT_METHODS = 5;
     private final BinLoader binLoader;
+    private final PaymentSpendTracker paymentSpendTracker;
 
     @Autowired
-    public PaymentValidator(BinLoader binLoader) {
+    public PaymentValidator(BinLoader binLoader, PaymentSpendTracker paymentSpendTracker) {
         this.binLoader = binLoader;
+        this.paymentSpendTracker = paymentSpendTracker;
         log.info("PaymentValidator initialized with BinLoader");
     }
 
@@ -123,8 +125,9 @@ public class PaymentValidator {
 
     /**
      * 결제 전 카드 유효성 검증
+     * 한도는 결제 수단별 결제 합계({@link PaymentSpendTracker})로 검사합니다.
      */
-    public void validatePayment(String cardNumber, BigDecimal amount) {
+    public void validatePayment(Long paymentMethodId, String cardNumber, BigDecimal amount) {
         // BIN 정보 조회 및 검증
         String bin = CardUtils.extractBin(cardNumber);
         BinInfo binInfo = binLoader.getBinInfo(bin);
@@ -137,7 +140,22 @@ public class PaymentValidator {
         validateAmount(amount);
 
         // 한도 검증
-        validatePaymentLimit(binInfo, amount);
+        validatePaymentLimit(paymentMethodId, binInfo, amount);
+    }
+
+    /**
+     * 결제 한도 선점 (PG 요청 전, {@link PaymentSpendTracker#prepare} 이후 트랜잭션 안에서 호출)
+     * {@link #validatePayment}의 한도 검사는 메모리 합계로 미리 거르는 것이고, 동시에 요청된 결제가 함께 한도를 넘지 않는지는
+     * 여기서 DB 조건부 UPDATE로 확정합니다. 결제가 완료되지 않으면 {@link PaymentSpendTracker#release}로 해제해야 합니다.
+     */
+    public void reservePaymentLimit(Long paymentMethodId, String cardNumber, LocalDate spendDate, long amount) {
+        BinInfo binInfo = binLoader.getBinInfo(CardUtils.extractBin(cardNumber));
+        if (binInfo == null) {
+            throw new PaymentValidationException(
+                    ErrorCode.INVALID_CARD_BIN, cardNumber);
+        }
+        paymentSpendTracker.reserve(paymentMethodId, spendDate, amount,
+                getDailyLimit(binInfo).longValueExact(), getMonthlyLimit(binInfo).longValueExact());
     }
 
     private boolean validateLuhnAlgorithm(String cardNumber) {
@@ -198,9 +216,9 @@ public class PaymentValidator {
         }
     }
 
-    private void validatePaymentLimit(BinInfo binInfo, BigDecimal amount) {
+    private void validatePaymentLimit(Long paymentMethodId, BinInfo binInfo, BigDecimal amount) {
         // 일일 한도 검증
-        BigDecimal dailyTotal = getDailyPaymentTotal(binInfo);
+        BigDecimal dailyTotal = getDailyPaymentTotal(paymentMethodId);
         BigDecimal dailyLimit = getDailyLimit(binInfo);
         if (dailyTotal.add(amount).compareTo(dailyLimit) > 0) {
             throw new PaymentException(
@@ -208,8 +226,8 @@ public class PaymentValidator {
                     String.format("일일 결제 한도 초과 (한도: %s원)", dailyLimit));
         }
 
-        // 월간 한도 검증
-        BigDecimal monthlyTotal = getMonthlyPaymentTotal(binInfo);
+        // 월간 한도 검증 (최근 30일)
+        BigDecimal monthlyTotal = getMonthlyPaymentTotal(paymentMethodId);
         BigDecimal monthlyLimit = getMonthlyLimit(binInfo);
         if (monthlyTotal.add(amount).compareTo(monthlyLimit) > 0) {
             throw new PaymentException(
@@ -232,13 +250,12 @@ public class PaymentValidator {
         return getDailyLimit(binInfo).multiply(new BigDecimal("30"));
     }
 
-    // TODO: 실제 구현에서는 결제 이력을 조회하여 계산
-    private BigDecimal getDailyPaymentTotal(BinInfo binInfo) {
-        return BigDecimal.ZERO;
+    private BigDecimal getDailyPaymentTotal(Long paymentMethodId) {
+        return BigDecimal.valueOf(paymentSpendTracker.getDailyTotal(paymentMethodId));
     }
 
-    private BigDecimal getMonthlyPaymentTotal(BinInfo binInfo) {
-        return BigDecimal.ZERO;
+    private BigDecimal getMonthlyPaymentTotal(Long paymentMethodId) {
+        return BigDecimal.valueOf(paymentSpendTracker.getRollingTotal(paymentMethodId));
     }
 
     private boolean validateCardHolderName(String name) {
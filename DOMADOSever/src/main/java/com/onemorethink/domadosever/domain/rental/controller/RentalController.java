@@ -1,11 +1,15 @@
 package com.onemorethink.domadosever.domain.rental.controller;
 
 import com.onemorethink.domadosever.domain.rental.dto.*;
+import com.onemorethink.domadosever.domain.rental.service.RentalQuoteService;
 import com.onemorethink.domadosever.domain.rental.service.RentalService;
 import com.onemorethink.domadosever.global.common.BaseResponse;
 import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.idempotency.Idempotent;
+import com.onemorethink.domadosever.global.idempotency.IdempotencyInterceptor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Rental API", description = "자전거 대여 API")
 public class RentalController {
     private final RentalService rentalService;
+    private final RentalQuoteService rentalQuoteService;
 
     @Operation(
             summary = "자전거 대여 요청",
@@ -71,6 +76,9 @@ public class RentalController {
                     content = @Content(schema = @Schema(implementation = BaseResponse.class))
             )
     })
+    @Idempotent
+    @Parameter(name = IdempotencyInterceptor.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 같은 값을 보내면 처음 성공한 응답을 다시 돌려줍니다 (선택)")
     @PostMapping("/rent")
     public BaseResponse<RentalResponse> rentBike(
             @AuthenticationPrincipal UserDetails userDetails,
@@ -133,6 +141,9 @@ public class RentalController {
             )
     })
     @Parameter(name = "rentalId", description = "Rental ID", required = true)
+    @Idempotent
+    @Parameter(name = IdempotencyInterceptor.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 같은 값을 보내면 처음 성공한 응답을 다시 돌려줍니다 (선택)")
     @PostMapping("/{rentalId}/pause")
     public BaseResponse<RentalPauseResponse> pauseBike(
             @AuthenticationPrincipal UserDetails userDetails,
@@ -189,6 +200,9 @@ public class RentalController {
             )
     })
     @Parameter(name = "rentalId", description = "Rental ID", required = true)
+    @Idempotent
+    @Parameter(name = IdempotencyInterceptor.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 같은 값을 보내면 처음 성공한 응답을 다시 돌려줍니다 (선택)")
     @PostMapping("/{rentalId}/resume")
     public BaseResponse<RentalResumeResponse> resumeBike(
             @AuthenticationPrincipal UserDetails userDetails,
@@ -208,7 +222,7 @@ public class RentalController {
             summary = "자전거 반납",
             description = """
                     Dock에 자전거가 정차된 것이 확인된 후, 사용자가 반납 버튼을 클릭할 때 호출됩니다.
-                    반납 처리가 완료되면 결제가 진행되며, HiBike 이용 후 반납인 경우 스탬프가 발급됩니다.
+                    반납 처리가 완료되면 결제 대기 건이 생성되고, 결제와 HiBike 이용 스탬프 발급은 반납 이후 비동기로 진행됩니다.
                     """,
             responses = {
                     @ApiResponse(
@@ -241,6 +255,9 @@ public class RentalController {
             }
     )
     @Parameter(name = "rentalId", description = "Rental ID", required = true)
+    @Idempotent
+    @Parameter(name = IdempotencyInterceptor.HEADER, in = ParameterIn.HEADER,
+            description = "재시도 시 같은 값을 보내면 처음 성공한 응답을 다시 돌려줍니다 (선택)")
     @PostMapping("/{rentalId}/return")
     public BaseResponse<RentalReturnResponse> returnBike(
             @AuthenticationPrincipal UserDetails userDetails,
@@ -257,5 +274,39 @@ public class RentalController {
             return BaseResponse.failure(e.getErrorCode());
         }
     }
-}
 
+    @Operation(
+            summary = "대여 예상 요금 조회",
+            description = """
+                    진행 중인 대여의 현재까지 예상 요금을 조회합니다.
+                    - 반납 시 결제와 같은 요금 계산 방식(허브 요금제, 시간대별 요금)을 사용합니다.
+                    - 쿠폰 할인은 반납 시 적용되므로 예상 요금에 포함되지 않습니다.
+                    - 종료된 대여는 종료 시각 기준으로 계산합니다.
+                    """,
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "조회 성공",
+                            content = @Content(schema = @Schema(implementation = RentalQuoteResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "대여 정보를 찾을 수 없음 (RENTAL_NOT_FOUND)",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "대여 소유자가 아님 (RENTAL_NOT_OWNED)",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+                    )
+            }
+    )
+    @Parameter(name = "rentalId", description = "Rental ID", required = true)
+    @GetMapping("/{rentalId}/quote")
+    public BaseResponse<RentalQuoteResponse> getQuote(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable("rentalId") Long rentalId
+    ) {
+        return BaseResponse.success(rentalQuoteService.getQuote(userDetails.getUsername(), rentalId));
+    }
+}
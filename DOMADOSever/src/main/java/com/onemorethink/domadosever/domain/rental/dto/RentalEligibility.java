@@ -0,0 +1,16 @@
+package com.onemorethink.domadosever.domain.rental.dto;
+
+import com.onemorethink.domadosever.domain.user.entity.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 대여 시작 가능 여부 판단에 필요한 사용자 정보를 한 번에 담는 읽기 모델
+// JPQL 생성자 프로젝션으로 사용되므로 필드 순서 변경 시 RentalRepository 쿼리도 함께 수정
+@Getter
+@AllArgsConstructor
+public class RentalEligibility {
+    private final Long userId;
+    private final UserStatus userStatus;
+    private final boolean hasActivePaymentMethod;
+    private final boolean hasActiveRental;  // User.currentRental 지정 여부 (미지정 시 진행 중인 대여 이력)
+}
@@ -0,0 +1,34 @@
+package com.onemorethink.domadosever.domain.rental.dto;
+
+import com.onemorethink.domadosever.domain.rental.entity.RentalStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "대여 예상 요금 응답")
+@Getter
+@Builder
+public class RentalQuoteResponse {
+    @Schema(description = "대여 ID", example = "12345")
+    private Long rentalId;
+
+    @Schema(description = "대여 상태", example = "IN_PROGRESS")
+    private RentalStatus rentalStatus;
+
+    @Schema(description = "대여 시작 시간", example = "2024-03-13T14:00:00")
+    private LocalDateTime startTime;
+
+    @Schema(description = "요금 계산 기준 시간 (진행 중이면 조회 시각, 종료되었으면 종료 시각)", example = "2024-03-13T14:30:00")
+    private LocalDateTime quotedAt;
+
+    @Schema(description = "이용 시간(분)", example = "30")
+    private Integer usageMinutes;
+
+    @Schema(description = "누적 일시정지 시간(분, 진행 중인 일시정지 포함)", example = "5")
+    private Integer pauseMinutes;
+
+    @Schema(description = "예상 요금 (잠금해제 요금 포함, 쿠폰 할인 전)", example = "1000")
+    private Integer estimatedAmount;
+}
@@ -0,0 +1,22 @@
+package com.onemorethink.domadosever.domain.rental.dto;
+
+import com.onemorethink.domadosever.domain.rental.entity.RentalStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 예상 요금 계산에 필요한 대여 정보 (캐시에 보관하는 읽기 모델)
+// JPQL 생성자 프로젝션으로 사용되므로 필드 순서 변경 시 RentalRepository 쿼리도 함께 수정
+@Getter
+@AllArgsConstructor
+public class RentalQuoteSnapshot {
+    private final Long rentalId;
+    private final String userEmail;
+    private final Long hubId;               // 자전거 소속 허브 (요금제 기준)
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final Integer pauseMinutes;
+    private final LocalDateTime lastPauseStartTime;
+    private final RentalStatus status;
+}
@@ -2,6 +2,7 @@ package com.onemorethink.domadosever.domain.rental.dto;
 
 import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
 import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
+import com.onemorethink.domadosever.domain.payment.entity.PaymentStatus;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -16,9 +17,10 @@ public class RentalReturnResponse {
     private Integer usageMinutes;
     private Integer pauseMinutes;
     private Integer paymentAmount;
+    private PaymentStatus paymentStatus;  // 반납 직후에는 PENDING, 결제는 비동기로 진행
     private BikeStatus bikeStatus;
     private HiBikeStatus hiBikeStatus;
     private Long stationId;
-    private StampIssuanceInfo stampInfo;
+    private boolean stampPending;  // HiBike 이용 스탬프 발급 예정 여부 (발급 결과는 푸시 알림으로 안내)
     private String message;
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.onemorethink.domadosever.domain.rental.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 장기 대여 정리 대상 (대여 테이블 컬럼만 사용하므로 사용자/자전거 조인 없음)
+// JPQL 생성자 프로젝션으로 사용되므로 필드 순서 변경 시 RentalRepository 쿼리도 함께 수정
+@Getter
+@AllArgsConstructor
+public class RentalSweepTarget {
+    private final Long rentalId;
+    private final Long bikeId;
+}
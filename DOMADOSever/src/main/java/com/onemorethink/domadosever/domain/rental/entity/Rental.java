@@ -7,12 +7,18 @@ import com.onemorethink.domadosever.global.common.BaseEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "rentals")
+@Table(name = "rentals", indexes = {
+        @Index(name = "idx_rental_bike_status", columnList = "bike_id, status"),
+        @Index(name = "idx_rental_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_rental_status_start_time", columnList = "status, start_time"),
+        @Index(name = "idx_rental_status_pause_start", columnList = "status, last_pause_start_time")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -52,4 +58,9 @@ public class Rental extends BaseEntity {
     @Column(nullable = false)
     private boolean couponApplied = false;  // 쿠폰 적용 여부
 
+    // 동시 반납/HiBike 인계 충돌 감지용 (낙관적 락)
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
 }
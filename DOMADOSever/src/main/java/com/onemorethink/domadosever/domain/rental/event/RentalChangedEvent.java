@@ -0,0 +1,24 @@
+package com.onemorethink.domadosever.domain.rental.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+// 대여 상태(대여/일시잠금/반납/연체/강제 종료 등)가 변경되었음을 알리는 이벤트
+@Getter
+public class RentalChangedEvent {
+    private final List<Long> rentalIds;
+
+    private RentalChangedEvent(List<Long> rentalIds) {
+        this.rentalIds = rentalIds;
+    }
+
+    public static RentalChangedEvent of(Long rentalId) {
+        return new RentalChangedEvent(List.of(rentalId));
+    }
+
+    public static RentalChangedEvent of(Collection<Long> rentalIds) {
+        return new RentalChangedEvent(List.copyOf(rentalIds));
+    }
+}
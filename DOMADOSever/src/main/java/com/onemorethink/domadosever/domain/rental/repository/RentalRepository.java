@@ -4,15 +4,126 @@ import com.onemorethink.domadosever.domain.bike.entity.Bike;
 import com.onemorethink.domadosever.domain.rental.entity.Rental;
 import com.onemorethink.domadosever.domain.rental.entity.RentalStatus;
 import com.onemorethink.domadosever.domain.user.entity.User;
+import com.onemorethink.domadosever.domain.rental.dto.RentalEligibility;
+import com.onemorethink.domadosever.domain.rental.dto.RentalQuoteSnapshot;
+import com.onemorethink.domadosever.domain.rental.dto.RentalSweepTarget;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RentalRepository extends JpaRepository<Rental, Integer> {
+    // Hibernate LockOptions.SKIP_LOCKED (지원하지 않는 DB에서는 일반 FOR UPDATE로 동작)
+    String SKIP_LOCKED = "-2";
 
     // COMPLETED가 아닌 모든 상태 체크
     boolean existsByUserAndStatusNot(User user, RentalStatus status);
-    Optional<Rental> findByBikeAndStatus(Bike bike, RentalStatus status);
+    Optional<Rental> findFirstByBikeAndStatusIn(Bike bike, Collection<RentalStatus> statuses);
+
+    // 상태 전이: 읽은 상태 그대로일 때만 변경 (0이면 다른 요청이 먼저 변경)
+    @Modifying
+    @Query("UPDATE Rental r SET r.status = :target WHERE r.id = :rentalId AND r.status = :expected")
+    int updateStatusIfMatches(@Param("rentalId") Long rentalId,
+                              @Param("expected") RentalStatus expected,
+                              @Param("target") RentalStatus target);
+
+    /**
+     * 장기 대여 정리 대상: 해당 상태로 threshold 이전에 시작된 대여 (idx_rental_status_start_time)
+     * FOR UPDATE SKIP LOCKED로 조회하므로 반납 등 다른 트랜잭션이 잡고 있는 대여는 이번 정리에서 건너뜁니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+        SELECT new com.onemorethink.domadosever.domain.rental.dto.RentalSweepTarget(r.id, r.bike.id)
+        FROM Rental r
+        WHERE r.status = :status AND r.startTime < :threshold
+        ORDER BY r.startTime
+        """)
+    List<RentalSweepTarget> findSweepTargetsStartedBefore(@Param("status") RentalStatus status,
+                                                          @Param("threshold") LocalDateTime threshold,
+                                                          Pageable pageable);
+
+    /**
+     * 장기 대여 정리 대상: 해당 상태로 threshold 이전부터 일시 잠금된 대여 (idx_rental_status_pause_start)
+     * HiBike로 등록되어 인계를 기다리는 자전거는 다른 사용자가 대여하면 이전 대여가 종료되므로 제외합니다.
+     * (자전거 조건은 하위 쿼리이므로 자전거 행은 잠그지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+        SELECT new com.onemorethink.domadosever.domain.rental.dto.RentalSweepTarget(r.id, r.bike.id)
+        FROM Rental r
+        WHERE r.status = :status AND r.lastPauseStartTime < :threshold
+        AND NOT EXISTS (
+            SELECT 1 FROM Bike b
+            WHERE b.id = r.bike.id
+            AND b.hiBikeStatus = com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus.AVAILABLE_FOR_RENT
+        )
+        ORDER BY r.lastPauseStartTime
+        """)
+    List<RentalSweepTarget> findSweepTargetsPausedBefore(@Param("status") RentalStatus status,
+                                                         @Param("threshold") LocalDateTime threshold,
+                                                         Pageable pageable);
+
+    // 정리 대상 일괄 상태 변경 (조회 시 잡은 행 잠금으로 조회한 상태 그대로 변경됨)
+    // 변경 전에 대여를 읽어 둔 요청이 덮어쓰지 않도록 버전도 올림
+    @Modifying
+    @Query("""
+        UPDATE Rental r SET r.status = :target, r.version = r.version + 1
+        WHERE r.id IN :rentalIds AND r.status = :expected
+        """)
+    int updateStatusIn(@Param("rentalIds") Collection<Long> rentalIds,
+                       @Param("expected") RentalStatus expected,
+                       @Param("target") RentalStatus target);
+
+    @Query("SELECT r FROM Rental r JOIN FETCH r.user WHERE r.id = :id")
+    Optional<Rental> findWithUserById(@Param("id") Long id);
+
+    // 대여 시작 검증용: 사용자 상태 + 활성 결제수단 여부 + 진행 중인 대여 여부를 한 번의 조회로 확인
+    // 진행 중인 대여는 User.currentRental 포인터로 판단하고, 포인터가 비어 있을 때만 대여 이력을 확인
+    // (포인터 도입 이전에 시작된 대여는 포인터가 비어 있음. idx_rental_user_status)
+    @Query("""
+        SELECT new com.onemorethink.domadosever.domain.rental.dto.RentalEligibility(
+            u.id,
+            u.status,
+            CASE WHEN EXISTS (
+                SELECT 1 FROM PaymentMethod pm
+                WHERE pm.user = u AND pm.status = com.onemorethink.domadosever.domain.payment.entity.paymentMethod.PaymentMethodStatus.ACTIVE
+            ) THEN true ELSE false END,
+            CASE WHEN u.currentRental IS NOT NULL THEN true
+                 WHEN EXISTS (
+                     SELECT 1 FROM Rental r
+                     WHERE r.user = u AND r.status IN (
+                         com.onemorethink.domadosever.domain.rental.entity.RentalStatus.IN_PROGRESS,
+                         com.onemorethink.domadosever.domain.rental.entity.RentalStatus.PAUSED,
+                         com.onemorethink.domadosever.domain.rental.entity.RentalStatus.OVERDUE)
+                 ) THEN true
+                 ELSE false END)
+        FROM User u
+        WHERE u.email = :email
+        """)
+    Optional<RentalEligibility> findRentalEligibility(@Param("email") String email);
+
+    // 예상 요금 조회용: 엔티티를 적재하지 않고 요금 계산에 필요한 값만 조회 (허브는 자전거의 FK 컬럼으로 조회)
+    @Query("""
+        SELECT new com.onemorethink.domadosever.domain.rental.dto.RentalQuoteSnapshot(
+            r.id, u.email, b.homeHub.id, r.startTime, r.endTime, r.pauseMinutes, r.lastPauseStartTime, r.status)
+        FROM Rental r
+        JOIN r.user u
+        JOIN r.bike b
+        WHERE r.id = :id
+        """)
+    Optional<RentalQuoteSnapshot> findQuoteSnapshotById(@Param("id") Long id);
 }
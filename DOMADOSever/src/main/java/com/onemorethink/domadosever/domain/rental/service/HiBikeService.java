@@ -1,21 +1,26 @@
 package com.onemorethink.domadosever.domain.rental.service;
 
 import com.onemorethink.domadosever.domain.bike.entity.Bike;
-import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
-import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
+import com.onemorethink.domadosever.domain.bike.event.BikeStateChangedEvent;
 import com.onemorethink.domadosever.domain.bike.repository.BikeRepository;
 import com.onemorethink.domadosever.domain.rental.dto.HiBikeRequest;
 import com.onemorethink.domadosever.domain.rental.dto.HiBikeResponse;
 import com.onemorethink.domadosever.domain.rental.entity.Rental;
-import com.onemorethink.domadosever.domain.rental.entity.RentalStatus;
 import com.onemorethink.domadosever.domain.rental.repository.RentalRepository;
+import com.onemorethink.domadosever.domain.rental.state.RentalAction;
+import com.onemorethink.domadosever.domain.rental.state.RentalStateMachine;
 import com.onemorethink.domadosever.global.error.ErrorCode;
 import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -23,6 +28,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class HiBikeService {
     private final RentalRepository rentalRepository;
     private final BikeRepository bikeRepository;
+    private final OutboxService outboxService;
+    private final RentalStateMachine rentalStateMachine;
+    private final ApplicationEventPublisher eventPublisher;
 
     public HiBikeResponse makeHiBike(String userEmail, Integer rentalId, HiBikeRequest request) {
         // 1. 대여 정보 조회 및 검증
@@ -32,13 +40,20 @@ public class HiBikeService {
         // 2. 사용자 검증
         validateRentalOwnership(rental, userEmail);
 
-        // 3. HiBike 생성 가능 상태 검증
-        validateHiBikeAvailable(rental);
+        // 3. HiBike 등록 상태 전이
+        rentalStateMachine.transition(RentalAction.REGISTER_HIBIKE, rental);
 
-        // 4. 자전거 상태 업데이트
+        // 4. 자전거 위치 업데이트
         Bike bike = rental.getBike();
-        updateBikeForHiBike(bike, request.getLatitude(), request.getLongitude());
-        bikeRepository.save(bike);
+        updateBikeLocation(bike, request.getLatitude(), request.getLongitude());
+        saveBike(bike);
+
+        // 5. HiBike 등록 알림 (커밋 이후 처리)
+        outboxService.append(OutboxEventType.HIBIKE_REGISTERED, rental.getId(), Map.of(
+                "email", userEmail,
+                "bikeId", bike.getId(),
+                "latitude", request.getLatitude(),
+                "longitude", request.getLongitude()));
 
         return HiBikeResponse.builder()
                 .rentalId(rental.getId())
@@ -57,13 +72,17 @@ public class HiBikeService {
         // 2. 사용자 검증
         validateRentalOwnership(rental, userEmail);
 
-        // 3. HiBike 취소 가능 상태 검증
-        validateHiBikeCancellable(rental);
+        // 3. HiBike 취소 상태 전이
+        rentalStateMachine.transition(RentalAction.CANCEL_HIBIKE, rental);
 
-        // 4. 자전거 상태 업데이트
+        // 4. 위치 인덱스 반영
         Bike bike = rental.getBike();
-        updateBikeForHiBikeCancel(bike);
-        bikeRepository.save(bike);
+        saveBike(bike);
+
+        // 5. HiBike 취소 알림 (커밋 이후 처리)
+        outboxService.append(OutboxEventType.HIBIKE_CANCELLED, rental.getId(), Map.of(
+                "email", userEmail,
+                "bikeId", bike.getId()));
 
         return HiBikeResponse.builder()
                 .rentalId(rental.getId())
@@ -80,42 +99,14 @@ public class HiBikeService {
         }
     }
 
-    private void validateHiBikeAvailable(Rental rental) {
-        if (rental.getStatus() != RentalStatus.IN_PROGRESS) {
-            throw new BusinessException(ErrorCode.RENTAL_NOT_IN_PROGRESS);
-        }
-
-        Bike bike = rental.getBike();
-        if (bike.getStatus() != BikeStatus.TEMPORARY_LOCKED) {
-            throw new BusinessException(ErrorCode.BIKE_NOT_LOCKED,
-                    "HiBike로 전환하기 위해서는 자전거가 일시잠금 상태여야 합니다.");
-        }
-
-        if (bike.getHiBikeStatus() != HiBikeStatus.NONE) {
-            throw new BusinessException(ErrorCode.ALREADY_HIBIKE,
-                    "이미 HiBike 상태입니다.");
-        }
-    }
-
-    private void validateHiBikeCancellable(Rental rental) {
-        if (rental.getStatus() != RentalStatus.IN_PROGRESS) {
-            throw new BusinessException(ErrorCode.RENTAL_NOT_IN_PROGRESS);
-        }
-
-        Bike bike = rental.getBike();
-        if (bike.getHiBikeStatus() != HiBikeStatus.AVAILABLE_FOR_RENT) {
-            throw new BusinessException(ErrorCode.NOT_HIBIKE,
-                    "HiBike 상태가 아닙니다.");
-        }
+    // 자전거 저장 후 상태 변경 이벤트 발행 (커밋 이후 위치 인덱스에 반영)
+    private void saveBike(Bike bike) {
+        bikeRepository.save(bike);
+        eventPublisher.publishEvent(BikeStateChangedEvent.of(bike));
     }
 
-    private void updateBikeForHiBike(Bike bike, Double latitude, Double longitude) {
+    private void updateBikeLocation(Bike bike, Double latitude, Double longitude) {
         bike.setCurrentLatitude(latitude);
         bike.setCurrentLongitude(longitude);
-        bike.setHiBikeStatus(HiBikeStatus.AVAILABLE_FOR_RENT);
-    }
-
-    private void updateBikeForHiBikeCancel(Bike bike) {
-        bike.setHiBikeStatus(HiBikeStatus.NONE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.onemorethink.domadosever.domain.rental.service;
+
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// 장기 대여 정리 작업이 강제 종료한 대여의 종료 시각·자전거 회수·요금 결제 처리
+@Component
+@RequiredArgsConstructor
+public class RentalForcedEndHandler implements OutboxEventHandler {
+    private final RentalService rentalService;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return Set.of(OutboxEventType.RENTAL_FORCIBLY_ENDED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        rentalService.completeForcedEnd(event.getAggregateId());
+    }
+}
@@ -0,0 +1,78 @@
+package com.onemorethink.domadosever.domain.rental.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onemorethink.domadosever.domain.payment.fare.FareEngine;
+import com.onemorethink.domadosever.domain.rental.dto.RentalQuoteResponse;
+import com.onemorethink.domadosever.domain.rental.dto.RentalQuoteSnapshot;
+import com.onemorethink.domadosever.domain.rental.event.RentalChangedEvent;
+import com.onemorethink.domadosever.domain.rental.repository.RentalRepository;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 대여 예상 요금 조회
+ * - 대여 정보는 {@link RentalQuoteSnapshot}으로 캐시해 두고, 요청마다 현재 시각 기준으로 요금만 다시 계산합니다.
+ *   (결제 시와 같은 {@link FareEngine} 사용, 조회 경로에 쓰기 트랜잭션 없음)
+ * - 대여 상태가 바뀐 트랜잭션이 커밋되면 {@link RentalChangedEvent}로 해당 대여의 캐시를 비웁니다.
+ *   같은 대여의 적재는 캐시 안에서 한 번만 수행되며, 적재 중 들어온 무효화는 적재가 끝난 뒤 반영됩니다.
+ * - 이벤트를 받지 못하는 경우(다른 서버에서 변경 등)를 대비해 항목은 ttl-seconds 후 만료됩니다.
+ */
+@Service
+public class RentalQuoteService {
+    private final RentalRepository rentalRepository;
+    private final FareEngine fareEngine;
+    private final Cache<Long, RentalQuoteSnapshot> cache;
+
+    public RentalQuoteService(RentalRepository rentalRepository,
+                              FareEngine fareEngine,
+                              @Value("${rental.quote.cache.maximum-size:50000}") long maximumSize,
+                              @Value("${rental.quote.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.rentalRepository = rentalRepository;
+        this.fareEngine = fareEngine;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public RentalQuoteResponse getQuote(String userEmail, Long rentalId) {
+        RentalQuoteSnapshot rental = cache.get(rentalId, id -> rentalRepository.findQuoteSnapshotById(id).orElse(null));
+        if (rental == null) {
+            throw new BusinessException(ErrorCode.RENTAL_NOT_FOUND);
+        }
+        if (!rental.getUserEmail().equals(userEmail)) {
+            throw new BusinessException(ErrorCode.RENTAL_NOT_OWNED);
+        }
+
+        // 반납 시와 같은 방식: 진행 중인 일시정지는 기준 시각까지 포함
+        LocalDateTime quotedAt = rental.getEndTime() != null ? rental.getEndTime() : LocalDateTime.now();
+        int pauseMinutes = rental.getPauseMinutes() != null ? rental.getPauseMinutes() : 0;
+        if (rental.getLastPauseStartTime() != null) {
+            pauseMinutes += (int) Duration.between(rental.getLastPauseStartTime(), quotedAt).toMinutes();
+        }
+
+        return RentalQuoteResponse.builder()
+                .rentalId(rental.getRentalId())
+                .rentalStatus(rental.getStatus())
+                .startTime(rental.getStartTime())
+                .quotedAt(quotedAt)
+                .usageMinutes((int) Duration.between(rental.getStartTime(), quotedAt).toMinutes())
+                .pauseMinutes(pauseMinutes)
+                .estimatedAmount(fareEngine.calculateBaseAmount(
+                        rental.getHubId(), rental.getStartTime(), quotedAt, pauseMinutes))
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRentalChanged(RentalChangedEvent event) {
+        cache.invalidateAll(event.getRentalIds());
+    }
+}
@@ -0,0 +1,47 @@
+package com.onemorethink.domadosever.domain.rental.service;
+
+import com.onemorethink.domadosever.global.apns.dto.ApnsNotificationRequest;
+import com.onemorethink.domadosever.global.apns.service.ApnsService;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxEventHandler;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+// 반납 완료 푸시 알림 (HiBike 인계로 대여가 종료된 이전 사용자 포함)
+@Component
+@RequiredArgsConstructor
+public class RentalReturnedNotificationHandler implements OutboxEventHandler {
+    private final ApnsService apnsService;
+    private final OutboxService outboxService;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return Set.of(OutboxEventType.RENTAL_RETURNED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Map<String, Object> payload = outboxService.readPayload(event);
+        String email = (String) payload.get("email");
+        boolean hiBikeTransfer = Boolean.TRUE.equals(payload.get("hiBikeTransfer"));
+
+        ApnsNotificationRequest notification = ApnsNotificationRequest.builder()
+                .title(hiBikeTransfer ? "HiBike 인계 완료" : "반납 완료")
+                .body(hiBikeTransfer
+                        ? String.format("다른 사용자가 HiBike를 대여하여 이용이 종료되었습니다. 결제 예정 금액: %s원",
+                                payload.get("paymentAmount"))
+                        : String.format("자전거가 반납되었습니다. 결제 예정 금액: %s원", payload.get("paymentAmount")))
+                .data(Map.of(
+                        "type", "RENTAL_RETURNED",
+                        "rentalId", event.getAggregateId()
+                ))
+                .build();
+
+        apnsService.sendPushNotification(email, notification);
+    }
+}
@@ -2,53 +2,61 @@ package com.onemorethink.domadosever.domain.rental.service;
 
 
 import com.onemorethink.domadosever.domain.bike.entity.Bike;
-import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
 import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
+import com.onemorethink.domadosever.domain.bike.event.BikeStateChangedEvent;
 import com.onemorethink.domadosever.domain.bike.repository.BikeRepository;
-import com.onemorethink.domadosever.domain.coupon.entity.Stamp;
-import com.onemorethink.domadosever.domain.coupon.service.StampService;
 import com.onemorethink.domadosever.domain.payment.entity.Payment;
-import com.onemorethink.domadosever.domain.payment.entity.paymentMethod.PaymentMethodStatus;
-import com.onemorethink.domadosever.domain.payment.repository.PaymentMethodRepository;
 import com.onemorethink.domadosever.domain.payment.service.PaymentService;
 import com.onemorethink.domadosever.domain.rental.dto.*;
 import com.onemorethink.domadosever.domain.rental.entity.Rental;
 import com.onemorethink.domadosever.domain.rental.entity.RentalStatus;
 import com.onemorethink.domadosever.domain.rental.repository.RentalRepository;
+import com.onemorethink.domadosever.domain.rental.state.RentalAction;
+import com.onemorethink.domadosever.domain.rental.state.RentalStateMachine;
 import com.onemorethink.domadosever.domain.station.entity.Station;
 import com.onemorethink.domadosever.domain.station.repository.StationRepository;
 import com.onemorethink.domadosever.domain.user.entity.User;
+import com.onemorethink.domadosever.domain.user.entity.UserStatus;
 import com.onemorethink.domadosever.domain.user.repository.UserRepository;
 import com.onemorethink.domadosever.global.error.ErrorCode;
 import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 @Slf4j
 public class RentalService {
+    // HiBike 인계 대상이 되는 이전 대여 상태 (HiBike 등록은 일시 잠금 중에만 가능)
+    private static final List<RentalStatus> TRANSFERABLE_STATUSES =
+            List.of(RentalStatus.IN_PROGRESS, RentalStatus.PAUSED, RentalStatus.OVERDUE);
+
     private final BikeRepository bikeRepository;
     private final UserRepository userRepository;
     private final RentalRepository rentalRepository;
     private final StationRepository stationRepository;
-    private final PaymentMethodRepository paymentMethodRepository;
     private final PaymentService paymentService;
-    private final StampService stampService;
-    // private final MQTTService mqttService;
+    private final OutboxService outboxService;
+    private final RentalStateMachine rentalStateMachine;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 대여 관련 메서드들...
     public RentalResponse rentBike(String email, String qrCode, boolean useCoupon) {
-        // 1-1. 사용자 조회 및 검증
-        User user = userRepository.findByEmail(email)
+        // 1-1. 사용자 상태, 결제수단, 진행 중인 대여를 한 번의 조회로 확인
+        RentalEligibility eligibility = rentalRepository.findRentalEligibility(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        validateUserStatus(user);
+        validateUserStatus(eligibility.getUserStatus());
 
         // 1-2. 자전거 조회 및 검증
         Bike bike = bikeRepository.findByQrCode(qrCode)
@@ -56,19 +64,29 @@ public class RentalService {
         validateBikeStatus(bike);
 
         // 2. 결제수단 및 활성 대여 검증
-        validatePaymentMethod(user);
-        validateNoActiveRental(user);
+        validatePaymentMethod(eligibility);
+        validateNoActiveRental(eligibility);
+
+        // 대여 생성에는 사용자 ID만 필요하므로 엔티티를 조회하지 않고 참조만 사용
+        User user = userRepository.getReferenceById(eligibility.getUserId());
 
         // 3. HiBike 자전거인 경우 이전 사용자 반납 처리
         if (bike.getHiBikeStatus() == HiBikeStatus.AVAILABLE_FOR_RENT) {
             handleHiBikeTransfer(bike);
         }
 
-        // 4. 대여 생성 및 상태 업데이트
+        // 4. 자전거 상태 전이 (검증 이후 다른 요청이 먼저 대여한 경우 여기서 거부)
+        rentalStateMachine.transition(RentalAction.RENT, bike);
+
+        // 5. 대여 생성 및 상태 업데이트
         Rental rental = createRental(user, bike, useCoupon);
+        assignCurrentRental(rental);
         updateBikeStatus(bike);
 
-        // TODO: MQTT 프로토콜을 통한 자전거 잠금 해제 명령 전송
+        // 6. 대여 시작 이벤트 (잠금 해제 명령·대여 시작 알림은 커밋 이후 처리)
+        outboxService.append(OutboxEventType.RENTAL_STARTED, rental.getId(), Map.of(
+                "email", email,
+                "bikeId", bike.getId()));
 
         return RentalResponse.builder()
                 .rentalId(rental.getId())
@@ -86,19 +104,18 @@ public class RentalService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.RENTAL_NOT_FOUND));
 
         validateRentalOwnership(rental, email);
-        validateReturnAvailable(rental);
+        rentalStateMachine.validate(RentalAction.RETURN, rental);
 
         return returnBike(rental, false, request);
     }
 
     // HiBike 대여시 이전 사용자가 대여 반납 처리
     private void handleHiBikeTransfer(Bike bike) {
-        Rental previousRental = rentalRepository.findByBikeAndStatus(bike, RentalStatus.IN_PROGRESS)
+        Rental previousRental = rentalRepository.findFirstByBikeAndStatusIn(bike, TRANSFERABLE_STATUSES)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RENTAL_NOT_FOUND));
 
+        // 자전거는 이후 RENT 전이에서 TRANSFERRED로 변경
         returnBike(previousRental, true);
-        bike.setHiBikeStatus(HiBikeStatus.TRANSFERRED);
-        bikeRepository.save(bike);
     }
 
     // HiBike 대여시, 자전거 반납 절차
@@ -106,10 +123,13 @@ public class RentalService {
         return returnBike(rental, isHiBikeTransfer, null);
     }
 
+    /**
+     * 대여/자전거 상태와 결제 대기 건만 이 트랜잭션에서 확정하고,
+     * PG 결제·스탬프 발급·반납 알림은 outbox 이벤트로 남겨 커밋 이후 워커가 처리합니다.
+     */
     private RentalReturnResponse returnBike(Rental rental, boolean isHiBikeTransfer, RentalReturnRequest request) {
         LocalDateTime now = LocalDateTime.now();
         Bike bike = rental.getBike();
-        StampIssuanceInfo stampInfo = null;
 
         try {
             // 1. 일시정지 시간 계산 및 업데이트
@@ -120,7 +140,8 @@ public class RentalService {
             // 2. 대여 정보 업데이트
             rental.setEndTime(now);
             rental.setUsageMinutes(calculateTotalMinutes(rental));
-            rental.setStatus(RentalStatus.COMPLETED);
+            rentalStateMachine.transition(isHiBikeTransfer ? RentalAction.TRANSFER : RentalAction.RETURN, rental);
+            releaseCurrentRental(rental);
 
             // 3. 자전거 상태 및 위치 업데이트
             if (!isHiBikeTransfer) {
@@ -128,15 +149,23 @@ public class RentalService {
                 updateBikeForNormalReturn(bike, request);
             }
 
-            // 4. 결제 처리
-            Payment payment = paymentService.processRentalPayment(rental);
+            // 4. 요금 계산 및 결제 대기 건 생성 (PG 결제는 비동기)
+            Payment payment = paymentService.prepareRentalPayment(rental);
+            outboxService.append(OutboxEventType.PAYMENT_CAPTURE_REQUESTED, payment.getId());
 
-            // 5.일반반납 &  HiBike 이용 후 반납시 스탬프 발급
-            if (!isHiBikeTransfer && bike.getHiBikeStatus() == HiBikeStatus.TRANSFERRED) {
-                stampInfo = issueStampForHiBikeUse(rental);
+            // 5.일반반납 &  HiBike 이용 후 반납시 스탬프 발급 (비동기)
+            boolean stampPending = !isHiBikeTransfer && bike.getHiBikeStatus() == HiBikeStatus.TRANSFERRED;
+            if (stampPending) {
+                outboxService.append(OutboxEventType.STAMP_ISSUE_REQUESTED, rental.getId());
             }
 
-            return createReturnResponse(rental, payment, stampInfo);
+            // 6. 반납 완료 알림 (비동기)
+            outboxService.append(OutboxEventType.RENTAL_RETURNED, rental.getId(), Map.of(
+                    "email", rental.getUser().getEmail(),
+                    "paymentAmount", payment.getAmount(),
+                    "hiBikeTransfer", isHiBikeTransfer));
+
+            return createReturnResponse(rental, payment, stampPending);
 
         } catch (Exception e) {
             log.error("자전거 반납 처리 중 오류 발생. rentalId: {}, error: {}", rental.getId(), e.getMessage());
@@ -144,25 +173,56 @@ public class RentalService {
         }
     }
 
+    /**
+     * 장기 대여 정리 작업이 FORCIBLY_ENDED로 바꾼 대여의 종료 처리 (RENTAL_FORCIBLY_ENDED 이벤트 처리기에서 호출)
+     * 정리 작업은 상태만 일괄 변경하므로, 종료 시각·진행 중 대여 해제·자전거 회수·요금 결제는 대여별로 여기서 처리합니다.
+     * 이벤트가 다시 처리되어도 이미 종료 시각이 기록된 대여는 건너뜁니다.
+     */
+    public void completeForcedEnd(Long rentalId) {
+        Rental rental = rentalRepository.findWithUserById(rentalId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RENTAL_NOT_FOUND));
+        if (rental.getStatus() != RentalStatus.FORCIBLY_ENDED || rental.getEndTime() != null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        updatePauseTime(rental, now);
+        rental.setEndTime(now);
+        rental.setUsageMinutes(calculateTotalMinutes(rental));
+        releaseCurrentRental(rental);
+
+        // 자전거는 거치대 밖에 방치되어 있으므로 회수 대상으로 전환
+        Bike bike = rental.getBike();
+        rentalStateMachine.transition(RentalAction.FORCE_END, rental);
+        saveBike(bike);
+
+        Payment payment = paymentService.prepareRentalPayment(rental);
+        outboxService.append(OutboxEventType.PAYMENT_CAPTURE_REQUESTED, payment.getId());
+
+        log.info("강제 종료 대여 정리 완료. rentalId: {}, bikeId: {}, usageMinutes: {}, amount: {}",
+                rental.getId(), bike.getId(), rental.getUsageMinutes(), payment.getAmount());
+    }
+
     // 일시 잠금
     public RentalPauseResponse pauseBike(String userEmail, Integer rentalId, RentalPauseRequest request) {
         Rental rental = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RENTAL_NOT_FOUND));
 
         validateRentalOwnership(rental, userEmail);
-        validatePauseAvailable(rental);
-
-        // TODO: MQTT로 잠금 명령 전송
-        // sendLockCommand(rental.getBike());
+        rentalStateMachine.transition(RentalAction.PAUSE, rental);
 
         Bike bike = rental.getBike();
         updateBikeLocation(bike, request.getLatitude(), request.getLongitude());
-        bike.setStatus(BikeStatus.TEMPORARY_LOCKED);
-        bikeRepository.save(bike);
+        saveBike(bike);
 
         rental.setLastPauseStartTime(LocalDateTime.now());
         rentalRepository.save(rental);
 
+        // 잠금 명령·일시 잠금 알림은 커밋 이후 처리
+        outboxService.append(OutboxEventType.RENTAL_PAUSED, rental.getId(), Map.of(
+                "email", userEmail,
+                "bikeId", bike.getId()));
+
         return RentalPauseResponse.builder()
                 .rentalId(rental.getId())
                 .bikeStatus(bike.getStatus())
@@ -178,19 +238,23 @@ public class RentalService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.RENTAL_NOT_FOUND));
 
         validateRentalOwnership(rental, userEmail);
-        validateResumeAvailable(rental);
+        rentalStateMachine.validate(RentalAction.RESUME, rental);
+        validatePauseStarted(rental);
 
         LocalDateTime now = LocalDateTime.now();
         int pauseDuration = calculatePauseDuration(rental, now);
         updatePauseTime(rental, now);
-
-        // TODO: MQTT로 잠금 해제 명령 전송
-        // sendUnlockCommand(rental.getBike());
+        rentalStateMachine.transition(RentalAction.RESUME, rental);
 
         Bike bike = rental.getBike();
         updateBikeLocation(bike, request.getLatitude(), request.getLongitude());
-        bike.setStatus(BikeStatus.IN_USE);
-        bikeRepository.save(bike);
+        saveBike(bike);
+
+        // 잠금 해제 명령·잠금 해제 알림은 커밋 이후 처리
+        outboxService.append(OutboxEventType.RENTAL_RESUMED, rental.getId(), Map.of(
+                "email", userEmail,
+                "bikeId", bike.getId(),
+                "pauseMinutes", pauseDuration));
 
         return RentalResumeResponse.builder()
                 .rentalId(rental.getId())
@@ -207,31 +271,15 @@ public class RentalService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.STATION_NOT_FOUND));
 
         updateBikeLocation(bike, request.getLatitude(), request.getLongitude());
-        bike.setStatus(BikeStatus.PARKED);
         bike.setCurrentStation(station);
         bike.setCurrentDockId(request.getDockId());
-        bikeRepository.save(bike);
+        saveBike(bike);
     }
 
 
-    private StampIssuanceInfo issueStampForHiBikeUse(Rental rental) {
-        Stamp stamp = stampService.createStamp(rental.getUser(), rental);
-        int unusedStamps = stampService.countUnusedStamps(rental.getUser());
-        boolean couponIssued = unusedStamps % 5 == 0;
-        Long couponId = couponIssued ? stampService.getLastIssuedCouponId(rental.getUser()) : null;
-
-        return StampIssuanceInfo.builder()
-                .isIssued(true)
-                .stampId(stamp.getId())
-                .totalUnusedStamps(unusedStamps)
-                .couponIssued(couponIssued)
-                .issuedCouponId(couponId)
-                .build();
-    }
-
     // 검증 관련 Helper 메서드들
-    private void validateUserStatus(User user) {
-        switch (user.getStatus()) {
+    private void validateUserStatus(UserStatus status) {
+        switch (status) {
             case ACTIVE:
                 return;
             case LOCKED:
@@ -246,40 +294,21 @@ public class RentalService {
     }
 
     private void validateBikeStatus(Bike bike) {
-        BikeStatus bikeStatus = bike.getStatus();
-        HiBikeStatus hiBikeStatus = bike.getHiBikeStatus();
-
-        // 일반 자전거는 PARKED 상태일 때, HiBike는 AVAILABLE_FOR_RENT이면서 TEMPORARY_LOCKED 상태일 때 대여 가능
-        boolean isAvailable = bikeStatus == BikeStatus.PARKED ||
-                (hiBikeStatus == HiBikeStatus.AVAILABLE_FOR_RENT &&
-                        bikeStatus == BikeStatus.TEMPORARY_LOCKED);
-
-        if (!isAvailable) {
-            throw new BusinessException(
-                    ErrorCode.BIKE_NOT_AVAILABLE,
-                    "현재 대여 불가능한 자전거입니다. 상태: " + bikeStatus.getDescription()
-            );
-        }
+        rentalStateMachine.validate(RentalAction.RENT, bike);
 
         if (bike.getBatteryLevel() < 20) {
             throw new BusinessException(ErrorCode.LOW_BATTERY);
         }
     }
 
-    private void validatePaymentMethod(User user) {
-        boolean hasValidPaymentMethod = paymentMethodRepository
-                .existsByUserAndStatus(user, PaymentMethodStatus.ACTIVE);
-
-        if (!hasValidPaymentMethod) {
+    private void validatePaymentMethod(RentalEligibility eligibility) {
+        if (!eligibility.isHasActivePaymentMethod()) {
             throw new BusinessException(ErrorCode.NO_PAYMENT_METHOD);
         }
     }
 
-    private void validateNoActiveRental(User user) {
-        boolean hasUncompletedRental = rentalRepository
-                .existsByUserAndStatusNot(user, RentalStatus.COMPLETED);
-
-        if (hasUncompletedRental) {
+    private void validateNoActiveRental(RentalEligibility eligibility) {
+        if (eligibility.isHasActiveRental()) {
             throw new BusinessException(ErrorCode.ACTIVE_RENTAL_EXISTS);
         }
     }
@@ -290,31 +319,8 @@ public class RentalService {
         }
     }
 
-    private void validateReturnAvailable(Rental rental) {
-        if (rental.getStatus() != RentalStatus.IN_PROGRESS) {
-            throw new BusinessException(ErrorCode.RENTAL_NOT_IN_PROGRESS);
-        }
-    }
-
-    private void validatePauseAvailable(Rental rental) {
-        if (rental.getStatus() != RentalStatus.IN_PROGRESS) {
-            throw new BusinessException(ErrorCode.RENTAL_NOT_IN_PROGRESS);
-        }
-
-        if (rental.getBike().getStatus() == BikeStatus.TEMPORARY_LOCKED) {
-            throw new BusinessException(ErrorCode.BIKE_ALREADY_LOCKED);
-        }
-    }
-
-    private void validateResumeAvailable(Rental rental) {
-        if (rental.getStatus() != RentalStatus.IN_PROGRESS) {
-            throw new BusinessException(ErrorCode.RENTAL_NOT_IN_PROGRESS);
-        }
-
-        if (rental.getBike().getStatus() != BikeStatus.TEMPORARY_LOCKED) {
-            throw new BusinessException(ErrorCode.BIKE_NOT_LOCKED);
-        }
-
+    // 상태 전이 규칙 외에 일시 잠금 시작 시각이 기록되어 있어야 잠금 해제 가능
+    private void validatePauseStarted(Rental rental) {
         if (rental.getLastPauseStartTime() == null) {
             throw new BusinessException(ErrorCode.BIKE_NOT_IN_PAUSE);
         }
@@ -347,11 +353,29 @@ public class RentalService {
         return rentalRepository.save(rental);
     }
 
-    // 상태 업데이트 관련 Helper 메서드들
+    // 동시에 다른 대여가 먼저 지정된 경우 (검증 이후 경쟁) 대여 생성을 롤백
+    private void assignCurrentRental(Rental rental) {
+        int updated = userRepository.assignCurrentRental(rental.getUser().getId(), rental);
+        if (updated == 0) {
+            throw new BusinessException(ErrorCode.ACTIVE_RENTAL_EXISTS);
+        }
+    }
+
+    // 반납, HiBike 인계, 강제 종료 등 대여가 끝나는 모든 경로에서 호출
+    private void releaseCurrentRental(Rental rental) {
+        userRepository.releaseCurrentRental(rental.getUser().getId(), rental);
+    }
+
+    // 상태 업데이트 관련 Helper 메서드들 (상태 값은 RENT 전이에서 변경됨)
     private void updateBikeStatus(Bike bike) {
-        bike.setStatus(BikeStatus.IN_USE);
         bike.setCurrentDockId(null);
+        saveBike(bike);
+    }
+
+    // 자전거 저장 후 상태 변경 이벤트 발행 (커밋 이후 위치 인덱스에 반영)
+    private void saveBike(Bike bike) {
         bikeRepository.save(bike);
+        eventPublisher.publishEvent(BikeStateChangedEvent.of(bike));
     }
 
     private void updateBikeLocation(Bike bike, Double latitude, Double longitude) {
@@ -386,8 +410,7 @@ public class RentalService {
     }
 
     // Response 생성 관련 Helper 메서드들
-    private RentalReturnResponse createReturnResponse(Rental rental, Payment payment,
-                                                      StampIssuanceInfo stampInfo) {
+    private RentalReturnResponse createReturnResponse(Rental rental, Payment payment, boolean stampPending) {
         Bike bike = rental.getBike();
 
         return RentalReturnResponse.builder()
@@ -397,26 +420,23 @@ public class RentalService {
                 .usageMinutes(rental.getUsageMinutes())
                 .pauseMinutes(rental.getPauseMinutes())
                 .paymentAmount(payment.getAmount())
+                .paymentStatus(payment.getStatus())
                 .bikeStatus(bike.getStatus())
                 .hiBikeStatus(bike.getHiBikeStatus())
                 .stationId(bike.getCurrentStation() != null ? bike.getCurrentStation().getId() : null)
-                .stampInfo(stampInfo)
-                .message(createReturnMessage(rental, stampInfo))
+                .stampPending(stampPending)
+                .message(createReturnMessage(stampPending))
                 .build();
     }
 
-    private String createReturnMessage(Rental rental, StampIssuanceInfo stampInfo) {
+    private String createReturnMessage(boolean stampPending) {
         StringBuilder message = new StringBuilder("자전거가 성공적으로 반납되었습니다.");
 
-        if (stampInfo != null && stampInfo.isIssued()) {
-            message.append("\nHiBike 이용에 대한 스탬프가 발급되었습니다.");
-
-            if (stampInfo.isCouponIssued()) {
-                message.append("\n축하합니다! 스탬프 5개가 모여 무료이용 쿠폰이 발급되었습니다.");
-            }
+        if (stampPending) {
+            message.append("\nHiBike 이용에 대한 스탬프가 곧 발급됩니다.");
         }
 
         return message.toString();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.onemorethink.domadosever.domain.rental.service;
+
+import com.onemorethink.domadosever.domain.rental.entity.Rental;
+import com.onemorethink.domadosever.domain.rental.repository.RentalRepository;
+import com.onemorethink.domadosever.global.apns.dto.ApnsNotificationRequest;
+import com.onemorethink.domadosever.global.apns.service.ApnsService;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+// 연체 전환·강제 종료 푸시 알림 (정리 작업은 사용자를 조인하지 않으므로 수신자는 여기서 조회)
+@Component
+@RequiredArgsConstructor
+public class RentalSweepNotificationHandler implements OutboxEventHandler {
+    private final RentalRepository rentalRepository;
+    private final ApnsService apnsService;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return Set.of(OutboxEventType.RENTAL_OVERDUE, OutboxEventType.RENTAL_FORCIBLY_ENDED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Rental rental = rentalRepository.findWithUserById(event.getAggregateId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.RENTAL_NOT_FOUND));
+
+        boolean overdue = event.getEventType() == OutboxEventType.RENTAL_OVERDUE;
+        ApnsNotificationRequest notification = ApnsNotificationRequest.builder()
+                .title(overdue ? "대여 시간 초과" : "대여 강제 종료")
+                .body(overdue
+                        ? "대여 시간이 길어져 연체 상태가 되었습니다. 가까운 허브에 반납해 주세요."
+                        : "장시간 반납되지 않아 대여가 종료되었습니다. 이용 요금이 결제됩니다.")
+                .data(Map.of(
+                        "type", event.getEventType().name(),
+                        "rentalId", rental.getId()
+                ))
+                .build();
+
+        apnsService.sendPushNotification(rental.getUser().getEmail(), notification);
+    }
+}
@@ -0,0 +1,163 @@
+package com.onemorethink.domadosever.domain.rental.service;
+
+import com.onemorethink.domadosever.domain.rental.dto.RentalSweepTarget;
+import com.onemorethink.domadosever.domain.rental.entity.RentalStatus;
+import com.onemorethink.domadosever.domain.rental.event.RentalChangedEvent;
+import com.onemorethink.domadosever.domain.rental.repository.RentalRepository;
+import com.onemorethink.domadosever.domain.rental.state.RentalAction;
+import com.onemorethink.domadosever.domain.rental.state.RentalTransitionTable;
+import com.onemorethink.domadosever.global.lease.service.SchedulerLeaseService;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장기 대여 정리 작업
+ * - 오래 반납되지 않은 대여는 OVERDUE로, 오래 일시 잠금된 대여와 연체 후에도 반납되지 않은 대여는 FORCIBLY_ENDED로 전환합니다.
+ *   HiBike로 등록된 일시 잠금 대여는 공유 중인 자전거이므로 오래 잠겨 있어도 종료하지 않습니다.
+ * - 대상은 (status, 시각) 인덱스로 한 페이지씩 조회하고, 페이지마다 짧은 트랜잭션에서 일괄 갱신 + outbox 이벤트를 남깁니다.
+ *   변경된 대여는 조건에서 빠지므로 매번 첫 페이지를 다시 조회합니다.
+ * - 강제 종료된 대여의 요금 결제·자전거 회수·알림은 outbox 이벤트 처리기가 대여별로 처리합니다.
+ * - 여러 서버에서 실행되어도 lease를 가진 서버 한 곳만 정리하며, 페이지마다 lease를 연장합니다.
+ */
+@Slf4j
+@Component
+public class RentalSweeper {
+    static final String LEASE_NAME = "rental-sweeper";
+
+    private final RentalRepository rentalRepository;
+    private final OutboxService outboxService;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int pageSize;
+    private final int maxPagesPerRun;
+    private final Duration overdueAfter;
+    private final Duration abandonedPauseAfter;
+    private final Duration forceEndAfter;
+    private final Duration lease;
+
+    public RentalSweeper(RentalRepository rentalRepository,
+                         OutboxService outboxService,
+                         SchedulerLeaseService schedulerLeaseService,
+                         TransactionTemplate transactionTemplate,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${rental.sweeper.page-size:200}") int pageSize,
+                         @Value("${rental.sweeper.max-pages-per-run:50}") int maxPagesPerRun,
+                         @Value("${rental.sweeper.overdue-after-minutes:180}") long overdueAfterMinutes,
+                         @Value("${rental.sweeper.abandoned-pause-minutes:120}") long abandonedPauseMinutes,
+                         @Value("${rental.sweeper.force-end-after-minutes:1440}") long forceEndAfterMinutes,
+                         @Value("${rental.sweeper.lease-seconds:120}") long leaseSeconds) {
+        this.rentalRepository = rentalRepository;
+        this.outboxService = outboxService;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.pageSize = pageSize;
+        this.maxPagesPerRun = maxPagesPerRun;
+        this.overdueAfter = Duration.ofMinutes(overdueAfterMinutes);
+        this.abandonedPauseAfter = Duration.ofMinutes(abandonedPauseMinutes);
+        this.forceEndAfter = Duration.ofMinutes(forceEndAfterMinutes);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${rental.sweeper.interval-ms:60000}",
+            initialDelayString = "${rental.sweeper.initial-delay-ms:30000}")
+    public void sweep() {
+        if (!schedulerLeaseService.tryAcquire(LEASE_NAME, lease)) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            // 연체 후 방치된 대여를 먼저 종료해야, 이번에 연체로 바뀐 대여가 같은 실행에서 바로 종료되지 않음
+            int forceEnded = sweep(Rule.OVERDUE_NOT_RETURNED, now.minus(forceEndAfter))
+                    + sweep(Rule.ABANDONED_PAUSE, now.minus(abandonedPauseAfter));
+            int overdue = sweep(Rule.OVERDUE, now.minus(overdueAfter));
+
+            if (overdue > 0 || forceEnded > 0) {
+                log.info("장기 대여 정리 완료. overdue: {}, forciblyEnded: {}", overdue, forceEnded);
+            }
+        } catch (Exception e) {
+            log.error("Failed to sweep long-running rentals", e);
+        } finally {
+            schedulerLeaseService.release(LEASE_NAME);
+        }
+    }
+
+    // 한 규칙의 대상을 페이지 단위로 처리, 처리 건수 반환
+    int sweep(Rule rule, LocalDateTime threshold) {
+        int total = 0;
+        for (int page = 0; page < maxPagesPerRun; page++) {
+            // 실행이 길어져 lease가 만료되면 다른 서버가 이어서 처리
+            if (page > 0 && !schedulerLeaseService.tryAcquire(LEASE_NAME, lease)) {
+                break;
+            }
+
+            Integer swept = transactionTemplate.execute(status -> sweepPage(rule, threshold));
+            total += swept != null ? swept : 0;
+            if (swept == null || swept < pageSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int sweepPage(Rule rule, LocalDateTime threshold) {
+        PageRequest page = PageRequest.of(0, pageSize);
+        List<RentalSweepTarget> targets = rule.byPauseTime
+                ? rentalRepository.findSweepTargetsPausedBefore(rule.from, threshold, page)
+                : rentalRepository.findSweepTargetsStartedBefore(rule.from, threshold, page);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        // 조회한 행은 이 트랜잭션이 잠그고 있으므로 모두 조회한 상태 그대로 변경됨
+        RentalStatus target = RentalTransitionTable.targetRentalStatus(rule.action, rule.from);
+        List<Long> rentalIds = targets.stream().map(RentalSweepTarget::getRentalId).toList();
+        int updated = rentalRepository.updateStatusIn(rentalIds, rule.from, target);
+        if (updated != rentalIds.size()) {
+            throw new IllegalStateException(String.format(
+                    "Rental sweep updated %d of %d rentals (%s)", updated, rentalIds.size(), rule));
+        }
+
+        for (RentalSweepTarget sweepTarget : targets) {
+            outboxService.append(rule.eventType, sweepTarget.getRentalId(), Map.of(
+                    "bikeId", sweepTarget.getBikeId()));
+        }
+        eventPublisher.publishEvent(RentalChangedEvent.of(rentalIds));
+        return targets.size();
+    }
+
+    enum Rule {
+        // 대여 시작 후 overdue-after-minutes 동안 반납되지 않은 대여
+        OVERDUE(RentalStatus.IN_PROGRESS, false, RentalAction.MARK_OVERDUE, OutboxEventType.RENTAL_OVERDUE),
+        // abandoned-pause-minutes 동안 일시 잠금이 풀리지 않은 대여 (HiBike로 등록되어 인계를 기다리는 대여 제외)
+        ABANDONED_PAUSE(RentalStatus.PAUSED, true, RentalAction.FORCE_END, OutboxEventType.RENTAL_FORCIBLY_ENDED),
+        // 대여 시작 후 force-end-after-minutes가 지나도록 반납되지 않은 연체 대여
+        OVERDUE_NOT_RETURNED(RentalStatus.OVERDUE, false, RentalAction.FORCE_END, OutboxEventType.RENTAL_FORCIBLY_ENDED);
+
+        private final RentalStatus from;
+        private final boolean byPauseTime;
+        private final RentalAction action;
+        private final OutboxEventType eventType;
+
+        Rule(RentalStatus from, boolean byPauseTime, RentalAction action, OutboxEventType eventType) {
+            this.from = from;
+            this.byPauseTime = byPauseTime;
+            this.action = action;
+            this.eventType = eventType;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.onemorethink.domadosever.domain.rental.service;
+
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.service.OutboxEventHandler;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import com.onemorethink.domadosever.global.websocket.RentalWebSocketHandler;
+import com.onemorethink.domadosever.global.websocket.WebSocketMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대여 상태 변경을 사용자 WebSocket 세션으로 전달
+ * 메시지 타입은 이벤트 이름과 같으며, 이 서버에 연결된 세션이 없으면 전송하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RentalWebSocketNotificationHandler implements OutboxEventHandler {
+    private final RentalWebSocketHandler webSocketHandler;
+    private final OutboxService outboxService;
+
+    @Override
+    public Set<OutboxEventType> getEventTypes() {
+        return Set.of(
+                OutboxEventType.RENTAL_STARTED,
+                OutboxEventType.RENTAL_PAUSED,
+                OutboxEventType.RENTAL_RESUMED,
+                OutboxEventType.HIBIKE_REGISTERED,
+                OutboxEventType.HIBIKE_CANCELLED,
+                OutboxEventType.RENTAL_RETURNED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Map<String, Object> payload = new HashMap<>(outboxService.readPayload(event));
+        String email = (String) payload.remove("email");
+        payload.put("rentalId", event.getAggregateId());
+
+        try {
+            webSocketHandler.sendMessage(email, WebSocketMessage.success(event.getEventType().name(), payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.onemorethink.domadosever.domain.rental.state;
+
+public enum RentalAction {
+    RENT("대여"),
+    PAUSE("일시 잠금"),
+    RESUME("잠금 해제"),
+    REGISTER_HIBIKE("HiBike 등록"),
+    CANCEL_HIBIKE("HiBike 취소"),
+    TRANSFER("HiBike 인계"),
+    RETURN("반납"),
+    MARK_OVERDUE("연체 처리"),
+    FORCE_END("강제 종료");
+
+    private final String description;
+
+    RentalAction(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
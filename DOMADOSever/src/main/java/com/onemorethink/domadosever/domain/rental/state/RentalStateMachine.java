@@ -0,0 +1,97 @@
+package com.onemorethink.domadosever.domain.rental.state;
+
+import com.onemorethink.domadosever.domain.bike.entity.Bike;
+import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
+import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
+import com.onemorethink.domadosever.domain.bike.repository.BikeRepository;
+import com.onemorethink.domadosever.domain.rental.entity.Rental;
+import com.onemorethink.domadosever.domain.rental.entity.RentalStatus;
+import com.onemorethink.domadosever.domain.rental.event.RentalChangedEvent;
+import com.onemorethink.domadosever.domain.rental.repository.RentalRepository;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대여/자전거 상태 전이 처리 (RentalService, HiBikeService 공용)
+ * - 허용 여부와 거부 사유는 {@link RentalTransitionTable}에서 조회하며, 거부는 모두 같은 형식의 BusinessException으로 던집니다.
+ * - 전이는 "UPDATE ... WHERE status = 읽은 상태" 조건부 갱신으로 반영합니다.
+ *   검증 이후 다른 요청이 먼저 상태를 바꿨다면 갱신 건수가 0이 되어 거부되고,
+ *   성공한 경우 해당 행 잠금이 트랜잭션 끝까지 유지되어 뒤따르는 요청은 커밋 이후의 상태로 판단됩니다.
+ * - 대여에 대한 전이는 {@link RentalChangedEvent}를 발행합니다. (커밋 후 예상 요금 캐시 무효화 등)
+ */
+@Component
+@RequiredArgsConstructor
+public class RentalStateMachine {
+    private final RentalRepository rentalRepository;
+    private final BikeRepository bikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 진행 중인 대여에 대한 전이 가능 여부 검증
+    public void validate(RentalAction action, Rental rental) {
+        check(action, rental.getStatus(), rental.getBike());
+    }
+
+    // 대여 시작 전 자전거에 대한 전이 가능 여부 검증
+    public void validate(RentalAction action, Bike bike) {
+        check(action, null, bike);
+    }
+
+    public void transition(RentalAction action, Rental rental) {
+        Bike bike = rental.getBike();
+        RentalStatus current = rental.getStatus();
+        check(action, current, bike);
+
+        RentalStatus target = RentalTransitionTable.targetRentalStatus(action, current);
+        if (target != current) {
+            if (rentalRepository.updateStatusIfMatches(rental.getId(), current, target) == 0) {
+                throw conflict(action);
+            }
+            rental.setStatus(target);
+        }
+        applyBikeTransition(action, bike);
+        eventPublisher.publishEvent(RentalChangedEvent.of(rental.getId()));
+    }
+
+    public void transition(RentalAction action, Bike bike) {
+        check(action, null, bike);
+        applyBikeTransition(action, bike);
+    }
+
+    private void applyBikeTransition(RentalAction action, Bike bike) {
+        BikeStatus currentStatus = bike.getStatus();
+        HiBikeStatus currentHiBikeStatus = bike.getHiBikeStatus();
+        BikeStatus targetStatus = RentalTransitionTable.targetBikeStatus(action, currentStatus);
+        HiBikeStatus targetHiBikeStatus = RentalTransitionTable.targetHiBikeStatus(action, currentHiBikeStatus);
+        if (targetStatus == currentStatus && targetHiBikeStatus == currentHiBikeStatus) {
+            return;
+        }
+
+        int updated = bikeRepository.updateStatusIfMatches(bike.getId(),
+                currentStatus, currentHiBikeStatus, targetStatus, targetHiBikeStatus);
+        if (updated == 0) {
+            throw conflict(action);
+        }
+        bike.setStatus(targetStatus);
+        bike.setHiBikeStatus(targetHiBikeStatus);
+    }
+
+    private void check(RentalAction action, RentalStatus rentalStatus, Bike bike) {
+        if (RentalTransitionTable.isAllowed(action, rentalStatus, bike.getStatus(), bike.getHiBikeStatus())) {
+            return;
+        }
+        ErrorCode rejection = RentalTransitionTable.rejection(action, rentalStatus, bike.getStatus(), bike.getHiBikeStatus());
+        throw new BusinessException(rejection, String.format("%s할 수 없는 상태입니다. (대여: %s, 자전거: %s, HiBike: %s)",
+                action.getDescription(),
+                rentalStatus != null ? rentalStatus.getDescription() : "없음",
+                bike.getStatus().getDescription(),
+                bike.getHiBikeStatus().getDescription()));
+    }
+
+    private BusinessException conflict(RentalAction action) {
+        return new BusinessException(RentalTransitionTable.conflict(action),
+                String.format("다른 요청에서 상태가 먼저 변경되어 %s할 수 없습니다.", action.getDescription()));
+    }
+}
@@ -0,0 +1,247 @@
+package com.onemorethink.domadosever.domain.rental.state;
+
+import com.onemorethink.domadosever.domain.bike.entity.BikeStatus;
+import com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus;
+import com.onemorethink.domadosever.domain.rental.entity.RentalStatus;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.onemorethink.domadosever.domain.bike.entity.BikeStatus.IN_USE;
+import static com.onemorethink.domadosever.domain.bike.entity.BikeStatus.MAINTENANCE;
+import static com.onemorethink.domadosever.domain.bike.entity.BikeStatus.PARKED;
+import static com.onemorethink.domadosever.domain.bike.entity.BikeStatus.TEMPORARY_LOCKED;
+import static com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus.AVAILABLE_FOR_RENT;
+import static com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus.NONE;
+import static com.onemorethink.domadosever.domain.bike.entity.HiBikeStatus.TRANSFERRED;
+import static com.onemorethink.domadosever.domain.rental.entity.RentalStatus.COMPLETED;
+import static com.onemorethink.domadosever.domain.rental.entity.RentalStatus.FORCIBLY_ENDED;
+import static com.onemorethink.domadosever.domain.rental.entity.RentalStatus.IN_PROGRESS;
+import static com.onemorethink.domadosever.domain.rental.entity.RentalStatus.OVERDUE;
+import static com.onemorethink.domadosever.domain.rental.entity.RentalStatus.PAUSED;
+
+/**
+ * 대여·자전거·HiBike 상태를 묶은 복합 상태에 대한 전이 규칙 표
+ * - 규칙은 읽기 쉬운 조건식으로 정의하고, 클래스 초기화 시 모든 복합 상태(대여 없음 포함 6 x 6 x 3)에 대해 미리 평가합니다.
+ * - 허용 여부는 BitSet 조회, 거부 사유와 목표 상태는 배열 조회이므로 검사 시 객체를 생성하지 않습니다.
+ * - 거부 사유는 규칙에 적힌 순서대로 처음 걸린 오류 코드입니다.
+ */
+public final class RentalTransitionTable {
+    private static final RentalStatus[] RENTAL_STATUSES = RentalStatus.values();
+    private static final BikeStatus[] BIKE_STATUSES = BikeStatus.values();
+    private static final HiBikeStatus[] HI_BIKE_STATUSES = HiBikeStatus.values();
+    private static final int RENTAL_SLOTS = RENTAL_STATUSES.length + 1;  // 0번은 대여 없음
+    private static final int STATE_COUNT = RENTAL_SLOTS * BIKE_STATUSES.length * HI_BIKE_STATUSES.length;
+
+    private static final Map<RentalAction, Transition> TRANSITIONS = new EnumMap<>(RentalAction.class);
+
+    static {
+        // 일반 자전거는 주차 상태, HiBike는 일시잠금 + 대여 가능 상태에서 대여 가능
+        define(RentalAction.RENT, ErrorCode.BIKE_NOT_AVAILABLE,
+                (r, b, h) -> (b == PARKED && h != AVAILABLE_FOR_RENT) || (b == TEMPORARY_LOCKED && h == AVAILABLE_FOR_RENT)
+                        ? null : ErrorCode.BIKE_NOT_AVAILABLE)
+                .bike(PARKED, IN_USE).bike(TEMPORARY_LOCKED, IN_USE)
+                .hiBike(AVAILABLE_FOR_RENT, TRANSFERRED);
+
+        // 연체(OVERDUE)된 대여도 반납 전까지는 잠금·해제·HiBike 등록이 가능하며, 대여 상태는 연체로 유지
+        define(RentalAction.PAUSE, ErrorCode.BIKE_ALREADY_LOCKED, (r, b, h) -> {
+            if (!isActive(r)) {
+                return ErrorCode.RENTAL_NOT_IN_PROGRESS;
+            }
+            if (r == PAUSED || b == TEMPORARY_LOCKED) {
+                return ErrorCode.BIKE_ALREADY_LOCKED;
+            }
+            if (b != IN_USE) {
+                return ErrorCode.BIKE_NOT_AVAILABLE;
+            }
+            return null;
+        })
+                .rental(IN_PROGRESS, PAUSED)
+                .bike(IN_USE, TEMPORARY_LOCKED);
+
+        // 이전 버전에서 일시 잠금된 대여(IN_PROGRESS + TEMPORARY_LOCKED)도 잠금 해제 허용
+        define(RentalAction.RESUME, ErrorCode.BIKE_NOT_LOCKED, (r, b, h) -> {
+            if (!isActive(r)) {
+                return ErrorCode.RENTAL_NOT_IN_PROGRESS;
+            }
+            if (b != TEMPORARY_LOCKED) {
+                return ErrorCode.BIKE_NOT_LOCKED;
+            }
+            if (h == AVAILABLE_FOR_RENT) {
+                return ErrorCode.ALREADY_HIBIKE;
+            }
+            return null;
+        })
+                .rental(PAUSED, IN_PROGRESS)
+                .bike(TEMPORARY_LOCKED, IN_USE);
+
+        define(RentalAction.REGISTER_HIBIKE, ErrorCode.ALREADY_HIBIKE, (r, b, h) -> {
+            if (!isActive(r)) {
+                return ErrorCode.RENTAL_NOT_IN_PROGRESS;
+            }
+            if (b != TEMPORARY_LOCKED) {
+                return ErrorCode.BIKE_NOT_LOCKED;
+            }
+            if (h != NONE) {
+                return ErrorCode.ALREADY_HIBIKE;
+            }
+            return null;
+        })
+                .hiBike(NONE, AVAILABLE_FOR_RENT);
+
+        define(RentalAction.CANCEL_HIBIKE, ErrorCode.NOT_HIBIKE, (r, b, h) -> {
+            if (!isActive(r)) {
+                return ErrorCode.RENTAL_NOT_IN_PROGRESS;
+            }
+            if (h != AVAILABLE_FOR_RENT) {
+                return ErrorCode.NOT_HIBIKE;
+            }
+            return null;
+        })
+                .hiBike(AVAILABLE_FOR_RENT, NONE);
+
+        // 다른 사용자가 HiBike를 대여하여 이전 대여가 종료됨 (자전거 상태는 RENT 전이에서 변경)
+        define(RentalAction.TRANSFER, ErrorCode.BIKE_NOT_AVAILABLE, (r, b, h) -> {
+            if (!isActive(r)) {
+                return ErrorCode.RENTAL_NOT_IN_PROGRESS;
+            }
+            if (b != TEMPORARY_LOCKED || h != AVAILABLE_FOR_RENT) {
+                return ErrorCode.BIKE_NOT_AVAILABLE;
+            }
+            return null;
+        })
+                .rental(IN_PROGRESS, COMPLETED).rental(PAUSED, COMPLETED).rental(OVERDUE, COMPLETED);
+
+        // HiBike로 등록된 자전거는 등록을 취소한 뒤 반납
+        define(RentalAction.RETURN, ErrorCode.RENTAL_NOT_IN_PROGRESS, (r, b, h) -> {
+            if (!isActive(r)) {
+                return ErrorCode.RENTAL_NOT_IN_PROGRESS;
+            }
+            if (h == AVAILABLE_FOR_RENT) {
+                return ErrorCode.ALREADY_HIBIKE;
+            }
+            return null;
+        })
+                .rental(IN_PROGRESS, COMPLETED).rental(PAUSED, COMPLETED).rental(OVERDUE, COMPLETED)
+                .bike(IN_USE, PARKED).bike(TEMPORARY_LOCKED, PARKED);
+
+        // 장기 대여 정리 작업: 대여 시작 후 오래 반납되지 않은 대여
+        define(RentalAction.MARK_OVERDUE, ErrorCode.RENTAL_NOT_IN_PROGRESS,
+                (r, b, h) -> r == IN_PROGRESS ? null : ErrorCode.RENTAL_NOT_IN_PROGRESS)
+                .rental(IN_PROGRESS, OVERDUE);
+
+        // 장기 대여 정리 작업: 오래 일시 잠금된 대여, 연체 후에도 반납되지 않은 대여
+        // 정리 작업이 대여 상태를 일괄 변경한 뒤(FORCIBLY_ENDED) 자전거 회수를 같은 규칙으로 반영
+        // 거치대 밖에 방치된 자전거이므로 정비중(회수 대상)으로 전환하고 HiBike 등록도 해제
+        define(RentalAction.FORCE_END, ErrorCode.RENTAL_NOT_IN_PROGRESS,
+                (r, b, h) -> r == IN_PROGRESS || r == PAUSED || r == OVERDUE || r == FORCIBLY_ENDED
+                        ? null : ErrorCode.RENTAL_NOT_IN_PROGRESS)
+                .rental(IN_PROGRESS, FORCIBLY_ENDED).rental(PAUSED, FORCIBLY_ENDED).rental(OVERDUE, FORCIBLY_ENDED)
+                .bike(IN_USE, MAINTENANCE).bike(TEMPORARY_LOCKED, MAINTENANCE)
+                .hiBike(AVAILABLE_FOR_RENT, NONE);
+    }
+
+    private RentalTransitionTable() {
+    }
+
+    // 반납 전인 대여 (진행 중, 일시 잠금, 연체)
+    private static boolean isActive(RentalStatus rentalStatus) {
+        return rentalStatus == IN_PROGRESS || rentalStatus == PAUSED || rentalStatus == OVERDUE;
+    }
+
+    /**
+     * rentalStatus가 null이면 대여가 없는 자전거(대여 시작 전)로 봅니다.
+     */
+    public static boolean isAllowed(RentalAction action, RentalStatus rentalStatus,
+                                    BikeStatus bikeStatus, HiBikeStatus hiBikeStatus) {
+        return TRANSITIONS.get(action).allowed.get(index(rentalStatus, bikeStatus, hiBikeStatus));
+    }
+
+    // 허용되면 null
+    public static ErrorCode rejection(RentalAction action, RentalStatus rentalStatus,
+                                      BikeStatus bikeStatus, HiBikeStatus hiBikeStatus) {
+        return TRANSITIONS.get(action).rejections[index(rentalStatus, bikeStatus, hiBikeStatus)];
+    }
+
+    // 조건부 갱신이 0건일 때(검증 이후 다른 요청이 먼저 상태를 바꾼 경우)의 거부 사유
+    public static ErrorCode conflict(RentalAction action) {
+        return TRANSITIONS.get(action).conflict;
+    }
+
+    public static RentalStatus targetRentalStatus(RentalAction action, RentalStatus current) {
+        RentalStatus target = TRANSITIONS.get(action).rentalTargets[rentalSlot(current)];
+        return target != null ? target : current;
+    }
+
+    public static BikeStatus targetBikeStatus(RentalAction action, BikeStatus current) {
+        BikeStatus target = TRANSITIONS.get(action).bikeTargets[current.ordinal()];
+        return target != null ? target : current;
+    }
+
+    public static HiBikeStatus targetHiBikeStatus(RentalAction action, HiBikeStatus current) {
+        HiBikeStatus target = TRANSITIONS.get(action).hiBikeTargets[current.ordinal()];
+        return target != null ? target : current;
+    }
+
+    private static Transition define(RentalAction action, ErrorCode conflict, Rule rule) {
+        Transition transition = new Transition(conflict);
+        for (int r = 0; r < RENTAL_SLOTS; r++) {
+            RentalStatus rentalStatus = r == 0 ? null : RENTAL_STATUSES[r - 1];
+            for (BikeStatus bikeStatus : BIKE_STATUSES) {
+                for (HiBikeStatus hiBikeStatus : HI_BIKE_STATUSES) {
+                    int index = index(rentalStatus, bikeStatus, hiBikeStatus);
+                    ErrorCode rejection = rule.evaluate(rentalStatus, bikeStatus, hiBikeStatus);
+                    transition.rejections[index] = rejection;
+                    transition.allowed.set(index, rejection == null);
+                }
+            }
+        }
+        TRANSITIONS.put(action, transition);
+        return transition;
+    }
+
+    private static int index(RentalStatus rentalStatus, BikeStatus bikeStatus, HiBikeStatus hiBikeStatus) {
+        return (rentalSlot(rentalStatus) * BIKE_STATUSES.length + bikeStatus.ordinal())
+                * HI_BIKE_STATUSES.length + hiBikeStatus.ordinal();
+    }
+
+    private static int rentalSlot(RentalStatus rentalStatus) {
+        return rentalStatus == null ? 0 : rentalStatus.ordinal() + 1;
+    }
+
+    @FunctionalInterface
+    private interface Rule {
+        // 허용되면 null, 아니면 거부 사유
+        ErrorCode evaluate(RentalStatus rentalStatus, BikeStatus bikeStatus, HiBikeStatus hiBikeStatus);
+    }
+
+    private static final class Transition {
+        private final ErrorCode conflict;
+        private final BitSet allowed = new BitSet(STATE_COUNT);
+        private final ErrorCode[] rejections = new ErrorCode[STATE_COUNT];
+        private final RentalStatus[] rentalTargets = new RentalStatus[RENTAL_SLOTS];
+        private final BikeStatus[] bikeTargets = new BikeStatus[BIKE_STATUSES.length];
+        private final HiBikeStatus[] hiBikeTargets = new HiBikeStatus[HI_BIKE_STATUSES.length];
+
+        private Transition(ErrorCode conflict) {
+            this.conflict = conflict;
+        }
+
+        private Transition rental(RentalStatus from, RentalStatus to) {
+            rentalTargets[rentalSlot(from)] = to;
+            return this;
+        }
+
+        private Transition bike(BikeStatus from, BikeStatus to) {
+            bikeTargets[from.ordinal()] = to;
+            return this;
+        }
+
+        private Transition hiBike(HiBikeStatus from, HiBikeStatus to) {
+            hiBikeTargets[from.ordinal()] = to;
+            return this;
+        }
+    }
+}
@@ -12,7 +12,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "stations")
+@Table(name = "stations", indexes = {
+        @Index(name = "idx_station_location", columnList = "latitude, longitude")
+})
 @Getter @Setter
 @NoArgsConstructor
 public class Station extends BaseEntity {
@@ -1,9 +1,37 @@
 package com.onemorethink.domadosever.domain.station.repository;
 
+import com.onemorethink.domadosever.domain.location.index.StationSnapshot;
 import com.onemorethink.domadosever.domain.station.entity.Station;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface StationRepository extends JpaRepository<Station, Long> {
+    // 스테이션당 1행 (엔티티/연관관계 로딩 없음)
+    @Query("""
+        SELECT new com.onemorethink.domadosever.domain.location.index.StationSnapshot(
+            s.id, s.name, s.latitude, s.longitude, s.capacity, h.id, h.name)
+        FROM Station s
+        JOIN s.hub h
+        """)
+    List<StationSnapshot> findAllStationSnapshots();
+
+    @Query("""
+        SELECT new com.onemorethink.domadosever.domain.location.index.StationSnapshot(
+            s.id, s.name, s.latitude, s.longitude, s.capacity, h.id, h.name)
+        FROM Station s
+        JOIN s.hub h
+        WHERE s.latitude BETWEEN :minLatitude AND :maxLatitude
+        AND s.longitude BETWEEN :minLongitude AND :maxLongitude
+        """)
+    List<StationSnapshot> findStationSnapshotsWithinBounds(
+            @Param("minLatitude") Double minLatitude,
+            @Param("maxLatitude") Double maxLatitude,
+            @Param("minLongitude") Double minLongitude,
+            @Param("maxLongitude") Double maxLongitude
+    );
 }
@@ -42,7 +42,8 @@ public class User extends BaseEntity {
 
     private Integer penaltyCount = 0;
 
-    @OneToOne
+    // 진행 중인 대여 (대여 시작 시 지정, 반납/HiBike 인계/강제 종료 시 해제)
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "current_rental_id")
     private Rental currentRental;
 
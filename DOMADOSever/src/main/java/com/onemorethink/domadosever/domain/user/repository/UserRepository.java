@@ -1,7 +1,11 @@
 package com.onemorethink.domadosever.domain.user.repository;
 
+import com.onemorethink.domadosever.domain.rental.entity.Rental;
 import com.onemorethink.domadosever.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +18,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 주어진 email 이미 회원가입한 사용자 있는지 확인
     boolean existsByEmail(String email);
+
+    // 진행 중인 대여가 없을 때만 현재 대여로 지정 (0 반환 시 이미 진행 중인 대여 존재)
+    @Modifying
+    @Query("UPDATE User u SET u.currentRental = :rental WHERE u.id = :userId AND u.currentRental IS NULL")
+    int assignCurrentRental(@Param("userId") Long userId, @Param("rental") Rental rental);
+
+    // 현재 대여가 주어진 대여일 때만 해제
+    @Modifying
+    @Query("UPDATE User u SET u.currentRental = NULL WHERE u.id = :userId AND u.currentRental = :rental")
+    int releaseCurrentRental(@Param("userId") Long userId, @Param("rental") Rental rental);
 }
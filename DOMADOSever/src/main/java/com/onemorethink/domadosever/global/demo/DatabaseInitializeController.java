@@ -1,5 +1,6 @@
 package com.onemorethink.domadosever.global.demo;
 
+import com.onemorethink.domadosever.domain.location.index.BikeLocationIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,11 +14,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class DatabaseInitializeController {
 
     private final DatabaseInitializeService databaseInitializeService;
+    private final BikeLocationIndex bikeLocationIndex;
 
     @PostMapping("/reset-db")
     @ResponseStatus(HttpStatus.OK)
     public String resetDatabase() {
         databaseInitializeService.initializeDatabase();
+        // 초기화 트랜잭션 커밋 이후 메모리 인덱스도 다시 적재
+        bikeLocationIndex.rebuild();
         return "Database reset completed successfully";
     }
 }
\ No newline at end of file
@@ -9,6 +9,11 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR("C002", "내부 서버 오류가 발생했습니다"),
     METHOD_NOT_ALLOWED("C003", "허용되지 않은 메소드입니다"),
     INVALID_TYPE_VALUE("C004", "잘못된 타입의 값입니다"),
+    CONCURRENT_UPDATE_CONFLICT("C005", "다른 요청과 동시에 처리되어 실패했습니다. 다시 시도해 주세요"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("C006", "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요"),
+    IDEMPOTENCY_KEY_REUSED("C007", "다른 요청에 이미 사용된 Idempotency-Key입니다"),
+    INVALID_IDEMPOTENCY_KEY("C008", "Idempotency-Key는 100자 이하여야 합니다"),
+    IDEMPOTENCY_BODY_TOO_LARGE("C009", "Idempotency-Key 요청의 본문이 너무 큽니다"),
 
     // Authentication & Authorization Errors (A로 시작)
     AUTHENTICATION_FAILED("A001", "인증에 실패했습니다"),
@@ -71,6 +76,7 @@ public enum ErrorCode {
     MONTHLY_PAYMENT_LIMIT_EXCEEDED("P017", "월간 결제 한도를 초과했습니다"),
     PAYMENT_TIMEOUT("P018", "결제 시간이 초과되었습니다"),
     BIN_LOAD_ERROR("P019", "BIN 정보 로딩 중 오류가 발생했습니다"),
+    PAYMENT_GATEWAY_UNAVAILABLE("P020", "결제 대행사 연결에 실패했습니다"),
 
     RENTAL_NOT_OWNED("RP001", "본인의 대여 내역만 조작할 수 있습니다"),
     RENTAL_NOT_IN_PROGRESS("RP002", "진행 중인 대여가 아닙니다"),
@@ -82,6 +88,8 @@ public enum ErrorCode {
 
     // MQTT Related Errors (M으로 시작)
     MQTT_PUBLISH_FAILED("M001", "자전거 잠금 해제 명령 전송에 실패했습니다"),
+    LOCK_COMMAND_TIMEOUT("M002", "자전거 잠금 장치의 응답 시간이 초과되었습니다"),
+    LOCK_COMMAND_REJECTED("M003", "자전거 잠금 장치가 명령을 거부했습니다"),
 
     // Role Related Errors (R로 시작)
     ROLE_NOT_FOUND("R001", "역할을 찾을 수 없습니다"),
@@ -0,0 +1,14 @@
+package com.onemorethink.domadosever.global.error.exception;
+
+import com.onemorethink.domadosever.global.error.ErrorCode;
+
+// PG사 일시 장애 (응답 시간 초과, 연결 실패 등), 같은 merchantUid로 재시도 가능
+public class PaymentGatewayException extends BusinessException {
+    public PaymentGatewayException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+    public PaymentGatewayException(ErrorCode errorCode, String message, Throwable cause) {
+        super(errorCode, message, cause);
+    }
+}
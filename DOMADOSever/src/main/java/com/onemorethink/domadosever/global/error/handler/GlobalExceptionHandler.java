@@ -6,6 +6,7 @@ import com.onemorethink.domadosever.global.error.exception.AuthException;
 import com.onemorethink.domadosever.global.error.exception.BusinessException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -35,6 +36,12 @@ public class GlobalExceptionHandler {
         return BaseResponse.failure(e.getErrorCode());
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected BaseResponse<Object> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.warn("Optimistic Locking Failure: {}", e.getMessage());
+        return BaseResponse.failure(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected BaseResponse<Object> handleMethodArgumentNotValidException(
             MethodArgumentNotValidException e) {
@@ -0,0 +1,149 @@
+package com.onemorethink.domadosever.global.idempotency;
+
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.idempotency.service.IdempotencyStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * {@link Idempotent} API의 Idempotency-Key 처리
+ * - 키는 사용자 + 메서드 + 경로 단위로 구분하며, 같은 키로 파라미터나 본문이 다른 요청을 보내면 거부합니다.
+ * - 본문은 {@link IdempotencyRequestFilter}가 미리 읽어 둔 값을 사용합니다.
+ * - 이미 성공한 요청이면 컨트롤러를 실행하지 않고 저장된 응답을 그대로 씁니다.
+ * - 선점한 요청의 응답은 {@link IdempotencyResponseAdvice}가 저장하거나 해제합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyInterceptor implements HandlerInterceptor {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String RESERVATION_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".reservation";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !handlerMethod.hasMethodAnnotation(Idempotent.class)) {
+            return true;
+        }
+        String key = request.getHeader(HEADER);
+        if (key == null || key.isBlank()) {
+            return true;
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return true;
+        }
+
+        String id = sha256(authentication.getName() + '\n' + request.getMethod() + '\n'
+                + request.getRequestURI() + '\n' + key);
+        String fingerprint = fingerprint(request);
+
+        Optional<String> stored = idempotencyStore.reserve(id, fingerprint);
+        if (stored.isPresent()) {
+            writeReplay(response, stored.get());
+            return false;
+        }
+
+        request.setAttribute(RESERVATION_ATTRIBUTE, new Reservation(id, fingerprint));
+        return true;
+    }
+
+    // 응답 저장 전에 예외로 끝난 경우 키 해제
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Reservation reservation = (Reservation) request.getAttribute(RESERVATION_ATTRIBUTE);
+        if (reservation != null && reservation.finish()) {
+            idempotencyStore.release(reservation.getId());
+        }
+    }
+
+    private void writeReplay(HttpServletResponse response, String body) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getWriter().write(body);
+    }
+
+    private static String sha256(String value) {
+        MessageDigest digest = newDigest();
+        return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // 요청 지문: 파라미터(쿼리, 폼)를 이름순으로 정렬한 값 + 본문
+    private static String fingerprint(HttpServletRequest request) {
+        MessageDigest digest = newDigest();
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            for (String value : values) {
+                digest.update((name + '=' + value + '\n').getBytes(StandardCharsets.UTF_8));
+            }
+        });
+
+        IdempotencyRequestFilter.CachedBodyRequest cached =
+                WebUtils.getNativeRequest(request, IdempotencyRequestFilter.CachedBodyRequest.class);
+        if (cached != null) {
+            digest.update((byte) 0);
+            digest.update(cached.getBody());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 선점한 요청 정보 (응답 저장과 예외 처리 중 먼저 도착한 쪽만 마무리)
+    static final class Reservation {
+        private final String id;
+        private final String fingerprint;
+        private boolean finished;
+
+        private Reservation(String id, String fingerprint) {
+            this.id = id;
+            this.fingerprint = fingerprint;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        String getFingerprint() {
+            return fingerprint;
+        }
+
+        synchronized boolean finish() {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.onemorethink.domadosever.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onemorethink.domadosever.global.common.BaseResponse;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Idempotency-Key 요청의 본문 캐시
+ * - 인터셉터는 컨트롤러가 본문을 읽기 전에 실행되므로, 키가 있는 요청의 본문을 미리 읽어 둡니다.
+ * - {@link IdempotencyInterceptor}는 캐시된 본문을 지문에 포함하고, 컨트롤러(@RequestBody)는 같은 본문을 다시 읽습니다.
+ * - 폼 요청은 본문을 먼저 읽으면 파라미터를 파싱할 수 없으므로 감싸지 않습니다. (폼 값은 파라미터로 지문에 포함)
+ * - {@link Idempotent} 핸들러로 가는 요청만 감싸고, 본문이 max-body-bytes를 넘으면 읽다가 멈추고 413으로 거부합니다.
+ *   (키 헤더만 붙인 다른 요청이나 큰 본문이 메모리에 통째로 올라오지 않도록)
+ */
+@Component
+public class IdempotencyRequestFilter extends OncePerRequestFilter {
+    private final HandlerMapping handlerMapping;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+
+    public IdempotencyRequestFilter(@Lazy @Qualifier("requestMappingHandlerMapping") HandlerMapping handlerMapping,
+                                    ObjectMapper objectMapper,
+                                    @Value("${idempotency.max-body-bytes:16384}") int maxBodyBytes) {
+        this.handlerMapping = handlerMapping;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String key = request.getHeader(IdempotencyInterceptor.HEADER);
+        String contentType = request.getContentType();
+        return key == null || key.isBlank()
+                || (contentType != null && contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE))
+                || !isIdempotentHandler(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            rejectTooLarge(response);
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            rejectTooLarge(response);
+            return;
+        }
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private boolean isIdempotentHandler(HttpServletRequest request) {
+        try {
+            HandlerExecutionChain chain = handlerMapping.getHandler(request);
+            return chain != null && chain.getHandler() instanceof HandlerMethod handlerMethod
+                    && handlerMethod.hasMethodAnnotation(Idempotent.class);
+        } catch (Exception e) {
+            // 핸들러를 찾지 못한 요청은 DispatcherServlet이 같은 오류로 응답
+            return false;
+        }
+    }
+
+    private void rejectTooLarge(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), BaseResponse.failure(ErrorCode.IDEMPOTENCY_BODY_TOO_LARGE));
+    }
+
+    // 본문을 한 번 읽어 두고 여러 번 다시 읽을 수 있게 하는 요청
+    static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
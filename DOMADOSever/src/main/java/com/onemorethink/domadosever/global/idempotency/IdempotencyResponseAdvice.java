@@ -0,0 +1,57 @@
+package com.onemorethink.domadosever.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onemorethink.domadosever.global.common.BaseResponse;
+import com.onemorethink.domadosever.global.idempotency.service.IdempotencyStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Idempotency-Key를 선점한 요청의 응답 처리
+ * 성공 응답(BaseResponse.success)은 그대로 직렬화하여 저장하고, 실패 응답이면 키를 풀어 다시 시도할 수 있게 합니다.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class IdempotencyResponseAdvice implements ResponseBodyAdvice<Object> {
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        IdempotencyInterceptor.Reservation reservation = (IdempotencyInterceptor.Reservation)
+                servletRequest.getServletRequest().getAttribute(IdempotencyInterceptor.RESERVATION_ATTRIBUTE);
+        if (reservation == null || !reservation.finish()) {
+            return body;
+        }
+
+        if (body instanceof BaseResponse<?> baseResponse && baseResponse.isSuccess()) {
+            try {
+                idempotencyStore.complete(reservation.getId(), reservation.getFingerprint(),
+                        objectMapper.writeValueAsString(baseResponse));
+                return body;
+            } catch (JsonProcessingException e) {
+                // 저장하지 못한 응답은 재시도 시 다시 처리
+            }
+        }
+        idempotencyStore.release(reservation.getId());
+        return body;
+    }
+}
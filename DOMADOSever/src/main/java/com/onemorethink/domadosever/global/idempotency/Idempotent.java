@@ -0,0 +1,16 @@
+package com.onemorethink.domadosever.global.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더를 지원하는 API 표시
+ * 같은 사용자가 같은 경로에 같은 키로 다시 요청하면, 처리하지 않고 처음 성공한 응답을 그대로 돌려줍니다.
+ * 헤더가 없으면 기존과 같이 매번 처리합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,75 @@
+package com.onemorethink.domadosever.global.idempotency.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key로 처리한 요청과 그 응답
+ * - 처음 요청이 키를 선점(IN_PROGRESS)한 뒤 성공 응답을 저장(COMPLETED)하며, 실패하면 삭제하여 다시 시도할 수 있게 합니다.
+ * - 서버가 응답 저장 전에 죽으면 선점 만료(lockedUntil) 이후의 재시도가 다시 처리합니다.
+ */
+@Entity
+@Table(name = "idempotency_records", indexes = {
+        @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+    private static final int MAX_RESPONSE_LENGTH = 8000;
+
+    @Id
+    @Column(length = 64)
+    private String id;  // 사용자 + 메서드 + 경로 + 키의 SHA-256
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;  // 같은 키로 다른 요청을 보냈는지 확인용 (파라미터 + 본문 해시)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IdempotencyStatus status;
+
+    @Column(length = MAX_RESPONSE_LENGTH)
+    private String responseBody;  // BaseResponse JSON
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 최초 생성 시 저장(INSERT)되도록 버전 사용, 동시에 선점하면 한쪽은 키 중복으로 실패
+    @Version
+    private Long version;
+
+    public static IdempotencyRecord reserve(String id, String fingerprint,
+                                            LocalDateTime lockedUntil, LocalDateTime expiresAt) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.id = id;
+        record.fingerprint = fingerprint;
+        record.status = IdempotencyStatus.IN_PROGRESS;
+        record.lockedUntil = lockedUntil;
+        record.expiresAt = expiresAt;
+        return record;
+    }
+
+    public static boolean fits(String responseBody) {
+        return responseBody.length() <= MAX_RESPONSE_LENGTH;
+    }
+
+    public void complete(String responseBody) {
+        this.status = IdempotencyStatus.COMPLETED;
+        this.responseBody = responseBody;
+    }
+
+    public boolean isReplayable(LocalDateTime now) {
+        return status == IdempotencyStatus.COMPLETED && expiresAt.isAfter(now);
+    }
+
+    public boolean isLocked(LocalDateTime now) {
+        return status == IdempotencyStatus.IN_PROGRESS && lockedUntil.isAfter(now);
+    }
+}
@@ -0,0 +1,16 @@
+package com.onemorethink.domadosever.global.idempotency.entity;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS("처리중"),
+    COMPLETED("처리완료");
+
+    private final String description;
+
+    IdempotencyStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
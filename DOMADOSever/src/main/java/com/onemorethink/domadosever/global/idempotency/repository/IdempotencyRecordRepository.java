@@ -0,0 +1,44 @@
+package com.onemorethink.domadosever.global.idempotency.repository;
+
+import com.onemorethink.domadosever.global.idempotency.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // 만료된 기록이나 선점 시간이 지난 처리 중 기록을 다시 선점 (1이면 선점)
+    @Modifying
+    @Query("""
+        UPDATE IdempotencyRecord r
+        SET r.status = com.onemorethink.domadosever.global.idempotency.entity.IdempotencyStatus.IN_PROGRESS,
+            r.fingerprint = :fingerprint, r.responseBody = NULL,
+            r.lockedUntil = :lockedUntil, r.expiresAt = :expiresAt, r.version = r.version + 1
+        WHERE r.id = :id
+        AND (r.expiresAt < :now
+             OR (r.status = com.onemorethink.domadosever.global.idempotency.entity.IdempotencyStatus.IN_PROGRESS
+                 AND r.lockedUntil < :now))
+        """)
+    int takeOver(@Param("id") String id,
+                 @Param("fingerprint") String fingerprint,
+                 @Param("now") LocalDateTime now,
+                 @Param("lockedUntil") LocalDateTime lockedUntil,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("""
+        DELETE FROM IdempotencyRecord r
+        WHERE r.id = :id
+        AND r.status = com.onemorethink.domadosever.global.idempotency.entity.IdempotencyStatus.IN_PROGRESS
+        """)
+    int deleteInProgress(@Param("id") String id);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
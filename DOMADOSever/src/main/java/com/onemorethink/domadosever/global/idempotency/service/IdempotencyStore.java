@@ -0,0 +1,220 @@
+package com.onemorethink.domadosever.global.idempotency.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.idempotency.entity.IdempotencyRecord;
+import com.onemorethink.domadosever.global.idempotency.repository.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 저장소
+ * - 처리 완료된 응답은 크기가 제한된 메모리 LRU에서 먼저 찾고, 없으면(다른 서버에서 처리됐거나 밀려난 경우) DB에서 찾습니다.
+ * - 키 선점은 DB 기본 키로 이루어지므로 여러 서버에 같은 키가 동시에 들어와도 한 요청만 처리됩니다.
+ * - 같은 서버에서 처리 중인 키로 다시 들어온 요청은 잠시 기다렸다가 처음 요청의 응답을 돌려줍니다.
+ * - 선점·완료·해제는 각각 별도의 짧은 트랜잭션으로 커밋되어 업무 트랜잭션과 섞이지 않습니다.
+ */
+@Slf4j
+@Service
+public class IdempotencyStore {
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, StoredResponse> cache;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration lock;
+    private final long waitMillis;
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${idempotency.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                            @Value("${idempotency.lock-seconds:30}") long lockSeconds,
+                            @Value("${idempotency.wait-ms:3000}") long waitMillis) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.lock = Duration.ofSeconds(lockSeconds);
+        this.waitMillis = waitMillis;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 키 선점
+     * 선점에 성공하면 빈 값, 이미 처리된 요청이면 저장된 응답을 반환합니다.
+     * 다른 곳에서 처리 중이거나 같은 키로 다른 요청을 보낸 경우 BusinessException을 던집니다.
+     */
+    public Optional<String> reserve(String id, String fingerprint) {
+        StoredResponse cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached.replay(fingerprint));
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(id, mine);
+        if (running != null) {
+            return Optional.of(await(running, fingerprint));
+        }
+
+        try {
+            StoredResponse stored = reserveInDatabase(id, fingerprint);
+            if (stored == null) {
+                return Optional.empty();
+            }
+            cache.put(id, stored);
+            finish(id, stored);
+            return Optional.of(stored.replay(fingerprint));
+        } catch (RuntimeException e) {
+            finish(id, null);
+            throw e;
+        }
+    }
+
+    // 선점한 요청의 성공 응답 저장
+    public void complete(String id, String fingerprint, String responseBody) {
+        if (!IdempotencyRecord.fits(responseBody)) {
+            log.warn("Idempotent response too large to store. id: {}, length: {}", id, responseBody.length());
+            release(id);
+            return;
+        }
+
+        StoredResponse stored = new StoredResponse(fingerprint, responseBody);
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.findById(id)
+                    .ifPresent(record -> record.complete(responseBody)));
+            cache.put(id, stored);
+        } catch (Exception e) {
+            // 저장에 실패해도 선점 만료 후 재시도가 다시 처리됨
+            log.error("Failed to store idempotent response. id: {}", id, e);
+        }
+        finish(id, stored);
+    }
+
+    // 선점한 요청이 실패하면 키를 풀어 다시 처리할 수 있게 함
+    public void release(String id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deleteInProgress(id));
+        } catch (Exception e) {
+            log.error("Failed to release idempotency key. id: {}", id, e);
+        }
+        finish(id, null);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+            if (deleted != null && deleted > 0) {
+                log.info("만료된 Idempotency-Key 기록 삭제. count: {}", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge expired idempotency records", e);
+        }
+    }
+
+    // 선점에 성공하면 null, 이미 처리된 요청이면 저장된 응답
+    private StoredResponse reserveInDatabase(String id, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = findRecord(id);
+        if (record == null) {
+            if (tryInsert(id, fingerprint, now)) {
+                return null;
+            }
+            // 다른 서버가 먼저 선점
+            record = findRecord(id);
+        }
+
+        if (record != null && record.isReplayable(now)) {
+            return new StoredResponse(record.getFingerprint(), record.getResponseBody());
+        }
+        if (record != null && record.isLocked(now)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+
+        // 만료되었거나 처리하던 서버가 응답을 남기지 못한 기록, 또는 그 사이 해제된 키
+        boolean reserved = record == null
+                ? tryInsert(id, fingerprint, now)
+                : Integer.valueOf(1).equals(transactionTemplate.execute(status -> idempotencyRecordRepository.takeOver(
+                        id, fingerprint, now, now.plus(lock), now.plus(ttl))));
+        if (!reserved) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        return null;
+    }
+
+    private IdempotencyRecord findRecord(String id) {
+        return transactionTemplate.execute(status -> idempotencyRecordRepository.findById(id).orElse(null));
+    }
+
+    private boolean tryInsert(String id, String fingerprint, LocalDateTime now) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.saveAndFlush(
+                    IdempotencyRecord.reserve(id, fingerprint, now.plus(lock), now.plus(ttl))));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private String await(CompletableFuture<StoredResponse> running, String fingerprint) {
+        try {
+            StoredResponse stored = running.get(waitMillis, TimeUnit.MILLISECONDS);
+            if (stored != null) {
+                return stored.replay(fingerprint);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 처음 요청이 아직 끝나지 않음
+        }
+        throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    // 같은 서버에서 기다리던 요청에 결과 전달 (실패/해제는 null)
+    private void finish(String id, StoredResponse stored) {
+        CompletableFuture<StoredResponse> running = inFlight.remove(id);
+        if (running != null) {
+            running.complete(stored);
+        }
+    }
+
+    private static final class StoredResponse {
+        private final String fingerprint;
+        private final String body;
+
+        private StoredResponse(String fingerprint, String body) {
+            this.fingerprint = fingerprint;
+            this.body = body;
+        }
+
+        private String replay(String requestFingerprint) {
+            if (!fingerprint.equals(requestFingerprint)) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            return body;
+        }
+    }
+}
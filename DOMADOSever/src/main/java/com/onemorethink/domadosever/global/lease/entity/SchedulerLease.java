@@ -0,0 +1,39 @@
+package com.onemorethink.domadosever.global.lease.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 서버 중 한 곳에서만 실행해야 하는 예약 작업의 실행권
+ * 점유 만료 시각이 지나면 다른 서버가 가져갈 수 있으므로, 실행 중 서버가 죽어도 작업이 멈추지 않습니다.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    // 최초 생성 시 저장(INSERT)되도록 버전 사용, 동시에 생성하면 한쪽은 키 중복으로 실패
+    @Version
+    private Long version;
+
+    public SchedulerLease(String name, String owner, LocalDateTime lockedUntil) {
+        this.name = name;
+        this.owner = owner;
+        this.lockedUntil = lockedUntil;
+    }
+}
@@ -0,0 +1,32 @@
+package com.onemorethink.domadosever.global.lease.repository;
+
+import com.onemorethink.domadosever.global.lease.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 만료되었거나 이미 내가 가진 실행권만 가져옴 (1이면 획득)
+    @Modifying
+    @Query("""
+        UPDATE SchedulerLease l
+        SET l.owner = :owner, l.lockedUntil = :lockedUntil, l.version = l.version + 1
+        WHERE l.name = :name AND (l.lockedUntil < :now OR l.owner = :owner)
+        """)
+    int tryAcquire(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("now") LocalDateTime now,
+                   @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.lockedUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+}
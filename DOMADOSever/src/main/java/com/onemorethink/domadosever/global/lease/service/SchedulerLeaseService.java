@@ -0,0 +1,82 @@
+package com.onemorethink.domadosever.global.lease.service;
+
+import com.onemorethink.domadosever.global.lease.entity.SchedulerLease;
+import com.onemorethink.domadosever.global.lease.repository.SchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예약 작업 실행권(lease) 관리
+ * - 획득/연장/반납은 각각 별도의 짧은 트랜잭션으로 커밋되므로, 작업 본문이 트랜잭션을 오래 잡지 않습니다.
+ * - 작업은 lease 시간 안에 끝나도록 나누어 실행하고, 길어지면 중간에 다시 tryAcquire로 연장합니다.
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    public SchedulerLeaseService(SchedulerLeaseRepository schedulerLeaseRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    /**
+     * 실행권 획득 또는 연장 (다른 서버가 만료 전 실행권을 가지고 있으면 false)
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(duration);
+
+        Integer acquired = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.tryAcquire(name, owner, now, lockedUntil));
+        if (acquired != null && acquired > 0) {
+            return true;
+        }
+
+        // 처음 실행되는 작업이면 실행권 행 생성
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (schedulerLeaseRepository.existsById(name)) {
+                    return false;
+                }
+                schedulerLeaseRepository.saveAndFlush(new SchedulerLease(name, owner, lockedUntil));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Scheduler lease created by another node. name: {}", name);
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    schedulerLeaseRepository.release(name, owner, LocalDateTime.now()));
+        } catch (Exception e) {
+            // 반납에 실패해도 만료 후 다른 서버가 가져감
+            log.warn("Failed to release scheduler lease. name: {}, error: {}", name, e.getMessage());
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
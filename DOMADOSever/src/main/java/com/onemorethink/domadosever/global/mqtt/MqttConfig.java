@@ -0,0 +1,25 @@
+package com.onemorethink.domadosever.global.mqtt;
+
+import com.onemorethink.domadosever.global.mqtt.transport.InProcessLockCommandTransport;
+import com.onemorethink.domadosever.global.mqtt.transport.LockCommandTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@Slf4j
+public class MqttConfig {
+
+    // 브로커 연동 전까지는 프로세스 내 전송 계층 사용 (mqtt.transport 값으로 다른 구현 선택)
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mqtt.transport", havingValue = "in-process", matchIfMissing = true)
+    public LockCommandTransport inProcessLockCommandTransport(
+            @Value("${mqtt.in-process.ack-delay-ms:50}") long ackDelayMs) {
+        log.info("Using in-process lock command transport (ack delay: {}ms)", ackDelayMs);
+        return new InProcessLockCommandTransport(Duration.ofMillis(ackDelayMs));
+    }
+}
@@ -0,0 +1,29 @@
+package com.onemorethink.domadosever.global.mqtt.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 자전거 잠금 장치로 보내는 명령
+ * 재전송 시에도 같은 commandId를 사용하므로, 장치는 이미 실행한 commandId를 다시 실행하지 않아야 합니다.
+ */
+@Getter
+@Builder
+public class LockCommand {
+    private final String commandId;     // 요청-응답 상관 ID
+    private final Long bikeId;
+    private final LockCommandType type;
+    private final LocalDateTime issuedAt;
+
+    public static LockCommand of(Long bikeId, LockCommandType type) {
+        return LockCommand.builder()
+                .commandId(UUID.randomUUID().toString())
+                .bikeId(bikeId)
+                .type(type)
+                .issuedAt(LocalDateTime.now())
+                .build();
+    }
+}
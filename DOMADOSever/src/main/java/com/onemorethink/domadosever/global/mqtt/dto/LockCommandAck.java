@@ -0,0 +1,31 @@
+package com.onemorethink.domadosever.global.mqtt.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 잠금 장치의 명령 처리 결과
+@Getter
+@Builder
+public class LockCommandAck {
+    private final String commandId;
+    private final Long bikeId;
+    private final boolean success;
+    private final String reason;    // 실패 사유
+
+    public static LockCommandAck accepted(LockCommand command) {
+        return LockCommandAck.builder()
+                .commandId(command.getCommandId())
+                .bikeId(command.getBikeId())
+                .success(true)
+                .build();
+    }
+
+    public static LockCommandAck rejected(LockCommand command, String reason) {
+        return LockCommandAck.builder()
+                .commandId(command.getCommandId())
+                .bikeId(command.getBikeId())
+                .success(false)
+                .reason(reason)
+                .build();
+    }
+}
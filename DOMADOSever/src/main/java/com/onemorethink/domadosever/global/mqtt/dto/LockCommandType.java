@@ -0,0 +1,16 @@
+package com.onemorethink.domadosever.global.mqtt.dto;
+
+public enum LockCommandType {
+    UNLOCK("잠금 해제"),
+    LOCK("잠금");
+
+    private final String description;
+
+    LockCommandType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
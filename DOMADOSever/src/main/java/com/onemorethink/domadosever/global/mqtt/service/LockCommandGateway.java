@@ -0,0 +1,150 @@
+package com.onemorethink.domadosever.global.mqtt.service;
+
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.mqtt.dto.LockCommand;
+import com.onemorethink.domadosever.global.mqtt.dto.LockCommandAck;
+import com.onemorethink.domadosever.global.mqtt.dto.LockCommandType;
+import com.onemorethink.domadosever.global.mqtt.transport.LockCommandTransport;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자전거 잠금 명령 게이트웨이
+ * - 명령을 발행하고 응답을 기다리지 않고 바로 CompletableFuture를 반환합니다.
+ * - 응답은 commandId로 대기 중인 명령과 연결되므로, 하나의 전송 연결로 여러 명령을 동시에 주고받습니다.
+ * - 응답 제한 시간 안에 응답이 없으면 같은 commandId로 재전송하고, 재전송 횟수를 넘기면 시간 초과로 실패합니다.
+ */
+@Slf4j
+@Component
+public class LockCommandGateway {
+    private final LockCommandTransport transport;
+    private final Duration ackTimeout;
+    private final int maxRetries;
+    private final Map<String, PendingCommand> pendingCommands = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor timeoutScheduler;
+
+    public LockCommandGateway(LockCommandTransport transport,
+                              @Value("${mqtt.lock-command.ack-timeout-ms:3000}") long ackTimeoutMs,
+                              @Value("${mqtt.lock-command.max-retries:2}") int maxRetries) {
+        this.transport = transport;
+        this.ackTimeout = Duration.ofMillis(ackTimeoutMs);
+        this.maxRetries = maxRetries;
+        this.timeoutScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "lock-command-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timeoutScheduler.setRemoveOnCancelPolicy(true);
+        transport.subscribeAcks(this::onAck);
+    }
+
+    /**
+     * 잠금/잠금 해제 명령 전송
+     * 장치가 수락하면 응답으로 완료되고, 거부·시간 초과·발행 실패 시 BusinessException으로 실패합니다.
+     */
+    public CompletableFuture<LockCommandAck> send(Long bikeId, LockCommandType type) {
+        LockCommand command = LockCommand.of(bikeId, type);
+        PendingCommand pending = new PendingCommand(command);
+        pendingCommands.put(command.getCommandId(), pending);
+
+        try {
+            publish(pending);
+        } catch (Exception e) {
+            pendingCommands.remove(command.getCommandId());
+            pending.cancelTimeout();
+            pending.future.completeExceptionally(
+                    new BusinessException(ErrorCode.MQTT_PUBLISH_FAILED, e.getMessage(), e));
+        }
+        return pending.future;
+    }
+
+    public int getInFlightCount() {
+        return pendingCommands.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timeoutScheduler.shutdownNow();
+        pendingCommands.values().forEach(pending -> pending.future.completeExceptionally(
+                new BusinessException(ErrorCode.LOCK_COMMAND_TIMEOUT, "서버 종료로 명령 응답을 받지 못했습니다.")));
+        pendingCommands.clear();
+    }
+
+    private void publish(PendingCommand pending) {
+        pending.attempts++;
+        pending.timeout = timeoutScheduler.schedule(
+                () -> onTimeout(pending), ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        transport.publish(pending.command);
+    }
+
+    private void onAck(LockCommandAck ack) {
+        PendingCommand pending = pendingCommands.remove(ack.getCommandId());
+        if (pending == null) {
+            // 재전송으로 인한 중복 응답 또는 시간 초과 이후 도착한 응답
+            log.debug("Ignoring ack for unknown command. commandId: {}", ack.getCommandId());
+            return;
+        }
+        pending.cancelTimeout();
+
+        if (ack.isSuccess()) {
+            pending.future.complete(ack);
+        } else {
+            pending.future.completeExceptionally(new BusinessException(ErrorCode.LOCK_COMMAND_REJECTED,
+                    String.format("bikeId: %d, reason: %s", ack.getBikeId(), ack.getReason())));
+        }
+    }
+
+    private void onTimeout(PendingCommand pending) {
+        String commandId = pending.command.getCommandId();
+        if (pendingCommands.get(commandId) != pending) {
+            return;
+        }
+
+        if (pending.attempts <= maxRetries) {
+            log.warn("Lock command ack timed out, retrying. bikeId: {}, type: {}, attempt: {}/{}",
+                    pending.command.getBikeId(), pending.command.getType(), pending.attempts + 1, maxRetries + 1);
+            try {
+                publish(pending);
+            } catch (Exception e) {
+                // 발행 실패도 응답 유실과 같이 다음 시간 초과에서 처리
+                log.warn("Lock command republish failed. commandId: {}, error: {}", commandId, e.getMessage());
+            }
+            return;
+        }
+
+        if (pendingCommands.remove(commandId, pending)) {
+            pending.future.completeExceptionally(new BusinessException(ErrorCode.LOCK_COMMAND_TIMEOUT,
+                    String.format("bikeId: %d, type: %s, attempts: %d",
+                            pending.command.getBikeId(), pending.command.getType(), pending.attempts)));
+        }
+    }
+
+    private static final class PendingCommand {
+        private final LockCommand command;
+        private final CompletableFuture<LockCommandAck> future = new CompletableFuture<>();
+        private volatile int attempts;
+        private volatile ScheduledFuture<?> timeout;
+
+        private PendingCommand(LockCommand command) {
+            this.command = command;
+        }
+
+        private void cancelTimeout() {
+            ScheduledFuture<?> current = timeout;
+            if (current != null) {
+                current.cancel(false);
+            }
+        }
+    }
+}
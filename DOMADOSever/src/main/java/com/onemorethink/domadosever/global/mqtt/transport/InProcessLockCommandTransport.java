@@ -0,0 +1,73 @@
+package com.onemorethink.domadosever.global.mqtt.transport;
+
+import com.onemorethink.domadosever.global.mqtt.dto.LockCommand;
+import com.onemorethink.domadosever.global.mqtt.dto.LockCommandAck;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 브로커 없이 프로세스 안에서 동작하는 전송 계층 (로컬 실행·테스트용)
+ * 발행된 명령을 ackDelay 후 가상 장치에 전달하고, 장치의 응답을 구독자에게 돌려줍니다.
+ * 가상 장치 동작을 바꿔 응답 지연·유실·거부를 재현할 수 있습니다. (응답으로 null을 반환하면 유실)
+ */
+@Slf4j
+public class InProcessLockCommandTransport implements LockCommandTransport, AutoCloseable {
+    private final ScheduledExecutorService scheduler;
+    private final Duration ackDelay;
+    private final List<Consumer<LockCommandAck>> ackListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private volatile Function<LockCommand, LockCommandAck> device = LockCommandAck::accepted;
+
+    public InProcessLockCommandTransport(Duration ackDelay) {
+        this.ackDelay = ackDelay;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "in-process-lock-broker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void publish(LockCommand command) {
+        publishedCount.incrementAndGet();
+        log.debug("Publish {} -> {}", command.getType(), String.format(COMMAND_TOPIC, command.getBikeId()));
+        scheduler.schedule(() -> deliver(command), ackDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void subscribeAcks(Consumer<LockCommandAck> listener) {
+        ackListeners.add(listener);
+    }
+
+    public void setDevice(Function<LockCommand, LockCommandAck> device) {
+        this.device = device;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void deliver(LockCommand command) {
+        LockCommandAck ack = device.apply(command);
+        if (ack == null) {
+            return;
+        }
+        for (Consumer<LockCommandAck> listener : ackListeners) {
+            listener.accept(ack);
+        }
+    }
+}
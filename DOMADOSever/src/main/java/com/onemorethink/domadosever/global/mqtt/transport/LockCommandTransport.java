@@ -0,0 +1,22 @@
+package com.onemorethink.domadosever.global.mqtt.transport;
+
+import com.onemorethink.domadosever.global.mqtt.dto.LockCommand;
+import com.onemorethink.domadosever.global.mqtt.dto.LockCommandAck;
+
+import java.util.function.Consumer;
+
+/**
+ * 잠금 명령 전송 계층
+ * - 명령은 자전거별 토픽(bikes/{bikeId}/commands)에 QoS 1로 발행하고,
+ *   응답은 와일드카드 토픽(bikes/+/acks) 하나를 구독하여 받습니다.
+ * - 하나의 연결로 모든 자전거의 명령을 주고받으며, 요청과 응답의 연결은 commandId로 게이트웨이가 처리합니다.
+ * - publish는 발행 요청만 하고 바로 반환해야 합니다. (응답 대기 금지)
+ */
+public interface LockCommandTransport {
+    String COMMAND_TOPIC = "bikes/%d/commands";
+    String ACK_TOPIC = "bikes/+/acks";
+
+    void publish(LockCommand command);
+
+    void subscribeAcks(Consumer<LockCommandAck> listener);
+}
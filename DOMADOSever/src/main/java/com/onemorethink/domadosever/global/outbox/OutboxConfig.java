@@ -0,0 +1,29 @@
+package com.onemorethink.domadosever.global.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class OutboxConfig {
+
+    // outbox 이벤트 처리 전용 스레드 풀 (큐가 차면 거절하고, 워커는 넘기지 못한 이벤트의 점유를 되돌려 다음 폴링에서 처리)
+    @Bean(name = "outboxTaskExecutor")
+    public ThreadPoolTaskExecutor outboxTaskExecutor(
+            @Value("${outbox.worker.pool-size:4}") int poolSize,
+            @Value("${outbox.batch-size:50}") int batchSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(batchSize);
+        executor.setThreadNamePrefix("outbox-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,104 @@
+package com.onemorethink.domadosever.global.outbox.entity;
+
+import com.onemorethink.domadosever.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업무 트랜잭션과 함께 저장되고, 커밋 이후 워커가 처리하는 후속 작업
+ * - 처리 중 장애가 나도 이벤트가 남아 있으므로 최소 한 번(at-least-once) 실행됩니다. (핸들러는 멱등하게 작성)
+ * - 실패 시 지수 백오프로 재시도하며, 최대 횟수를 넘기면 FAILED로 남깁니다.
+ * - 같은 집합의 이벤트는 앞선 이벤트가 끝나야(COMPLETED/FAILED) 다음 이벤트가 처리됩니다.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_aggregate_status", columnList = "aggregate_id, aggregate_type, status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(length = 4000)
+    private String payload;  // JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEventStatus status = OutboxEventStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime lockedUntil;  // 처리 중 점유 만료 시각 (워커 장애 시 다시 처리 대상이 됨)
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime processedAt;
+
+    public static OutboxEvent of(OutboxEventType eventType, Long aggregateId, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.aggregateType = eventType.getAggregateType();
+        event.aggregateId = aggregateId;
+        event.payload = payload;
+        event.nextAttemptAt = LocalDateTime.now();
+        return event;
+    }
+
+    public void claim(LocalDateTime lockedUntil) {
+        this.status = OutboxEventStatus.PROCESSING;
+        this.lockedUntil = lockedUntil;
+    }
+
+    // 처리 스레드 풀에 넘기지 못한 점유를 되돌려 다음 폴링에서 바로 다시 점유
+    public void release() {
+        this.status = OutboxEventStatus.PENDING;
+        this.lockedUntil = null;
+    }
+
+    public void markCompleted(LocalDateTime now) {
+        this.status = OutboxEventStatus.COMPLETED;
+        this.processedAt = now;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    // 재시도 가능하면 nextAttemptAt 이후 다시 처리, 아니면 FAILED로 종료
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        this.lockedUntil = null;
+
+        if (attempts >= maxAttempts) {
+            this.status = OutboxEventStatus.FAILED;
+            return;
+        }
+        this.status = OutboxEventStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.onemorethink.domadosever.global.outbox.entity;
+
+public enum OutboxEventStatus {
+    PENDING("처리대기"),
+    PROCESSING("처리중"),
+    COMPLETED("처리완료"),
+    FAILED("재시도초과");
+
+    private final String description;
+
+    OutboxEventStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,42 @@
+package com.onemorethink.domadosever.global.outbox.entity;
+
+/**
+ * outbox 이벤트 종류
+ * 같은 집합(aggregateType + aggregateId)의 이벤트는 저장된 순서대로 처리되므로,
+ * 대여 생명주기 이벤트는 모두 대여 ID를 집합 ID로 사용합니다.
+ */
+public enum OutboxEventType {
+    // 대여
+    RENTAL_STARTED("RENTAL", "대여 시작"),
+    RENTAL_PAUSED("RENTAL", "일시 잠금"),
+    RENTAL_RESUMED("RENTAL", "일시 잠금 해제"),
+    HIBIKE_REGISTERED("RENTAL", "HiBike 등록"),
+    HIBIKE_CANCELLED("RENTAL", "HiBike 취소"),
+    STAMP_ISSUE_REQUESTED("RENTAL", "HiBike 이용 스탬프 발급 요청"),
+    RENTAL_RETURNED("RENTAL", "반납 완료 알림"),
+    RENTAL_OVERDUE("RENTAL", "연체 전환"),
+    RENTAL_FORCIBLY_ENDED("RENTAL", "장기 방치 대여 강제 종료"),
+
+    // 결제
+    PAYMENT_CAPTURE_REQUESTED("PAYMENT", "대여 요금 결제 요청"),
+    PAYMENT_COMPLETED("PAYMENT", "결제 완료 알림"),
+
+    // 쿠폰
+    COUPON_ISSUED("COUPON", "쿠폰 발급 알림");
+
+    private final String aggregateType;
+    private final String description;
+
+    OutboxEventType(String aggregateType, String description) {
+        this.aggregateType = aggregateType;
+        this.description = description;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,47 @@
+package com.onemorethink.domadosever.global.outbox.repository;
+
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // Hibernate LockOptions.SKIP_LOCKED (지원하지 않는 DB에서는 일반 FOR UPDATE로 동작)
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * 처리 시각이 된 대기 이벤트 + 점유 시간이 만료된 처리 중 이벤트 (먼저 쌓인 순)
+     * - 같은 집합에 아직 끝나지 않은 앞선 이벤트가 있으면 제외하여 집합 단위 처리 순서를 보장합니다.
+     * - FOR UPDATE SKIP LOCKED로 조회하므로, 여러 서버가 동시에 폴링해도 다른 서버가 점유 중인 행은 건너뜁니다.
+     *   (잠금은 바깥 조회 대상에만 걸리고, 순서 확인용 하위 조회는 잠그지 않습니다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("""
+        SELECT e FROM OutboxEvent e
+        WHERE ((e.status = com.onemorethink.domadosever.global.outbox.entity.OutboxEventStatus.PENDING
+               AND e.nextAttemptAt <= :now)
+        OR (e.status = com.onemorethink.domadosever.global.outbox.entity.OutboxEventStatus.PROCESSING
+               AND e.lockedUntil < :now))
+        AND NOT EXISTS (
+            SELECT 1 FROM OutboxEvent p
+            WHERE p.aggregateId = e.aggregateId
+            AND p.aggregateType = e.aggregateType
+            AND p.status IN (com.onemorethink.domadosever.global.outbox.entity.OutboxEventStatus.PENDING,
+                             com.onemorethink.domadosever.global.outbox.entity.OutboxEventStatus.PROCESSING)
+            AND p.id < e.id
+        )
+        ORDER BY e.id
+        """)
+    List<OutboxEvent> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+}
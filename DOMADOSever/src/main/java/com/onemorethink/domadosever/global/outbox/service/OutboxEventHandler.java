@@ -0,0 +1,27 @@
+package com.onemorethink.domadosever.global.outbox.service;
+
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * outbox 이벤트 처리기
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로 이미 처리된 경우를 확인하고 건너뛰어야 합니다.
+ * 한 이벤트에 여러 처리기가 등록될 수 있으며, 하나라도 예외를 던지면 워커가 백오프 후 모든 처리기에 다시 전달합니다.
+ */
+public interface OutboxEventHandler {
+    Set<OutboxEventType> getEventTypes();
+
+    void handle(OutboxEvent event);
+
+    /**
+     * 응답을 기다려야 하는 처리기(잠금 명령 등)는 워커 스레드를 점유하지 않도록 재정의하여,
+     * 처리가 끝나면 완료되는 future를 반환합니다.
+     */
+    default CompletableFuture<Void> handleAsync(OutboxEvent event) {
+        handle(event);
+        return CompletableFuture.completedFuture(null);
+    }
+}
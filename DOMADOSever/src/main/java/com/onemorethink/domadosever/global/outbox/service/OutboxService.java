@@ -0,0 +1,54 @@
+package com.onemorethink.domadosever.global.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 현재 업무 트랜잭션에 후속 작업을 추가합니다.
+     * 업무 데이터와 같은 트랜잭션으로 저장되므로, 커밋된 경우에만 워커가 처리합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent append(OutboxEventType eventType, Long aggregateId) {
+        return outboxEventRepository.save(OutboxEvent.of(eventType, aggregateId, null));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent append(OutboxEventType eventType, Long aggregateId, Map<String, Object> payload) {
+        return outboxEventRepository.save(OutboxEvent.of(eventType, aggregateId, toJson(payload)));
+    }
+
+    public Map<String, Object> readPayload(OutboxEvent event) {
+        if (event.getPayload() == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(event.getPayload(),
+                    objectMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid outbox payload. eventId: " + event.getId(), e);
+        }
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize outbox payload", e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.onemorethink.domadosever.global.outbox.service;
+
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEvent;
+import com.onemorethink.domadosever.global.outbox.entity.OutboxEventType;
+import com.onemorethink.domadosever.global.outbox.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * outbox 이벤트 폴링 워커
+ * - 처리할 이벤트를 짧은 트랜잭션으로 점유(PROCESSING + 점유 만료 시각)한 뒤 스레드 풀에 나눠 처리합니다.
+ * - 핸들러는 워커 트랜잭션 밖에서 실행되므로, 외부 호출 동안 outbox 행 잠금을 잡고 있지 않습니다.
+ * - 응답을 기다리는 비동기 핸들러는 future가 끝날 때 완료/실패를 기록하므로, 대기 중 워커 스레드를 점유하지 않습니다.
+ * - 점유한 워커가 죽으면 점유 만료 후 다음 폴링에서 다시 처리됩니다.
+ * - 스레드 풀 큐의 남은 자리만큼만 점유하고, 그래도 넘기지 못한 이벤트는 점유를 되돌리므로
+ *   처리가 밀려도 스케줄러 스레드에서 핸들러를 실행하지 않습니다.
+ * - 점유는 SKIP LOCKED 조회로 이루어지므로 여러 서버에서 동시에 실행해도 같은 이벤트를 중복 점유하지 않으며,
+ *   같은 집합의 이벤트는 한 번에 하나씩만 점유됩니다.
+ */
+@Slf4j
+@Component
+public class OutboxWorker {
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<OutboxEventType, List<OutboxEventHandler>> handlers = new EnumMap<>(OutboxEventType.class);
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+
+    public OutboxWorker(OutboxEventRepository outboxEventRepository,
+                        TransactionTemplate transactionTemplate,
+                        @Qualifier("outboxTaskExecutor") ThreadPoolTaskExecutor executor,
+                        List<OutboxEventHandler> handlers,
+                        @Value("${outbox.batch-size:50}") int batchSize,
+                        @Value("${outbox.max-attempts:10}") int maxAttempts,
+                        @Value("${outbox.lease-seconds:60}") long leaseSeconds) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        handlers.forEach(handler -> handler.getEventTypes().forEach(eventType ->
+                this.handlers.computeIfAbsent(eventType, key -> new ArrayList<>()).add(handler)));
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public void poll() {
+        int limit = Math.min(batchSize, executor.getQueueCapacity() - executor.getQueueSize());
+        if (limit <= 0) {
+            return;
+        }
+
+        List<OutboxEvent> claimed;
+        try {
+            claimed = claimBatch(limit);
+        } catch (Exception e) {
+            log.error("Failed to claim outbox events", e);
+            return;
+        }
+
+        for (int i = 0; i < claimed.size(); i++) {
+            OutboxEvent event = claimed.get(i);
+            try {
+                executor.execute(() -> process(event));
+            } catch (TaskRejectedException e) {
+                log.warn("Outbox executor queue full, releasing {} claimed events", claimed.size() - i);
+                release(claimed.subList(i, claimed.size()));
+                return;
+            }
+        }
+    }
+
+    private List<OutboxEvent> claimBatch(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findClaimable(now, PageRequest.of(0, limit));
+            events.forEach(event -> event.claim(now.plus(lease)));
+            return events;
+        });
+    }
+
+    private void release(List<OutboxEvent> events) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findAllById(
+                    events.stream().map(OutboxEvent::getId).toList()).forEach(OutboxEvent::release));
+        } catch (Exception e) {
+            // 되돌리지 못해도 점유 만료 후 다시 처리됨
+            log.error("Failed to release outbox events", e);
+        }
+    }
+
+    void process(OutboxEvent event) {
+        // 비동기 처리기가 끝난 뒤의 완료/실패 기록은 다시 워커 스레드 풀에서 수행하고,
+        // 큐가 가득 차 있으면 처리기를 끝낸 스레드에서 바로 기록 (폴링 스레드에서는 실행되지 않음)
+        dispatch(event).whenComplete((ignored, error) -> {
+            try {
+                executor.execute(() -> complete(event, error));
+            } catch (TaskRejectedException e) {
+                complete(event, error);
+            }
+        });
+    }
+
+    private void complete(OutboxEvent event, Throwable error) {
+        Throwable failure = error;
+        if (failure == null) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(event.getId())
+                        .ifPresent(saved -> saved.markCompleted(LocalDateTime.now())));
+                return;
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        int attempt = event.getAttempts() + 1;
+        log.warn("Outbox event failed. id: {}, type: {}, aggregateId: {}, attempt: {}/{}, error: {}",
+                event.getId(), event.getEventType(), event.getAggregateId(), attempt, maxAttempts, failure.getMessage());
+        recordFailure(event.getId(), failure, attempt);
+    }
+
+    private CompletableFuture<Void> dispatch(OutboxEvent event) {
+        try {
+            List<OutboxEventHandler> eventHandlers = handlers.get(event.getEventType());
+            if (eventHandlers == null) {
+                throw new IllegalStateException("No outbox handler for " + event.getEventType());
+            }
+            return CompletableFuture.allOf(eventHandlers.stream()
+                    .map(handler -> handler.handleAsync(event))
+                    .toArray(CompletableFuture[]::new));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void recordFailure(Long eventId, Throwable e, int attempt) {
+        try {
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempt));
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(eventId)
+                    .ifPresent(saved -> saved.markFailed(e.getMessage(), nextAttemptAt, maxAttempts)));
+        } catch (Exception recordError) {
+            // 기록에 실패해도 점유 만료 후 다시 처리됨
+            log.error("Failed to record outbox failure. id: {}", eventId, recordError);
+        }
+    }
+
+    // 2s, 4s, 8s ... 최대 10분
+    private Duration backoff(int attempt) {
+        long multiplier = 1L << Math.min(attempt - 1, 20);
+        Duration delay = BASE_BACKOFF.multipliedBy(multiplier);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
@@ -0,0 +1,89 @@
+package com.onemorethink.domadosever.global.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * 외부 호출용 회로 차단기
+ * - CLOSED: 모든 호출 허용, 연속 실패가 failureThreshold에 이르면 OPEN
+ * - OPEN: openDuration 동안 호출 차단, 이후 첫 요청 하나만 시험 호출로 허용 (HALF_OPEN)
+ * - HALF_OPEN: 시험 호출이 성공하면 CLOSED, 실패하면 다시 OPEN
+ * 호출 빈도가 낮은 곳(PG 결제 등)에서 쓰므로 상태 변경은 단순히 synchronized로 보호합니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    // 호출 허가 (HALF_OPEN 전환 시 시험 호출 권한을 가져감)
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+            log.info("Circuit breaker half-open. name: {}", name);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+            return true;
+        }
+        return state == State.CLOSED;
+    }
+
+    // 지금 호출한다면 허가될지 여부 (상태는 바꾸지 않음)
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> System.nanoTime() - openedAt >= openNanos;
+            case HALF_OPEN -> !trialInFlight;
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Circuit breaker closed. name: {}", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            log.warn("Circuit breaker opened. name: {}, consecutiveFailures: {}", name, consecutiveFailures);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    // OPEN 상태가 끝나기까지 남은 시간 (OPEN이 아니면 0)
+    public synchronized Duration remainingOpenDuration() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openNanos - (System.nanoTime() - openedAt)));
+    }
+}
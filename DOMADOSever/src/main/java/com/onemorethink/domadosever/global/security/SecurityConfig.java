@@ -61,6 +61,10 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/api/locations/bikes",
+                                "/api/locations/bikes/changes",
+                                "/api/locations/bikes/counts",
+                                "/api/locations/bikes/clusters",
+                                "/api/locations/bikes/nearest",
                                 "/h2-console/**",
                                 "/api-docs/**",
                                 "/swagger-ui/**",
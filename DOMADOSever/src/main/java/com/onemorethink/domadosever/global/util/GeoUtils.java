@@ -0,0 +1,48 @@
+package com.onemorethink.domadosever.global.util;
+
+public class GeoUtils {
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    public static final double KM_PER_DEGREE = 111.0;
+
+    // 극지방에서 경도 차이가 무한대로 커지는 것을 방지하기 위한 하한값
+    private static final double MIN_COS_LATITUDE = 0.01;
+
+    /**
+     * 두 좌표 사이의 대원 거리(km) 계산
+     * - Haversine 공식 사용
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 좌표가 중심점 기준 반경(km) 이내인지 확인
+     */
+    public static boolean isWithinRadius(double latitude, double longitude,
+                                         double centerLatitude, double centerLongitude,
+                                         double radiusKm) {
+        return distanceKm(centerLatitude, centerLongitude, latitude, longitude) <= radiusKm;
+    }
+
+    /**
+     * 반경(km)에 해당하는 위도 차이(도)
+     */
+    public static double latitudeDelta(double radiusKm) {
+        return radiusKm / KM_PER_DEGREE;
+    }
+
+    /**
+     * 반경(km)에 해당하는 경도 차이(도)
+     * - 경계 상자가 원을 완전히 포함하도록 중심보다 극에 가까운 위도를 기준으로 계산
+     */
+    public static double longitudeDelta(double latitude, double radiusKm) {
+        double farthestLatitude = Math.min(90.0, Math.abs(latitude) + latitudeDelta(radiusKm));
+        double cos = Math.max(MIN_COS_LATITUDE, Math.cos(Math.toRadians(farthestLatitude)));
+        return radiusKm / (KM_PER_DEGREE * cos);
+    }
+}
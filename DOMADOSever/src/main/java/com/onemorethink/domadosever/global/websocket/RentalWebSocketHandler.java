@@ -2,12 +2,15 @@ package com.onemorethink.domadosever.global.websocket;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onemorethink.domadosever.domain.location.stream.AvailabilitySubscriptionRegistry;
+import com.onemorethink.domadosever.domain.location.stream.ViewportBounds;
 import com.onemorethink.domadosever.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 import org.springframework.web.socket.CloseStatus;
 
@@ -21,7 +24,11 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class RentalWebSocketHandler extends TextWebSocketHandler {
     private static final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AvailabilitySubscriptionRegistry subscriptionRegistry;
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -37,10 +44,15 @@ public class RentalWebSocketHandler extends TextWebSocketHandler {
             existingSession.close();
         }
 
-        sessions.put(email, session);
+        // 대여 알림과 대여 현황 전송이 서로 다른 스레드에서 동시에 일어나므로 전송을 직렬화
+        // (이후 이 세션으로의 전송은 모두 decorator를 거쳐야 함)
+        WebSocketSession decoratedSession = new ConcurrentWebSocketSessionDecorator(
+                session, SEND_TIME_LIMIT_MS, SEND_BUFFER_SIZE_LIMIT);
+        sessions.put(email, decoratedSession);
+        subscriptionRegistry.unsubscribe(email);
 
         // 연결 성공 메시지 전송
-        sendMessage(session, WebSocketMessage.success(
+        sendMessage(decoratedSession, WebSocketMessage.success(
                 WebSocketMessageType.CONNECTED,
                 Map.of("message", "WebSocket 연결이 성공적으로 수립되었습니다.")
         ));
@@ -63,11 +75,11 @@ public class RentalWebSocketHandler extends TextWebSocketHandler {
         } catch (Exception e) {
             log.error("메시지 처리 중 오류 발생 - 사용자: {}", email, e);
             try {
-                sendMessage(session, WebSocketMessage.error(
+                sendMessage(email, session, WebSocketMessage.error(
                         WebSocketMessageType.ERROR,
                         ErrorCode.INVALID_MESSAGE_FORMAT
                 ));
-            } catch (IOException ex) {
+            } catch (IOException | IllegalStateException ex) {
                 log.error("에러 메시지 전송 실패", ex);
             }
         }
@@ -76,7 +88,12 @@ public class RentalWebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
         String email = getEmailFromSession(session);
-        sessions.remove(email);
+        // 같은 사용자의 새 세션으로 이미 교체된 경우에는 유지
+        boolean removed = sessions.computeIfPresent(email,
+                (key, current) -> current.getId().equals(session.getId()) ? null : current) == null;
+        if (removed) {
+            subscriptionRegistry.unsubscribe(email);
+        }
         log.info("WebSocket 연결 종료 - 사용자: {}, 상태: {}", email, status);
     }
 
@@ -87,6 +104,14 @@ public class RentalWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    // 수신한 세션으로 응답: 등록된 decorator가 같은 연결일 때만 전송 (새 연결로 교체된 세션은 곧 닫힘)
+    private void sendMessage(String email, WebSocketSession session, WebSocketMessage<?> message) throws IOException {
+        WebSocketSession current = email != null ? sessions.get(email) : null;
+        if (current != null && current.getId().equals(session.getId()) && current.isOpen()) {
+            sendMessage(current, message);
+        }
+    }
+
     private void sendMessage(WebSocketSession session, WebSocketMessage<?> message) throws IOException {
         String payload = objectMapper.writeValueAsString(message);
         session.sendMessage(new TextMessage(payload));
@@ -96,7 +121,13 @@ public class RentalWebSocketHandler extends TextWebSocketHandler {
         return (String) session.getAttributes().get("email");
     }
 
-    private void handleMessageByType(String email, String type, JsonNode messageData) {
+    private void handleMessageByType(String email, String type, JsonNode messageData) throws IOException {
         // 메시지 타입별 처리 로직 구현
+        switch (type) {
+            case WebSocketMessageType.SUBSCRIBE_AVAILABILITY -> subscriptionRegistry.subscribe(
+                    email, objectMapper.treeToValue(messageData.path("payload"), ViewportBounds.class));
+            case WebSocketMessageType.UNSUBSCRIBE_AVAILABILITY -> subscriptionRegistry.unsubscribe(email);
+            default -> log.debug("처리하지 않는 메시지 타입 - 사용자: {}, 타입: {}", email, type);
+        }
     }
 }
\ No newline at end of file
@@ -2,9 +2,7 @@ package com.onemorethink.domadosever.global.websocket;
 
 import com.onemorethink.domadosever.global.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
@@ -14,16 +12,12 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketConfigurer {
     private final JwtTokenProvider jwtTokenProvider;
+    private final RentalWebSocketHandler rentalWebSocketHandler;
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        registry.addHandler(websocketHandler(), "/ws/notifications")
+        registry.addHandler(rentalWebSocketHandler, "/ws/notifications")
                 .addInterceptors(new WebSocketAuthInterceptor(jwtTokenProvider))
                 .setAllowedOrigins("*");  // 실제 환경에서는 구체적인 도메인 지정
     }
-
-    @Bean
-    public WebSocketHandler websocketHandler() {
-        return new RentalWebSocketHandler();
-    }
 }
\ No newline at end of file
@@ -7,4 +7,17 @@ public class WebSocketMessageType {
     public static final String CONNECTED = "CONNECTED";
     public static final String DISCONNECTED = "DISCONNECTED";
     public static final String EMERGENCY_ALERT = "EMERGENCY_ALERT";
+
+    // 지도 영역 대여 현황 구독
+    public static final String SUBSCRIBE_AVAILABILITY = "SUBSCRIBE_AVAILABILITY";
+    public static final String UNSUBSCRIBE_AVAILABILITY = "UNSUBSCRIBE_AVAILABILITY";
+    public static final String AVAILABILITY_CHANGED = "AVAILABILITY_CHANGED";
+
+    // 대여 상태 변경 알림 (outbox 이벤트 이름과 동일)
+    public static final String RENTAL_STARTED = "RENTAL_STARTED";
+    public static final String RENTAL_PAUSED = "RENTAL_PAUSED";
+    public static final String RENTAL_RESUMED = "RENTAL_RESUMED";
+    public static final String HIBIKE_REGISTERED = "HIBIKE_REGISTERED";
+    public static final String HIBIKE_CANCELLED = "HIBIKE_CANCELLED";
+    public static final String RENTAL_RETURNED = "RENTAL_RETURNED";
 }
@@ -0,0 +1,24 @@
+-- 허브/요일/공휴일별 요금표 (행이 없으면 기본 요금표 사용)
+CREATE TABLE tariff_plans (
+    day_end time(6) NOT NULL,
+    day_rate integer NOT NULL,
+    day_start time(6) NOT NULL,
+    holiday date,
+    night_rate integer NOT NULL,
+    pause_rate integer,
+    unlock_fee integer NOT NULL,
+    created_at datetime(6),
+    hub_id bigint,
+    id bigint NOT NULL AUTO_INCREMENT,
+    updated_at datetime(6),
+    day_of_week enum ('FRIDAY','MONDAY','SATURDAY','SUNDAY','THURSDAY','TUESDAY','WEDNESDAY'),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+ALTER TABLE tariff_plans
+    ADD CONSTRAINT uk_tariff_plan_scope UNIQUE (hub_id, day_of_week, holiday);
+
+ALTER TABLE tariff_plans
+    ADD CONSTRAINT FKp64frdbhcs3gh3slsgc5qxxkv
+    FOREIGN KEY (hub_id)
+    REFERENCES hubs (id);
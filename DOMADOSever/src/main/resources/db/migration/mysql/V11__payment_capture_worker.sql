@@ -0,0 +1,13 @@
+-- 결제 워커: 요청 횟수/재시도 시각/점유 만료 시각, 결과 확인 상태(UNKNOWN), 결제 대기 건 조회 인덱스
+ALTER TABLE payments
+    ADD COLUMN capture_attempts integer NOT NULL DEFAULT 0,
+    ADD COLUMN capture_locked_until datetime(6),
+    ADD COLUMN next_capture_at datetime(6),
+    MODIFY COLUMN status enum ('CANCELLED','COMPLETED','FAILED','PENDING','PROCESSING','REFUNDED','UNKNOWN') NOT NULL;
+
+CREATE INDEX idx_payment_status_next_capture ON payments (status, next_capture_at);
+
+-- 워커 도입 전부터 요청 중(PROCESSING)이던 결제는 점유가 만료된 것으로 보고 다시 요청
+UPDATE payments
+SET capture_locked_until = CURRENT_TIMESTAMP(6)
+WHERE status = 'PROCESSING' AND capture_locked_until IS NULL;
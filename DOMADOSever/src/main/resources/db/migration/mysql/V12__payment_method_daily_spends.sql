@@ -0,0 +1,23 @@
+-- 결제 수단별 일일 결제 합계 (한도 검사용), PG 요청 전 선점한 한도 (점유가 만료된 결제를 다시 점유할 때 해제)
+CREATE TABLE payment_method_daily_spends (
+    payment_count integer NOT NULL,
+    spend_date date NOT NULL,
+    amount bigint NOT NULL,
+    created_at datetime(6),
+    id bigint NOT NULL AUTO_INCREMENT,
+    payment_method_id bigint NOT NULL,
+    updated_at datetime(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+ALTER TABLE payment_method_daily_spends
+    ADD CONSTRAINT uk_payment_method_spend_date UNIQUE (payment_method_id, spend_date);
+
+ALTER TABLE payment_method_daily_spends
+    ADD CONSTRAINT FKmy007t2643aa41lcn10nue6l5
+    FOREIGN KEY (payment_method_id)
+    REFERENCES payment_methods (id);
+
+ALTER TABLE payments
+    ADD COLUMN spend_reserved_amount integer,
+    ADD COLUMN spend_reserved_on date;
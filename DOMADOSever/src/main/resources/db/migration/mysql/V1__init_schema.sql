@@ -0,0 +1,291 @@
+-- 초기 스키마 (마이그레이션 도입 시점의 엔티티 매핑 기준, MySQL 8)
+-- 이후 추가되는 테이블/컬럼/인덱스는 각각의 V<n> 마이그레이션에서 생성합니다.
+
+create table bikes (
+    battery_level integer not null,
+    current_dock_id integer,
+    current_latitude float(53) not null,
+    current_longitude float(53) not null,
+    created_at datetime(6),
+    current_station_id bigint,
+    home_hub_id bigint not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    qr_code varchar(255) not null,
+    hi_bike_status enum ('AVAILABLE_FOR_RENT','NONE','TRANSFERRED') not null,
+    status enum ('IN_USE','LOW_BATTERY','MAINTENANCE','OUT_OF_SERVICE','PARKED','TEMPORARY_LOCKED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table coupons (
+    discount_minutes integer not null,
+    created_at datetime(6),
+    expire_date datetime(6),
+    id bigint not null auto_increment,
+    payment_id bigint,
+    updated_at datetime(6),
+    used_at datetime(6),
+    user_id bigint not null,
+    status enum ('ACTIVE','EXPIRED','USED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table device_tokens (
+    active bit not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    user_id bigint not null,
+    token varchar(64) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table hubs (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    name varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table payment_methods (
+    is_default bit not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    user_id bigint not null,
+    alias varchar(255),
+    card_company varchar(255) not null,
+    card_holder_name varchar(255) not null,
+    card_number varchar(255) not null,
+    expiry_month varchar(255) not null,
+    expiry_year varchar(255) not null,
+    status enum ('ACTIVE','EXPIRED','INACTIVE') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table payments (
+    amount integer not null,
+    discount_amount integer not null,
+    original_amount integer not null,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    payment_method_id bigint not null,
+    rental_id bigint not null,
+    updated_at datetime(6),
+    user_id bigint not null,
+    failure_reason varchar(255),
+    transaction_id varchar(255),
+    status enum ('CANCELLED','COMPLETED','FAILED','PENDING','PROCESSING','REFUNDED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table refresh_tokens (
+    created_at datetime(6),
+    expiry_date datetime(6) not null,
+    id bigint not null auto_increment,
+    revoked_date datetime(6),
+    updated_at datetime(6),
+    user_id bigint,
+    client_ip varchar(255) not null,
+    token varchar(255) not null,
+    user_agent varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table rentals (
+    coupon_applied bit not null,
+    pause_minutes integer,
+    usage_minutes integer,
+    bike_id bigint not null,
+    created_at datetime(6),
+    end_time datetime(6),
+    id bigint not null auto_increment,
+    last_pause_start_time datetime(6),
+    start_time datetime(6) not null,
+    updated_at datetime(6),
+    user_id bigint not null,
+    status enum ('COMPLETED','FORCIBLY_ENDED','IN_PROGRESS','OVERDUE','PAUSED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table roles (
+    id bigint not null auto_increment,
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table stamps (
+    is_used bit not null,
+    created_at datetime(6),
+    exchanged_coupon_id bigint,
+    id bigint not null auto_increment,
+    rental_id bigint,
+    updated_at datetime(6),
+    user_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table stations (
+    capacity integer not null,
+    latitude float(53) not null,
+    longitude float(53) not null,
+    created_at datetime(6),
+    hub_id bigint not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    name varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table user_roles (
+    role_id bigint not null,
+    user_id bigint not null,
+    primary key (role_id, user_id)
+) engine=InnoDB;
+
+create table users (
+    has_registered_payments bit not null,
+    penalty_count integer,
+    created_at datetime(6),
+    current_rental_id bigint,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    phone varchar(255) not null,
+    status enum ('ACTIVE','BLOCKED','LOCKED','SUSPENDED','WITHDRAWN') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table bikes
+    add constraint UK_9lwtx4cmy526u3s699cmo0dm6 unique (qr_code);
+
+alter table coupons
+    add constraint UK_aiit546o9tlujsgxy38mpn605 unique (payment_id);
+
+alter table payments
+    add constraint UK_6b9oj6np97hxx2k68lir605ml unique (rental_id);
+
+alter table payments
+    add constraint UK_lryndveuwa4k5qthti0pkmtlx unique (transaction_id);
+
+create index idx_refresh_token
+    on refresh_tokens (token);
+
+create index idx_refresh_token_user
+    on refresh_tokens (user_id);
+
+create index idx_refresh_token_expiry
+    on refresh_tokens (expiry_date);
+
+alter table roles
+    add constraint UK_ofx66keruapi6vyqpv6f2or37 unique (name);
+
+alter table stamps
+    add constraint UK_go2cohx90bljcfy9mmy2hd1n3 unique (rental_id);
+
+alter table users
+    add constraint UK_k6gbf4v71ksghw8s0688tqi45 unique (current_rental_id);
+
+alter table users
+    add constraint UK_6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table users
+    add constraint UK_du5v5sr43g5bfnji4vb8hg5s3 unique (phone);
+
+alter table bikes
+    add constraint FK90c2by77lcyqc9lg0d7dncpc5
+    foreign key (current_station_id)
+    references stations (id);
+
+alter table bikes
+    add constraint FKp5ryulhecrrhv9jt7flrk7pf0
+    foreign key (home_hub_id)
+    references hubs (id);
+
+alter table coupons
+    add constraint FK6n8ox8f80f6od3y5wnuptnmy9
+    foreign key (payment_id)
+    references payments (id);
+
+alter table coupons
+    add constraint FKhb27gggactdhu0i65fwiaxb0r
+    foreign key (user_id)
+    references users (id);
+
+alter table device_tokens
+    add constraint FKhc7d11bnr8x9gs5biohdhnx1c
+    foreign key (user_id)
+    references users (id);
+
+alter table payment_methods
+    add constraint FKin7rtmim3ljrrhh5kxbq27s2v
+    foreign key (user_id)
+    references users (id);
+
+alter table payments
+    add constraint FKce1n8pa67lq4l57l9mhugdgab
+    foreign key (payment_method_id)
+    references payment_methods (id);
+
+alter table payments
+    add constraint FK55tlwg2o3718m5fjunw4omev7
+    foreign key (rental_id)
+    references rentals (id);
+
+alter table payments
+    add constraint FKj94hgy9v5fw1munb90tar2eje
+    foreign key (user_id)
+    references users (id);
+
+alter table refresh_tokens
+    add constraint FK1lih5y2npsf8u5o3vhdb9y0os
+    foreign key (user_id)
+    references users (id);
+
+alter table rentals
+    add constraint FKp4y1c0f9h725hs66q96oy64r
+    foreign key (bike_id)
+    references bikes (id);
+
+alter table rentals
+    add constraint FKtnhd1objf2mlb6ag6k726u269
+    foreign key (user_id)
+    references users (id);
+
+alter table stamps
+    add constraint FK24w0cqcfauq0wmcomnf07yr9b
+    foreign key (exchanged_coupon_id)
+    references coupons (id);
+
+alter table stamps
+    add constraint FKmlv16k0n6n87arpu6l9mx84q4
+    foreign key (rental_id)
+    references rentals (id);
+
+alter table stamps
+    add constraint FKj1wxld7jhd2qa373x8styy0th
+    foreign key (user_id)
+    references users (id);
+
+alter table stations
+    add constraint FK8td447j2h9jgu4offua8oc6ei
+    foreign key (hub_id)
+    references hubs (id);
+
+alter table user_roles
+    add constraint FKh8ciramu9cc9q3qcqiv4ue8a6
+    foreign key (role_id)
+    references roles (id);
+
+alter table user_roles
+    add constraint FKhfh9dx7w3ubf1co1vdev94g3f
+    foreign key (user_id)
+    references users (id);
+
+alter table users
+    add constraint FK1vpmifcbcq8dda46owkf1g0um
+    foreign key (current_rental_id)
+    references rentals (id);
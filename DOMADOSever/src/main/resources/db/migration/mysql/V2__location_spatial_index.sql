@@ -0,0 +1,14 @@
+-- 반경 조회용 공간 컬럼/인덱스
+-- 위경도 컬럼에서 계산되는 STORED 생성 컬럼(POINT SRID 4326)이므로
+-- 엔티티 저장, 시드 데이터, 벌크 쿼리 등 모든 쓰기 경로에서 DB가 자동으로 동기화합니다.
+-- MySQL은 지리 좌표를 내부적으로 (경도, 위도) 순서로 저장합니다.
+
+ALTER TABLE stations
+    ADD COLUMN location POINT SRID 4326
+        GENERATED ALWAYS AS (ST_SRID(POINT(longitude, latitude), 4326)) STORED NOT NULL,
+    ADD SPATIAL INDEX idx_stations_location (location);
+
+ALTER TABLE bikes
+    ADD COLUMN location POINT SRID 4326
+        GENERATED ALWAYS AS (ST_SRID(POINT(current_longitude, current_latitude), 4326)) STORED NOT NULL,
+    ADD SPATIAL INDEX idx_bikes_location (location);
@@ -0,0 +1,6 @@
+-- 대여 시작 동시 요청 검증용 낙관적 잠금 버전 (기존 행은 0부터 시작)
+ALTER TABLE bikes
+    ADD COLUMN version bigint DEFAULT 0;
+
+ALTER TABLE rentals
+    ADD COLUMN version bigint DEFAULT 0;
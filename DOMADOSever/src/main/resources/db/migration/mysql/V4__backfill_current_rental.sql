@@ -0,0 +1,11 @@
+-- 포인터 도입 이전에 시작되어 진행 중인 대여를 users.current_rental_id에 채움
+-- 대여 시작 검증은 포인터가 비어 있으면 대여 이력을 확인하므로, 이 마이그레이션 전후 모두 중복 대여를 막습니다.
+UPDATE users u
+    JOIN (
+        SELECT user_id, MAX(id) AS rental_id
+        FROM rentals
+        WHERE status IN ('IN_PROGRESS', 'PAUSED', 'OVERDUE')
+        GROUP BY user_id
+    ) active ON active.user_id = u.id
+SET u.current_rental_id = active.rental_id
+WHERE u.current_rental_id IS NULL;
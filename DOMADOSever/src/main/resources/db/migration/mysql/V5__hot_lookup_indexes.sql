@@ -0,0 +1,14 @@
+-- 자주 쓰는 조회 조건의 복합 인덱스 (RepositoryQueryPlanTest에서 실행 계획 확인)
+CREATE INDEX idx_bike_hibike_status ON bikes (hi_bike_status, status);
+
+CREATE INDEX idx_coupon_user_status_expire ON coupons (user_id, status, expire_date);
+CREATE INDEX idx_coupon_status_expire ON coupons (status, expire_date);
+
+CREATE INDEX idx_payment_method_user_status ON payment_methods (user_id, status);
+
+CREATE INDEX idx_rental_bike_status ON rentals (bike_id, status);
+CREATE INDEX idx_rental_user_status ON rentals (user_id, status);
+
+CREATE INDEX idx_stamp_user_used ON stamps (user_id, is_used);
+
+CREATE INDEX idx_station_location ON stations (latitude, longitude);
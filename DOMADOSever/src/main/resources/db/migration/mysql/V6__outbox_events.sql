@@ -0,0 +1,19 @@
+-- 트랜잭션과 함께 기록하고 워커가 처리하는 outbox 이벤트
+CREATE TABLE outbox_events (
+    attempts integer NOT NULL,
+    aggregate_id bigint NOT NULL,
+    created_at datetime(6),
+    id bigint NOT NULL AUTO_INCREMENT,
+    locked_until datetime(6),
+    next_attempt_at datetime(6) NOT NULL,
+    processed_at datetime(6),
+    updated_at datetime(6),
+    last_error varchar(1000),
+    payload varchar(4000),
+    aggregate_type varchar(255) NOT NULL,
+    event_type enum ('PAYMENT_CAPTURE_REQUESTED','RENTAL_RETURNED','STAMP_ISSUE_REQUESTED') NOT NULL,
+    status enum ('COMPLETED','FAILED','PENDING','PROCESSING') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_outbox_status_next_attempt ON outbox_events (status, next_attempt_at);
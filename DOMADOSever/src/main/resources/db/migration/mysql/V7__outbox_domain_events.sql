@@ -0,0 +1,5 @@
+-- 대여/HiBike/결제/쿠폰 도메인 이벤트 유형 추가, 집합별 처리 순서 확인용 인덱스
+ALTER TABLE outbox_events
+    MODIFY COLUMN event_type enum ('COUPON_ISSUED','HIBIKE_CANCELLED','HIBIKE_REGISTERED','PAYMENT_CAPTURE_REQUESTED','PAYMENT_COMPLETED','RENTAL_PAUSED','RENTAL_RESUMED','RENTAL_RETURNED','RENTAL_STARTED','STAMP_ISSUE_REQUESTED') NOT NULL;
+
+CREATE INDEX idx_outbox_aggregate_status ON outbox_events (aggregate_id, aggregate_type, status);
@@ -0,0 +1,14 @@
+-- 장기 대여 정리 작업: 서버 간 실행 점유(lease), 정리 대상 조회 인덱스, 연체/강제 종료 이벤트 유형
+CREATE TABLE scheduler_leases (
+    locked_until datetime(6) NOT NULL,
+    version bigint,
+    name varchar(100) NOT NULL,
+    owner varchar(255) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_rental_status_start_time ON rentals (status, start_time);
+CREATE INDEX idx_rental_status_pause_start ON rentals (status, last_pause_start_time);
+
+ALTER TABLE outbox_events
+    MODIFY COLUMN event_type enum ('COUPON_ISSUED','HIBIKE_CANCELLED','HIBIKE_REGISTERED','PAYMENT_CAPTURE_REQUESTED','PAYMENT_COMPLETED','RENTAL_FORCIBLY_ENDED','RENTAL_OVERDUE','RENTAL_PAUSED','RENTAL_RESUMED','RENTAL_RETURNED','RENTAL_STARTED','STAMP_ISSUE_REQUESTED') NOT NULL;
@@ -0,0 +1,13 @@
+-- Idempotency-Key 요청의 처리 상태와 성공 응답
+CREATE TABLE idempotency_records (
+    expires_at datetime(6) NOT NULL,
+    locked_until datetime(6) NOT NULL,
+    version bigint,
+    fingerprint varchar(64) NOT NULL,
+    id varchar(64) NOT NULL,
+    response_body varchar(8000),
+    status enum ('COMPLETED','IN_PROGRESS') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_idempotency_expires_at ON idempotency_records (expires_at);
@@ -0,0 +1,172 @@
+package com.onemorethink.domadosever;
+
+import com.onemorethink.domadosever.domain.bike.entity.Bike;
+import com.onemorethink.domadosever.domain.bike.repository.BikeRepository;
+import com.onemorethink.domadosever.domain.coupon.entity.CouponStatus;
+import com.onemorethink.domadosever.domain.coupon.repository.CouponRepository;
+import com.onemorethink.domadosever.domain.coupon.repository.StampRepository;
+import com.onemorethink.domadosever.domain.payment.entity.paymentMethod.PaymentMethodStatus;
+import com.onemorethink.domadosever.domain.payment.repository.PaymentMethodRepository;
+import com.onemorethink.domadosever.domain.payment.repository.PaymentMethodDailySpendRepository;
+import com.onemorethink.domadosever.domain.payment.repository.PaymentRepository;
+import com.onemorethink.domadosever.domain.rental.entity.RentalStatus;
+import com.onemorethink.domadosever.domain.rental.repository.RentalRepository;
+import com.onemorethink.domadosever.domain.station.repository.StationRepository;
+import com.onemorethink.domadosever.domain.user.entity.User;
+import com.onemorethink.domadosever.domain.user.repository.UserRepository;
+import com.onemorethink.domadosever.global.outbox.repository.OutboxEventRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 경로에서 호출되는 저장소 쿼리의 실행 계획 검사
+ * - 각 쿼리를 실제로 실행해 Hibernate가 만든 SQL을 수집한 뒤 같은 SQL로 EXPLAIN을 실행합니다.
+ * - 실행 계획에 전체 테이블 스캔이 있으면 실패합니다. (H2: tableScan, MySQL: type=ALL)
+ * 공간 인덱스 적재용 전체 조회(findAll*Snapshots)처럼 전체 스캔이 의도된 쿼리는 대상에서 제외합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.onemorethink.domadosever.RepositoryQueryPlanTest$SqlCapture")
+class RepositoryQueryPlanTest {
+    private static final List<String> capturedSql = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BikeRepository bikeRepository;
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private RentalRepository rentalRepository;
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+    @Autowired
+    private StampRepository stampRepository;
+    @Autowired
+    private CouponRepository couponRepository;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private PaymentMethodDailySpendRepository paymentMethodDailySpendRepository;
+
+    @Test
+    void hotRepositoryQueriesDoNotScanWholeTables() {
+        User user = entityManager.getReference(User.class, 1L);
+        Bike bike = entityManager.getReference(Bike.class, 1L);
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        // 대여/반납
+        queries.put("UserRepository.findByEmail", () -> userRepository.findByEmail("plan@test.com"));
+        queries.put("RentalRepository.findRentalEligibility",
+                () -> rentalRepository.findRentalEligibility("plan@test.com"));
+        queries.put("RentalRepository.findFirstByBikeAndStatusIn",
+                () -> rentalRepository.findFirstByBikeAndStatusIn(bike,
+                        List.of(RentalStatus.IN_PROGRESS, RentalStatus.PAUSED)));
+        queries.put("RentalRepository.existsByUserAndStatusNot",
+                () -> rentalRepository.existsByUserAndStatusNot(user, RentalStatus.COMPLETED));
+        queries.put("BikeRepository.findByQrCode", () -> bikeRepository.findByQrCode("BIKE001"));
+        // 장기 대여 정리
+        queries.put("RentalRepository.findSweepTargetsStartedBefore",
+                () -> rentalRepository.findSweepTargetsStartedBefore(RentalStatus.IN_PROGRESS, now, PageRequest.of(0, 200)));
+        queries.put("RentalRepository.findSweepTargetsPausedBefore",
+                () -> rentalRepository.findSweepTargetsPausedBefore(RentalStatus.PAUSED, now, PageRequest.of(0, 200)));
+        // 위치 조회 (인덱스 적재 전 DB 경로)
+        queries.put("StationRepository.findStationSnapshotsWithinBounds",
+                () -> stationRepository.findStationSnapshotsWithinBounds(36.0, 36.1, 129.3, 129.4));
+        queries.put("BikeRepository.findRentableBikeSnapshotsAtStations",
+                () -> bikeRepository.findRentableBikeSnapshotsAtStations(List.of(1L, 2L), 20));
+        queries.put("BikeRepository.findAvailableHiBikeSnapshotsWithinBounds",
+                () -> bikeRepository.findAvailableHiBikeSnapshotsWithinBounds(36.0, 36.1, 129.3, 129.4, 20));
+        // 결제수단
+        queries.put("PaymentMethodRepository.existsByUserAndStatus",
+                () -> paymentMethodRepository.existsByUserAndStatus(user, PaymentMethodStatus.ACTIVE));
+        queries.put("PaymentMethodRepository.findFirstByUserAndStatusOrderByIdDesc",
+                () -> paymentMethodRepository.findFirstByUserAndStatusOrderByIdDesc(user, PaymentMethodStatus.ACTIVE));
+        queries.put("PaymentMethodRepository.findByUserAndStatus",
+                () -> paymentMethodRepository.findByUserAndStatus(user, PaymentMethodStatus.ACTIVE));
+        // 스탬프/쿠폰
+        queries.put("StampRepository.countByUserAndIsUsedFalse", () -> stampRepository.countByUserAndIsUsedFalse(user));
+        queries.put("StampRepository.findTopNByUserAndIsUsedFalse",
+                () -> stampRepository.findTopNByUserAndIsUsedFalse(user, 5));
+        queries.put("CouponRepository.findByUserAndStatusAndExpireDateAfter",
+                () -> couponRepository.findByUserAndStatusAndExpireDateAfter(user, CouponStatus.ACTIVE, now));
+        queries.put("CouponRepository.findFirstByUserAndStatusAndExpireDateAfter",
+                () -> couponRepository.findFirstByUserAndStatusAndExpireDateAfter(user, CouponStatus.ACTIVE, now));
+        queries.put("CouponRepository.findAllValidCoupons",
+                () -> couponRepository.findAllValidCoupons(user, CouponStatus.ACTIVE, now));
+        queries.put("CouponRepository.countAvailableCoupons", () -> couponRepository.countAvailableCoupons(user));
+        queries.put("CouponRepository.findExpiringCoupons",
+                () -> couponRepository.findExpiringCoupons(now, now.plusDays(3)));
+        // outbox 폴링
+        queries.put("OutboxEventRepository.findClaimable",
+                () -> outboxEventRepository.findClaimable(now, PageRequest.of(0, 50)));
+        queries.put("PaymentRepository.findCapturable",
+                () -> paymentRepository.findCapturable(now, PageRequest.of(0, 20)));
+        queries.put("PaymentRepository.findUnresolved",
+                () -> paymentRepository.findUnresolved(now, PageRequest.of(0, 20)));
+        queries.put("PaymentMethodDailySpendRepository.findSince",
+                () -> paymentMethodDailySpendRepository.findSince(1L, now.toLocalDate().minusDays(29)));
+        queries.put("PaymentMethodDailySpendRepository.sumSince",
+                () -> paymentMethodDailySpendRepository.sumSince(1L, now.toLocalDate().minusDays(29)));
+
+        List<String> violations = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            entityManager.clear();
+            capturedSql.clear();
+            query.run();
+            assertThat(capturedSql).as(name).isNotEmpty();
+
+            for (String sql : capturedSql) {
+                String plan = explain(sql);
+                if (isFullTableScan(plan)) {
+                    violations.add(name + "\n" + plan);
+                }
+            }
+        });
+
+        assertThat(violations).as("전체 테이블 스캔 쿼리").isEmpty();
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.query("EXPLAIN " + sql, (rs, rowNum) -> {
+            StringBuilder row = new StringBuilder();
+            for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+                row.append(rs.getMetaData().getColumnLabel(i)).append('=').append(rs.getString(i)).append(' ');
+            }
+            return row.toString();
+        }));
+    }
+
+    private boolean isFullTableScan(String plan) {
+        return plan.contains(".tableScan") || plan.contains("type=ALL ");
+    }
+
+    // Hibernate가 실행하는 SQL을 그대로 수집
+    public static class SqlCapture implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            capturedSql.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.onemorethink.domadosever;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 테스트 데이터 공용 픽스처
+ * - 테스트 클래스마다 data.sql 시드와 겹치지 않는 ID 구간(idOffset부터 RANGE개)을 쓰고, 정리도 그 구간의 행만 지웁니다.
+ * - NOT NULL 컬럼은 여기서 기본값으로 채우므로 각 테스트에는 시나리오에 필요한 값만 남깁니다.
+ *   스키마가 바뀌면 이 클래스만 고치면 됩니다.
+ */
+public class TestFixture {
+    public static final long RANGE = 100_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long from;
+    private final long to;
+
+    public TestFixture(JdbcTemplate jdbcTemplate, long idOffset) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.from = idOffset;
+        this.to = idOffset + RANGE - 1;
+    }
+
+    public static String email(long userId) {
+        return "user" + userId + "@test.com";
+    }
+
+    public void hub(long id) {
+        jdbcTemplate.update("INSERT INTO hubs (id, name, created_at, updated_at) "
+                + "VALUES (?, CONCAT('HUB-', ?), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", id, id);
+    }
+
+    public void station(long id, long hubId, double latitude, double longitude, int capacity) {
+        jdbcTemplate.update("INSERT INTO stations (id, name, latitude, longitude, capacity, hub_id, "
+                + "created_at, updated_at) VALUES (?, CONCAT('STATION-', ?), ?, ?, ?, ?, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", id, id, latitude, longitude, capacity, hubId);
+    }
+
+    // 결제 수단 등록을 마친 활성 사용자 (이메일은 email(id))
+    public void user(long id) {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, name, phone, status, penalty_count, "
+                + "has_registered_payments, created_at, updated_at) VALUES (?, ?, 'password', 'tester', "
+                + "CONCAT('010-', ?), 'ACTIVE', 0, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", id, email(id), id);
+    }
+
+    public void paymentMethod(long id, long userId, String cardNumber) {
+        jdbcTemplate.update("INSERT INTO payment_methods (id, user_id, card_number, card_company, is_default, "
+                + "status, card_holder_name, expiry_month, expiry_year, created_at, updated_at) VALUES (?, ?, ?, "
+                + "'TEST', TRUE, 'ACTIVE', 'tester', '12', '99', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                id, userId, cardNumber);
+    }
+
+    // 거치대 밖의 자전거 (대여 중, 일시 잠금 등)
+    public void bike(long id, String qrCode, String status, long hubId) {
+        jdbcTemplate.update("INSERT INTO bikes (id, qr_code, battery_level, status, hi_bike_status, home_hub_id, "
+                + "current_latitude, current_longitude, created_at, updated_at) "
+                + "VALUES (?, ?, 90, ?, 'NONE', ?, 40.0, 40.0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                id, qrCode, status, hubId);
+    }
+
+    // 스테이션 거치대에 주차된 자전거 (소속 허브와 좌표는 스테이션을 따름)
+    public void parkedBike(long id, String qrCode, long stationId, int dockId) {
+        jdbcTemplate.update("INSERT INTO bikes (id, qr_code, battery_level, status, hi_bike_status, home_hub_id, "
+                + "current_station_id, current_dock_id, current_latitude, current_longitude, created_at, updated_at) "
+                + "SELECT ?, ?, 90, 'PARKED', 'NONE', s.hub_id, s.id, ?, s.latitude, s.longitude, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM stations s WHERE s.id = ?", id, qrCode, dockId, stationId);
+    }
+
+    // 진행 중이거나 종료 처리 전인 대여 (종료 시각, 일시 정지 등은 시나리오에서 갱신)
+    public void rental(long id, long userId, long bikeId, String status, LocalDateTime startTime) {
+        jdbcTemplate.update("INSERT INTO rentals (id, user_id, bike_id, start_time, pause_minutes, status, "
+                + "coupon_applied, version, created_at, updated_at) VALUES (?, ?, ?, ?, 0, ?, FALSE, 0, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", id, userId, bikeId, Timestamp.valueOf(startTime), status);
+    }
+
+    public void completedRental(long id, long userId, long bikeId, int usageMinutes) {
+        jdbcTemplate.update("INSERT INTO rentals (id, user_id, bike_id, start_time, end_time, usage_minutes, "
+                + "pause_minutes, status, coupon_applied, version, created_at, updated_at) VALUES (?, ?, ?, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?, 0, 'COMPLETED', FALSE, 0, "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", id, userId, bikeId, usageMinutes);
+    }
+
+    // 결제 대기(PENDING) 건, 바로 점유 가능
+    public void payment(long id, long userId, long rentalId, long paymentMethodId, int amount) {
+        jdbcTemplate.update("INSERT INTO payments (id, user_id, rental_id, payment_method_id, amount, "
+                + "original_amount, discount_amount, status, capture_attempts, next_capture_at, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0, 'PENDING', 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                id, userId, rentalId, paymentMethodId, amount, amount);
+    }
+
+    public void dailySpend(long paymentMethodId, LocalDate spendDate, long amount) {
+        jdbcTemplate.update("INSERT INTO payment_method_daily_spends (payment_method_id, spend_date, amount, "
+                + "payment_count) VALUES (?, ?, ?, 1)", paymentMethodId, spendDate, amount);
+    }
+
+    // ID 구간 안에서 상태별 행 수 (rentals, payments, bikes)
+    public long countByStatus(String table, String status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE status = ? AND id BETWEEN ? AND ?",
+                Long.class, status, from, to);
+    }
+
+    public long countEvents(String eventType) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE event_type = ?", Long.class, eventType);
+    }
+
+    /**
+     * ID 구간의 행을 참조 순서대로 삭제
+     * 아웃박스 이벤트와 스케줄러 lease는 테스트 데이터 외에 생기지 않으므로 모두 지웁니다.
+     */
+    public void cleanUp() {
+        jdbcTemplate.update("UPDATE users SET current_rental_id = NULL WHERE id BETWEEN ? AND ?", from, to);
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM scheduler_leases");
+        jdbcTemplate.update("DELETE FROM payments WHERE user_id BETWEEN ? AND ?", from, to);
+        jdbcTemplate.update("DELETE FROM payment_method_daily_spends WHERE payment_method_id BETWEEN ? AND ?", from, to);
+        jdbcTemplate.update("DELETE FROM payment_methods WHERE user_id BETWEEN ? AND ?", from, to);
+        jdbcTemplate.update("DELETE FROM rentals WHERE user_id BETWEEN ? AND ?", from, to);
+        jdbcTemplate.update("DELETE FROM users WHERE id BETWEEN ? AND ?", from, to);
+        jdbcTemplate.update("DELETE FROM bikes WHERE id BETWEEN ? AND ?", from, to);
+        jdbcTemplate.update("DELETE FROM stations WHERE id BETWEEN ? AND ?", from, to);
+        jdbcTemplate.update("DELETE FROM hubs WHERE id BETWEEN ? AND ?", from, to);
+    }
+}
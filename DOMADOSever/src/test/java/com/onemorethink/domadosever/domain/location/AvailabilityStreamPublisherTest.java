@@ -0,0 +1,72 @@
+package com.onemorethink.domadosever.domain.location;
+
+import com.onemorethink.domadosever.domain.location.dto.BikeLocationChangesResponse;
+import com.onemorethink.domadosever.domain.location.index.AvailabilityChanges;
+import com.onemorethink.domadosever.domain.location.index.BikeLocationIndex;
+import com.onemorethink.domadosever.domain.location.index.StationSnapshot;
+import com.onemorethink.domadosever.domain.location.service.LocationService;
+import com.onemorethink.domadosever.domain.location.stream.AvailabilityStreamPublisher;
+import com.onemorethink.domadosever.domain.location.stream.AvailabilitySubscriptionRegistry;
+import com.onemorethink.domadosever.domain.location.stream.ViewportBounds;
+import com.onemorethink.domadosever.global.websocket.RentalWebSocketHandler;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대여 현황 전송 테스트
+ * 새 구독자가 전체 현황을 받은 뒤의 변경이 다음 주기 변경분에서 빠지지 않는지 확인합니다.
+ */
+class AvailabilityStreamPublisherTest {
+
+    @Test
+    void changesAfterNewSubscriberSnapshotAreSentNextTick() throws Exception {
+        BikeLocationIndex index = mock(BikeLocationIndex.class);
+        LocationService locationService = mock(LocationService.class);
+        RentalWebSocketHandler webSocketHandler = mock(RentalWebSocketHandler.class);
+        AvailabilitySubscriptionRegistry registry = new AvailabilitySubscriptionRegistry();
+        AvailabilityStreamPublisher publisher =
+                new AvailabilityStreamPublisher(registry, index, locationService, webSocketHandler);
+
+        when(index.isReady()).thenReturn(true);
+        when(locationService.selectViewportChanges(any(), any()))
+                .thenReturn(BikeLocationChangesResponse.builder().build());
+        // 첫 주기: 변경분은 버전 7, 그 사이 변경이 반영되어 전체 현황은 버전 9
+        when(index.collectChangesSince(0L)).thenReturn(fullSync(7), fullSync(9));
+        when(index.collectChangesSince(7L)).thenReturn(AvailabilityChanges.builder()
+                .version(10)
+                .stations(List.of(mock(StationSnapshot.class)))
+                .hiBikes(List.of())
+                .removedHiBikes(List.of())
+                .build());
+
+        registry.subscribe("user@test.com", new ViewportBounds(36.0, 129.0, 36.1, 129.1));
+        publisher.publish();
+        publisher.publish();
+
+        // 전체 현황(버전 9)보다 먼저 수집한 변경분의 버전(7)부터 다시 수집하므로 8, 9 변경도 전달됨
+        InOrder order = inOrder(index);
+        order.verify(index, times(2)).collectChangesSince(0L);
+        order.verify(index).collectChangesSince(7L);
+        verify(webSocketHandler, times(2)).sendMessage(eq("user@test.com"), any());
+    }
+
+    private AvailabilityChanges fullSync(long version) {
+        return AvailabilityChanges.builder()
+                .version(version)
+                .fullSync(true)
+                .stations(List.of())
+                .hiBikes(List.of())
+                .removedHiBikes(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.onemorethink.domadosever.domain.location;
+
+import com.onemorethink.domadosever.domain.location.cache.BikeLocationResponseCache;
+import com.onemorethink.domadosever.domain.location.dto.BikeLocationResponse;
+import com.onemorethink.domadosever.domain.location.index.LocationIndexChangedEvent;
+import com.onemorethink.domadosever.domain.location.index.LocationIndexChangedEvent.ChangedLocation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 위치 조회 응답 캐시 무효화 테스트
+ * 변경 좌표를 범위에 포함하는 항목만 무효화되고, 재적재 시에는 모두 비워지는지 확인합니다.
+ */
+class BikeLocationResponseCacheTest {
+
+    private final BikeLocationResponseCache cache = new BikeLocationResponseCache(10_000, 60);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void onlyEntriesCoveringChangedLocationAreInvalidated() {
+        query(36.0, 129.0, 2);     // 변경 좌표 포함
+        query(36.05, 129.05, 10);  // 넓은 반경으로 변경 좌표 포함
+        query(36.5, 129.0, 2);     // 약 55km 떨어진 항목
+        query(36.03, 129.0, 0.5);  // 변경 좌표와 같은 무효화 셀 근처지만 범위 밖
+        assertThat(loads.get()).isEqualTo(4);
+
+        cache.onLocationIndexChanged(LocationIndexChangedEvent.changed(1,
+                List.of(new ChangedLocation(36.001, 129.001))));
+
+        assertThat(cache.getInvalidationCount()).isEqualTo(2);
+        assertThat(cache.getSize()).isEqualTo(2);
+        query(36.0, 129.0, 2);
+        query(36.05, 129.05, 10);
+        query(36.5, 129.0, 2);
+        query(36.03, 129.0, 0.5);
+        assertThat(loads.get()).isEqualTo(6);
+
+        cache.onLocationIndexChanged(LocationIndexChangedEvent.rebuilt(2));
+        assertThat(cache.getSize()).isZero();
+        // 비운 뒤에도 다시 저장된 항목은 변경 좌표로 무효화됨
+        query(36.0, 129.0, 2);
+        cache.onLocationIndexChanged(LocationIndexChangedEvent.changed(3,
+                List.of(new ChangedLocation(36.001, 129.001))));
+        assertThat(cache.getSize()).isZero();
+    }
+
+    private void query(double latitude, double longitude, double radiusKm) {
+        cache.get(latitude, longitude, radiusKm, (lat, lng, radius) -> {
+            loads.incrementAndGet();
+            return BikeLocationResponse.builder().version(0).hubs(List.of()).hiBikes(List.of()).build();
+        });
+    }
+}
@@ -0,0 +1,182 @@
+package com.onemorethink.domadosever.domain.location;
+
+import com.onemorethink.domadosever.TestFixture;
+import com.onemorethink.domadosever.domain.bike.dto.BikeSnapshot;
+import com.onemorethink.domadosever.domain.bike.repository.BikeRepository;
+import com.onemorethink.domadosever.domain.location.index.StationSnapshot;
+import com.onemorethink.domadosever.domain.station.entity.Hub;
+import com.onemorethink.domadosever.domain.station.repository.StationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 위치 조회 DB 경로 벤치마크
+ * - 기존 JOIN FETCH 쿼리는 (스테이션 × 스테이션별 자전거) 행을 읽고 모든 자전거 엔티티를 만듭니다.
+ * - 프로젝션 쿼리는 스테이션당 1행 + 대여 가능 자전거당 1행만 읽습니다.
+ * 테스트 데이터는 {@link TestFixture}로 data.sql 시드와 겹치지 않는 ID/좌표에 넣습니다.
+ */
+@DataJpaTest
+class LocationReadPathBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(LocationReadPathBenchmarkTest.class);
+
+    private static final long ID_OFFSET = 100_000;
+    private static final int STATIONS_PER_HUB = 4;
+    private static final int MIN_BATTERY_LEVEL = 20;
+    private static final double CENTER_LATITUDE = 10.0;
+    private static final double CENTER_LONGITUDE = 10.0;
+    private static final double DELTA = 0.05;
+
+    // 변경 전 HubRepository.findHubsWithinRadius
+    private static final String LEGACY_QUERY = """
+            SELECT DISTINCT h FROM Hub h
+            JOIN FETCH h.stations s
+            LEFT JOIN FETCH s.parkedBikes b
+            LEFT JOIN FETCH b.homeHub
+            WHERE ABS(CAST(s.latitude AS double) - CAST(:latitude AS double)) <= (CAST(:radius AS double) / 111.0)
+            AND ABS(CAST(s.longitude AS double) - CAST(:longitude AS double)) <= (CAST(:radius AS double) / (111.0 * COS(RADIANS(CAST(:latitude AS double)))))
+            """;
+
+    // 기존 쿼리와 같은 조인으로 DB가 반환하는 행 수 확인
+    private static final String LEGACY_ROW_QUERY = """
+            SELECT s.id FROM Hub h
+            JOIN h.stations s
+            LEFT JOIN s.parkedBikes b
+            LEFT JOIN b.homeHub
+            WHERE ABS(CAST(s.latitude AS double) - CAST(:latitude AS double)) <= (CAST(:radius AS double) / 111.0)
+            AND ABS(CAST(s.longitude AS double) - CAST(:longitude AS double)) <= (CAST(:radius AS double) / (111.0 * COS(RADIANS(CAST(:latitude AS double)))))
+            """;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private BikeRepository bikeRepository;
+
+    @Test
+    void projectionRowsAndAllocationScaleWithStationsNotStationBikeProduct() {
+        Measurement sparse = measure(40, 4);
+        Measurement dense = measure(40, 16);
+        Measurement wide = measure(160, 4);
+
+        for (Measurement m : List.of(sparse, dense, wide)) {
+            log.info("{}", m);
+
+            // 기존 쿼리: 스테이션 × 자전거 행
+            assertThat(m.legacyRows).isEqualTo((long) m.stations * m.bikesPerStation);
+            // 프로젝션: 스테이션당 1행 + 대여 가능 자전거당 1행 (절반은 배터리 부족)
+            assertThat(m.projectionRows).isEqualTo(m.stations + (long) m.stations * m.bikesPerStation / 2);
+            assertThat(m.projectionBytes).isLessThan(m.legacyBytes);
+        }
+
+        // 자전거 밀도가 4배가 되어도 응답 행 1개당 할당량은 크게 늘지 않음
+        assertThat(dense.projectionBytesPerRow()).isLessThan(sparse.projectionBytesPerRow() * 2);
+        assertThat(wide.projectionBytesPerRow()).isLessThan(sparse.projectionBytesPerRow() * 2);
+    }
+
+    private Measurement measure(int stations, int bikesPerStation) {
+        seed(stations, bikesPerStation);
+        double radius = DELTA * 111.0;
+
+        long legacyRows = entityManager.createQuery(LEGACY_ROW_QUERY, Long.class)
+                .setParameter("latitude", CENTER_LATITUDE)
+                .setParameter("longitude", CENTER_LONGITUDE)
+                .setParameter("radius", radius)
+                .getResultList()
+                .size();
+        long legacyBytes = allocatedBytes(() -> entityManager.createQuery(LEGACY_QUERY, Hub.class)
+                .setParameter("latitude", CENTER_LATITUDE)
+                .setParameter("longitude", CENTER_LONGITUDE)
+                .setParameter("radius", radius)
+                .getResultList());
+
+        long projectionRows = queryByProjection().size();
+        long projectionBytes = allocatedBytes(this::queryByProjection);
+
+        return new Measurement(stations, bikesPerStation, legacyRows, legacyBytes, projectionRows, projectionBytes);
+    }
+
+    private List<Object> queryByProjection() {
+        List<StationSnapshot> stations = stationRepository.findStationSnapshotsWithinBounds(
+                CENTER_LATITUDE - DELTA, CENTER_LATITUDE + DELTA,
+                CENTER_LONGITUDE - DELTA, CENTER_LONGITUDE + DELTA);
+        List<BikeSnapshot> bikes = bikeRepository.findRentableBikeSnapshotsAtStations(
+                stations.stream().map(StationSnapshot::getStationId).collect(Collectors.toList()),
+                MIN_BATTERY_LEVEL);
+
+        List<Object> rows = new ArrayList<>(stations);
+        rows.addAll(bikes);
+        return rows;
+    }
+
+    // 워밍업 후 반복 측정한 중앙값 (영속성 컨텍스트는 매번 비움)
+    private long allocatedBytes(Supplier<?> query) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 5; i++) {
+            entityManager.clear();
+            query.get();
+        }
+
+        long[] samples = new long[15];
+        for (int i = 0; i < samples.length; i++) {
+            entityManager.clear();
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            query.get();
+            samples[i] = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+        }
+        entityManager.clear();
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private void seed(int stations, int bikesPerStation) {
+        TestFixture fixture = new TestFixture(jdbcTemplate, ID_OFFSET);
+        fixture.cleanUp();
+
+        int hubs = (stations + STATIONS_PER_HUB - 1) / STATIONS_PER_HUB;
+        for (int h = 0; h < hubs; h++) {
+            fixture.hub(ID_OFFSET + h);
+        }
+        for (int s = 0; s < stations; s++) {
+            long stationId = ID_OFFSET + s;
+            double latitude = CENTER_LATITUDE + (s % 20) * 0.001;
+            double longitude = CENTER_LONGITUDE + (s / 20) * 0.001;
+            fixture.station(stationId, ID_OFFSET + s / STATIONS_PER_HUB, latitude, longitude, bikesPerStation);
+
+            for (int b = 0; b < bikesPerStation; b++) {
+                long bikeId = ID_OFFSET + (long) s * bikesPerStation + b;
+                fixture.parkedBike(bikeId, "BENCH-" + bikeId, stationId, b + 1);
+                if (b % 2 == 1) {
+                    // 절반은 대여 불가 배터리
+                    jdbcTemplate.update("UPDATE bikes SET battery_level = 10 WHERE id = ?", bikeId);
+                }
+            }
+        }
+        entityManager.clear();
+    }
+
+    private record Measurement(int stations, int bikesPerStation,
+                               long legacyRows, long legacyBytes,
+                               long projectionRows, long projectionBytes) {
+        long projectionBytesPerRow() {
+            return projectionBytes / projectionRows;
+        }
+    }
+}
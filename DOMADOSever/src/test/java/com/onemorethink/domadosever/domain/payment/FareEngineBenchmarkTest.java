@@ -0,0 +1,80 @@
+package com.onemorethink.domadosever.domain.payment;
+
+import com.onemorethink.domadosever.domain.payment.fare.TariffRegistry;
+import com.onemorethink.domadosever.domain.payment.fare.TimeOfDayFareEngine;
+import com.onemorethink.domadosever.domain.payment.repository.TariffPlanRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 요금 계산 벤치마크 (반납 시 3일 방치 대여 기준)
+ * - 기존 계산은 1분마다 LocalDateTime을 만들어 약 4,300번 순회합니다.
+ * - 구간 계산은 경계 수(하루 2개)만큼만 계산하며 객체를 만들지 않습니다.
+ */
+@Tag("benchmark")
+class FareEngineBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(FareEngineBenchmarkTest.class);
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    private final TimeOfDayFareEngine fareEngine =
+            new TimeOfDayFareEngine(new TariffRegistry(mock(TariffPlanRepository.class)));
+    private final LocalDateTime start = LocalDateTime.of(2024, 10, 1, 7, 42, 13);
+    private final LocalDateTime end = start.plusDays(3).plusMinutes(17);
+
+    @Test
+    void closedFormIsFasterAndAllocationFree() {
+        for (int i = 0; i < WARMUP; i++) {
+            FareEngineTest.legacyBaseAmount(start, end);
+            fareEngine.calculateBaseAmount(null, start, end, 0);
+        }
+
+        Measurement legacy = measure(() -> FareEngineTest.legacyBaseAmount(start, end));
+        Measurement closedForm = measure(() -> fareEngine.calculateBaseAmount(null, start, end, 0));
+
+        log.info("per-minute loop: {} ns/op, {} bytes/op", Math.round(legacy.nanosPerOp), legacy.bytesPerOp);
+        log.info("closed form    : {} ns/op, {} bytes/op", Math.round(closedForm.nanosPerOp), closedForm.bytesPerOp);
+
+        assertThat(fareEngine.calculateBaseAmount(null, start, end, 0)).isEqualTo(FareEngineTest.legacyBaseAmount(start, end));
+        assertThat(closedForm.nanosPerOp * 20).isLessThan(legacy.nanosPerOp);
+        assertThat(closedForm.bytesPerOp).isZero();
+    }
+
+    private Measurement measure(IntSupplier operation) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long sink = 0;
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += operation.getAsInt();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        assertThat(sink).isPositive();
+
+        return new Measurement((double) elapsed / ITERATIONS, bytes / ITERATIONS);
+    }
+
+    private static final class Measurement {
+        private final double nanosPerOp;
+        private final long bytesPerOp;
+
+        private Measurement(double nanosPerOp, long bytesPerOp) {
+            this.nanosPerOp = nanosPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.onemorethink.domadosever.domain.payment;
+
+import com.onemorethink.domadosever.domain.payment.fare.TariffRegistry;
+import com.onemorethink.domadosever.domain.payment.fare.TimeOfDayFareEngine;
+import com.onemorethink.domadosever.domain.payment.repository.TariffPlanRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 구간 계산 요금이 기존 1분 순회 계산과 같은지 무작위 구간으로 비교하는 속성 테스트 (요금제가 없을 때의 기본 요금)
+ */
+class FareEngineTest {
+    private static final long SEED = 20241018L;
+    private static final int SAMPLES = 20_000;
+
+    private final TimeOfDayFareEngine fareEngine =
+            new TimeOfDayFareEngine(new TariffRegistry(mock(TariffPlanRepository.class)));
+
+    @Test
+    void matchesPerMinuteLoopOnRandomIntervals() {
+        Random random = new Random(SEED);
+        LocalDateTime base = LocalDateTime.of(2024, 10, 1, 0, 0);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            LocalDateTime start = base
+                    .plusMinutes(random.nextInt(60 * 24 * 30))
+                    .plusSeconds(random.nextInt(60))
+                    .plusNanos(random.nextInt(4) == 0 ? random.nextInt(1_000_000_000) : 0);
+            // 짧은 대여 위주로, 일부는 며칠짜리 방치 대여
+            long durationSeconds = random.nextInt(10) == 0
+                    ? random.nextInt(60 * 60 * 24 * 4)
+                    : random.nextInt(60 * 60 * 3);
+            LocalDateTime end = start.plusSeconds(durationSeconds).plusNanos(random.nextInt(3) == 0 ? 1 : 0);
+
+            assertThat(fareEngine.calculateBaseAmount(null, start, end, 0))
+                    .as("start: %s, end: %s", start, end)
+                    .isEqualTo(legacyBaseAmount(start, end));
+        }
+    }
+
+    @Test
+    void matchesPerMinuteLoopAtDayBoundaries() {
+        LocalDateTime day = LocalDateTime.of(2024, 10, 1, 0, 0);
+        LocalDateTime[] points = {
+                day.with(LocalTime.of(8, 59)), day.with(LocalTime.of(9, 0)), day.with(LocalTime.of(9, 0, 1)),
+                day.with(LocalTime.of(17, 59, 59)), day.with(LocalTime.of(18, 0)), day.with(LocalTime.of(23, 59, 30)),
+                day.plusDays(1), day.plusDays(1).with(LocalTime.of(9, 0)), day.plusDays(3).with(LocalTime.of(18, 0))
+        };
+
+        for (LocalDateTime start : points) {
+            for (LocalDateTime end : points) {
+                assertThat(fareEngine.calculateBaseAmount(null, start, end, 0))
+                        .as("start: %s, end: %s", start, end)
+                        .isEqualTo(legacyBaseAmount(start, end));
+            }
+        }
+    }
+
+    // 변경 전 PaymentService.calculateBaseAmount (1분 단위 순회)
+    static int legacyBaseAmount(LocalDateTime startTime, LocalDateTime endTime) {
+        int totalAmount = 100;
+
+        LocalDateTime current = startTime;
+        while (current.isBefore(endTime)) {
+            LocalTime currentTime = current.toLocalTime();
+            boolean dayTime = !currentTime.isBefore(LocalTime.of(9, 0)) && currentTime.isBefore(LocalTime.of(18, 0));
+            totalAmount += dayTime ? 30 : 4;
+            current = current.plusMinutes(1);
+        }
+
+        return totalAmount;
+    }
+}
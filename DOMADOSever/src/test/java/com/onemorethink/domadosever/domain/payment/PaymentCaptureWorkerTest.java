@@ -0,0 +1,285 @@
+package com.onemorethink.domadosever.domain.payment;
+
+import com.onemorethink.domadosever.TestFixture;
+import com.onemorethink.domadosever.domain.payment.gateway.SimulatedPaymentGateway;
+import com.onemorethink.domadosever.domain.payment.repository.PaymentMethodDailySpendRepository;
+import com.onemorethink.domadosever.domain.payment.repository.PaymentMethodRepository;
+import com.onemorethink.domadosever.domain.payment.repository.PaymentRepository;
+import com.onemorethink.domadosever.domain.payment.service.PaymentCaptureWorker;
+import com.onemorethink.domadosever.domain.payment.service.PaymentSpendTracker;
+import com.onemorethink.domadosever.domain.payment.service.PaymentValidator;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import com.onemorethink.domadosever.global.resilience.CircuitBreaker;
+import com.onemorethink.domadosever.global.util.BinLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 워커 테스트 (모의 PG 사용)
+ * - 일시 장애·응답 시간 초과가 섞여도 두 서버의 워커가 모든 결제 건을 한 번씩만 결제·기록하는지 확인하고 처리량을 출력합니다.
+ * - 거절은 재시도하지 않고, 연속 장애 시 회로가 열려 PG 요청을 멈추는지 확인합니다.
+ * - 마지막 시도까지 응답을 받지 못한 결제는 실패로 확정하지 않고 PG사 결과 조회로 확정하는지 확인합니다.
+ * 테스트 데이터는 {@link TestFixture}로 data.sql 시드와 겹치지 않는 ID에 넣습니다.
+ */
+@DataJpaTest
+@Import({OutboxService.class, BinLoader.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentCaptureWorkerTest {
+    private static final Logger log = LoggerFactory.getLogger(PaymentCaptureWorkerTest.class);
+
+    private static final long ID_OFFSET = 500_000;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private OutboxService outboxService;
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+    @Autowired
+    private PaymentMethodDailySpendRepository spendRepository;
+    @Autowired
+    private BinLoader binLoader;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+    private PaymentSpendTracker paymentSpendTracker;
+    private TestFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new TestFixture(jdbcTemplate, ID_OFFSET);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        executors.forEach(ThreadPoolTaskExecutor::shutdown);
+        fixture.cleanUp();
+    }
+
+    @Test
+    void everyPaymentIsCapturedOnceDespiteFailuresAndTimeouts() throws Exception {
+        int payments = 300;
+        seed(payments, 1200);
+        // 20% 일시 장애, 10%는 결제 후 응답 시간 초과
+        SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(
+                Duration.ofMillis(5), Duration.ofMillis(5), 0.2, 0.1, 0);
+        PaymentCaptureWorker node = newWorker(gateway, 8, 1000);
+        PaymentCaptureWorker otherNode = newWorker(gateway, 8, 1000);
+
+        long startedAt = System.nanoTime();
+        while (fixture.countByStatus("payments", "COMPLETED") < payments) {
+            assertThat(System.nanoTime() - startedAt).as("capture time").isLessThan(Duration.ofSeconds(60).toNanos());
+            node.poll();
+            otherNode.poll();
+            Thread.sleep(2);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        log.info("captured {} payments in {} ms ({}/s), gateway requests: {}",
+                payments, Math.round(seconds * 1000), Math.round(payments / seconds), gateway.getRequestCount());
+        // 5ms 응답, 20% 장애, 10% 응답 시간 초과에서 두 서버 합산 초당 10건 이상
+        assertThat(payments / seconds).isGreaterThan(10);
+
+        assertThat(gateway.getSettledCount()).isEqualTo(payments);
+        assertThat(gateway.getRequestCount()).isGreaterThan(payments);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT transaction_id) FROM payments WHERE id >= ?",
+                Long.class, ID_OFFSET)).isEqualTo(payments);
+        assertThat(fixture.countEvents("PAYMENT_COMPLETED")).isEqualTo(payments);
+        // 결제 수단별 일일 합계에 한 번씩만 반영
+        assertThat(spendTotal()).isEqualTo(payments * 1200L);
+        assertThat(paymentSpendTracker.getDailyTotal(ID_OFFSET)).isEqualTo(1200);
+    }
+
+    @Test
+    void declinedPaymentFailsWithoutRetryAndSmallAmountSkipsGateway() {
+        seed(3, 1200);
+        jdbcTemplate.update("UPDATE payments SET amount = 50 WHERE id = ?", ID_OFFSET);
+        SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO, Duration.ZERO, 0, 0, 1.0);
+        PaymentCaptureWorker worker = newWorker(gateway, 1, 1000);
+
+        pollUntil(worker, () -> fixture.countByStatus("payments", "PENDING") + fixture.countByStatus("payments", "PROCESSING") == 0);
+
+        assertThat(fixture.countByStatus("payments", "COMPLETED")).isEqualTo(1);
+        assertThat(fixture.countByStatus("payments", "FAILED")).isEqualTo(2);
+        assertThat(gateway.getRequestCount()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(capture_attempts) FROM payments WHERE status = 'FAILED'",
+                Integer.class)).isEqualTo(1);
+        // 거절된 결제의 선점 금액은 해제
+        assertThat(spendTotal()).isZero();
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        seed(10, 1200);
+        SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO, Duration.ZERO, 1.0, 0, 0);
+        PaymentCaptureWorker worker = newWorker(gateway, 1, 3);
+
+        pollUntil(worker, () -> worker.getCircuitState() == CircuitBreaker.State.OPEN
+                && fixture.countByStatus("payments", "PROCESSING") == 0);
+        for (int i = 0; i < 10; i++) {
+            worker.poll();
+        }
+
+        // 회로가 열린 뒤에는 PG 요청 없이 대기 상태로 되돌림
+        assertThat(gateway.getRequestCount()).isEqualTo(3);
+        assertThat(fixture.countByStatus("payments", "PENDING")).isEqualTo(10);
+        assertThat(fixture.countByStatus("payments", "FAILED")).isZero();
+    }
+
+    @Test
+    void timedOutLastAttemptIsResolvedByGatewayInquiry() {
+        seed(5, 1200);
+        // 모든 요청이 결제는 되지만 응답이 시간 초과로 도착하지 않음, 시도는 한 번만 허용
+        SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO, Duration.ZERO, 0, 1.0, 0);
+        PaymentCaptureWorker worker = newWorker(gateway, 1, 1000, 1);
+
+        pollUntil(worker, () -> fixture.countByStatus("payments", "COMPLETED") == 5);
+
+        assertThat(fixture.countByStatus("payments", "FAILED")).isZero();
+        assertThat(gateway.getRequestCount()).isEqualTo(5);
+        assertThat(gateway.getSettledCount()).isEqualTo(5);
+        assertThat(gateway.getInquiryCount()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT transaction_id) FROM payments WHERE id >= ?",
+                Long.class, ID_OFFSET)).isEqualTo(5);
+        assertThat(fixture.countEvents("PAYMENT_COMPLETED")).isEqualTo(5);
+        // 응답을 받지 못한 시도의 선점은 해제되고 승인 확인 시 한 번만 누적
+        assertThat(spendTotal()).isEqualTo(5 * 1200L);
+    }
+
+    @Test
+    void unknownPaymentWithoutGatewayRecordFails() {
+        seed(1, 1200);
+        // 요청이 PG사에 도착하지 않아 결제 기록이 없는 결과 확인 중 건
+        jdbcTemplate.update("UPDATE payments SET status = 'UNKNOWN', capture_attempts = 1 WHERE id = ?", ID_OFFSET);
+        SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO, Duration.ZERO, 0, 0, 0);
+        PaymentCaptureWorker worker = newWorker(gateway, 1, 1000, 1);
+
+        pollUntil(worker, () -> fixture.countByStatus("payments", "UNKNOWN") == 0);
+
+        assertThat(fixture.countByStatus("payments", "FAILED")).isEqualTo(1);
+        assertThat(gateway.getRequestCount()).isZero();
+        assertThat(gateway.getInquiryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void paymentOverDailyLimitFailsWithoutGatewayRequest() {
+        seed(2, 1200);
+        // BIN 457992(개인 신용) 일일 한도 10,000,000원
+        fixture.dailySpend(ID_OFFSET, LocalDate.now(), 9_999_000);
+        SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO, Duration.ZERO, 0, 0, 0);
+        PaymentCaptureWorker worker = newWorker(gateway, 1, 1000);
+
+        pollUntil(worker, () -> fixture.countByStatus("payments", "PENDING") + fixture.countByStatus("payments", "PROCESSING") == 0);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM payments WHERE id = ?", String.class, ID_OFFSET))
+                .isEqualTo("FAILED");
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM payments WHERE id = ?", String.class, ID_OFFSET + 1))
+                .isEqualTo("COMPLETED");
+        assertThat(gateway.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void staleReservationIsReleasedWhenLeaseExpiredPaymentIsReclaimed() {
+        seed(1, 1200);
+        // PG 요청 전에 선점하고 결과를 기록하지 못한 채 중단된 서버의 점유
+        jdbcTemplate.update("UPDATE payments SET status = 'PROCESSING', capture_locked_until = ?, "
+                + "spend_reserved_on = ?, spend_reserved_amount = 1200 WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), LocalDate.now(), ID_OFFSET);
+        fixture.dailySpend(ID_OFFSET, LocalDate.now(), 1200);
+        SimulatedPaymentGateway gateway = new SimulatedPaymentGateway(Duration.ZERO, Duration.ZERO, 0, 0, 0);
+        PaymentCaptureWorker worker = newWorker(gateway, 1, 1000);
+
+        pollUntil(worker, () -> fixture.countByStatus("payments", "COMPLETED") == 1);
+
+        // 남은 선점은 해제되고 이번 결제만 한 번 누적
+        assertThat(spendTotal()).isEqualTo(1200);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments WHERE id = ? "
+                + "AND spend_reserved_on IS NULL AND spend_reserved_amount IS NULL", Long.class, ID_OFFSET))
+                .isEqualTo(1);
+    }
+
+    private long spendTotal() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM payment_method_daily_spends "
+                + "WHERE payment_method_id >= ?", Long.class, ID_OFFSET);
+    }
+
+    private PaymentCaptureWorker newWorker(SimulatedPaymentGateway gateway, int poolSize, int failureThreshold) {
+        return newWorker(gateway, poolSize, failureThreshold, 50);
+    }
+
+    private PaymentCaptureWorker newWorker(SimulatedPaymentGateway gateway, int poolSize, int failureThreshold,
+                                           int maxAttempts) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.initialize();
+        executors.add(executor);
+        // 테스트마다 합계를 메모리에 두지 않는 저장소를 새로 만들어 이전 테스트의 합계가 남지 않게 함
+        if (paymentSpendTracker == null) {
+            paymentSpendTracker = new PaymentSpendTracker(spendRepository, paymentMethodRepository, event -> {
+            }, transactionManager, 1000, 0);
+        }
+        PaymentValidator paymentValidator = new PaymentValidator(binLoader, paymentSpendTracker);
+        // 응답 제한 50ms, 재시도 간격 1~20ms, 회로는 60초 동안 열림
+        return new PaymentCaptureWorker(paymentRepository, outboxService, gateway, paymentValidator,
+                paymentSpendTracker, transactionTemplate, executor,
+                20, poolSize * 5, maxAttempts, 50, 30, 1, 20, failureThreshold, 60);
+    }
+
+    private void pollUntil(PaymentCaptureWorker worker, BooleanSupplier done) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!done.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timeout").isLessThan(deadline);
+            worker.poll();
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 결제 건마다 사용자·자전거·결제 수단(BIN 457992)·완료된 대여를 하나씩 둠
+    private void seed(int count, int amount) {
+        fixture.hub(ID_OFFSET);
+        for (int i = 0; i < count; i++) {
+            long id = ID_OFFSET + i;
+            fixture.user(id);
+            fixture.bike(id, "CAPTURE-" + id, "PARKED", ID_OFFSET);
+            fixture.paymentMethod(id, id, "457992" + id);
+            fixture.completedRental(id, id, id, 40);
+            fixture.payment(id, id, id, id, amount);
+        }
+    }
+}
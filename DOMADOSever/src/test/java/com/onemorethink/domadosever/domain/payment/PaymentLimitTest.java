@@ -0,0 +1,200 @@
+package com.onemorethink.domadosever.domain.payment;
+
+import com.onemorethink.domadosever.TestFixture;
+import com.onemorethink.domadosever.domain.payment.service.PaymentSpendTracker;
+import com.onemorethink.domadosever.domain.payment.service.PaymentValidator;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.util.BinLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 수단별 결제 합계·한도 테스트
+ * 테스트 데이터는 {@link TestFixture}로 data.sql 시드와 겹치지 않는 ID에 넣고, 메모리 합계가 테스트 간에 섞이지 않도록 테스트마다 다른 결제 수단을 씁니다.
+ */
+@DataJpaTest
+@Import({PaymentSpendTracker.class, PaymentValidator.class, BinLoader.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentLimitTest {
+    private static final long ID_OFFSET = 600_000;
+    // BIN 457992: 개인 신용카드 (일일 한도 10,000,000원, 월간 한도 300,000,000원)
+    private static final String CARD_NUMBER = "4579921234567890";
+
+    @Autowired
+    private PaymentSpendTracker paymentSpendTracker;
+    @Autowired
+    private PaymentValidator paymentValidator;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new TestFixture(jdbcTemplate, ID_OFFSET);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void committedSpendIsAddedToDailyRowAndMemoryTotals() {
+        long paymentMethodId = seedPaymentMethod(1);
+        LocalDate today = LocalDate.now();
+        assertThat(paymentSpendTracker.getDailyTotal(paymentMethodId)).isZero();
+
+        paymentSpendTracker.prepare(paymentMethodId, today);
+        transactionTemplate.executeWithoutResult(status -> paymentSpendTracker.record(paymentMethodId, today, 5000));
+        transactionTemplate.executeWithoutResult(status -> paymentSpendTracker.record(paymentMethodId, today, 3000));
+        // 롤백된 결제는 반영되지 않음
+        transactionTemplate.executeWithoutResult(status -> {
+            paymentSpendTracker.record(paymentMethodId, today, 1000);
+            status.setRollbackOnly();
+        });
+
+        assertThat(jdbcTemplate.queryForMap("SELECT amount, payment_count FROM payment_method_daily_spends "
+                + "WHERE payment_method_id = ?", paymentMethodId))
+                .containsEntry("AMOUNT", 8000L)
+                .containsEntry("PAYMENT_COUNT", 2);
+
+        // 합계는 DB를 다시 읽지 않고 메모리에서 계산
+        jdbcTemplate.update("DELETE FROM payment_method_daily_spends WHERE payment_method_id = ?", paymentMethodId);
+        assertThat(paymentSpendTracker.getDailyTotal(paymentMethodId)).isEqualTo(8000);
+        assertThat(paymentSpendTracker.getRollingTotal(paymentMethodId)).isEqualTo(8000);
+    }
+
+    @Test
+    void rollingTotalCoversLastThirtyDays() {
+        long paymentMethodId = seedPaymentMethod(2);
+        LocalDate today = LocalDate.now();
+        fixture.dailySpend(paymentMethodId, today, 100);
+        fixture.dailySpend(paymentMethodId, today.minusDays(29), 200);
+        fixture.dailySpend(paymentMethodId, today.minusDays(30), 400);
+
+        assertThat(paymentSpendTracker.getDailyTotal(paymentMethodId)).isEqualTo(100);
+        assertThat(paymentSpendTracker.getRollingTotal(paymentMethodId)).isEqualTo(300);
+    }
+
+    @Test
+    void paymentOverDailyLimitIsRejected() {
+        long paymentMethodId = seedPaymentMethod(3);
+        fixture.dailySpend(paymentMethodId, LocalDate.now(), 9_999_000);
+
+        assertThatCode(() -> paymentValidator.validatePayment(paymentMethodId, CARD_NUMBER, BigDecimal.valueOf(1000)))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> paymentValidator.validatePayment(paymentMethodId, CARD_NUMBER, BigDecimal.valueOf(1100)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.DAILY_PAYMENT_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    void paymentOverMonthlyLimitIsRejected() {
+        long paymentMethodId = seedPaymentMethod(4);
+        fixture.dailySpend(paymentMethodId, LocalDate.now().minusDays(10), 299_999_500);
+
+        assertThatThrownBy(() -> paymentValidator.validatePayment(paymentMethodId, CARD_NUMBER, BigDecimal.valueOf(1000)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MONTHLY_PAYMENT_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    void concurrentReservationsDoNotExceedDailyLimit() throws InterruptedException {
+        long paymentMethodId = seedPaymentMethod(5);
+        LocalDate today = LocalDate.now();
+        fixture.dailySpend(paymentMethodId, today, 9_990_000);
+        int threads = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // 메모리 합계로 미리 거르면 모두 통과하는 요청이 동시에 선점
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    reserve(paymentMethodId, today, 1000);
+                    reserved.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.DAILY_PAYMENT_LIMIT_EXCEEDED) {
+                        rejected.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(reserved.get()).isEqualTo(10);
+        assertThat(rejected.get()).isEqualTo(10);
+        assertThat(dailyAmount(paymentMethodId, today)).isEqualTo(10_000_000L);
+
+        // 결제가 완료되지 않은 선점은 해제되어 다시 한도에 여유가 생김
+        transactionTemplate.executeWithoutResult(status -> paymentSpendTracker.release(paymentMethodId, today, 1000));
+        assertThat(dailyAmount(paymentMethodId, today)).isEqualTo(9_999_000L);
+        assertThatCode(() -> reserve(paymentMethodId, today, 1000))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void reservationOverMonthlyLimitIsRolledBack() {
+        long paymentMethodId = seedPaymentMethod(6);
+        LocalDate today = LocalDate.now();
+        fixture.dailySpend(paymentMethodId, today.minusDays(10), 299_999_500);
+
+        assertThatThrownBy(() -> reserve(paymentMethodId, today, 1000))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MONTHLY_PAYMENT_LIMIT_EXCEEDED);
+        assertThat(dailyAmount(paymentMethodId, today)).isZero();
+    }
+
+    // 워커와 같이 일일 합계 행을 먼저 만들고 트랜잭션 안에서 선점
+    private void reserve(long paymentMethodId, LocalDate spendDate, long amount) {
+        paymentSpendTracker.prepare(paymentMethodId, spendDate);
+        transactionTemplate.executeWithoutResult(status ->
+                paymentValidator.reservePaymentLimit(paymentMethodId, CARD_NUMBER, spendDate, amount));
+    }
+
+    private long seedPaymentMethod(int index) {
+        long id = ID_OFFSET + index;
+        fixture.user(id);
+        fixture.paymentMethod(id, id, CARD_NUMBER);
+        return id;
+    }
+
+    private long dailyAmount(long paymentMethodId, LocalDate date) {
+        return jdbcTemplate.queryForObject("SELECT amount FROM payment_method_daily_spends "
+                + "WHERE payment_method_id = ? AND spend_date = ?", Long.class, paymentMethodId, date);
+    }
+}
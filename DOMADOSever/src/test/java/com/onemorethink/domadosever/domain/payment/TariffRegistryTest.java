@@ -0,0 +1,145 @@
+package com.onemorethink.domadosever.domain.payment;
+
+import com.onemorethink.domadosever.domain.payment.entity.TariffPlan;
+import com.onemorethink.domadosever.domain.payment.fare.TariffRegistry;
+import com.onemorethink.domadosever.domain.payment.fare.TariffTable;
+import com.onemorethink.domadosever.domain.payment.fare.TimeOfDayFareEngine;
+import com.onemorethink.domadosever.domain.payment.repository.TariffPlanRepository;
+import com.onemorethink.domadosever.domain.station.entity.Hub;
+import com.onemorethink.domadosever.domain.station.repository.HubRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요금제 재적재와 허브/요일/휴일별 요금 적용 테스트
+ * 2024-10-08은 화요일, 2024-10-12는 토요일, 2024-10-09(한글날)는 휴일 요금제로 등록합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TariffRegistryTest {
+    private static final LocalDateTime TUESDAY = LocalDateTime.of(2024, 10, 8, 10, 0);
+    private static final LocalDateTime SATURDAY = LocalDateTime.of(2024, 10, 12, 10, 0);
+    private static final LocalDate HOLIDAY = LocalDate.of(2024, 10, 9);
+
+    @Autowired
+    private TariffPlanRepository tariffPlanRepository;
+    @Autowired
+    private HubRepository hubRepository;
+
+    private TariffRegistry tariffRegistry;
+    private TimeOfDayFareEngine fareEngine;
+    private Hub hub;
+
+    @BeforeEach
+    void setUp() {
+        tariffRegistry = new TariffRegistry(tariffPlanRepository);
+        fareEngine = new TimeOfDayFareEngine(tariffRegistry);
+
+        hub = new Hub();
+        hub.setName("요금제 테스트 허브");
+        hub = hubRepository.save(hub);
+
+        tariffPlanRepository.save(plan(null, null, null, 200, 50, 10, null));
+        tariffPlanRepository.save(plan(null, DayOfWeek.SATURDAY, null, 200, 70, 10, null));
+        tariffPlanRepository.save(plan(null, null, HOLIDAY, 0, 20, 5, null));
+        tariffPlanRepository.save(plan(hub, null, null, 300, 40, 8, 0));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tariffPlanRepository.deleteAll();
+        hubRepository.delete(hub);
+    }
+
+    @Test
+    void defaultTariffAppliesUntilPlansAreLoaded() {
+        assertThat(fareEngine.calculateBaseAmount(null, TUESDAY, TUESDAY.plusMinutes(10), 0))
+                .isEqualTo(100 + 10 * 30);
+    }
+
+    @Test
+    void plansApplyByHubDayOfWeekAndHoliday() {
+        tariffRegistry.reload();
+
+        // 공통 기본 / 공통 토요일
+        assertThat(fareEngine.calculateBaseAmount(null, TUESDAY, TUESDAY.plusMinutes(10), 0)).isEqualTo(200 + 10 * 50);
+        assertThat(fareEngine.calculateBaseAmount(null, SATURDAY, SATURDAY.plusMinutes(10), 0)).isEqualTo(200 + 10 * 70);
+        // 허브 기본 요금제는 공통 요일 요금제보다 우선
+        assertThat(fareEngine.calculateBaseAmount(hub.getId(), SATURDAY, SATURDAY.plusMinutes(10), 0)).isEqualTo(300 + 10 * 40);
+        // 공통 휴일 요금제는 허브에도 적용
+        LocalDateTime holiday = HOLIDAY.atTime(10, 0);
+        assertThat(fareEngine.calculateBaseAmount(hub.getId(), holiday, holiday.plusMinutes(10), 0)).isEqualTo(10 * 20);
+        // 등록되지 않은 허브는 공통 요금제
+        assertThat(fareEngine.ratePerMinute(-1L, SATURDAY)).isEqualTo(70);
+    }
+
+    @Test
+    void rentalCrossingMidnightUsesEachDaysTariff() {
+        tariffRegistry.reload();
+
+        // 화요일 23:50 ~ 휴일 00:10: 화요일 야간 10분 + 휴일 야간 10분 (잠금해제 요금은 시작일 기준)
+        LocalDateTime start = LocalDateTime.of(2024, 10, 8, 23, 50);
+        assertThat(fareEngine.calculateBaseAmount(null, start, start.plusMinutes(20), 0)).isEqualTo(200 + 10 * 10 + 10 * 5);
+    }
+
+    @Test
+    void pauseMinutesAreChargedAtPauseRate() {
+        tariffRegistry.reload();
+
+        // 주간 60분 중 30분 일시 잠금, 일시 잠금 요금 0원
+        assertThat(fareEngine.calculateBaseAmount(hub.getId(), TUESDAY, TUESDAY.plusMinutes(60), 30)).isEqualTo(300 + 30 * 40);
+        // 일시 잠금 요금이 없는 요금제는 시간대 요금 그대로
+        assertThat(fareEngine.calculateBaseAmount(null, TUESDAY, TUESDAY.plusMinutes(60), 30)).isEqualTo(200 + 60 * 50);
+    }
+
+    @Test
+    void changesAreAppliedOnNextReloadAndInvalidPlansAreIgnored() {
+        tariffRegistry.reload();
+        TariffTable loaded = tariffRegistry.current();
+
+        TariffPlan saturday = tariffPlanRepository.findAll().stream()
+                .filter(plan -> plan.getDayOfWeek() == DayOfWeek.SATURDAY)
+                .findFirst().orElseThrow();
+        saturday.setDayRate(90);
+        tariffPlanRepository.save(saturday);
+        assertThat(fareEngine.ratePerMinute(null, SATURDAY)).isEqualTo(70);
+
+        tariffRegistry.reload();
+        assertThat(fareEngine.ratePerMinute(null, SATURDAY)).isEqualTo(90);
+        assertThat(tariffRegistry.current()).isNotSameAs(loaded);
+
+        // 같은 범위의 요금제가 중복되면 이전 조회표 유지
+        TariffTable beforeInvalid = tariffRegistry.current();
+        tariffPlanRepository.save(plan(null, DayOfWeek.SATURDAY, null, 200, 10, 10, null));
+        tariffRegistry.reload();
+        assertThat(tariffRegistry.current()).isSameAs(beforeInvalid);
+        assertThat(fareEngine.ratePerMinute(null, SATURDAY)).isEqualTo(90);
+    }
+
+    private TariffPlan plan(Hub hub, DayOfWeek dayOfWeek, LocalDate holiday,
+                            int unlockFee, int dayRate, int nightRate, Integer pauseRate) {
+        return TariffPlan.builder()
+                .hub(hub)
+                .dayOfWeek(dayOfWeek)
+                .holiday(holiday)
+                .unlockFee(unlockFee)
+                .dayRate(dayRate)
+                .nightRate(nightRate)
+                .dayStart(LocalTime.of(9, 0))
+                .dayEnd(LocalTime.of(18, 0))
+                .pauseRate(pauseRate)
+                .build();
+    }
+}
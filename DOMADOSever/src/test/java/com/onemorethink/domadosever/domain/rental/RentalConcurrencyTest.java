@@ -0,0 +1,163 @@
+package com.onemorethink.domadosever.domain.rental;
+
+import com.onemorethink.domadosever.TestFixture;
+import com.onemorethink.domadosever.domain.payment.service.PaymentService;
+import com.onemorethink.domadosever.domain.rental.service.RentalService;
+import com.onemorethink.domadosever.domain.rental.state.RentalStateMachine;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 QR 코드로 동시에 대여를 요청했을 때 한 건만 성공하는지 확인하는 부하 테스트
+ * 각 스레드는 서로 다른 사용자로 요청하며, 테스트 데이터는 {@link TestFixture}로 data.sql 시드와 겹치지 않는 ID에 넣습니다.
+ * 자전거 상태 전이가 조건부 UPDATE이므로 패배한 요청은 재시도 없이 한 번에 BIKE_NOT_AVAILABLE로 끝납니다.
+ */
+@DataJpaTest
+@Import({RentalService.class, RentalStateMachine.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RentalConcurrencyTest {
+    private static final Logger log = LoggerFactory.getLogger(RentalConcurrencyTest.class);
+
+    private static final long ID_OFFSET = 200_000;
+    private static final String QR_CODE = "CONCURRENCY-BIKE";
+    private static final int USERS = 32;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private RentalService rentalService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PaymentService paymentService;
+    @MockBean
+    private OutboxService outboxService;
+
+    private TestFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new TestFixture(jdbcTemplate, ID_OFFSET);
+        fixture.cleanUp();
+        fixture.hub(ID_OFFSET);
+        fixture.station(ID_OFFSET, ID_OFFSET, 20.0, 20.0, 4);
+        for (int i = 0; i < USERS; i++) {
+            fixture.user(ID_OFFSET + i);
+            fixture.paymentMethod(ID_OFFSET + i, ID_OFFSET + i, "4111111111111111");
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void onlyOneRentalWinsWhenSameQrCodeIsScannedConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                resetBike();
+
+                long startedAt = System.nanoTime();
+                Map<ErrorCode, AtomicInteger> failures = new ConcurrentHashMap<>();
+                AtomicInteger successes = new AtomicInteger();
+                CountDownLatch start = new CountDownLatch(1);
+
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < USERS; i++) {
+                    String email = email(i);
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            rentalService.rentBike(email, QR_CODE, false);
+                            successes.incrementAndGet();
+                        } catch (BusinessException e) {
+                            failures.computeIfAbsent(e.getErrorCode(), code -> new AtomicInteger()).incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+                log.info("round {}: {} requests in {} ms ({} req/s), failures: {}",
+                        round, USERS, elapsedMillis, USERS * 1000 / Math.max(1, elapsedMillis), failures);
+
+                // 한 건만 성공하고, 나머지는 재시도 없이 조건부 UPDATE에서 '대여 불가'로 끝나야 함 (충돌 오류가 노출되지 않음)
+                assertThat(successes.get()).isEqualTo(1);
+                assertThat(failures.keySet()).containsOnly(ErrorCode.BIKE_NOT_AVAILABLE);
+                assertThat(failures.get(ErrorCode.BIKE_NOT_AVAILABLE).get()).isEqualTo(USERS - 1);
+
+                assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM rentals WHERE bike_id = ?", Long.class, ID_OFFSET)).isEqualTo(1L);
+                assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id >= ? "
+                        + "AND current_rental_id IS NOT NULL", Long.class, ID_OFFSET)).isEqualTo(1L);
+                assertThat(jdbcTemplate.queryForObject(
+                        "SELECT status FROM bikes WHERE id = ?", String.class, ID_OFFSET)).isEqualTo("IN_USE");
+                assertThat(jdbcTemplate.queryForObject(
+                        "SELECT version FROM bikes WHERE id = ?", Long.class, ID_OFFSET)).isEqualTo(1L);
+                assertThat(elapsedMillis).isLessThan(10_000);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void activeRentalWithoutCurrentRentalPointerBlocksNewRental() {
+        resetBike();
+        // 포인터 도입 이전에 시작된 대여처럼 users.current_rental_id 없이 진행 중인 대여만 존재
+        fixture.rental(ID_OFFSET, ID_OFFSET, ID_OFFSET, "IN_PROGRESS", LocalDateTime.now());
+        fixture.parkedBike(ID_OFFSET + 1, "CONCURRENCY-BIKE-2", ID_OFFSET, 2);
+
+        assertThatThrownBy(() -> rentalService.rentBike(email(0), "CONCURRENCY-BIKE-2", false))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ACTIVE_RENTAL_EXISTS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM bikes WHERE id = ?", String.class, ID_OFFSET + 1)).isEqualTo("PARKED");
+    }
+
+    private void resetBike() {
+        jdbcTemplate.update("UPDATE users SET current_rental_id = NULL WHERE id >= ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM rentals WHERE user_id >= ?", ID_OFFSET);
+        jdbcTemplate.update("DELETE FROM bikes WHERE id >= ?", ID_OFFSET);
+        fixture.parkedBike(ID_OFFSET, QR_CODE, ID_OFFSET, 1);
+    }
+
+    private static String email(int index) {
+        return TestFixture.email(ID_OFFSET + index);
+    }
+}
@@ -0,0 +1,143 @@
+package com.onemorethink.domadosever.domain.rental;
+
+import com.onemorethink.domadosever.TestFixture;
+import com.onemorethink.domadosever.domain.payment.fare.TariffRegistry;
+import com.onemorethink.domadosever.domain.payment.fare.TimeOfDayFareEngine;
+import com.onemorethink.domadosever.domain.rental.dto.RentalQuoteResponse;
+import com.onemorethink.domadosever.domain.rental.event.RentalChangedEvent;
+import com.onemorethink.domadosever.domain.rental.service.RentalQuoteService;
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 대여 예상 요금 조회 테스트
+ * 반복 조회가 DB를 다시 거치지 않는지, 대여 변경 이벤트 후 새 값으로 계산되는지 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({RentalQuoteService.class, TimeOfDayFareEngine.class, TariffRegistry.class})
+class RentalQuoteServiceTest {
+    private static final Logger log = LoggerFactory.getLogger(RentalQuoteServiceTest.class);
+
+    private static final long ID_OFFSET = 400_000;
+    private static final String EMAIL = TestFixture.email(ID_OFFSET);
+    private static final int RIDERS = 16;
+    private static final int REFRESHES = 500;
+
+    @Autowired
+    private RentalQuoteService rentalQuoteService;
+    @Autowired
+    private TimeOfDayFareEngine fareEngine;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TestFixture fixture;
+    private Statistics statistics;
+    private LocalDateTime startTime;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new TestFixture(jdbcTemplate, ID_OFFSET);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        startTime = LocalDateTime.now().minusMinutes(42);
+        seed();
+        // 같은 컨텍스트의 다른 테스트에서 캐시된 스냅샷 제거
+        eventPublisher.publishEvent(RentalChangedEvent.of(ID_OFFSET));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void repeatedQuotesAreServedFromSnapshotWithoutDatabase() throws Exception {
+        statistics.clear();
+        ExecutorService executor = Executors.newFixedThreadPool(RIDERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < RIDERS; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < REFRESHES; j++) {
+                        RentalQuoteResponse quote = rentalQuoteService.getQuote(EMAIL, ID_OFFSET);
+                        assertThat(quote.getEstimatedAmount()).isEqualTo(fareEngine.calculateBaseAmount(
+                                ID_OFFSET, startTime, quote.getQuotedAt(), quote.getPauseMinutes()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("quote statements for {} quotes: {}", RIDERS * REFRESHES, statistics.getPrepareStatementCount());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pauseInProgressIsCountedAndChangesApplyAfterEvent() {
+        assertThat(rentalQuoteService.getQuote(EMAIL, ID_OFFSET).getPauseMinutes()).isEqualTo(5);
+
+        jdbcTemplate.update("UPDATE rentals SET status = 'PAUSED', last_pause_start_time = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(10)), ID_OFFSET);
+        assertThat(rentalQuoteService.getQuote(EMAIL, ID_OFFSET).getPauseMinutes()).isEqualTo(5);
+
+        eventPublisher.publishEvent(RentalChangedEvent.of(ID_OFFSET));
+        RentalQuoteResponse quote = rentalQuoteService.getQuote(EMAIL, ID_OFFSET);
+        assertThat(quote.getPauseMinutes()).isBetween(14, 15);
+        assertThat(quote.getUsageMinutes()).isBetween(41, 42);
+    }
+
+    @Test
+    void onlyOwnerCanQuote() {
+        assertThatThrownBy(() -> rentalQuoteService.getQuote("other@test.com", ID_OFFSET))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.RENTAL_NOT_OWNED);
+        assertThatThrownBy(() -> rentalQuoteService.getQuote(EMAIL, ID_OFFSET + 1))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.RENTAL_NOT_FOUND);
+    }
+
+    private void seed() {
+        fixture.hub(ID_OFFSET);
+        fixture.bike(ID_OFFSET, "QUOTE-BIKE", "IN_USE", ID_OFFSET);
+        fixture.user(ID_OFFSET);
+        fixture.rental(ID_OFFSET, ID_OFFSET, ID_OFFSET, "IN_PROGRESS", startTime);
+        jdbcTemplate.update("UPDATE rentals SET pause_minutes = 5 WHERE id = ?", ID_OFFSET);
+    }
+}
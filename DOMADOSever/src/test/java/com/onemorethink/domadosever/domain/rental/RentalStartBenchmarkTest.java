@@ -0,0 +1,163 @@
+package com.onemorethink.domadosever.domain.rental;
+
+import com.onemorethink.domadosever.TestFixture;
+import com.onemorethink.domadosever.domain.bike.entity.Bike;
+import com.onemorethink.domadosever.domain.bike.repository.BikeRepository;
+import com.onemorethink.domadosever.domain.payment.entity.paymentMethod.PaymentMethodStatus;
+import com.onemorethink.domadosever.domain.payment.repository.PaymentMethodRepository;
+import com.onemorethink.domadosever.domain.payment.service.PaymentService;
+import com.onemorethink.domadosever.domain.rental.dto.RentalEligibility;
+import com.onemorethink.domadosever.domain.rental.entity.RentalStatus;
+import com.onemorethink.domadosever.domain.rental.repository.RentalRepository;
+import com.onemorethink.domadosever.domain.rental.service.RentalService;
+import com.onemorethink.domadosever.domain.rental.state.RentalStateMachine;
+import com.onemorethink.domadosever.domain.user.entity.User;
+import com.onemorethink.domadosever.domain.user.repository.UserRepository;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대여 시작 검증 경로 마이크로 벤치마크 (p50/p99)
+ * - 변경 전: 사용자 조회 → 자전거 조회 → 결제수단 존재 확인 → 미완료 대여 존재 확인 (4회 왕복 + 역할 EAGER 로딩)
+ * - 변경 후: 대여 자격 조회 → 자전거 조회 (2회 왕복)
+ * 사용자는 완료된 대여 이력을 가지고 있으며, 테스트 데이터는 {@link TestFixture}로 data.sql 시드와 겹치지 않는 ID에 넣습니다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({RentalService.class, RentalStateMachine.class})
+class RentalStartBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(RentalStartBenchmarkTest.class);
+
+    private static final long ID_OFFSET = 300_000;
+    private static final String EMAIL = TestFixture.email(ID_OFFSET);
+    private static final String QR_CODE = "BENCH-RENT-BIKE";
+    private static final int HISTORY_SIZE = 500;
+    private static final int WARMUP = 300;
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BikeRepository bikeRepository;
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+    @Autowired
+    private RentalRepository rentalRepository;
+    @Autowired
+    private RentalService rentalService;
+
+    @MockBean
+    private PaymentService paymentService;
+    @MockBean
+    private OutboxService outboxService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        seed();
+    }
+
+    @Test
+    void eligibilityQueryCutsRoundTripsOnRentalStartPath() {
+        Result legacy = measure("legacy", this::legacyValidation);
+        Result consolidated = measure("consolidated", this::consolidatedValidation);
+        log.info("{}", legacy);
+        log.info("{}", consolidated);
+
+        assertThat(legacy.statementsPerCall).isGreaterThanOrEqualTo(4);
+        assertThat(consolidated.statementsPerCall).isEqualTo(2);
+        assertThat(consolidated.p50Micros).isLessThan(legacy.p50Micros);
+
+        // 전체 대여 시작: 자격 조회 + 자전거 조회 + 대여 INSERT + 현재 대여 지정 + 자전거 UPDATE
+        entityManager.clear();
+        statistics.clear();
+        rentalService.rentBike(EMAIL, QR_CODE, false);
+        entityManager.flush();
+        log.info("rentBike statements: {}", statistics.getPrepareStatementCount());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+
+    // 변경 전 RentalService.rentBike의 검증 조회 순서
+    private Object legacyValidation() {
+        User user = userRepository.findByEmail(EMAIL).orElseThrow();
+        Bike bike = bikeRepository.findByQrCode(QR_CODE).orElseThrow();
+        boolean hasPaymentMethod = paymentMethodRepository.existsByUserAndStatus(user, PaymentMethodStatus.ACTIVE);
+        boolean hasActiveRental = rentalRepository.existsByUserAndStatusNot(user, RentalStatus.COMPLETED);
+        return hasPaymentMethod && !hasActiveRental ? bike : null;
+    }
+
+    private Object consolidatedValidation() {
+        RentalEligibility eligibility = rentalRepository.findRentalEligibility(EMAIL).orElseThrow();
+        Bike bike = bikeRepository.findByQrCode(QR_CODE).orElseThrow();
+        return eligibility.isHasActivePaymentMethod() && !eligibility.isHasActiveRental() ? bike : null;
+    }
+
+    private Result measure(String name, java.util.function.Supplier<Object> path) {
+        for (int i = 0; i < WARMUP; i++) {
+            entityManager.clear();
+            assertThat(path.get()).isNotNull();
+        }
+
+        entityManager.clear();
+        statistics.clear();
+        path.get();
+        long statements = statistics.getPrepareStatementCount();
+
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            entityManager.clear();
+            long startedAt = System.nanoTime();
+            path.get();
+            samples[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(samples);
+        return new Result(name, statements,
+                samples[ITERATIONS / 2] / 1_000, samples[(int) (ITERATIONS * 0.99)] / 1_000);
+    }
+
+    // 테스트 트랜잭션과 함께 롤백되므로 정리하지 않음
+    private void seed() {
+        TestFixture fixture = new TestFixture(jdbcTemplate, ID_OFFSET);
+        fixture.hub(ID_OFFSET);
+        fixture.station(ID_OFFSET, ID_OFFSET, 30.0, 30.0, 4);
+        fixture.parkedBike(ID_OFFSET, QR_CODE, ID_OFFSET, 1);
+        fixture.user(ID_OFFSET);
+        fixture.paymentMethod(ID_OFFSET, ID_OFFSET, "4111111111111111");
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            fixture.completedRental(ID_OFFSET + i, ID_OFFSET, ID_OFFSET, 10);
+        }
+        entityManager.clear();
+    }
+
+    private record Result(String name, long statementsPerCall, long p50Micros, long p99Micros) {
+        @Override
+        public String toString() {
+            return String.format("%s: statements=%d, p50=%dus, p99=%dus", name, statementsPerCall, p50Micros, p99Micros);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.onemorethink.domadosever.domain.rental;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onemorethink.domadosever.TestFixture;
+import com.onemorethink.domadosever.domain.payment.entity.Payment;
+import com.onemorethink.domadosever.domain.payment.service.PaymentService;
+import com.onemorethink.domadosever.domain.rental.dto.RentalPauseRequest;
+import com.onemorethink.domadosever.domain.rental.dto.RentalResumeRequest;
+import com.onemorethink.domadosever.domain.rental.repository.RentalRepository;
+import com.onemorethink.domadosever.domain.rental.service.RentalService;
+import com.onemorethink.domadosever.domain.rental.service.RentalSweeper;
+import com.onemorethink.domadosever.domain.rental.state.RentalStateMachine;
+import com.onemorethink.domadosever.global.lease.repository.SchedulerLeaseRepository;
+import com.onemorethink.domadosever.global.lease.service.SchedulerLeaseService;
+import com.onemorethink.domadosever.global.outbox.service.OutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 장기 대여 정리 작업 테스트
+ * - 대상 대여만 OVERDUE/FORCIBLY_ENDED로 바뀌고 대여마다 이벤트가 한 건씩 남는지 확인합니다.
+ * - 두 서버가 동시에 실행해도 lease를 가진 한 곳만 정리하여 이벤트가 중복되지 않는지 확인합니다.
+ * 테스트 데이터는 {@link TestFixture}로 data.sql 시드와 겹치지 않는 ID에 넣습니다.
+ */
+@DataJpaTest(properties = "rental.sweeper.page-size=7")
+@Import({RentalService.class, RentalStateMachine.class, RentalSweeper.class, OutboxService.class,
+        SchedulerLeaseService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RentalSweeperTest {
+    private static final long ID_OFFSET = 300_000;
+    private static final int FRESH = 4;            // 정리 대상이 아닌 진행 중 대여
+    private static final int LONG_RUNNING = 17;    // 3시간 넘게 진행 중 -> OVERDUE
+    private static final int LONG_PAUSED = 9;      // 2시간 넘게 일시 잠금 -> FORCIBLY_ENDED
+    private static final int LONG_OVERDUE = 5;     // 하루 넘게 연체 -> FORCIBLY_ENDED
+    private static final int RENTALS = FRESH + LONG_RUNNING + LONG_PAUSED + LONG_OVERDUE;
+    private static final String LOCATION = "{\"latitude\":40.0,\"longitude\":40.0}";
+
+    @Autowired
+    private RentalSweeper rentalSweeper;
+    @Autowired
+    private RentalService rentalService;
+    @Autowired
+    private RentalRepository rentalRepository;
+    @Autowired
+    private OutboxService outboxService;
+    @Autowired
+    private SchedulerLeaseService schedulerLeaseService;
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private PaymentService paymentService;
+
+    private TestFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new TestFixture(jdbcTemplate, ID_OFFSET);
+        fixture.cleanUp();
+        fixture.hub(ID_OFFSET);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < RENTALS; i++) {
+            long id = ID_OFFSET + i;
+            fixture.user(id);
+            if (i < FRESH) {
+                fixture.bike(id, "SWEEPER-BIKE-" + i, "IN_USE", ID_OFFSET);
+                fixture.rental(id, id, id, "IN_PROGRESS", now.minusMinutes(30));
+            } else if (i < FRESH + LONG_RUNNING) {
+                fixture.bike(id, "SWEEPER-BIKE-" + i, "IN_USE", ID_OFFSET);
+                fixture.rental(id, id, id, "IN_PROGRESS", now.minusHours(4));
+            } else if (i < FRESH + LONG_RUNNING + LONG_PAUSED) {
+                fixture.bike(id, "SWEEPER-BIKE-" + i, "TEMPORARY_LOCKED", ID_OFFSET);
+                fixture.rental(id, id, id, "PAUSED", now.minusHours(4));
+                jdbcTemplate.update("UPDATE rentals SET last_pause_start_time = ? WHERE id = ?",
+                        Timestamp.valueOf(now.minusHours(3)), id);
+            } else {
+                fixture.bike(id, "SWEEPER-BIKE-" + i, "IN_USE", ID_OFFSET);
+                fixture.rental(id, id, id, "OVERDUE", now.minusDays(2));
+            }
+        }
+        jdbcTemplate.update("UPDATE users SET current_rental_id = id WHERE id >= ?", ID_OFFSET);
+
+        AtomicLong paymentIds = new AtomicLong(ID_OFFSET);
+        given(paymentService.prepareRentalPayment(any())).willAnswer(invocation ->
+                Payment.builder().id(paymentIds.getAndIncrement()).amount(1000).build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void sweepMovesLongRunningRentalsAndEmitsOneEventEach() {
+        rentalSweeper.sweep();
+
+        assertThat(fixture.countByStatus("rentals", "IN_PROGRESS")).isEqualTo(FRESH);
+        assertThat(fixture.countByStatus("rentals", "OVERDUE")).isEqualTo(LONG_RUNNING);
+        assertThat(fixture.countByStatus("rentals", "FORCIBLY_ENDED")).isEqualTo(LONG_PAUSED + LONG_OVERDUE);
+        assertThat(fixture.countEvents("RENTAL_OVERDUE")).isEqualTo(LONG_RUNNING);
+        assertThat(fixture.countEvents("RENTAL_FORCIBLY_ENDED")).isEqualTo(LONG_PAUSED + LONG_OVERDUE);
+
+        // 다시 실행해도 남은 대상이 없음
+        rentalSweeper.sweep();
+        assertThat(fixture.countEvents("RENTAL_OVERDUE") + fixture.countEvents("RENTAL_FORCIBLY_ENDED"))
+                .isEqualTo(LONG_RUNNING + LONG_PAUSED + LONG_OVERDUE);
+    }
+
+    @Test
+    void forcedEndReleasesRentalPointerAndRecoversBikeOnce() {
+        rentalSweeper.sweep();
+
+        List<Long> forcedIds = jdbcTemplate.queryForList(
+                "SELECT id FROM rentals WHERE status = 'FORCIBLY_ENDED' AND id >= ?", Long.class, ID_OFFSET);
+        for (Long rentalId : forcedIds) {
+            rentalService.completeForcedEnd(rentalId);
+            rentalService.completeForcedEnd(rentalId);  // 이벤트 재처리
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rentals WHERE status = 'FORCIBLY_ENDED' "
+                + "AND end_time IS NOT NULL AND id >= ?", Long.class, ID_OFFSET)).isEqualTo(forcedIds.size());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE current_rental_id IS NOT NULL "
+                + "AND id >= ?", Long.class, ID_OFFSET)).isEqualTo((long) FRESH + LONG_RUNNING);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bikes WHERE status = 'MAINTENANCE' "
+                + "AND id >= ?", Long.class, ID_OFFSET)).isEqualTo(forcedIds.size());
+        // 일시 정지 시간이 대여 종료 시점까지 누적됨
+        assertThat(jdbcTemplate.queryForObject("SELECT MIN(pause_minutes) FROM rentals WHERE status = 'FORCIBLY_ENDED' "
+                + "AND last_pause_start_time IS NULL AND pause_minutes > 0 AND id >= ?", Integer.class, ID_OFFSET))
+                .isGreaterThanOrEqualTo(180);
+        assertThat(fixture.countEvents("PAYMENT_CAPTURE_REQUESTED")).isEqualTo(forcedIds.size());
+    }
+
+    @Test
+    void pausedRentalWithRegisteredHiBikeIsNotForceEnded() {
+        long hiBike = ID_OFFSET + FRESH + LONG_RUNNING;
+        jdbcTemplate.update("UPDATE bikes SET hi_bike_status = 'AVAILABLE_FOR_RENT' WHERE id = ?", hiBike);
+
+        rentalSweeper.sweep();
+
+        // 인계를 기다리는 HiBike는 일시 잠금 상태 그대로 남아 다른 사용자가 대여 가능
+        assertThat(rentalStatus(hiBike)).isEqualTo("PAUSED");
+        assertThat(bikeStatus(hiBike)).isEqualTo("TEMPORARY_LOCKED");
+        assertThat(jdbcTemplate.queryForObject("SELECT hi_bike_status FROM bikes WHERE id = ?", String.class, hiBike))
+                .isEqualTo("AVAILABLE_FOR_RENT");
+        assertThat(fixture.countByStatus("rentals", "FORCIBLY_ENDED")).isEqualTo(LONG_PAUSED - 1 + LONG_OVERDUE);
+        assertThat(fixture.countEvents("RENTAL_FORCIBLY_ENDED")).isEqualTo(LONG_PAUSED - 1 + LONG_OVERDUE);
+    }
+
+    @Test
+    void overdueRentalCanStillBePausedAndResumed() throws Exception {
+        long running = ID_OFFSET + FRESH;
+        // 이전 버전에서 대여 상태를 바꾸지 않고 잠근 대여 (IN_PROGRESS + TEMPORARY_LOCKED)
+        long locked = ID_OFFSET + FRESH + 1;
+        jdbcTemplate.update("UPDATE bikes SET status = 'TEMPORARY_LOCKED' WHERE id = ?", locked);
+        jdbcTemplate.update("UPDATE rentals SET last_pause_start_time = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(10)), locked);
+        rentalSweeper.sweep();
+        assertThat(rentalStatus(running)).isEqualTo("OVERDUE");
+        assertThat(rentalStatus(locked)).isEqualTo("OVERDUE");
+
+        RentalPauseRequest pause = objectMapper.readValue(LOCATION, RentalPauseRequest.class);
+        RentalResumeRequest resume = objectMapper.readValue(LOCATION, RentalResumeRequest.class);
+
+        rentalService.pauseBike(TestFixture.email(running), (int) running, pause);
+        assertThat(rentalStatus(running)).isEqualTo("OVERDUE");
+        assertThat(bikeStatus(running)).isEqualTo("TEMPORARY_LOCKED");
+
+        rentalService.resumeBike(TestFixture.email(running), (int) running, resume);
+        rentalService.resumeBike(TestFixture.email(locked), (int) locked, resume);
+        // 연체 상태는 유지되어 반납 시 연체 대여로 정산
+        assertThat(rentalStatus(running)).isEqualTo("OVERDUE");
+        assertThat(rentalStatus(locked)).isEqualTo("OVERDUE");
+        assertThat(bikeStatus(running)).isEqualTo("IN_USE");
+        assertThat(bikeStatus(locked)).isEqualTo("IN_USE");
+        assertThat(jdbcTemplate.queryForObject("SELECT pause_minutes FROM rentals WHERE id = ?",
+                Integer.class, locked)).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    void onlyLeaseHolderSweepsWhenNodesRunConcurrently() throws Exception {
+        SchedulerLeaseService otherNodeLease = new SchedulerLeaseService(schedulerLeaseRepository, transactionManager);
+        RentalSweeper otherNode = new RentalSweeper(rentalRepository, outboxService, otherNodeLease,
+                transactionTemplate, eventPublisher, 7, 50, 180, 120, 1440, 120);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(rentalSweeper::sweep);
+        CompletableFuture<Void> second = CompletableFuture.runAsync(otherNode::sweep);
+        CompletableFuture.allOf(first, second).get(30, TimeUnit.SECONDS);
+        rentalSweeper.sweep();
+        otherNode.sweep();
+
+        assertThat(fixture.countEvents("RENTAL_OVERDUE")).isEqualTo(LONG_RUNNING);
+        assertThat(fixture.countEvents("RENTAL_FORCIBLY_ENDED")).isEqualTo(LONG_PAUSED + LONG_OVERDUE);
+    }
+
+    @Test
+    void leaseIsExclusiveUntilReleased() {
+        SchedulerLeaseService otherNodeLease = new SchedulerLeaseService(schedulerLeaseRepository, transactionManager);
+
+        assertThat(schedulerLeaseService.tryAcquire("sweeper-test", Duration.ofMinutes(1))).isTrue();
+        assertThat(otherNodeLease.tryAcquire("sweeper-test", Duration.ofMinutes(1))).isFalse();
+        // 가진 서버는 연장 가능
+        assertThat(schedulerLeaseService.tryAcquire("sweeper-test", Duration.ofMinutes(1))).isTrue();
+
+        schedulerLeaseService.release("sweeper-test");
+        assertThat(otherNodeLease.tryAcquire("sweeper-test", Duration.ofMinutes(1))).isTrue();
+    }
+
+    private String rentalStatus(long rentalId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM rentals WHERE id = ?", String.class, rentalId);
+    }
+
+    private String bikeStatus(long bikeId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM bikes WHERE id = ?", String.class, bikeId);
+    }
+}
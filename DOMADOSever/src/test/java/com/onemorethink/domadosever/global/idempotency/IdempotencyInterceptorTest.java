@@ -0,0 +1,140 @@
+package com.onemorethink.domadosever.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onemorethink.domadosever.global.idempotency.service.IdempotencyStore;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Idempotency-Key 요청 지문 검증
+ * - 같은 키로 본문만 다른 요청은 다른 지문이 되어야 저장된 응답이 잘못 재생되지 않습니다.
+ * - 필터가 본문을 미리 읽은 뒤에도 컨트롤러는 같은 본문을 읽을 수 있어야 합니다.
+ * - 필터는 {@link Idempotent} 핸들러로 가는 요청만 정해진 크기까지 읽습니다.
+ */
+class IdempotencyInterceptorTest {
+    private IdempotencyStore idempotencyStore;
+    private IdempotencyInterceptor interceptor;
+    private HandlerMethod handler;
+    private IdempotencyRequestFilter filter;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        idempotencyStore = mock(IdempotencyStore.class);
+        when(idempotencyStore.reserve(anyString(), anyString())).thenReturn(Optional.empty());
+        interceptor = new IdempotencyInterceptor(idempotencyStore);
+        handler = new HandlerMethod(new PauseController(), PauseController.class.getMethod("pause"));
+        HandlerMethod plainHandler = new HandlerMethod(new PauseController(), PauseController.class.getMethod("status"));
+        filter = new IdempotencyRequestFilter(request -> new HandlerExecutionChain(
+                request.getRequestURI().endsWith("/pause") ? handler : plainHandler), new ObjectMapper(), 64);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user@test.com", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyHasDifferentFingerprint() throws Exception {
+        List<String> fingerprints = fingerprintsOf(
+                jsonRequest("{\"latitude\":36.01,\"longitude\":129.32}"),
+                jsonRequest("{\"latitude\":36.01,\"longitude\":129.32}"),
+                jsonRequest("{\"latitude\":37.55,\"longitude\":126.97}"));
+
+        assertThat(fingerprints.get(0)).isEqualTo(fingerprints.get(1));
+        assertThat(fingerprints.get(2)).isNotEqualTo(fingerprints.get(0));
+    }
+
+    @Test
+    void sameKeyWithDifferentParametersHasDifferentFingerprint() throws Exception {
+        MockHttpServletRequest first = jsonRequest("");
+        first.setParameter("useCoupon", "true");
+        MockHttpServletRequest second = jsonRequest("");
+        second.setParameter("useCoupon", "false");
+
+        List<String> fingerprints = fingerprintsOf(first, second);
+
+        assertThat(fingerprints.get(0)).isNotEqualTo(fingerprints.get(1));
+    }
+
+    @Test
+    void controllerReadsBodyAfterFilterCachedIt() throws Exception {
+        String body = "{\"latitude\":36.01,\"longitude\":129.32}";
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(jsonRequest(body), new MockHttpServletResponse(), chain);
+        HttpServletRequest wrapped = (HttpServletRequest) chain.getRequest();
+
+        assertThat(interceptor.preHandle(wrapped, new MockHttpServletResponse(), handler)).isTrue();
+        assertThat(new String(wrapped.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+        assertThat(wrapped.getReader().readLine()).isEqualTo(body);
+    }
+
+    @Test
+    void onlyIdempotentHandlerRequestsAreBufferedWithinLimit() throws Exception {
+        MockHttpServletRequest other = jsonRequest("{}");
+        other.setRequestURI("/api/rentals/1/status");
+        MockFilterChain otherChain = new MockFilterChain();
+        filter.doFilter(other, new MockHttpServletResponse(), otherChain);
+        assertThat(otherChain.getRequest()).isSameAs(other);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(jsonRequest("{\"memo\":\"" + "x".repeat(100) + "\"}"), response, chain);
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(response.getContentAsString()).contains("C009");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private List<String> fingerprintsOf(MockHttpServletRequest... requests) throws Exception {
+        for (MockHttpServletRequest request : requests) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            interceptor.preHandle((HttpServletRequest) chain.getRequest(), new MockHttpServletResponse(), handler);
+        }
+
+        ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyStore, times(requests.length)).reserve(anyString(), fingerprint.capture());
+        return fingerprint.getAllValues();
+    }
+
+    private static MockHttpServletRequest jsonRequest(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/rentals/1/pause");
+        request.addHeader(IdempotencyInterceptor.HEADER, "key-1");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    static class PauseController {
+        @Idempotent
+        public void pause() {
+        }
+
+        public void status() {
+        }
+    }
+}
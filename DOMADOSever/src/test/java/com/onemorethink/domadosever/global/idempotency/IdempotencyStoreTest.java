@@ -0,0 +1,128 @@
+package com.onemorethink.domadosever.global.idempotency;
+
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.idempotency.repository.IdempotencyRecordRepository;
+import com.onemorethink.domadosever.global.idempotency.service.IdempotencyStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Idempotency-Key 저장소 테스트
+ * 서버 두 대는 같은 DB를 쓰는 저장소 인스턴스 두 개로 흉내 냅니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyStoreTest {
+    private static final String RESPONSE = "{\"success\":true,\"data\":{\"rentalId\":1},\"error\":null}";
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM idempotency_records");
+    }
+
+    @Test
+    void completedResponseIsReplayedOnThisAndOtherNodes() {
+        IdempotencyStore node = newStore();
+        IdempotencyStore otherNode = newStore();
+
+        assertThat(node.reserve("key-1", "query")).isEmpty();
+        node.complete("key-1", "query", RESPONSE);
+
+        assertThat(node.reserve("key-1", "query")).contains(RESPONSE);
+        assertThat(otherNode.reserve("key-1", "query")).contains(RESPONSE);
+        assertThat(idempotencyRecordRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void keyBeingProcessedOnAnotherNodeIsRejected() {
+        IdempotencyStore node = newStore();
+        IdempotencyStore otherNode = newStore();
+
+        assertThat(node.reserve("key-2", "query")).isEmpty();
+        assertThatThrownBy(() -> otherNode.reserve("key-2", "query"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    @Test
+    void retriesOnSameNodeWaitForFirstResponse() throws Exception {
+        IdempotencyStore node = newStore();
+        assertThat(node.reserve("key-3", "query")).isEmpty();
+
+        int retries = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(retries);
+        try {
+            CountDownLatch started = new CountDownLatch(retries);
+            List<Future<Optional<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < retries; i++) {
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    return node.reserve("key-3", "query");
+                }));
+            }
+            started.await(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+            node.complete("key-3", "query", RESPONSE);
+
+            for (Future<Optional<String>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).contains(RESPONSE);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reusingKeyForDifferentRequestIsRejected() {
+        IdempotencyStore node = newStore();
+        assertThat(node.reserve("key-4", "qrCode=BIKE001")).isEmpty();
+        node.complete("key-4", "qrCode=BIKE001", RESPONSE);
+
+        assertThatThrownBy(() -> node.reserve("key-4", "qrCode=BIKE002"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    void releasedKeyCanBeProcessedAgain() {
+        IdempotencyStore node = newStore();
+        IdempotencyStore otherNode = newStore();
+
+        assertThat(node.reserve("key-5", "query")).isEmpty();
+        node.release("key-5");
+
+        assertThat(otherNode.reserve("key-5", "query")).isEmpty();
+    }
+
+    private IdempotencyStore newStore() {
+        return new IdempotencyStore(idempotencyRecordRepository, transactionManager, 100, 24, 30, 3000);
+    }
+}
@@ -0,0 +1,110 @@
+package com.onemorethink.domadosever.global.mqtt;
+
+import com.onemorethink.domadosever.global.error.ErrorCode;
+import com.onemorethink.domadosever.global.error.exception.BusinessException;
+import com.onemorethink.domadosever.global.mqtt.dto.LockCommandAck;
+import com.onemorethink.domadosever.global.mqtt.dto.LockCommandType;
+import com.onemorethink.domadosever.global.mqtt.service.LockCommandGateway;
+import com.onemorethink.domadosever.global.mqtt.transport.InProcessLockCommandTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 잠금 명령 게이트웨이 검증 (프로세스 내 전송 계층 사용)
+ * - 하나의 전송 연결로 다수의 명령을 동시에 보내고, 응답이 commandId로 올바른 요청에 연결되는지 확인합니다.
+ * - 응답 유실 시 같은 commandId로 재전송, 재전송 초과 시 시간 초과, 장치 거부를 확인합니다.
+ */
+class LockCommandGatewayTest {
+    private static final int IN_FLIGHT_COMMANDS = 1_000;
+
+    private InProcessLockCommandTransport transport;
+    private LockCommandGateway gateway;
+
+    @AfterEach
+    void tearDown() {
+        gateway.shutdown();
+        transport.close();
+    }
+
+    @Test
+    void multiplexesManyInFlightCommandsOverOneTransport() {
+        setUp(Duration.ofSeconds(1), 5_000, 2);
+
+        List<CompletableFuture<LockCommandAck>> futures = new ArrayList<>();
+        for (long bikeId = 1; bikeId <= IN_FLIGHT_COMMANDS; bikeId++) {
+            futures.add(gateway.send(bikeId, LockCommandType.UNLOCK));
+        }
+
+        // 발행은 응답을 기다리지 않으므로 모든 명령이 동시에 대기 중
+        assertThat(gateway.getInFlightCount()).isEqualTo(IN_FLIGHT_COMMANDS);
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        for (int i = 0; i < futures.size(); i++) {
+            LockCommandAck ack = futures.get(i).join();
+            assertThat(ack.isSuccess()).isTrue();
+            assertThat(ack.getBikeId()).isEqualTo(i + 1L);
+        }
+        assertThat(gateway.getInFlightCount()).isZero();
+        assertThat(transport.getPublishedCount()).isEqualTo(IN_FLIGHT_COMMANDS);
+    }
+
+    @Test
+    void retriesWithSameCommandIdWhenAckIsLost() {
+        setUp(Duration.ofMillis(10), 100, 2);
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        // 첫 전송은 유실, 같은 commandId로 다시 오면 수락
+        transport.setDevice(command -> seen.add(command.getCommandId()) ? null : LockCommandAck.accepted(command));
+
+        LockCommandAck ack = gateway.send(7L, LockCommandType.LOCK).join();
+
+        assertThat(ack.isSuccess()).isTrue();
+        assertThat(seen).hasSize(1);
+        assertThat(transport.getPublishedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void failsWithTimeoutAfterRetriesAreExhausted() {
+        setUp(Duration.ofMillis(10), 100, 2);
+        transport.setDevice(command -> null);
+
+        CompletableFuture<LockCommandAck> future = gateway.send(7L, LockCommandType.UNLOCK);
+
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LOCK_COMMAND_TIMEOUT));
+        assertThat(transport.getPublishedCount()).isEqualTo(3);
+        assertThat(gateway.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void failsWhenDeviceRejectsCommand() {
+        setUp(Duration.ofMillis(10), 1_000, 2);
+        transport.setDevice(command -> LockCommandAck.rejected(command, "LOW_BATTERY"));
+
+        CompletableFuture<LockCommandAck> future = gateway.send(7L, LockCommandType.UNLOCK);
+
+        assertThatThrownBy(future::join)
+                .cause()
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LOCK_COMMAND_REJECTED));
+        assertThat(transport.getPublishedCount()).isEqualTo(1);
+    }
+
+    private void setUp(Duration ackDelay, long ackTimeoutMs, int maxRetries) {
+        transport = new InProcessLockCommandTransport(ackDelay);
+        gateway = new LockCommandGateway(transport, ackTimeoutMs, maxRetries);
+    }
+}